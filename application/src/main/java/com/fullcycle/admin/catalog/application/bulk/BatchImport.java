@@ -0,0 +1,138 @@
+package com.fullcycle.admin.catalog.application.bulk;
+
+import com.fullcycle.admin.catalog.domain.AggregateRoot;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Imports records in batches: every line of a batch is validated into its own notification and the valid aggregates
+ * are persisted together, so a bad line only fails itself.
+ * <p>
+ * When persisting a batch fails it is split in halves and each one is persisted again, down to single lines, so a
+ * line the database rejects fails alone. The cause is not reported, as it may carry SQL.
+ */
+public final class BatchImport<T, A extends AggregateRoot<?>> {
+
+    private static final Error PERSIST_ERROR = new Error("Could not persist this line");
+
+    private final int batchSize;
+    private final Function<List<T>, Validator<T, A>> validators;
+    private final Function<List<A>, List<A>> createAll;
+
+    /**
+     * @param validators creates the validator of each batch from its commands, so lookups they share are made once
+     * @param createAll  persists the valid aggregates of a batch at once
+     */
+    public BatchImport(
+            final int batchSize,
+            final Function<List<T>, Validator<T, A>> validators,
+            final Function<List<A>, List<A>> createAll
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("'batchSize' must be greater than zero");
+        }
+        this.batchSize = batchSize;
+        this.validators = Objects.requireNonNull(validators);
+        this.createAll = Objects.requireNonNull(createAll);
+    }
+
+    public ImportOutput execute(final ImportCommand<T> command) {
+        final var records = command.records();
+        var created = 0L;
+        var failed = 0L;
+
+        while (records.hasNext()) {
+            final var batch = new ArrayList<ImportRecord<T>>(batchSize);
+            while (records.hasNext() && batch.size() < batchSize) {
+                batch.add(records.next());
+            }
+
+            for (final var result : importBatch(batch)) {
+                if (result.isCreated()) {
+                    created++;
+                } else {
+                    failed++;
+                }
+                command.results().accept(result);
+            }
+        }
+        return ImportOutput.with(created, failed);
+    }
+
+    private List<ImportResult> importBatch(final List<ImportRecord<T>> batch) {
+        final var validator = validators.apply(batch.stream()
+                .filter(ImportRecord::isReadable)
+                .map(ImportRecord::command)
+                .toList());
+
+        final var results = new ImportResult[batch.size()];
+        final var aggregates = new ArrayList<A>(batch.size());
+        final var positions = new ArrayList<Integer>(batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            final var record = batch.get(i);
+            if (!record.isReadable()) {
+                results[i] = ImportResult.failed(record.line(), List.of(new Error(record.error())));
+                continue;
+            }
+
+            final var notification = Notification.create();
+            final var aggregate = notification.validate(() -> validator.validate(record.command(), notification));
+            if (notification.hasError() || aggregate == null) {
+                results[i] = ImportResult.failed(record.line(), notification.getErrors());
+                continue;
+            }
+            aggregates.add(aggregate);
+            positions.add(i);
+        }
+
+        if (!aggregates.isEmpty()) {
+            persist(batch, results, aggregates, positions);
+        }
+        return Arrays.asList(results);
+    }
+
+    private void persist(
+            final List<ImportRecord<T>> batch,
+            final ImportResult[] results,
+            final List<A> aggregates,
+            final List<Integer> positions
+    ) {
+        try {
+            final var persisted = createAll.apply(aggregates);
+            for (int i = 0; i < positions.size(); i++) {
+                final var position = positions.get(i);
+                results[position] = ImportResult.created(
+                        batch.get(position).line(),
+                        persisted.get(i).getId().getValue()
+                );
+            }
+        } catch (final RuntimeException e) {
+            if (aggregates.size() == 1) {
+                final var position = positions.get(0);
+                results[position] = ImportResult.failed(batch.get(position).line(), List.of(PERSIST_ERROR));
+                return;
+            }
+
+            final var half = aggregates.size() / 2;
+            persist(batch, results, aggregates.subList(0, half), positions.subList(0, half));
+            persist(batch, results, aggregates.subList(half, aggregates.size()), positions.subList(half, positions.size()));
+        }
+    }
+
+    @FunctionalInterface
+    public interface Validator<T, A> {
+
+        /**
+         * Returns the aggregate of a command, appending its errors to {@code notification} or throwing a
+         * {@code DomainException}.
+         */
+        A validate(T command, Notification notification);
+    }
+}
@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalog.application.bulk;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Records are read lazily and the result of each line is handed to {@code results} as soon as its batch is persisted,
+ * so neither the input nor the report has to fit in memory.
+ */
+public record ImportCommand<T>(Iterator<ImportRecord<T>> records, Consumer<ImportResult> results) {
+
+    public static <T> ImportCommand<T> with(
+            final Iterator<ImportRecord<T>> records,
+            final Consumer<ImportResult> results
+    ) {
+        return new ImportCommand<>(records, results);
+    }
+}
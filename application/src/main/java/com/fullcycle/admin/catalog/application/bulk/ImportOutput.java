@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalog.application.bulk;
+
+public record ImportOutput(long total, long created, long failed) {
+
+    public static ImportOutput with(final long created, final long failed) {
+        return new ImportOutput(created + failed, created, failed);
+    }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalog.application.bulk;
+
+/**
+ * One line of an import, holding either the parsed command or why the line could not be parsed.
+ */
+public record ImportRecord<T>(long line, T command, String error) {
+
+    public static <T> ImportRecord<T> with(final long line, final T command) {
+        return new ImportRecord<>(line, command, null);
+    }
+
+    public static <T> ImportRecord<T> unreadable(final long line, final String error) {
+        return new ImportRecord<>(line, null, error);
+    }
+
+    public boolean isReadable() {
+        return error == null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalog.application.bulk;
+
+import com.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.util.List;
+
+public record ImportResult(long line, String id, List<Error> errors) {
+
+    public static ImportResult created(final long line, final String id) {
+        return new ImportResult(line, id, List.of());
+    }
+
+    public static ImportResult failed(final long line, final List<Error> errors) {
+        return new ImportResult(line, null, List.copyOf(errors));
+    }
+
+    public boolean isCreated() {
+        return errors.isEmpty();
+    }
+}
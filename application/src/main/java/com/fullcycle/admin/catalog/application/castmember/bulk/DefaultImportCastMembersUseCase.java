@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalog.application.castmember.bulk;
+
+import com.fullcycle.admin.catalog.application.bulk.BatchImport;
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.bulk.ImportOutput;
+import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberCommand;
+import com.fullcycle.admin.catalog.domain.castmember.CastMember;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.Objects;
+
+public non-sealed class DefaultImportCastMembersUseCase extends ImportCastMembersUseCase {
+
+    private final BatchImport<CreateCastMemberCommand, CastMember> batchImport;
+
+    public DefaultImportCastMembersUseCase(final CastMemberGateway castMemberGateway, final int batchSize) {
+        Objects.requireNonNull(castMemberGateway);
+        this.batchImport = new BatchImport<>(
+                batchSize,
+                batch -> DefaultImportCastMembersUseCase::newMember,
+                castMemberGateway::createAll
+        );
+    }
+
+    @Override
+    public ImportOutput execute(final ImportCommand<CreateCastMemberCommand> command) {
+        return batchImport.execute(command);
+    }
+
+    private static CastMember newMember(final CreateCastMemberCommand command, final Notification notification) {
+        return CastMember.newMember(command.name(), command.type());
+    }
+}
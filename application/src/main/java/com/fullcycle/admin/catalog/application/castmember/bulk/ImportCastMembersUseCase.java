@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalog.application.castmember.bulk;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.bulk.ImportOutput;
+import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberCommand;
+
+public sealed abstract class ImportCastMembersUseCase
+        extends UseCase<ImportCommand<CreateCastMemberCommand>, ImportOutput>
+        permits DefaultImportCastMembersUseCase {
+}
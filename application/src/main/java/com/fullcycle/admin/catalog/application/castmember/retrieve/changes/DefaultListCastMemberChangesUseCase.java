@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.application.castmember.retrieve.changes;
+
+import com.fullcycle.admin.catalog.application.castmember.retrieve.get.CastMemberOutput;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+
+import java.util.Objects;
+
+public non-sealed class DefaultListCastMemberChangesUseCase extends ListCastMemberChangesUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultListCastMemberChangesUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public ChangeFeed<CastMemberOutput> execute(final ChangeQuery query) {
+        return castMemberGateway.changesSince(query).map(CastMemberOutput::from);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalog.application.castmember.retrieve.changes;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.get.CastMemberOutput;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+
+public sealed abstract class ListCastMemberChangesUseCase
+        extends UseCase<ChangeQuery, ChangeFeed<CastMemberOutput>>
+        permits DefaultListCastMemberChangesUseCase {
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalog.application.castmember.retrieve.export;
+
+import com.fullcycle.admin.catalog.application.castmember.retrieve.get.CastMemberOutput;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public non-sealed class DefaultExportCastMembersUseCase extends ExportCastMembersUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultExportCastMembersUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CastMemberOutput> output) {
+        castMemberGateway.forEach(it -> output.accept(CastMemberOutput.from(it)));
+    }
+}
@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalog.application.category.bulk;
+
+import com.fullcycle.admin.catalog.application.bulk.BatchImport;
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.bulk.ImportOutput;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.Objects;
+
+public class DefaultImportCategoriesUseCase extends ImportCategoriesUseCase {
+
+    private final BatchImport<CreateCategoryCommand, Category> batchImport;
+
+    public DefaultImportCategoriesUseCase(final CategoryGateway categoryGateway, final int batchSize) {
+        Objects.requireNonNull(categoryGateway);
+        this.batchImport = new BatchImport<>(
+                batchSize,
+                batch -> DefaultImportCategoriesUseCase::newCategory,
+                categoryGateway::createAll
+        );
+    }
+
+    @Override
+    public ImportOutput execute(final ImportCommand<CreateCategoryCommand> command) {
+        return batchImport.execute(command);
+    }
+
+    private static Category newCategory(final CreateCategoryCommand command, final Notification notification) {
+        final var category = Category.newCategory(command.name(), command.description(), command.active());
+        category.validate(notification);
+        return category;
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.application.category.bulk;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.bulk.ImportOutput;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoryCommand;
+
+public abstract class ImportCategoriesUseCase extends UseCase<ImportCommand<CreateCategoryCommand>, ImportOutput> {
+}
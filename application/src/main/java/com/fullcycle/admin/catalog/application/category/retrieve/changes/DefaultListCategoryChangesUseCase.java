@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.application.category.retrieve.changes;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+
+import java.util.Objects;
+
+public class DefaultListCategoryChangesUseCase extends ListCategoryChangesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultListCategoryChangesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public ChangeFeed<CategoryOutput> execute(final ChangeQuery query) {
+        return categoryGateway.changesSince(query).map(CategoryOutput::from);
+    }
+}
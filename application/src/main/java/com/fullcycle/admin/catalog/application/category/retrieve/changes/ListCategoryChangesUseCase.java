@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.application.category.retrieve.changes;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+
+public abstract class ListCategoryChangesUseCase extends UseCase<ChangeQuery, ChangeFeed<CategoryOutput>> {
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalog.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CategoryOutput> output) {
+        categoryGateway.forEach(it -> output.accept(CategoryOutput.from(it)));
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalog.application.UnitUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportCategoriesUseCase extends UnitUseCase<Consumer<CategoryOutput>> {
+}
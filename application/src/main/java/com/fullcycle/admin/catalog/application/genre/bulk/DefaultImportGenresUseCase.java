@@ -0,0 +1,74 @@
+package com.fullcycle.admin.catalog.application.genre.bulk;
+
+import com.fullcycle.admin.catalog.application.bulk.BatchImport;
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.bulk.ImportOutput;
+import com.fullcycle.admin.catalog.application.genre.create.CreateGenreCommand;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class DefaultImportGenresUseCase extends ImportGenresUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final BatchImport<CreateGenreCommand, Genre> batchImport;
+
+    public DefaultImportGenresUseCase(
+            final GenreGateway genreGateway,
+            final CategoryGateway categoryGateway,
+            final int batchSize
+    ) {
+        Objects.requireNonNull(genreGateway);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.batchImport = new BatchImport<>(batchSize, this::validator, genreGateway::createAll);
+    }
+
+    @Override
+    public ImportOutput execute(final ImportCommand<CreateGenreCommand> command) {
+        return batchImport.execute(command);
+    }
+
+    /**
+     * Checks the categories of the whole batch with a single lookup.
+     */
+    private BatchImport.Validator<CreateGenreCommand, Genre> validator(final List<CreateGenreCommand> batch) {
+        final var referenced = batch.stream()
+                .flatMap(it -> categoriesOf(it).stream())
+                .distinct()
+                .toList();
+        final var existing = referenced.isEmpty()
+                ? new HashSet<CategoryID>()
+                : new HashSet<>(categoryGateway.existsByIds(referenced));
+
+        return (command, notification) -> {
+            final var categories = categoriesOf(command);
+            final var missingIds = categories.stream()
+                    .filter(id -> !existing.contains(id))
+                    .map(CategoryID::getValue)
+                    .collect(Collectors.joining(", "));
+
+            if (!missingIds.isEmpty()) {
+                notification.append(new Error("Some categories could not be found: %s".formatted(missingIds)));
+            }
+
+            final var genre = notification.validate(() -> Genre.newGenre(command.name(), command.isActive()));
+            if (genre != null) {
+                genre.addCategories(categories);
+            }
+            return genre;
+        };
+    }
+
+    private static List<CategoryID> categoriesOf(final CreateGenreCommand command) {
+        return command.categories() == null
+                ? List.of()
+                : command.categories().stream().map(CategoryID::from).toList();
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.application.genre.bulk;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.bulk.ImportOutput;
+import com.fullcycle.admin.catalog.application.genre.create.CreateGenreCommand;
+
+public abstract class ImportGenresUseCase extends UseCase<ImportCommand<CreateGenreCommand>, ImportOutput> {
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.application.genre.retrieve.changes;
+
+import com.fullcycle.admin.catalog.application.genre.retrieve.get.GenreOutput;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+
+import java.util.Objects;
+
+public class DefaultListGenreChangesUseCase extends ListGenreChangesUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultListGenreChangesUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public ChangeFeed<GenreOutput> execute(final ChangeQuery query) {
+        return genreGateway.changesSince(query).map(GenreOutput::from);
+    }
+}
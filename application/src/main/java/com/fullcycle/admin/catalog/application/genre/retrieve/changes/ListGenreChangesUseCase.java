@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.application.genre.retrieve.changes;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.genre.retrieve.get.GenreOutput;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+
+public abstract class ListGenreChangesUseCase extends UseCase<ChangeQuery, ChangeFeed<GenreOutput>> {
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalog.application.genre.retrieve.export;
+
+import com.fullcycle.admin.catalog.application.genre.retrieve.get.GenreOutput;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportGenresUseCase extends ExportGenresUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultExportGenresUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<GenreOutput> output) {
+        genreGateway.forEach(it -> output.accept(GenreOutput.from(it)));
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.application.genre.retrieve.export;
+
+import com.fullcycle.admin.catalog.application.UnitUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrieve.get.GenreOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportGenresUseCase extends UnitUseCase<Consumer<GenreOutput>> {
+}
@@ -0,0 +1,123 @@
+package com.fullcycle.admin.catalog.application.video.bulk;
+
+import com.fullcycle.admin.catalog.application.bulk.BatchImport;
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.bulk.ImportOutput;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
+import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalog.domain.video.Rating;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+
+import java.time.Year;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ingests video metadata only, the medias of the imported videos are uploaded afterwards.
+ */
+public class DefaultImportVideosUseCase extends ImportVideosUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final GenreGateway genreGateway;
+    private final BatchImport<CreateVideoCommand, Video> batchImport;
+
+    public DefaultImportVideosUseCase(
+            final VideoGateway videoGateway,
+            final CategoryGateway categoryGateway,
+            final CastMemberGateway castMemberGateway,
+            final GenreGateway genreGateway,
+            final int batchSize
+    ) {
+        Objects.requireNonNull(videoGateway);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.batchImport = new BatchImport<>(batchSize, this::validator, videoGateway::createAll);
+    }
+
+    @Override
+    public ImportOutput execute(final ImportCommand<CreateVideoCommand> command) {
+        return batchImport.execute(command);
+    }
+
+    /**
+     * Checks the categories, genres and cast members of the whole batch with a single lookup each.
+     */
+    private BatchImport.Validator<CreateVideoCommand, Video> validator(final List<CreateVideoCommand> batch) {
+        final var categories = existing(batch, CreateVideoCommand::categories, CategoryID::from, categoryGateway::existsByIds);
+        final var genres = existing(batch, CreateVideoCommand::genres, GenreID::from, genreGateway::existsByIds);
+        final var members = existing(batch, CreateVideoCommand::members, CastMemberID::from, castMemberGateway::existsByIds);
+
+        return (command, notification) -> {
+            final var categoryIds = toIdentifier(command.categories(), CategoryID::from);
+            final var genreIds = toIdentifier(command.genres(), GenreID::from);
+            final var memberIds = toIdentifier(command.members(), CastMemberID::from);
+
+            appendMissing(notification, "categories", categoryIds, categories);
+            appendMissing(notification, "genres", genreIds, genres);
+            appendMissing(notification, "cast members", memberIds, members);
+
+            final var video = Video.newVideo(
+                    command.title(),
+                    command.description(),
+                    command.launchedAt() != null ? Year.of(command.launchedAt()) : null,
+                    command.duration(),
+                    Rating.of(command.rating()).orElse(null),
+                    command.opened(),
+                    command.published(),
+                    categoryIds,
+                    genreIds,
+                    memberIds
+            );
+            video.validate(notification);
+            return video;
+        };
+    }
+
+    private static <T extends Identifier> Set<T> existing(
+            final List<CreateVideoCommand> batch,
+            final Function<CreateVideoCommand, Set<String>> ids,
+            final Function<String, T> mapper,
+            final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        final var referenced = batch.stream()
+                .flatMap(it -> toIdentifier(ids.apply(it), mapper).stream())
+                .collect(Collectors.toSet());
+
+        return referenced.isEmpty() ? Set.of() : new HashSet<>(existsByIds.apply(referenced));
+    }
+
+    private static <T extends Identifier> void appendMissing(
+            final Notification notification,
+            final String aggregate,
+            final Set<T> ids,
+            final Set<T> existing
+    ) {
+        final var missingIds = ids.stream()
+                .filter(id -> !existing.contains(id))
+                .map(Identifier::getValue)
+                .collect(Collectors.joining(", "));
+
+        if (!missingIds.isEmpty()) {
+            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIds)));
+        }
+    }
+
+    private static <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
+        return ids == null ? Set.of() : ids.stream().map(mapper).collect(Collectors.toSet());
+    }
+}
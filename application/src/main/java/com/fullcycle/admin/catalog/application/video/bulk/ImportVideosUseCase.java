@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.application.video.bulk;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.bulk.ImportOutput;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
+
+public abstract class ImportVideosUseCase extends UseCase<ImportCommand<CreateVideoCommand>, ImportOutput> {
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalog.application.video.create.async;
+
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
+
+/**
+ * @param release called once the background creation finishes, whatever its outcome, so the staged medias can be
+ *                discarded
+ */
+public record AcceptVideoCreationCommand(
+        CreateVideoCommand command,
+        Runnable release
+) {
+
+    public static AcceptVideoCreationCommand with(final CreateVideoCommand command, final Runnable release) {
+        return new AcceptVideoCreationCommand(command, release);
+    }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalog.application.video.create.async;
+
+public record AcceptVideoCreationOutput(
+        String id
+) {
+
+    public static AcceptVideoCreationOutput from(final VideoCreation creation) {
+        return new AcceptVideoCreationOutput(creation.id());
+    }
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalog.application.video.create.async;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+
+public abstract class AcceptVideoCreationUseCase
+        extends UseCase<AcceptVideoCreationCommand, AcceptVideoCreationOutput> {
+}
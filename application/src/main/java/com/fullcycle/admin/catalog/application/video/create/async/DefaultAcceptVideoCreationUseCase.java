@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalog.application.video.create.async;
+
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoUseCase;
+import com.fullcycle.admin.catalog.domain.exception.CapacityExceededException;
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+public class DefaultAcceptVideoCreationUseCase extends AcceptVideoCreationUseCase {
+
+    // a creation takes a few seconds, so a full queue has room again soon
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(10);
+
+    private final CreateVideoUseCase createVideoUseCase;
+    private final VideoCreationGateway videoCreationGateway;
+    private final Executor executor;
+
+    public DefaultAcceptVideoCreationUseCase(
+            final CreateVideoUseCase createVideoUseCase,
+            final VideoCreationGateway videoCreationGateway,
+            final Executor executor
+    ) {
+        this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
+        this.videoCreationGateway = Objects.requireNonNull(videoCreationGateway);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public AcceptVideoCreationOutput execute(final AcceptVideoCreationCommand command) {
+        final var creation = videoCreationGateway.save(VideoCreation.queued());
+
+        try {
+            executor.execute(() -> process(creation, command));
+        } catch (final RejectedExecutionException e) {
+            final var error = new Error("Too many videos being created");
+            command.release().run();
+            videoCreationGateway.save(creation.failed(List.of(error)));
+            throw CapacityExceededException.with(error, RETRY_AFTER);
+        }
+
+        return AcceptVideoCreationOutput.from(creation);
+    }
+
+    private void process(final VideoCreation creation, final AcceptVideoCreationCommand command) {
+        final var processing = videoCreationGateway.save(creation.processing());
+        try {
+            final var output = createVideoUseCase.execute(command.command());
+            videoCreationGateway.save(processing.completed(output.id()));
+        } catch (final DomainException e) {
+            videoCreationGateway.save(processing.failed(errorsOf(e)));
+        } catch (final Throwable t) {
+            final var message = Objects.requireNonNullElse(t.getMessage(), t.getClass().getSimpleName());
+            videoCreationGateway.save(processing.failed(List.of(new Error(message))));
+        } finally {
+            command.release().run();
+        }
+    }
+
+    private static List<Error> errorsOf(final DomainException e) {
+        return e.getErrors().isEmpty() ? List.of(new Error(e.getMessage())) : e.getErrors();
+    }
+}
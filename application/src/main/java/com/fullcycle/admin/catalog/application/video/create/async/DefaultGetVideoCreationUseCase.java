@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalog.application.video.create.async;
+
+import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.util.Objects;
+
+public class DefaultGetVideoCreationUseCase extends GetVideoCreationUseCase {
+
+    private final VideoCreationGateway videoCreationGateway;
+
+    public DefaultGetVideoCreationUseCase(final VideoCreationGateway videoCreationGateway) {
+        this.videoCreationGateway = Objects.requireNonNull(videoCreationGateway);
+    }
+
+    @Override
+    public VideoCreationOutput execute(final String id) {
+        return videoCreationGateway.findById(id)
+                .map(VideoCreationOutput::from)
+                .orElseThrow(() -> NotFoundException.with(
+                        new Error("Video creation with ID %s was not found".formatted(id))
+                ));
+    }
+}
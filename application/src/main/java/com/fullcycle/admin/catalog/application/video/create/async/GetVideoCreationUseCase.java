@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalog.application.video.create.async;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+
+public abstract class GetVideoCreationUseCase extends UseCase<String, VideoCreationOutput> {
+}
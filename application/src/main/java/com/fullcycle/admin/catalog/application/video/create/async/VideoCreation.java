@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalog.application.video.create.async;
+
+import com.fullcycle.admin.catalog.domain.utils.IdUtils;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Progress of a video creation accepted to run in background.
+ */
+public record VideoCreation(
+        String id,
+        Status status,
+        String videoId,
+        List<Error> errors,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public enum Status {
+        QUEUED,
+        PROCESSING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static VideoCreation queued() {
+        final var now = InstantUtils.now();
+        return new VideoCreation(IdUtils.uuid(), Status.QUEUED, null, List.of(), now, now);
+    }
+
+    public VideoCreation processing() {
+        return new VideoCreation(id, Status.PROCESSING, null, List.of(), createdAt, InstantUtils.now());
+    }
+
+    public VideoCreation completed(final String videoId) {
+        return new VideoCreation(id, Status.COMPLETED, videoId, List.of(), createdAt, InstantUtils.now());
+    }
+
+    public VideoCreation failed(final List<Error> errors) {
+        return new VideoCreation(id, Status.FAILED, null, List.copyOf(errors), createdAt, InstantUtils.now());
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalog.application.video.create.async;
+
+import java.util.Optional;
+
+public interface VideoCreationGateway {
+
+    VideoCreation save(VideoCreation creation);
+
+    Optional<VideoCreation> findById(String id);
+}
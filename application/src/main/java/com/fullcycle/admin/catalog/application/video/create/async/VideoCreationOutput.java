@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalog.application.video.create.async;
+
+import com.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.time.Instant;
+import java.util.List;
+
+public record VideoCreationOutput(
+        String id,
+        String status,
+        String videoId,
+        List<Error> errors,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public static VideoCreationOutput from(final VideoCreation creation) {
+        return new VideoCreationOutput(
+                creation.id(),
+                creation.status().name(),
+                creation.videoId(),
+                creation.errors(),
+                creation.createdAt(),
+                creation.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,135 @@
+package com.fullcycle.admin.catalog.application.video.media;
+
+import com.fullcycle.admin.catalog.domain.exception.InternalErrorException;
+import com.fullcycle.admin.catalog.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalog.domain.video.ImageMedia;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalog.domain.video.VideoResource;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static com.fullcycle.admin.catalog.domain.video.VideoMediaType.*;
+
+/**
+ * Stores the medias of a video concurrently, so the latency is the one of the slowest upload instead of their sum.
+ * <p>
+ * When a store fails the pending ones are cancelled and the call only returns after the ones already running
+ * settle, so the caller can safely clear the resources of the video.
+ */
+public class MediaFanOut {
+
+    private final MediaResourceGateway mediaResourceGateway;
+    private final Executor executor;
+
+    public MediaFanOut(final MediaResourceGateway mediaResourceGateway, final Executor executor) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public Video storeAll(final Video video, final List<VideoResource> resources) {
+        final var id = video.getId();
+        final var completed = new LinkedBlockingQueue<StoreTask>();
+        final var tasks = new ArrayList<StoreTask>(resources.size());
+        final var medias = new EnumMap<VideoMediaType, Object>(VideoMediaType.class);
+
+        try {
+            for (final var resource : resources) {
+                final var task = new StoreTask(id, resource, completed);
+                tasks.add(task);
+                executor.execute(task);
+            }
+
+            for (int i = 0; i < tasks.size(); i++) {
+                final var task = completed.take();
+                medias.put(task.type, task.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(tasks);
+            throw InternalErrorException.with("Interrupted while storing medias [videoId:%s]".formatted(id.getValue()), e);
+        } catch (final ExecutionException e) {
+            cancel(tasks);
+            if (e.getCause() instanceof RuntimeException ex) {
+                throw ex;
+            }
+            throw InternalErrorException.with("An error on store media was observed [videoId:%s]".formatted(id.getValue()), e.getCause());
+        } catch (final RuntimeException e) {
+            cancel(tasks);
+            throw e;
+        }
+
+        return video
+                .updateVideo((AudioVideoMedia) medias.get(VIDEO))
+                .updateTrailer((AudioVideoMedia) medias.get(TRAILER))
+                .updateBanner((ImageMedia) medias.get(BANNER))
+                .updateThumbnail((ImageMedia) medias.get(THUMBNAIL))
+                .updateThumbnailHalf((ImageMedia) medias.get(THUMBNAIL_HALF));
+    }
+
+    private Object store(final VideoID id, final VideoResource resource) {
+        return switch (resource.type()) {
+            case VIDEO, TRAILER -> mediaResourceGateway.storeAudioVideo(id, resource);
+            case BANNER, THUMBNAIL, THUMBNAIL_HALF -> mediaResourceGateway.storeImage(id, resource);
+        };
+    }
+
+    private static void cancel(final List<StoreTask> tasks) {
+        tasks.forEach(task -> task.cancel(true));
+        for (final var task : tasks) {
+            task.awaitSettled();
+        }
+    }
+
+    private final class StoreTask extends FutureTask<Object> {
+
+        private final VideoMediaType type;
+        private final BlockingQueue<StoreTask> completed;
+        private final CountDownLatch settled = new CountDownLatch(1);
+        private volatile boolean started;
+
+        private StoreTask(final VideoID id, final VideoResource resource, final BlockingQueue<StoreTask> completed) {
+            super(() -> store(id, resource));
+            this.type = resource.type();
+            this.completed = completed;
+        }
+
+        @Override
+        public void run() {
+            started = true;
+            try {
+                super.run();
+            } finally {
+                settled.countDown();
+            }
+        }
+
+        @Override
+        protected void done() {
+            completed.add(this);
+        }
+
+        // a task cancelled before it started never runs its store, so there is nothing to wait for
+        private void awaitSettled() {
+            if (!started) {
+                return;
+            }
+            try {
+                settled.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
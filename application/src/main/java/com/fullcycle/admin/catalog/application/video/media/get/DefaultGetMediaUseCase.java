@@ -29,6 +29,41 @@ public class DefaultGetMediaUseCase extends GetMediaUseCase {
                         new Error("Resource %s not found for video %s".formatted(type, videoID.getValue()))
                 ));
 
-        return MediaOutput.from(resource);
+        if (command.ifNoneMatch().contains("*") || command.ifNoneMatch().contains(resource.checksum())) {
+            return MediaOutput.notModified(resource);
+        }
+
+        if (command.ranges().isEmpty()) {
+            return MediaOutput.from(resource);
+        }
+
+        // a single part is served: the first satisfiable range, grown only by the ranges overlapping or touching it,
+        // so disjoint ranges such as "0-0,-1" never turn into a download of the whole media
+        final var total = resource.contentLength();
+        final var satisfiable = command.ranges().stream()
+                .filter(range -> range.isSatisfiable(total))
+                .toList();
+
+        if (satisfiable.isEmpty()) {
+            return MediaOutput.rangeNotSatisfiable(resource);
+        }
+
+        var start = satisfiable.get(0).start(total);
+        var end = satisfiable.get(0).end(total);
+        boolean grown;
+        do {
+            grown = false;
+            for (final var range : satisfiable) {
+                final var rangeStart = range.start(total);
+                final var rangeEnd = range.end(total);
+                if (rangeStart <= end + 1 && rangeEnd >= start - 1 && (rangeStart < start || rangeEnd > end)) {
+                    start = Math.min(start, rangeStart);
+                    end = Math.max(end, rangeEnd);
+                    grown = true;
+                }
+            }
+        } while (grown);
+
+        return MediaOutput.partial(resource, start, end - start + 1);
     }
 }
@@ -1,10 +1,23 @@
 package com.fullcycle.admin.catalog.application.video.media.get;
 
+import java.util.List;
+
 public record GetMediaCommand(
         String videoId,
-        String mediaType
+        String mediaType,
+        List<MediaRange> ranges,
+        List<String> ifNoneMatch
 ) {
     public static GetMediaCommand with(final String videoId, final String mediaType) {
-        return new GetMediaCommand(videoId, mediaType);
+        return new GetMediaCommand(videoId, mediaType, List.of(), List.of());
+    }
+
+    public static GetMediaCommand with(
+            final String videoId,
+            final String mediaType,
+            final List<MediaRange> ranges,
+            final List<String> ifNoneMatch
+    ) {
+        return new GetMediaCommand(videoId, mediaType, ranges, ifNoneMatch);
     }
 }
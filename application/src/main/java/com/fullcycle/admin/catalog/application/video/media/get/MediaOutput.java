@@ -1,13 +1,61 @@
 package com.fullcycle.admin.catalog.application.video.media.get;
 
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.ResourceContent;
+
+import java.io.InputStream;
 
 public record MediaOutput(
         String name,
-        byte[] content,
-        String contentType
+        ResourceContent body,
+        String contentType,
+        String checksum,
+        long offset,
+        long totalLength,
+        Status status
 ) {
+    private static final ResourceContent EMPTY = ResourceContent.of(new byte[0]);
+
+    public enum Status {
+        FULL,
+        PARTIAL,
+        NOT_MODIFIED,
+        RANGE_NOT_SATISFIABLE
+    }
+
     public static MediaOutput from(final Resource resource) {
-        return new MediaOutput(resource.name(), resource.content(), resource.contentType());
+        return of(resource, resource.source(), 0, Status.FULL);
+    }
+
+    public static MediaOutput partial(final Resource resource, final long offset, final long length) {
+        return of(resource, resource.source().slice(offset, length), offset, Status.PARTIAL);
+    }
+
+    public static MediaOutput notModified(final Resource resource) {
+        return of(resource, EMPTY, 0, Status.NOT_MODIFIED);
+    }
+
+    public static MediaOutput rangeNotSatisfiable(final Resource resource) {
+        return of(resource, EMPTY, 0, Status.RANGE_NOT_SATISFIABLE);
+    }
+
+    private static MediaOutput of(final Resource resource, final ResourceContent body, final long offset, final Status status) {
+        return new MediaOutput(
+                resource.name(),
+                body,
+                resource.contentType(),
+                resource.checksum(),
+                offset,
+                resource.contentLength(),
+                status
+        );
+    }
+
+    public InputStream openStream() {
+        return body.openStream();
+    }
+
+    public long contentLength() {
+        return body.length();
     }
 }
@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalog.application.video.media.get;
+
+/**
+ * A byte range as requested by the client, inclusive on both ends. A null {@code first} asks for the last
+ * {@code last} bytes and a null {@code last} reads until the end of the media.
+ */
+public record MediaRange(Long first, Long last) {
+
+    public MediaRange {
+        if (first == null && last == null) {
+            throw new IllegalArgumentException("'first' or 'last' should be present");
+        }
+        if ((first != null && first < 0) || (last != null && last < 0) || (first != null && last != null && first > last)) {
+            throw new IllegalArgumentException("Invalid range %s-%s".formatted(first, last));
+        }
+    }
+
+    public static MediaRange of(final Long first, final Long last) {
+        return new MediaRange(first, last);
+    }
+
+    public static MediaRange suffix(final long length) {
+        return new MediaRange(null, length);
+    }
+
+    public boolean isSatisfiable(final long total) {
+        return first == null ? last > 0 && total > 0 : first < total;
+    }
+
+    public long start(final long total) {
+        return first == null ? Math.max(0, total - last) : first;
+    }
+
+    public long end(final long total) {
+        return first == null || last >= total ? total - 1 : last;
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.abort;
+
+public record AbortMediaUploadCommand(
+        String videoId,
+        String mediaType,
+        String uploadId
+) {
+    public static AbortMediaUploadCommand with(final String videoId, final String mediaType, final String uploadId) {
+        return new AbortMediaUploadCommand(videoId, mediaType, uploadId);
+    }
+}
@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.abort;
+
+import com.fullcycle.admin.catalog.application.UnitUseCase;
+
+public abstract class AbortMediaUploadUseCase extends UnitUseCase<AbortMediaUploadCommand> {
+}
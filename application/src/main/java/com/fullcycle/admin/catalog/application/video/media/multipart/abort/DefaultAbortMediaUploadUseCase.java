@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.abort;
+
+import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUpload;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+
+import java.util.Objects;
+
+public class DefaultAbortMediaUploadUseCase extends AbortMediaUploadUseCase {
+
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public DefaultAbortMediaUploadUseCase(final MediaResourceGateway mediaResourceGateway) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public void execute(final AbortMediaUploadCommand command) {
+        final var videoID = VideoID.from(command.videoId());
+        final var type = VideoMediaType.of(command.mediaType())
+                .filter(MediaUpload::supports)
+                .orElseThrow(() -> NotFoundException.with(
+                        new Error("Media type %s doesn't support chunked upload".formatted(command.mediaType()))
+                ));
+
+        // only a live session is discarded, so a forged uploadId can never reach other media of the video
+        final var upload = mediaResourceGateway.findUpload(videoID, type, command.uploadId())
+                .orElseThrow(() -> NotFoundException.with(
+                        new Error("Upload %s not found for video %s".formatted(command.uploadId(), videoID.getValue()))
+                ));
+
+        mediaResourceGateway.abortUpload(upload);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.complete;
+
+public record CompleteMediaUploadCommand(
+        String videoId,
+        String mediaType,
+        String uploadId
+) {
+    public static CompleteMediaUploadCommand with(final String videoId, final String mediaType, final String uploadId) {
+        return new CompleteMediaUploadCommand(videoId, mediaType, uploadId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.complete;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaOutput;
+
+public abstract class CompleteMediaUploadUseCase extends UseCase<CompleteMediaUploadCommand, UploadMediaOutput> {
+}
@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.complete;
+
+import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUpload;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+
+import java.util.Objects;
+
+public class DefaultCompleteMediaUploadUseCase extends CompleteMediaUploadUseCase {
+
+    private final MediaResourceGateway mediaResourceGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultCompleteMediaUploadUseCase(final MediaResourceGateway mediaResourceGateway, final VideoGateway videoGateway) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public UploadMediaOutput execute(final CompleteMediaUploadCommand command) {
+        final var videoID = VideoID.from(command.videoId());
+        final var type = VideoMediaType.of(command.mediaType())
+                .filter(MediaUpload::supports)
+                .orElseThrow(() -> NotFoundException.with(
+                        new Error("Media type %s doesn't support chunked upload".formatted(command.mediaType()))
+                ));
+
+        final var video = videoGateway.findById(videoID)
+                .orElseThrow(() -> NotFoundException.with(Video.class, videoID));
+
+        final var upload = MediaUpload.with(command.uploadId(), videoID, type);
+        final var media = mediaResourceGateway.completeUpload(upload)
+                .orElseThrow(() -> NotFoundException.with(
+                        new Error("Upload %s not found for video %s".formatted(command.uploadId(), videoID.getValue()))
+                ));
+
+        switch (type) {
+            case VIDEO -> video.updateVideo(media);
+            case TRAILER -> video.updateTrailer(media);
+        }
+
+        return UploadMediaOutput.with(videoGateway.update(video), type);
+    }
+}
@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.initiate;
+
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
+import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUpload;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+
+import java.util.Objects;
+
+public class DefaultInitiateMediaUploadUseCase extends InitiateMediaUploadUseCase {
+
+    private final MediaResourceGateway mediaResourceGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultInitiateMediaUploadUseCase(final MediaResourceGateway mediaResourceGateway, final VideoGateway videoGateway) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public InitiateMediaUploadOutput execute(final InitiateMediaUploadCommand command) {
+        final var videoID = VideoID.from(command.videoId());
+        final var type = VideoMediaType.of(command.mediaType())
+                .orElseThrow(() -> NotFoundException.with(
+                        new Error("Media type %s doesn't exist".formatted(command.mediaType()))
+                ));
+
+        if (!MediaUpload.supports(type)) {
+            throw DomainException.with(new Error("Media type %s doesn't support chunked upload".formatted(type)));
+        }
+
+        videoGateway.findById(videoID)
+                .orElseThrow(() -> NotFoundException.with(Video.class, videoID));
+
+        final var upload = mediaResourceGateway.initiateUpload(videoID, type, command.contentType(), command.name());
+        return InitiateMediaUploadOutput.from(upload);
+    }
+}
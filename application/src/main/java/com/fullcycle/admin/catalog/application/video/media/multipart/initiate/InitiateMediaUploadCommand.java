@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.initiate;
+
+public record InitiateMediaUploadCommand(
+        String videoId,
+        String mediaType,
+        String contentType,
+        String name
+) {
+    public static InitiateMediaUploadCommand with(
+            final String videoId,
+            final String mediaType,
+            final String contentType,
+            final String name
+    ) {
+        return new InitiateMediaUploadCommand(videoId, mediaType, contentType, name);
+    }
+}
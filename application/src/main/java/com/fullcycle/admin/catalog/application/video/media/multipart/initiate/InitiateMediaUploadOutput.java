@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.initiate;
+
+import com.fullcycle.admin.catalog.domain.video.MediaUpload;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+
+public record InitiateMediaUploadOutput(
+        String uploadId,
+        String videoId,
+        VideoMediaType mediaType
+) {
+    public static InitiateMediaUploadOutput from(final MediaUpload upload) {
+        return new InitiateMediaUploadOutput(upload.id(), upload.videoId().getValue(), upload.type());
+    }
+}
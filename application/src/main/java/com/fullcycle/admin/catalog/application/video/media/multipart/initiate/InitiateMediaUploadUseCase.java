@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.initiate;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+
+public abstract class InitiateMediaUploadUseCase extends UseCase<InitiateMediaUploadCommand, InitiateMediaUploadOutput> {
+}
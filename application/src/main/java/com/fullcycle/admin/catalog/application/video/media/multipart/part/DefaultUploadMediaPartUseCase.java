@@ -0,0 +1,44 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.part;
+
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
+import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUpload;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+
+import java.util.Objects;
+
+public class DefaultUploadMediaPartUseCase extends UploadMediaPartUseCase {
+
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public DefaultUploadMediaPartUseCase(final MediaResourceGateway mediaResourceGateway) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public UploadMediaPartOutput execute(final UploadMediaPartCommand command) {
+        final var videoID = VideoID.from(command.videoId());
+        final var partNumber = command.partNumber();
+        final var type = VideoMediaType.of(command.mediaType())
+                .orElseThrow(() -> NotFoundException.with(
+                        new Error("Media type %s doesn't exist".formatted(command.mediaType()))
+                ));
+
+        if (partNumber < 1 || partNumber > MediaUpload.MAX_PARTS) {
+            throw DomainException.with(
+                    new Error("'partNumber' must be between 1 and %d".formatted(MediaUpload.MAX_PARTS))
+            );
+        }
+
+        final var upload = mediaResourceGateway.findUpload(videoID, type, command.uploadId())
+                .orElseThrow(() -> NotFoundException.with(
+                        new Error("Upload %s not found for video %s".formatted(command.uploadId(), videoID.getValue()))
+                ));
+
+        mediaResourceGateway.storeUploadPart(upload, partNumber, command.part());
+        return UploadMediaPartOutput.with(upload, partNumber, command.part());
+    }
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.part;
+
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+
+public record UploadMediaPartCommand(
+        String videoId,
+        String mediaType,
+        String uploadId,
+        int partNumber,
+        Resource part
+) {
+    public static UploadMediaPartCommand with(
+            final String videoId,
+            final String mediaType,
+            final String uploadId,
+            final int partNumber,
+            final Resource part
+    ) {
+        return new UploadMediaPartCommand(videoId, mediaType, uploadId, partNumber, part);
+    }
+}
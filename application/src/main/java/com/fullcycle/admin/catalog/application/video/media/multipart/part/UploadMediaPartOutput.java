@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.part;
+
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.video.MediaUpload;
+
+public record UploadMediaPartOutput(
+        String uploadId,
+        int partNumber,
+        String checksum
+) {
+    public static UploadMediaPartOutput with(final MediaUpload upload, final int partNumber, final Resource part) {
+        return new UploadMediaPartOutput(upload.id(), partNumber, part.checksum());
+    }
+}
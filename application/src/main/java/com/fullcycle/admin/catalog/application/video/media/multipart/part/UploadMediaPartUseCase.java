@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.part;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+
+public abstract class UploadMediaPartUseCase extends UseCase<UploadMediaPartCommand, UploadMediaPartOutput> {
+}
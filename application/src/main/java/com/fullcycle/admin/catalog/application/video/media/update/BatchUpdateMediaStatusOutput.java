@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.application.video.media.update;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Outcome of a batch, keyed by video ID. Videos that could not be found are reported apart from the ones whose
+ * update failed, since retrying will not make them appear. Failed videos carry the error of their update.
+ */
+public record BatchUpdateMediaStatusOutput(
+        Set<String> updated,
+        Set<String> notFound,
+        Map<String, RuntimeException> failed
+) {
+    public static BatchUpdateMediaStatusOutput with(
+            final Set<String> updated,
+            final Set<String> notFound,
+            final Map<String, RuntimeException> failed
+    ) {
+        return new BatchUpdateMediaStatusOutput(Set.copyOf(updated), Set.copyOf(notFound), Map.copyOf(failed));
+    }
+}
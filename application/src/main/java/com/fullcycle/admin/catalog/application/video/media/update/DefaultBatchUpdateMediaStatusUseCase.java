@@ -0,0 +1,106 @@
+package com.fullcycle.admin.catalog.application.video.media.update;
+
+import com.fullcycle.admin.catalog.domain.video.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.fullcycle.admin.catalog.domain.video.VideoMediaType.TRAILER;
+import static com.fullcycle.admin.catalog.domain.video.VideoMediaType.VIDEO;
+
+/**
+ * Coalesces the commands of a batch so each video is loaded and updated once, no matter how many status changes
+ * arrived for it. Only the most advanced status of each media is applied, and a media never moves back to an
+ * earlier status, so redelivered or out of order messages are harmless.
+ */
+public class DefaultBatchUpdateMediaStatusUseCase extends BatchUpdateMediaStatusUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultBatchUpdateMediaStatusUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public BatchUpdateMediaStatusOutput execute(final List<UpdateMediaStatusCommand> commands) {
+        final var updated = new HashSet<String>();
+        final var notFound = new HashSet<String>();
+        final var failed = new HashMap<String, RuntimeException>();
+
+        coalesce(commands).forEach((videoId, latest) -> {
+            try {
+                final var video = videoGateway.findById(VideoID.from(videoId)).orElse(null);
+                if (video == null) {
+                    notFound.add(videoId);
+                    return;
+                }
+
+                final var changed = latest.values().stream()
+                        .map(command -> apply(video, command))
+                        .reduce(false, Boolean::logicalOr);
+
+                if (changed) {
+                    videoGateway.update(video);
+                }
+                updated.add(videoId);
+            } catch (final RuntimeException e) {
+                failed.put(videoId, e);
+            }
+        });
+
+        return BatchUpdateMediaStatusOutput.with(updated, notFound, failed);
+    }
+
+    private static Map<String, Map<String, UpdateMediaStatusCommand>> coalesce(
+            final List<UpdateMediaStatusCommand> commands
+    ) {
+        final var byVideo = new LinkedHashMap<String, Map<String, UpdateMediaStatusCommand>>();
+        for (final var command : commands) {
+            byVideo.computeIfAbsent(command.videoId(), it -> new LinkedHashMap<>())
+                    .merge(command.resourceId(), command, (current, next) ->
+                            next.status().compareTo(current.status()) >= 0 ? next : current
+                    );
+        }
+        return byVideo;
+    }
+
+    private boolean apply(final Video video, final UpdateMediaStatusCommand command) {
+        final var encodedPath = "%s/%s".formatted(command.folder(), command.filename());
+
+        if (matches(command, video.getVideo().orElse(null))) {
+            return updateVideo(VIDEO, command.status(), video, encodedPath);
+        } else if (matches(command, video.getTrailer().orElse(null))) {
+            return updateVideo(TRAILER, command.status(), video, encodedPath);
+        }
+        return false;
+    }
+
+    private boolean matches(final UpdateMediaStatusCommand command, final AudioVideoMedia media) {
+        if (media == null) {
+            return false;
+        }
+
+        return media.id().equals(command.resourceId()) && command.status().compareTo(media.status()) >= 0;
+    }
+
+    private boolean updateVideo(
+            final VideoMediaType type,
+            final MediaStatus status,
+            final Video video,
+            final String encodedPath
+    ) {
+        switch (status) {
+            case PENDING -> {
+                return false;
+            }
+            case PROCESSING -> video.processing(type);
+            case COMPLETED -> video.completed(type, encodedPath);
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.application.video.retrieve.changes;
+
+import com.fullcycle.admin.catalog.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+
+import java.util.Objects;
+
+public class DefaultListVideoChangesUseCase extends ListVideoChangesUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultListVideoChangesUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public ChangeFeed<VideoOutput> execute(final ChangeQuery query) {
+        return videoGateway.changesSince(query).map(VideoOutput::from);
+    }
+}
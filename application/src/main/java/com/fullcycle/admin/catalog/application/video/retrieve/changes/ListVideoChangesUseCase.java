@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.application.video.retrieve.changes;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+
+public abstract class ListVideoChangesUseCase extends UseCase<ChangeQuery, ChangeFeed<VideoOutput>> {
+}
@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalog.application.video.update;
 
+import com.fullcycle.admin.catalog.application.video.media.MediaFanOut;
 import com.fullcycle.admin.catalog.domain.Identifier;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
@@ -19,9 +20,12 @@ import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.fullcycle.admin.catalog.domain.video.VideoMediaType.*;
 
@@ -31,19 +35,22 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
     private final CastMemberGateway castMemberGateway;
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final MediaFanOut mediaFanOut;
 
     public DefaultUpdateVideoUseCase(
             final VideoGateway videoGateway,
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
-            final MediaResourceGateway mediaResourceGateway
+            final MediaResourceGateway mediaResourceGateway,
+            final Executor mediaExecutor
     ) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaFanOut = new MediaFanOut(mediaResourceGateway, mediaExecutor);
     }
 
     @Override
@@ -88,34 +95,7 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         final var id = video.getId();
 
         try {
-            final var videoMedia = command.getVideo()
-                    .map(it -> mediaResourceGateway.storeAudioVideo(id, VideoResource.with(it, VIDEO)))
-                    .orElse(null);
-
-            final var trailerMedia = command.getTrailer()
-                    .map(it -> mediaResourceGateway.storeAudioVideo(id, VideoResource.with(it, TRAILER)))
-                    .orElse(null);
-
-            final var bannerMedia = command.getBanner()
-                    .map(it -> mediaResourceGateway.storeImage(id, VideoResource.with(it, BANNER)))
-                    .orElse(null);
-
-            final var thumbnailMedia = command.getThumbnail()
-                    .map(it -> mediaResourceGateway.storeImage(id, VideoResource.with(it, THUMBNAIL)))
-                    .orElse(null);
-
-            final var thumbnailHalfMedia = command.getThumbnailHalf()
-                    .map(it -> mediaResourceGateway.storeImage(id, VideoResource.with(it, THUMBNAIL_HALF)))
-                    .orElse(null);
-
-            return videoGateway.update(
-                    video
-                            .updateVideo(videoMedia)
-                            .updateTrailer(trailerMedia)
-                            .updateBanner(bannerMedia)
-                            .updateThumbnail(thumbnailMedia)
-                            .updateThumbnailHalf(thumbnailHalfMedia)
-            );
+            return videoGateway.update(mediaFanOut.storeAll(video, resourcesOf(command)));
         } catch (final Throwable t) {
             mediaResourceGateway.clearResource(id);
             throw  InternalErrorException.with(
@@ -124,6 +104,18 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         }
     }
 
+    private List<VideoResource> resourcesOf(final UpdateVideoCommand command) {
+        return Stream.of(
+                        command.getVideo().map(it -> VideoResource.with(it, VIDEO)),
+                        command.getTrailer().map(it -> VideoResource.with(it, TRAILER)),
+                        command.getBanner().map(it -> VideoResource.with(it, BANNER)),
+                        command.getThumbnail().map(it -> VideoResource.with(it, THUMBNAIL)),
+                        command.getThumbnailHalf().map(it -> VideoResource.with(it, THUMBNAIL_HALF))
+                )
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
     private ValidationHandler validateCategories(final Set<CategoryID> ids) {
         return validateAggregate("categories", ids, categoryGateway::existsByIds);
     }
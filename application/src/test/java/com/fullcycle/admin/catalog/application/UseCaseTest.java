@@ -9,6 +9,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,4 +32,11 @@ public abstract class UseCaseTest implements BeforeEachCallback {
     }
 
     protected abstract List<Object> getMocks();
+
+    public static class ThreadPerTaskExecutor implements Executor {
+        @Override
+        public void execute(final Runnable command) {
+            new Thread(command).start();
+        }
+    }
 }
@@ -0,0 +1,124 @@
+package com.fullcycle.admin.catalog.application.category.bulk;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.bulk.ImportRecord;
+import com.fullcycle.admin.catalog.application.bulk.ImportResult;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class ImportCategoriesUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    void givenValidLines_whenCallsImport_thenPersistThemInBatchesAndReportEachLine() {
+        final var records = List.of(
+                ImportRecord.with(1, CreateCategoryCommand.with("Filmes", null, true)),
+                ImportRecord.with(2, CreateCategoryCommand.with("Séries", "Episódios", true)),
+                ImportRecord.with(3, CreateCategoryCommand.with("Documentários", null, false))
+        );
+        final var results = new ArrayList<ImportResult>();
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var output = new DefaultImportCategoriesUseCase(categoryGateway, 2)
+                .execute(ImportCommand.with(records.iterator(), results::add));
+
+        Assertions.assertEquals(3, output.total());
+        Assertions.assertEquals(3, output.created());
+        Assertions.assertEquals(List.of(1L, 2L, 3L), results.stream().map(ImportResult::line).toList());
+        Assertions.assertTrue(results.stream().allMatch(it -> it.isCreated() && it.id() != null));
+        verify(categoryGateway, times(1)).createAll(argThat(it -> it.size() == 2));
+        verify(categoryGateway, times(1)).createAll(argThat(it -> it.size() == 1));
+    }
+
+    @Test
+    void givenInvalidAndUnreadableLines_whenCallsImport_thenFailOnlyThoseLines() {
+        final var records = List.of(
+                ImportRecord.with(1, CreateCategoryCommand.with("Filmes", null, true)),
+                ImportRecord.with(2, CreateCategoryCommand.with(null, null, true)),
+                ImportRecord.<CreateCategoryCommand>unreadable(3, "Could not read the line: Unexpected end-of-input")
+        );
+        final var results = new ArrayList<ImportResult>();
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var output = new DefaultImportCategoriesUseCase(categoryGateway, 10)
+                .execute(ImportCommand.with(records.iterator(), results::add));
+
+        Assertions.assertEquals(1, output.created());
+        Assertions.assertEquals(2, output.failed());
+        Assertions.assertTrue(results.get(0).isCreated());
+        Assertions.assertEquals(List.of(new Error("'name' should not be null")), results.get(1).errors());
+        Assertions.assertEquals(List.of(new Error("Could not read the line: Unexpected end-of-input")), results.get(2).errors());
+        verify(categoryGateway, times(1)).createAll(argThat(it -> it.size() == 1));
+    }
+
+    @Test
+    void givenAFailingGateway_whenCallsImport_thenFailTheLinesOfThatBatchAndContinue() {
+        final var records = List.of(
+                ImportRecord.with(1, CreateCategoryCommand.with("Filmes", null, true)),
+                ImportRecord.with(2, CreateCategoryCommand.with("Séries", null, true))
+        );
+        final var results = new ArrayList<ImportResult>();
+        when(categoryGateway.createAll(any()))
+                .thenThrow(new IllegalStateException("Gateway error"))
+                .thenAnswer(returnsFirstArg());
+
+        final var output = new DefaultImportCategoriesUseCase(categoryGateway, 1)
+                .execute(ImportCommand.with(records.iterator(), results::add));
+
+        Assertions.assertEquals(1, output.created());
+        Assertions.assertEquals(1, output.failed());
+        Assertions.assertEquals(
+                List.of(new Error("Could not persist this line")),
+                results.get(0).errors()
+        );
+        Assertions.assertTrue(results.get(1).isCreated());
+    }
+
+    @Test
+    void givenALineTheGatewayRejects_whenCallsImport_thenRetryTheBatchInHalvesAndFailOnlyThatLine() {
+        final var records = List.of(
+                ImportRecord.with(1, CreateCategoryCommand.with("Filmes", null, true)),
+                ImportRecord.with(2, CreateCategoryCommand.with("Séries", null, true)),
+                ImportRecord.with(3, CreateCategoryCommand.with("Rejeitada", null, true)),
+                ImportRecord.with(4, CreateCategoryCommand.with("Documentários", null, true))
+        );
+        final var results = new ArrayList<ImportResult>();
+        when(categoryGateway.createAll(any())).thenAnswer(call -> {
+            final List<Category> categories = call.getArgument(0);
+            if (categories.stream().anyMatch(it -> it.getName().equals("Rejeitada"))) {
+                throw new IllegalStateException("Duplicate entry 'Rejeitada' for key 'categories.name'");
+            }
+            return categories;
+        });
+
+        final var output = new DefaultImportCategoriesUseCase(categoryGateway, 4)
+                .execute(ImportCommand.with(records.iterator(), results::add));
+
+        Assertions.assertEquals(3, output.created());
+        Assertions.assertEquals(1, output.failed());
+        Assertions.assertEquals(List.of(true, true, false, true), results.stream().map(ImportResult::isCreated).toList());
+        Assertions.assertEquals(List.of(new Error("Could not persist this line")), results.get(2).errors());
+        verify(categoryGateway, times(5)).createAll(any());
+    }
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalog.application.category.retrieve.changes;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.changes.Change;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+import com.fullcycle.admin.catalog.domain.changes.ChangeType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class ListCategoryChangesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListCategoryChangesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    void givenSavedAndDeletedCategories_whenCallsListChanges_thenReturnOutputsAndKeepTheWatermark() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var deletedAt = Instant.now();
+        final var expectedQuery = new ChangeQuery("watermark", 10);
+        final var feed = new ChangeFeed<>(
+                List.of(
+                        Change.saved(filmes.getId().getValue(), filmes.getCreatedAt(), filmes.getUpdatedAt(), filmes),
+                        Change.<Category>deleted("123", deletedAt)
+                ),
+                "next",
+                true
+        );
+        when(categoryGateway.changesSince(eq(expectedQuery))).thenReturn(feed);
+
+        final var actual = useCase.execute(expectedQuery);
+
+        Assertions.assertEquals("next", actual.watermark());
+        Assertions.assertTrue(actual.hasMore());
+        Assertions.assertEquals(2, actual.items().size());
+        Assertions.assertEquals(ChangeType.CREATED, actual.items().get(0).type());
+        Assertions.assertEquals(CategoryOutput.from(filmes), actual.items().get(0).item());
+        Assertions.assertEquals(ChangeType.DELETED, actual.items().get(1).type());
+        Assertions.assertEquals(deletedAt, actual.items().get(1).changedAt());
+        Assertions.assertNull(actual.items().get(1).item());
+    }
+}
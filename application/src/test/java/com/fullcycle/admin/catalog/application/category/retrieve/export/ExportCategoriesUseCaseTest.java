@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalog.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+class ExportCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    void givenPersistedCategories_whenCallsExport_thenEmitEachOneAsAnOutput() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+        doAnswer(call -> {
+            final Consumer<Category> action = call.getArgument(0);
+            List.of(filmes, series).forEach(action);
+            return null;
+        }).when(categoryGateway).forEach(any());
+
+        final var outputs = new ArrayList<CategoryOutput>();
+        useCase.execute(outputs::add);
+
+        Assertions.assertEquals(List.of(CategoryOutput.from(filmes), CategoryOutput.from(series)), outputs);
+    }
+}
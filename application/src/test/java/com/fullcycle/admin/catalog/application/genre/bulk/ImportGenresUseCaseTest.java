@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalog.application.genre.bulk;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.bulk.ImportRecord;
+import com.fullcycle.admin.catalog.application.bulk.ImportResult;
+import com.fullcycle.admin.catalog.application.genre.create.CreateGenreCommand;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class ImportGenresUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway);
+    }
+
+    @Test
+    void givenLinesReferencingCategories_whenCallsImport_thenCheckThemOncePerBatchAndFailTheMissingOnes() {
+        final var filmes = CategoryID.from("filmes");
+        final var series = CategoryID.from("series");
+        final var records = List.of(
+                ImportRecord.with(1, CreateGenreCommand.with("Ação", true, List.of(filmes.getValue()))),
+                ImportRecord.with(2, CreateGenreCommand.with("Drama", true, List.of(filmes.getValue(), series.getValue()))),
+                ImportRecord.with(3, CreateGenreCommand.with("Terror", false, List.of()))
+        );
+        final var results = new ArrayList<ImportResult>();
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(filmes));
+        when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var output = new DefaultImportGenresUseCase(genreGateway, categoryGateway, 10)
+                .execute(ImportCommand.with(records.iterator(), results::add));
+
+        Assertions.assertEquals(2, output.created());
+        Assertions.assertEquals(1, output.failed());
+        Assertions.assertEquals(List.of(new Error("Some categories could not be found: series")), results.get(1).errors());
+        verify(categoryGateway, times(1)).existsByIds(argThat(ids -> ids.equals(List.of(filmes, series))));
+        verify(genreGateway, times(1)).createAll(argThat(genres ->
+                genres.size() == 2
+                        && genres.get(0).getCategories().equals(List.of(filmes))
+                        && genres.get(1).getCategories().isEmpty()
+        ));
+    }
+}
@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalog.application.video.bulk;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.bulk.ImportRecord;
+import com.fullcycle.admin.catalog.application.bulk.ImportResult;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class ImportVideosUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, categoryGateway, castMemberGateway, genreGateway);
+    }
+
+    @Test
+    void givenLinesReferencingAggregates_whenCallsImport_thenCheckEachTypeOncePerBatchAndFailTheInvalidOnes() {
+        final var filmes = CategoryID.from("filmes");
+        final var series = CategoryID.from("series");
+        final var drama = GenreID.from("drama");
+        final var emmaWatson = CastMemberID.from("emma-watson");
+        final var records = List.of(
+                ImportRecord.with(1, command("Harry Potter", Set.of(filmes.getValue()), Set.of(drama.getValue()), Set.of(emmaWatson.getValue()))),
+                ImportRecord.with(2, command("Lost", Set.of(series.getValue()), Set.of(), Set.of())),
+                ImportRecord.with(3, command(" ", Set.of(), Set.of(), Set.of())),
+                ImportRecord.with(4, command("Maze Runner", Set.of(filmes.getValue()), Set.of(), Set.of()))
+        );
+        final var results = new ArrayList<ImportResult>();
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(filmes));
+        when(genreGateway.existsByIds(any())).thenReturn(List.of(drama));
+        when(castMemberGateway.existsByIds(any())).thenReturn(List.of(emmaWatson));
+        when(videoGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var output = new DefaultImportVideosUseCase(videoGateway, categoryGateway, castMemberGateway, genreGateway, 10)
+                .execute(ImportCommand.with(records.iterator(), results::add));
+
+        Assertions.assertEquals(2, output.created());
+        Assertions.assertEquals(2, output.failed());
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L), results.stream().map(ImportResult::line).toList());
+        Assertions.assertEquals(List.of(new Error("Some categories could not be found: series")), results.get(1).errors());
+        Assertions.assertEquals(List.of(new Error("'title' should not be empty")), results.get(2).errors());
+
+        verify(categoryGateway, times(1)).existsByIds(argThat(ids -> Set.of(filmes, series).equals(ids)));
+        verify(genreGateway, times(1)).existsByIds(any());
+        verify(castMemberGateway, times(1)).existsByIds(any());
+        verify(videoGateway, times(1)).createAll(argThat(videos ->
+                videos.size() == 2
+                        && videos.get(0).getCastMembers().equals(Set.of(emmaWatson))
+                        && videos.get(1).getTitle().equals("Maze Runner")
+        ));
+    }
+
+    private static CreateVideoCommand command(
+            final String title,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> members
+    ) {
+        return CreateVideoCommand.with(
+                title, "Descrição", 2020, 120.0, "L", true, true, categories, genres, members,
+                null, null, null, null, null
+        );
+    }
+}
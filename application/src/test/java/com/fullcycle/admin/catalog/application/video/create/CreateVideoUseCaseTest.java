@@ -17,11 +17,13 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
@@ -48,6 +50,9 @@ class CreateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private VideoGateway videoGateway;
 
+    @Spy
+    private Executor mediaExecutor = new ThreadPerTaskExecutor();
+
     @Override
     protected List<Object> getMocks() {
         return List.of(genreGateway, categoryGateway, castMemberGateway, mediaResourceGateway, videoGateway);
@@ -0,0 +1,183 @@
+package com.fullcycle.admin.catalog.application.video.create.async;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoOutput;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoUseCase;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.exception.CapacityExceededException;
+import com.fullcycle.admin.catalog.domain.exception.NotificationException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AcceptVideoCreationUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultAcceptVideoCreationUseCase useCase;
+
+    @Mock
+    private CreateVideoUseCase createVideoUseCase;
+
+    @Mock
+    private VideoCreationGateway videoCreationGateway;
+
+    @Mock
+    private Executor executor;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(createVideoUseCase, videoCreationGateway, executor);
+    }
+
+    @Test
+    void givenAValidCommand_whenCallsAccept_thenReturnBeforeCreatingTheVideo() {
+        final var released = new AtomicInteger();
+        final var command = AcceptVideoCreationCommand.with(createCommand(), released::incrementAndGet);
+
+        when(videoCreationGateway.save(any())).thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(command);
+
+        Assertions.assertNotNull(output.id());
+        Assertions.assertEquals(0, released.get());
+        verify(executor, times(1)).execute(any());
+        verify(createVideoUseCase, never()).execute(any());
+
+        final var captor = ArgumentCaptor.forClass(VideoCreation.class);
+        verify(videoCreationGateway, times(1)).save(captor.capture());
+        Assertions.assertEquals(output.id(), captor.getValue().id());
+        Assertions.assertEquals(VideoCreation.Status.QUEUED, captor.getValue().status());
+    }
+
+    @Test
+    void givenAnAcceptedCreation_whenPipelineRuns_thenCompleteWithVideoIdAndRelease() {
+        final var expectedVideoId = VideoID.unique().getValue();
+        final var released = new AtomicInteger();
+        final var command = AcceptVideoCreationCommand.with(createCommand(), released::incrementAndGet);
+
+        when(videoCreationGateway.save(any())).thenAnswer(returnsFirstArg());
+        when(createVideoUseCase.execute(command.command())).thenReturn(new CreateVideoOutput(expectedVideoId));
+
+        final var output = useCase.execute(command);
+        runPipeline();
+
+        final var captor = ArgumentCaptor.forClass(VideoCreation.class);
+        verify(videoCreationGateway, times(3)).save(captor.capture());
+        Assertions.assertEquals(
+                List.of(VideoCreation.Status.QUEUED, VideoCreation.Status.PROCESSING, VideoCreation.Status.COMPLETED),
+                captor.getAllValues().stream().map(VideoCreation::status).toList()
+        );
+
+        final var completed = captor.getValue();
+        Assertions.assertEquals(output.id(), completed.id());
+        Assertions.assertEquals(expectedVideoId, completed.videoId());
+        Assertions.assertTrue(completed.errors().isEmpty());
+        Assertions.assertEquals(1, released.get());
+    }
+
+    @Test
+    void givenAnInvalidVideo_whenPipelineRuns_thenFailWithValidationErrors() {
+        final var expectedErrorMessage = "'title' should not be null";
+        final var released = new AtomicInteger();
+        final var command = AcceptVideoCreationCommand.with(createCommand(), released::incrementAndGet);
+
+        when(videoCreationGateway.save(any())).thenAnswer(returnsFirstArg());
+        when(createVideoUseCase.execute(any())).thenThrow(new NotificationException(
+                "Could not create Aggregate Video",
+                Notification.create(new Error(expectedErrorMessage))
+        ));
+
+        useCase.execute(command);
+        runPipeline();
+
+        final var captor = ArgumentCaptor.forClass(VideoCreation.class);
+        verify(videoCreationGateway, times(3)).save(captor.capture());
+
+        final var failed = captor.getValue();
+        Assertions.assertEquals(VideoCreation.Status.FAILED, failed.status());
+        Assertions.assertNull(failed.videoId());
+        Assertions.assertEquals(expectedErrorMessage, failed.errors().get(0).message());
+        Assertions.assertEquals(1, released.get());
+    }
+
+    @Test
+    void givenAnUnexpectedError_whenPipelineRuns_thenFailAndRelease() {
+        final var expectedErrorMessage = "Internal Server Error";
+        final var released = new AtomicInteger();
+        final var command = AcceptVideoCreationCommand.with(createCommand(), released::incrementAndGet);
+
+        when(videoCreationGateway.save(any())).thenAnswer(returnsFirstArg());
+        when(createVideoUseCase.execute(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        useCase.execute(command);
+        runPipeline();
+
+        final var captor = ArgumentCaptor.forClass(VideoCreation.class);
+        verify(videoCreationGateway, times(3)).save(captor.capture());
+        Assertions.assertEquals(VideoCreation.Status.FAILED, captor.getValue().status());
+        Assertions.assertEquals(expectedErrorMessage, captor.getValue().errors().get(0).message());
+        Assertions.assertEquals(1, released.get());
+    }
+
+    @Test
+    void givenAFullPipeline_whenCallsAccept_thenReleaseAndAskToRetryLater() {
+        final var released = new AtomicInteger();
+        final var command = AcceptVideoCreationCommand.with(createCommand(), released::incrementAndGet);
+
+        when(videoCreationGateway.save(any())).thenAnswer(returnsFirstArg());
+        doThrow(new RejectedExecutionException()).when(executor).execute(any());
+
+        final var actualException = Assertions.assertThrows(CapacityExceededException.class, () -> useCase.execute(command));
+
+        Assertions.assertEquals("Too many videos being created", actualException.getMessage());
+        Assertions.assertFalse(actualException.retryAfter().isNegative() || actualException.retryAfter().isZero());
+
+        final var captor = ArgumentCaptor.forClass(VideoCreation.class);
+        verify(videoCreationGateway, times(2)).save(captor.capture());
+        Assertions.assertEquals(VideoCreation.Status.FAILED, captor.getValue().status());
+        Assertions.assertEquals(1, released.get());
+        verify(createVideoUseCase, never()).execute(any());
+    }
+
+    private void runPipeline() {
+        final var captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(captor.capture());
+        captor.getValue().run();
+    }
+
+    private static CreateVideoCommand createCommand() {
+        return CreateVideoCommand.with(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Fixture.year().getValue(),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating().getName(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.videoResource(),
+                null,
+                null,
+                null,
+                null
+        );
+    }
+}
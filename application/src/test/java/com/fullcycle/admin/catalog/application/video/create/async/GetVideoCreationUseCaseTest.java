@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalog.application.video.create.async;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+
+class GetVideoCreationUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetVideoCreationUseCase useCase;
+
+    @Mock
+    private VideoCreationGateway videoCreationGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoCreationGateway);
+    }
+
+    @Test
+    void givenACompletedCreation_whenCallsGet_thenReturnItsStatus() {
+        final var expectedVideoId = VideoID.unique().getValue();
+        final var creation = VideoCreation.queued().processing().completed(expectedVideoId);
+
+        when(videoCreationGateway.findById(creation.id())).thenReturn(Optional.of(creation));
+
+        final var output = useCase.execute(creation.id());
+
+        Assertions.assertEquals(creation.id(), output.id());
+        Assertions.assertEquals("COMPLETED", output.status());
+        Assertions.assertEquals(expectedVideoId, output.videoId());
+        Assertions.assertTrue(output.errors().isEmpty());
+        Assertions.assertEquals(creation.createdAt(), output.createdAt());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsGet_thenReturnNotFound() {
+        final var expectedErrorMessage = "Video creation with ID 123 was not found";
+
+        when(videoCreationGateway.findById("123")).thenReturn(Optional.empty());
+
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> useCase.execute("123"));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
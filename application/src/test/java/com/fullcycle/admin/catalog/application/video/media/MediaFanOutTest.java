@@ -0,0 +1,115 @@
+package com.fullcycle.admin.catalog.application.video.media;
+
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.fullcycle.admin.catalog.domain.video.VideoMediaType.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class MediaFanOutTest {
+
+    private MediaResourceGateway mediaResourceGateway;
+    private ExecutorService executor;
+    private MediaFanOut mediaFanOut;
+
+    @BeforeEach
+    void setUp() {
+        mediaResourceGateway = Mockito.mock(MediaResourceGateway.class);
+        executor = Executors.newCachedThreadPool();
+        mediaFanOut = new MediaFanOut(mediaResourceGateway, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenManyResources_whenCallsStoreAll_thenStoreThemConcurrently() {
+        final var expectedVideo = Fixture.Videos.audioVideo();
+        final var expectedBanner = Fixture.Videos.imageBanner();
+        final var bothStarted = new CountDownLatch(2);
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            Assertions.assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            return expectedVideo;
+        });
+        when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            Assertions.assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            return expectedBanner;
+        });
+
+        final var video = Fixture.video();
+        final var result = mediaFanOut.storeAll(video, List.of(
+                VideoResource.with(Fixture.Videos.videoResource(), VIDEO),
+                VideoResource.with(Fixture.Videos.bannerResource(), BANNER)
+        ));
+
+        Assertions.assertEquals(expectedVideo, result.getVideo().get());
+        Assertions.assertEquals(expectedBanner, result.getBanner().get());
+        Assertions.assertTrue(result.getTrailer().isEmpty());
+        Assertions.assertTrue(result.getThumbnail().isEmpty());
+        Assertions.assertTrue(result.getThumbnailHalf().isEmpty());
+    }
+
+    @Test
+    void givenAFailingStore_whenCallsStoreAll_thenCancelTheOthersAndWaitThemToSettle() {
+        final var expectedErrorMessage = "Internal Server Error";
+        final var videoStarted = new CountDownLatch(1);
+        final var videoSettled = new AtomicBoolean(false);
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(invocation -> {
+            try {
+                videoStarted.countDown();
+                new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+                return Fixture.Videos.audioVideo();
+            } finally {
+                videoSettled.set(true);
+            }
+        });
+        when(mediaResourceGateway.storeImage(any(), argThat(it -> it.type() == BANNER))).thenAnswer(invocation -> {
+            Assertions.assertTrue(videoStarted.await(5, TimeUnit.SECONDS));
+            throw new IllegalStateException(expectedErrorMessage);
+        });
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> mediaFanOut.storeAll(
+                Fixture.video(),
+                List.of(
+                        VideoResource.with(Fixture.Videos.videoResource(), VIDEO),
+                        VideoResource.with(Fixture.Videos.bannerResource(), BANNER)
+                )
+        ));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertTrue(videoSettled.get());
+    }
+
+    @Test
+    void givenNoResources_whenCallsStoreAll_thenClearAllMedias() {
+        final var result = mediaFanOut.storeAll(Fixture.video(), List.of());
+
+        Assertions.assertTrue(result.getVideo().isEmpty());
+        Assertions.assertTrue(result.getTrailer().isEmpty());
+        Assertions.assertTrue(result.getBanner().isEmpty());
+        Assertions.assertTrue(result.getThumbnail().isEmpty());
+        Assertions.assertTrue(result.getThumbnailHalf().isEmpty());
+        verifyNoInteractions(mediaResourceGateway);
+    }
+}
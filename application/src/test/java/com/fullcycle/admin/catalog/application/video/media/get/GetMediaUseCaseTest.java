@@ -4,6 +4,8 @@ import com.fullcycle.admin.catalog.application.UseCaseTest;
 import com.fullcycle.admin.catalog.domain.Fixture;
 import com.fullcycle.admin.catalog.domain.exception.DomainException;
 import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.ResourceContent;
 import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
 import com.fullcycle.admin.catalog.domain.video.VideoID;
 import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
@@ -13,8 +15,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.internal.matchers.Not;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -46,7 +51,7 @@ class GetMediaUseCaseTest extends UseCaseTest {
 
         Assertions.assertNotNull(result);
         Assertions.assertEquals(expectedResource.name(), result.name());
-        Assertions.assertEquals(expectedResource.content(), result.content());
+        Assertions.assertSame(expectedResource.source(), result.body());
         Assertions.assertEquals(expectedResource.contentType(), result.contentType());
     }
 
@@ -79,4 +84,127 @@ class GetMediaUseCaseTest extends UseCaseTest {
 
         Assertions.assertEquals(expectedErrorMessage, error.getMessage());
     }
+
+    @Test
+    void givenRange_whenCallsGetMedia_thenReturnOnlyThePartialContent() throws IOException {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedResource = Resource.with("abc", "Conteudo".getBytes(), "video/mp4", "trailer");
+        final var command = GetMediaCommand.with(
+                expectedVideoId.getValue(),
+                expectedType.name(),
+                List.of(MediaRange.of(2L, 4L)),
+                List.of()
+        );
+
+        when(mediaResourceGateway.getResource(expectedVideoId, expectedType))
+                .thenReturn(Optional.of(expectedResource));
+
+        final var result = useCase.execute(command);
+
+        Assertions.assertEquals(MediaOutput.Status.PARTIAL, result.status());
+        Assertions.assertEquals(2, result.offset());
+        Assertions.assertEquals(8, result.totalLength());
+        Assertions.assertEquals(3, result.contentLength());
+        Assertions.assertArrayEquals("nte".getBytes(), result.openStream().readAllBytes());
+        Assertions.assertEquals("abc", result.checksum());
+    }
+
+    @Test
+    void givenOverlappingRanges_whenCallsGetMedia_thenMergeThem() throws IOException {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedResource = Resource.with("abc", "Conteudo".getBytes(), "video/mp4", "trailer");
+        final var command = GetMediaCommand.with(
+                expectedVideoId.getValue(),
+                expectedType.name(),
+                List.of(MediaRange.of(100L, null), MediaRange.of(3L, 4L), MediaRange.suffix(3), MediaRange.of(2L, 3L)),
+                List.of()
+        );
+
+        when(mediaResourceGateway.getResource(expectedVideoId, expectedType))
+                .thenReturn(Optional.of(expectedResource));
+
+        final var result = useCase.execute(command);
+
+        Assertions.assertEquals(MediaOutput.Status.PARTIAL, result.status());
+        Assertions.assertEquals(2, result.offset());
+        Assertions.assertArrayEquals("nteudo".getBytes(), result.openStream().readAllBytes());
+    }
+
+    @Test
+    void givenDisjointRanges_whenCallsGetMedia_thenReturnOnlyTheFirstOne() throws IOException {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedResource = Resource.with("abc", "Conteudo".getBytes(), "video/mp4", "trailer");
+        final var command = GetMediaCommand.with(
+                expectedVideoId.getValue(),
+                expectedType.name(),
+                List.of(MediaRange.of(0L, 0L), MediaRange.suffix(1)),
+                List.of()
+        );
+
+        when(mediaResourceGateway.getResource(expectedVideoId, expectedType))
+                .thenReturn(Optional.of(expectedResource));
+
+        final var result = useCase.execute(command);
+
+        Assertions.assertEquals(MediaOutput.Status.PARTIAL, result.status());
+        Assertions.assertEquals(0, result.offset());
+        Assertions.assertEquals(1, result.contentLength());
+        Assertions.assertArrayEquals("C".getBytes(), result.openStream().readAllBytes());
+    }
+
+    @Test
+    void givenUnsatisfiableRange_whenCallsGetMedia_thenReturnRangeNotSatisfiable() {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedResource = Resource.with("abc", "Conteudo".getBytes(), "video/mp4", "trailer");
+        final var command = GetMediaCommand.with(
+                expectedVideoId.getValue(),
+                expectedType.name(),
+                List.of(MediaRange.of(8L, null)),
+                List.of()
+        );
+
+        when(mediaResourceGateway.getResource(expectedVideoId, expectedType))
+                .thenReturn(Optional.of(expectedResource));
+
+        final var result = useCase.execute(command);
+
+        Assertions.assertEquals(MediaOutput.Status.RANGE_NOT_SATISFIABLE, result.status());
+        Assertions.assertEquals(8, result.totalLength());
+        Assertions.assertEquals(0, result.contentLength());
+    }
+
+    @Test
+    void givenMatchingETag_whenCallsGetMedia_thenReturnNotModifiedWithoutReadingTheContent() {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.BANNER;
+        final var opened = new AtomicInteger();
+        final var expectedResource = Resource.with(
+                "abc",
+                ResourceContent.of(8, () -> {
+                    opened.incrementAndGet();
+                    return new ByteArrayInputStream("Conteudo".getBytes());
+                }),
+                "image/jpg",
+                "banner"
+        );
+        final var command = GetMediaCommand.with(
+                expectedVideoId.getValue(),
+                expectedType.name(),
+                List.of(MediaRange.of(0L, 1L)),
+                List.of("xyz", "abc")
+        );
+
+        when(mediaResourceGateway.getResource(expectedVideoId, expectedType))
+                .thenReturn(Optional.of(expectedResource));
+
+        final var result = useCase.execute(command);
+
+        Assertions.assertEquals(MediaOutput.Status.NOT_MODIFIED, result.status());
+        Assertions.assertEquals("abc", result.checksum());
+        Assertions.assertEquals(0, opened.get());
+    }
 }
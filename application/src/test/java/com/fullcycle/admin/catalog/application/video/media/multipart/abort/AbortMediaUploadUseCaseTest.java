@@ -0,0 +1,82 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.abort;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUpload;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AbortMediaUploadUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultAbortMediaUploadUseCase useCase;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaResourceGateway);
+    }
+
+    @Test
+    void givenValidUpload_whenCallsAbort_thenDiscardIt() {
+        final var expectedVideoId = Fixture.video().getId();
+        final var expectedUpload = MediaUpload.newUpload(expectedVideoId, VideoMediaType.VIDEO);
+        final var command = AbortMediaUploadCommand.with(expectedVideoId.getValue(), "VIDEO", expectedUpload.id());
+
+        when(mediaResourceGateway.findUpload(any(), any(), any()))
+                .thenReturn(Optional.of(expectedUpload));
+
+        useCase.execute(command);
+
+        verify(mediaResourceGateway, times(1)).findUpload(eq(expectedVideoId), eq(VideoMediaType.VIDEO), eq(expectedUpload.id()));
+        verify(mediaResourceGateway, times(1)).abortUpload(eq(expectedUpload));
+    }
+
+    @Test
+    void givenUnknownUpload_whenCallsAbort_thenThrowsNotFoundAndDeletesNothing() {
+        final var expectedVideoId = Fixture.video().getId();
+        final var expectedErrorMessage = "Upload .. not found for video %s".formatted(expectedVideoId.getValue());
+        final var command = AbortMediaUploadCommand.with(expectedVideoId.getValue(), "VIDEO", "..");
+
+        when(mediaResourceGateway.findUpload(any(), any(), any()))
+                .thenReturn(Optional.empty());
+
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(command)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(mediaResourceGateway, never()).abortUpload(any());
+    }
+
+    @Test
+    void givenImageMediaType_whenCallsAbort_thenThrowsNotFound() {
+        final var expectedVideoId = Fixture.video().getId();
+        final var expectedErrorMessage = "Media type BANNER doesn't support chunked upload";
+        final var command = AbortMediaUploadCommand.with(expectedVideoId.getValue(), "BANNER", "123");
+
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(command)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(mediaResourceGateway, never()).findUpload(any(), any(), any());
+        verify(mediaResourceGateway, never()).abortUpload(any());
+    }
+}
@@ -0,0 +1,109 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.complete;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUpload;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CompleteMediaUploadUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCompleteMediaUploadUseCase useCase;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaResourceGateway, videoGateway);
+    }
+
+    @Test
+    void givenCompletedUpload_whenCallsComplete_thenUpdateVideoMediaAndPersistIt() {
+        final var video = Fixture.video();
+        final var expectedVideoId = video.getId();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedUpload = MediaUpload.newUpload(expectedVideoId, expectedType);
+        final var expectedMedia = Fixture.Videos.audioVideo();
+        final var command = CompleteMediaUploadCommand.with(expectedVideoId.getValue(), "video", expectedUpload.id());
+
+        when(videoGateway.findById(expectedVideoId))
+                .thenReturn(Optional.of(video));
+        when(mediaResourceGateway.completeUpload(expectedUpload))
+                .thenReturn(Optional.of(expectedMedia));
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(command);
+
+        Assertions.assertEquals(expectedVideoId.getValue(), output.videoId());
+        Assertions.assertEquals(expectedType, output.mediaType());
+
+        verify(mediaResourceGateway, times(1)).completeUpload(eq(expectedUpload));
+        verify(videoGateway, times(1)).update(argThat(updatedVideo ->
+                Objects.equals(expectedMedia, updatedVideo.getVideo().get())));
+    }
+
+    @Test
+    void givenCompletedUpload_whenCallsComplete_thenUpdateTrailerMediaAndPersistIt() {
+        final var video = Fixture.video();
+        final var expectedVideoId = video.getId();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedUpload = MediaUpload.newUpload(expectedVideoId, expectedType);
+        final var expectedMedia = Fixture.Videos.audioTrailer();
+        final var command = CompleteMediaUploadCommand.with(expectedVideoId.getValue(), "TRAILER", expectedUpload.id());
+
+        when(videoGateway.findById(expectedVideoId))
+                .thenReturn(Optional.of(video));
+        when(mediaResourceGateway.completeUpload(expectedUpload))
+                .thenReturn(Optional.of(expectedMedia));
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(command);
+
+        Assertions.assertEquals(expectedType, output.mediaType());
+        verify(videoGateway, times(1)).update(argThat(updatedVideo ->
+                Objects.equals(expectedMedia, updatedVideo.getTrailer().get())));
+    }
+
+    @Test
+    void givenUnknownUpload_whenCallsComplete_thenReturnNotFound() {
+        final var video = Fixture.video();
+        final var expectedVideoId = video.getId();
+        final var expectedErrorMessage = "Upload 123 not found for video %s".formatted(expectedVideoId.getValue());
+        final var command = CompleteMediaUploadCommand.with(expectedVideoId.getValue(), "VIDEO", "123");
+
+        when(videoGateway.findById(expectedVideoId))
+                .thenReturn(Optional.of(video));
+        when(mediaResourceGateway.completeUpload(any()))
+                .thenReturn(Optional.empty());
+
+        final var error = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(command)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, error.getMessage());
+        verify(videoGateway, never()).update(any());
+    }
+}
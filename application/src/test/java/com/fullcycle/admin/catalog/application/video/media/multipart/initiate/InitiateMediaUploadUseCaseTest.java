@@ -0,0 +1,105 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.initiate;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
+import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUpload;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class InitiateMediaUploadUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultInitiateMediaUploadUseCase useCase;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaResourceGateway, videoGateway);
+    }
+
+    @Test
+    void givenValidCommand_whenCallsInitiateUpload_thenReturnUploadId() {
+        final var video = Fixture.video();
+        final var expectedVideoId = video.getId();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedContentType = "video/mp4";
+        final var expectedName = "master.mp4";
+        final var expectedUpload = MediaUpload.newUpload(expectedVideoId, expectedType);
+        final var command = InitiateMediaUploadCommand.with(
+                expectedVideoId.getValue(),
+                expectedType.name(),
+                expectedContentType,
+                expectedName
+        );
+
+        when(videoGateway.findById(expectedVideoId))
+                .thenReturn(Optional.of(video));
+        when(mediaResourceGateway.initiateUpload(any(), any(), any(), any()))
+                .thenReturn(expectedUpload);
+
+        final var output = useCase.execute(command);
+
+        Assertions.assertEquals(expectedUpload.id(), output.uploadId());
+        Assertions.assertEquals(expectedVideoId.getValue(), output.videoId());
+        Assertions.assertEquals(expectedType, output.mediaType());
+
+        verify(mediaResourceGateway, times(1)).initiateUpload(
+                eq(expectedVideoId),
+                eq(expectedType),
+                eq(expectedContentType),
+                eq(expectedName)
+        );
+    }
+
+    @Test
+    void givenImageMediaType_whenCallsInitiateUpload_thenReturnDomainException() {
+        final var expectedVideoId = Fixture.video().getId();
+        final var expectedErrorMessage = "Media type BANNER doesn't support chunked upload";
+        final var command = InitiateMediaUploadCommand.with(expectedVideoId.getValue(), "banner", "image/jpg", "banner.jpg");
+
+        final var error = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(command)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, error.getMessage());
+        verify(mediaResourceGateway, never()).initiateUpload(any(), any(), any(), any());
+    }
+
+    @Test
+    void givenInvalidVideoId_whenCallsInitiateUpload_thenReturnNotFound() {
+        final var expectedVideoId = Fixture.video().getId();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedVideoId.getValue());
+        final var command = InitiateMediaUploadCommand.with(expectedVideoId.getValue(), "VIDEO", "video/mp4", "master.mp4");
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        final var error = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(command)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, error.getMessage());
+        verify(mediaResourceGateway, never()).initiateUpload(any(), any(), any(), any());
+    }
+}
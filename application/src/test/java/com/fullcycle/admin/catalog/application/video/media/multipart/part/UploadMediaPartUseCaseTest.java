@@ -0,0 +1,105 @@
+package com.fullcycle.admin.catalog.application.video.media.multipart.part;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
+import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaUpload;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UploadMediaPartUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultUploadMediaPartUseCase useCase;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaResourceGateway);
+    }
+
+    @Test
+    void givenValidPart_whenCallsUploadPart_thenStoreIt() {
+        final var expectedVideoId = Fixture.video().getId();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedUpload = MediaUpload.newUpload(expectedVideoId, expectedType);
+        final var expectedPartNumber = 3;
+        final var expectedPart = Fixture.Videos.trailerResource();
+        final var command = UploadMediaPartCommand.with(
+                expectedVideoId.getValue(),
+                expectedType.name(),
+                expectedUpload.id(),
+                expectedPartNumber,
+                expectedPart
+        );
+
+        when(mediaResourceGateway.findUpload(expectedVideoId, expectedType, expectedUpload.id()))
+                .thenReturn(Optional.of(expectedUpload));
+
+        final var output = useCase.execute(command);
+
+        Assertions.assertEquals(expectedUpload.id(), output.uploadId());
+        Assertions.assertEquals(expectedPartNumber, output.partNumber());
+        Assertions.assertEquals(expectedPart.checksum(), output.checksum());
+
+        verify(mediaResourceGateway, times(1)).storeUploadPart(eq(expectedUpload), eq(expectedPartNumber), eq(expectedPart));
+    }
+
+    @Test
+    void givenInvalidPartNumber_whenCallsUploadPart_thenReturnDomainException() {
+        final var expectedVideoId = Fixture.video().getId();
+        final var expectedErrorMessage = "'partNumber' must be between 1 and 10000";
+        final var command = UploadMediaPartCommand.with(
+                expectedVideoId.getValue(),
+                "VIDEO",
+                "123",
+                0,
+                Fixture.Videos.videoResource()
+        );
+
+        final var error = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(command)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, error.getMessage());
+        verify(mediaResourceGateway, never()).storeUploadPart(any(), anyInt(), any());
+    }
+
+    @Test
+    void givenUnknownUpload_whenCallsUploadPart_thenReturnNotFound() {
+        final var expectedVideoId = Fixture.video().getId();
+        final var expectedErrorMessage = "Upload 123 not found for video %s".formatted(expectedVideoId.getValue());
+        final var command = UploadMediaPartCommand.with(
+                expectedVideoId.getValue(),
+                "VIDEO",
+                "123",
+                1,
+                Fixture.Videos.videoResource()
+        );
+
+        when(mediaResourceGateway.findUpload(any(), any(), any()))
+                .thenReturn(Optional.empty());
+
+        final var error = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(command)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, error.getMessage());
+        verify(mediaResourceGateway, never()).storeUploadPart(any(), anyInt(), any());
+    }
+}
@@ -0,0 +1,104 @@
+package com.fullcycle.admin.catalog.application.video.media.update;
+
+import com.fullcycle.admin.catalog.application.UseCaseTest;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.video.MediaStatus;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BatchUpdateMediaStatusUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultBatchUpdateMediaStatusUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    void givenManyCommandsForTheSameVideo_whenCallsExecute_thenUpdateItOnce() {
+        final var expectedMedia = Fixture.Videos.audioVideo();
+        final var expectedTrailer = Fixture.Videos.audioTrailer();
+        final var video = Fixture.Videos.systemDesign().updateVideo(expectedMedia).updateTrailer(expectedTrailer);
+        final var expectedVideoId = video.getId();
+        final var videoId = expectedVideoId.getValue();
+
+        when(videoGateway.findById(expectedVideoId)).thenReturn(Optional.of(video));
+        when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(List.of(
+                UpdateMediaStatusCommand.with(videoId, expectedMedia.id(), MediaStatus.PROCESSING, "encoded", "video.mp4"),
+                UpdateMediaStatusCommand.with(videoId, expectedMedia.id(), MediaStatus.COMPLETED, "encoded", "video.mp4"),
+                UpdateMediaStatusCommand.with(videoId, expectedTrailer.id(), MediaStatus.PROCESSING, "encoded", "trailer.mp4")
+        ));
+
+        Assertions.assertEquals(Set.of(videoId), output.updated());
+        Assertions.assertTrue(output.notFound().isEmpty());
+        Assertions.assertTrue(output.failed().isEmpty());
+
+        verify(videoGateway, times(1)).findById(eq(expectedVideoId));
+        final var captor = ArgumentCaptor.forClass(Video.class);
+        verify(videoGateway, times(1)).update(captor.capture());
+
+        final var updatedMedia = captor.getValue().getVideo().get();
+        Assertions.assertEquals(MediaStatus.COMPLETED, updatedMedia.status());
+        Assertions.assertEquals("encoded/video.mp4", updatedMedia.encodedPath());
+        Assertions.assertEquals(MediaStatus.PROCESSING, captor.getValue().getTrailer().get().status());
+    }
+
+    @Test
+    void givenOutOfOrderCommands_whenCallsExecute_thenNeverMoveStatusBack() {
+        final var expectedMedia = Fixture.Videos.audioVideo().completed("encoded/video.mp4");
+        final var video = Fixture.Videos.systemDesign().updateVideo(expectedMedia);
+        final var expectedVideoId = video.getId();
+
+        when(videoGateway.findById(expectedVideoId)).thenReturn(Optional.of(video));
+
+        final var output = useCase.execute(List.of(
+                UpdateMediaStatusCommand.with(expectedVideoId.getValue(), expectedMedia.id(), MediaStatus.PROCESSING, "encoded", "video.mp4")
+        ));
+
+        Assertions.assertEquals(Set.of(expectedVideoId.getValue()), output.updated());
+        verify(videoGateway, never()).update(any());
+    }
+
+    @Test
+    void givenUnknownAndFailingVideos_whenCallsExecute_thenReportThemApart() {
+        final var expectedMedia = Fixture.Videos.audioVideo();
+        final var video = Fixture.Videos.systemDesign().updateVideo(expectedMedia);
+        final var failingId = video.getId().getValue();
+        final var missingId = VideoID.unique().getValue();
+
+        when(videoGateway.findById(video.getId())).thenReturn(Optional.of(video));
+        when(videoGateway.findById(VideoID.from(missingId))).thenReturn(Optional.empty());
+        when(videoGateway.update(any())).thenThrow(new IllegalStateException("Gateway error"));
+
+        final var output = useCase.execute(List.of(
+                UpdateMediaStatusCommand.with(missingId, expectedMedia.id(), MediaStatus.COMPLETED, "encoded", "video.mp4"),
+                UpdateMediaStatusCommand.with(failingId, expectedMedia.id(), MediaStatus.COMPLETED, "encoded", "video.mp4")
+        ));
+
+        Assertions.assertTrue(output.updated().isEmpty());
+        Assertions.assertEquals(Set.of(missingId), output.notFound());
+        Assertions.assertEquals(Set.of(failingId), output.failed().keySet());
+        Assertions.assertEquals("Gateway error", output.failed().get(failingId).getMessage());
+    }
+}
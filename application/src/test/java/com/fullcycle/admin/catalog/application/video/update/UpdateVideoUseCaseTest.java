@@ -17,8 +17,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,6 +44,9 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @Spy
+    private Executor mediaExecutor = new ThreadPerTaskExecutor();
+
     @InjectMocks
     private DefaultUpdateVideoUseCase useCase;
 
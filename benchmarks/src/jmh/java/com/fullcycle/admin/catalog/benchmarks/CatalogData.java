@@ -0,0 +1,69 @@
+package com.fullcycle.admin.catalog.benchmarks;
+
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.video.Video;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Catalog aggregates with the shapes the tests use, built from {@link Fixture}.
+ */
+public final class CatalogData {
+
+    private CatalogData() {
+    }
+
+    public static Video video(final int relations) {
+        return Video.newVideo(
+                        Fixture.Videos.title(),
+                        Fixture.Videos.description(),
+                        Fixture.year(),
+                        Fixture.Videos.duration(),
+                        Fixture.Videos.rating(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        ids(relations, CategoryID::unique),
+                        ids(relations, GenreID::unique),
+                        ids(relations, CastMemberID::unique)
+                )
+                .updateVideo(Fixture.Videos.audioVideo())
+                .updateTrailer(Fixture.Videos.audioTrailer())
+                .updateBanner(Fixture.Videos.imageBanner())
+                .updateThumbnail(Fixture.Videos.imageThumbnail())
+                .updateThumbnailHalf(Fixture.Videos.imageThumbnailHalf());
+    }
+
+    public static List<Video> videos(final int count, final int relations) {
+        return IntStream.range(0, count).mapToObj(i -> video(relations)).toList();
+    }
+
+    public static Genre genre(final int categories) {
+        return Genre.newGenre(Fixture.name(), true)
+                .addCategories(List.copyOf(ids(categories, CategoryID::unique)));
+    }
+
+    public static List<Genre> genres(final int count, final int categories) {
+        return IntStream.range(0, count).mapToObj(i -> genre(categories)).toList();
+    }
+
+    public static Category category() {
+        return Category.newCategory(Fixture.name(), Fixture.Videos.description(), Fixture.bool());
+    }
+
+    public static List<Category> categories(final int count) {
+        return IntStream.range(0, count).mapToObj(i -> category()).toList();
+    }
+
+    private static <T> Set<T> ids(final int count, final Supplier<T> unique) {
+        return IntStream.range(0, count).mapToObj(i -> unique.get()).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalog.benchmarks;
+
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.infraestructure.genre.persistence.GenreJpaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GenreJpaEntity#toAggregate()} for genres with few and many categories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GenreMappingBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int categories;
+
+    private Genre genre;
+    private GenreJpaEntity entity;
+
+    @Setup
+    public void setUp() {
+        genre = CatalogData.genre(categories);
+        entity = GenreJpaEntity.from(genre);
+    }
+
+    @Benchmark
+    public GenreJpaEntity from() {
+        return GenreJpaEntity.from(genre);
+    }
+
+    @Benchmark
+    public Genre toAggregate() {
+        return entity.toAggregate();
+    }
+}
@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalog.benchmarks;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.application.genre.retrieve.list.GenreListOutput;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaCreated;
+import com.fullcycle.admin.catalog.infraestructure.category.models.CategoryListResponse;
+import com.fullcycle.admin.catalog.infraestructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalog.infraestructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infraestructure.genre.models.GenreListResponse;
+import com.fullcycle.admin.catalog.infraestructure.genre.presenters.GenreApiPresenter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Json#writeValueAsString} of the media event published for every upload and of the list pages returned by the
+ * API, with the shared mapper the application uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private VideoMediaCreated event;
+    private Pagination<CategoryListResponse> categories;
+    private Pagination<GenreListResponse> genres;
+
+    @Setup
+    public void setUp() {
+        final var resourceId = UUID.randomUUID().toString();
+        event = new VideoMediaCreated(resourceId, "videos/%s/video.mp4".formatted(resourceId));
+
+        categories = new Pagination<>(0, pageSize, 1000, CatalogData.categories(pageSize))
+                .map(CategoryListOutput::from)
+                .map(CategoryApiPresenter::present);
+        genres = new Pagination<>(0, pageSize, 1000, CatalogData.genres(pageSize, 5))
+                .map(GenreListOutput::from)
+                .map(GenreApiPresenter::present);
+    }
+
+    @Benchmark
+    public String videoMediaCreated() {
+        return Json.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public String categoryListPage() {
+        return Json.writeValueAsString(categories);
+    }
+
+    @Benchmark
+    public String genreListPage() {
+        return Json.writeValueAsString(genres);
+    }
+}
@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalog.benchmarks;
+
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Error accumulation, appended directly and through {@link Notification#validate} catching a {@link DomainException},
+ * which is how the use cases collect the errors of nested validations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int errors;
+
+    private List<Error> inputs;
+
+    @Setup
+    public void setUp() {
+        inputs = IntStream.range(0, errors)
+                .mapToObj(i -> new Error("'field%d' should not be null".formatted(i)))
+                .toList();
+    }
+
+    @Benchmark
+    public Notification append() {
+        final var notification = Notification.create();
+        for (final var error : inputs) {
+            notification.append(error);
+        }
+        return notification;
+    }
+
+    @Benchmark
+    public Notification validateThrowing() {
+        final var notification = Notification.create();
+        for (final var error : inputs) {
+            notification.validate(() -> {
+                throw DomainException.with(error);
+            });
+        }
+        return notification;
+    }
+
+    @Benchmark
+    public Notification appendHandler() {
+        final var notification = Notification.create();
+        for (final var error : inputs) {
+            notification.append(Notification.create(error));
+        }
+        return notification;
+    }
+}
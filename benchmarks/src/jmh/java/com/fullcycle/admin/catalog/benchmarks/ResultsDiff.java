@@ -0,0 +1,64 @@
+package com.fullcycle.admin.catalog.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON results, printing the score change of each benchmark and parameter combination. Changes
+ * within the sum of both score errors are not marked as regressions or improvements.
+ */
+public final class ResultsDiff {
+
+    private ResultsDiff() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ResultsDiff <baseline.json> <candidate.json>");
+            System.exit(1);
+        }
+
+        final var baseline = read(new File(args[0]));
+        final var candidate = read(new File(args[1]));
+
+        System.out.printf("%-80s %14s %14s %9s%n", "benchmark", "baseline", "candidate", "change");
+        candidate.forEach((key, after) -> {
+            final var before = baseline.get(key);
+            if (before == null) {
+                System.out.printf("%-80s %14s %14.3f %9s%n", key, "-", after.score(), "new");
+                return;
+            }
+
+            final var change = (after.score() - before.score()) / before.score() * 100;
+            final var significant = Math.abs(after.score() - before.score()) > before.error() + after.error();
+            System.out.printf(
+                    "%-80s %14.3f %14.3f %+8.1f%% %s%s%n",
+                    key, before.score(), after.score(), change, after.unit(), significant ? " *" : ""
+            );
+        });
+    }
+
+    private static Map<String, Score> read(final File file) throws IOException {
+        final var results = new LinkedHashMap<String, Score>();
+        for (final JsonNode result : new ObjectMapper().readTree(file)) {
+            final var params = new TreeMap<String, String>();
+            result.path("params").fields().forEachRemaining(it -> params.put(it.getKey(), it.getValue().asText()));
+
+            final var metric = result.path("primaryMetric");
+            results.put(
+                    result.path("benchmark").asText() + (params.isEmpty() ? "" : params.toString()),
+                    new Score(metric.path("score").asDouble(), metric.path("scoreError").asDouble(0), metric.path("scoreUnit").asText())
+            );
+        }
+        return results;
+    }
+
+    private record Score(double score, double error, String unit) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.fullcycle.admin.catalog.benchmarks;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.infraestructure.search.TextSearch;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Category search with {@code UPPER(col) LIKE '%TERMS%'} against {@code MATCH ... AGAINST} on the FULLTEXT index, the
+ * two paths of {@link TextSearch}, over a MySQL started with Testcontainers and migrated with the application scripts.
+ * <p>
+ * Needs Docker, so it only runs with {@code -Pbenchmarks.mysql}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TextSearchBenchmark {
+
+    private static final String LIKE = """
+            SELECT id, name FROM categories
+            WHERE UPPER(name) LIKE ? OR UPPER(description) LIKE ?
+            ORDER BY name LIMIT 10
+            """;
+
+    private static final String MATCH_AGAINST = """
+            SELECT id, name FROM categories
+            WHERE MATCH(name, description) AGAINST (? IN BOOLEAN MODE)
+            ORDER BY name LIMIT 10
+            """;
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    @Param({"john", "john smith"})
+    private String terms;
+
+    private MySQLContainer<?> mysql;
+    private Connection connection;
+    private String pattern;
+    private String booleanQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        mysql = new MySQLContainer<>("mysql:latest")
+                .withPassword("123456")
+                .withUsername("root")
+                .withDatabaseName("admin_videos");
+        mysql.start();
+
+        Flyway.configure()
+                .dataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword())
+                .locations("classpath:db/migration", "classpath:db/vendor/mysql")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        seed();
+
+        pattern = "%" + terms.toUpperCase() + "%";
+        booleanQuery = new TextSearch(true, 3).fullTextQuery(terms).orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public int like() throws SQLException {
+        try (final var statement = connection.prepareStatement(LIKE)) {
+            statement.setString(1, pattern);
+            statement.setString(2, pattern);
+            return count(statement.executeQuery());
+        }
+    }
+
+    @Benchmark
+    public int matchAgainst() throws SQLException {
+        try (final var statement = connection.prepareStatement(MATCH_AGAINST)) {
+            statement.setString(1, booleanQuery);
+            return count(statement.executeQuery());
+        }
+    }
+
+    private void seed() throws SQLException {
+        connection.setAutoCommit(false);
+        try (final var statement = connection.prepareStatement("""
+                INSERT INTO categories (id, name, description, active, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """)) {
+            for (int i = 0; i < rows; i++) {
+                final Category category = CatalogData.category();
+                statement.setString(1, category.getId().getValue());
+                statement.setString(2, category.getName());
+                statement.setString(3, category.getDescription());
+                statement.setBoolean(4, category.isActive());
+                statement.setTimestamp(5, Timestamp.from(category.getCreatedAt()));
+                statement.setTimestamp(6, Timestamp.from(category.getUpdatedAt()));
+                statement.addBatch();
+                if (i % 1000 == 999) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private static int count(final ResultSet rows) throws SQLException {
+        try (rows) {
+            int count = 0;
+            while (rows.next()) {
+                count++;
+            }
+            return count;
+        }
+    }
+}
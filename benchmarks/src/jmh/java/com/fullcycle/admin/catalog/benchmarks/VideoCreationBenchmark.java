@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalog.benchmarks;
+
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Video#newVideo} with and without the {@code VideoValidator}, the path every create and import goes through.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VideoCreationBenchmark {
+
+    @Param({"1", "10"})
+    private int relations;
+
+    private List<Video> inputs;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        inputs = CatalogData.videos(256, relations);
+    }
+
+    @Benchmark
+    public Video newVideo() {
+        return create(nextInput());
+    }
+
+    @Benchmark
+    public Notification newVideoAndValidate() {
+        final var notification = Notification.create();
+        create(nextInput()).validate(notification);
+        return notification;
+    }
+
+    private Video nextInput() {
+        next = (next + 1) % inputs.size();
+        return inputs.get(next);
+    }
+
+    private static Video create(final Video input) {
+        return Video.newVideo(
+                input.getTitle(),
+                input.getDescription(),
+                input.getLaunchedAt(),
+                input.getDuration(),
+                input.getRating(),
+                input.isOpened(),
+                input.isPublished(),
+                input.getCategories(),
+                input.getGenres(),
+                input.getCastMembers()
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalog.benchmarks;
+
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.infraestructure.video.persistence.VideoJpaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion between {@link Video} and {@link VideoJpaEntity}, with its medias and the three relation tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VideoMappingBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int relations;
+
+    private Video video;
+    private VideoJpaEntity entity;
+
+    @Setup
+    public void setUp() {
+        video = CatalogData.video(relations);
+        entity = VideoJpaEntity.from(video);
+    }
+
+    @Benchmark
+    public VideoJpaEntity from() {
+        return VideoJpaEntity.from(video);
+    }
+
+    @Benchmark
+    public Video toAggregate() {
+        return entity.toAggregate();
+    }
+}
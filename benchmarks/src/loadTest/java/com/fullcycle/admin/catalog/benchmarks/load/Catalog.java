@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.benchmarks.load;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Ids of the aggregates seeded before the run, the targets of the reads and updates.
+ *
+ * @param searchTerms words of the seeded names, so list searches find something
+ * @param videos      videos with a VIDEO media
+ */
+record Catalog(
+        List<String> categories,
+        List<String> genres,
+        List<String> castMembers,
+        List<String> videos,
+        List<String> searchTerms
+) {
+
+    static <T> T any(final List<T> items, final RandomGenerator random) {
+        return items.get(random.nextInt(items.size()));
+    }
+}
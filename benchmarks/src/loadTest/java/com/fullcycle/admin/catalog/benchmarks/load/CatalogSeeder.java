@@ -0,0 +1,139 @@
+package com.fullcycle.admin.catalog.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.infraestructure.castmember.models.CreateCastMemberRequest;
+import com.fullcycle.admin.catalog.infraestructure.category.models.CreateCategoryRequest;
+import com.fullcycle.admin.catalog.infraestructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infraestructure.genre.models.CreateGenreRequest;
+import com.fullcycle.admin.catalog.infraestructure.video.models.ImportVideoRequest;
+import com.fullcycle.admin.catalog.infraestructure.video.models.InitiateMediaUploadRequest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Seeds the catalog through the bulk import endpoints and uploads a VIDEO media to each seeded video with the chunked
+ * upload, the same paths a real catalog is loaded by.
+ */
+final class CatalogSeeder {
+
+    static final int MEDIA_SIZE = 256 * 1024;
+
+    private final HttpClient http;
+    private final URI baseUri;
+    private final Random random = new Random(42);
+
+    CatalogSeeder(final HttpClient http, final URI baseUri) {
+        this.http = http;
+        this.baseUri = baseUri;
+    }
+
+    Catalog seed(final int size) throws IOException, InterruptedException {
+        final var names = IntStream.range(0, size).mapToObj(i -> Fixture.name()).toList();
+        final var categories = importLines("categories/import", size, i ->
+                new CreateCategoryRequest(names.get(i), Fixture.Videos.description(), true));
+        final var genres = importLines("genres/import", Math.max(1, size / 2), i ->
+                new CreateGenreRequest(Fixture.name(), pick(categories, 3), true));
+        final var castMembers = importLines("cast_members/import", size, i ->
+                new CreateCastMemberRequest(Fixture.name(), Fixture.CastMembers.type()));
+        final var videos = importLines("videos/import", Math.max(1, size / 20), i -> new ImportVideoRequest(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Fixture.year().getValue(),
+                Fixture.Videos.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.copyOf(pick(categories, 2)),
+                Set.copyOf(pick(genres, 2)),
+                Set.copyOf(pick(castMembers, 4))
+        ));
+
+        for (final var video : videos) {
+            uploadMedia(video, "VIDEO");
+        }
+
+        final var searchTerms = names.stream().map(it -> it.split(" ")[0]).distinct().toList();
+        return new Catalog(categories, genres, castMembers, videos, searchTerms);
+    }
+
+    private List<String> importLines(
+            final String path,
+            final int count,
+            final IntFunction<Object> line
+    ) throws IOException, InterruptedException {
+        final var body = IntStream.range(0, count)
+                .mapToObj(i -> Json.writeValueAsString(line.apply(i)))
+                .collect(Collectors.joining("\n"));
+
+        final var response = send(HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+
+        final var ids = new ArrayList<String>();
+        for (final var result : response.split("\n")) {
+            final var id = read(result).path("id");
+            if (id.isTextual()) {
+                ids.add(id.asText());
+            }
+        }
+        if (ids.size() != count) {
+            throw new IllegalStateException("Seeding %s imported %d of %d lines".formatted(path, ids.size(), count));
+        }
+        return ids;
+    }
+
+    private void uploadMedia(final String videoId, final String type) throws IOException, InterruptedException {
+        final var uploads = "videos/%s/medias/%s/uploads".formatted(videoId, type);
+        final var initiated = send(HttpRequest.newBuilder(baseUri.resolve(uploads))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(Json.writeValueAsString(
+                        new InitiateMediaUploadRequest("video.mp4", "video/mp4")
+                ))));
+        final var uploadId = read(initiated).path("upload_id").asText();
+
+        final var content = new byte[MEDIA_SIZE];
+        random.nextBytes(content);
+        final var part = Multipart.part("part", "video.mp4", content);
+        send(HttpRequest.newBuilder(baseUri.resolve("%s/%s/parts/1".formatted(uploads, uploadId)))
+                .header("Content-Type", part.contentType())
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(part.body())));
+
+        send(HttpRequest.newBuilder(baseUri.resolve("%s/%s/complete".formatted(uploads, uploadId)))
+                .POST(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private List<String> pick(final List<String> ids, final int count) {
+        final var picked = new HashSet<String>();
+        while (picked.size() < Math.min(count, ids.size())) {
+            picked.add(Catalog.any(ids, random));
+        }
+        return List.copyOf(picked);
+    }
+
+    private String send(final HttpRequest.Builder request) throws IOException, InterruptedException {
+        final var response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Seeding %s answered %d: %s".formatted(
+                    response.uri(), response.statusCode(), response.body()
+            ));
+        }
+        return response.body();
+    }
+
+    private static JsonNode read(final String json) throws IOException {
+        return Json.mapper().readTree(json);
+    }
+}
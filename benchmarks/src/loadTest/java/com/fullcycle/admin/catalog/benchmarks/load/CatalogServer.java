@@ -0,0 +1,152 @@
+package com.fullcycle.admin.catalog.benchmarks.load;
+
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.infraestructure.configuration.WebServerConfig;
+import com.fullcycle.admin.catalog.infraestructure.services.StorageService;
+import org.springframework.amqp.rabbit.config.AbstractRabbitListenerContainerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The application running on a random port with the {@code test-e2e} profile, over H2 or over a MySQL started with
+ * Testcontainers, with medias on the file system storage.
+ * <p>
+ * There is no broker: the outbox relay is disabled and the queue consumers are not started, so only the HTTP paths
+ * are measured. The storage latency, if any, is slept on every store and compose.
+ */
+public final class CatalogServer implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final MySQLContainer<?> mysql;
+
+    private CatalogServer(final ConfigurableApplicationContext context, final MySQLContainer<?> mysql) {
+        this.context = context;
+        this.mysql = mysql;
+    }
+
+    public static CatalogServer start(final LoadTestSettings settings) throws IOException {
+        final var args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.com.fullcycle.admin.catalog=INFO",
+                "--outbox.relay.enabled=false",
+                "--storage.admin-videos.file-system.root=" + Files.createTempDirectory("loadtest-storage")
+        ));
+
+        if (settings.threads() == LoadTestSettings.Threads.VIRTUAL) {
+            args.add("--virtual-threads.enabled=true");
+        }
+
+        MySQLContainer<?> mysql = null;
+        if (settings.database() == LoadTestSettings.Database.MYSQL) {
+            mysql = new MySQLContainer<>("mysql:latest")
+                    .withPassword("123456")
+                    .withUsername("root")
+                    .withDatabaseName("admin_videos");
+            mysql.start();
+            args.add("--mysql.port=" + mysql.getMappedPort(3306));
+        } else {
+            args.addAll(List.of(
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.url=jdbc:h2:mem:admin_videos_load;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+                    "--search.full-text.enabled=false",
+                    "--export.fetch-size=500"
+            ));
+        }
+
+        final var context = new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("test-e2e", "filesystem")
+                .initializers(it -> {
+                    it.getBeanFactory().addBeanPostProcessor(new ConsumersNotStarted());
+                    if (!settings.storageLatency().isZero()) {
+                        it.getBeanFactory().addBeanPostProcessor(new DelayedStorage(settings.storageLatency()));
+                    }
+                })
+                .run(args.toArray(String[]::new));
+
+        return new CatalogServer(context, mysql);
+    }
+
+    public URI baseUri() {
+        final var port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        final var contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+        return URI.create("http://localhost:%d%s/".formatted(port, contextPath));
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    private static final class ConsumersNotStarted implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+            if (bean instanceof AbstractRabbitListenerContainerFactory<?> factory) {
+                factory.setAutoStartup(false);
+            }
+            return bean;
+        }
+    }
+
+    private record DelayedStorage(Duration latency) implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+            return bean instanceof StorageService storage ? new Delayed(storage, latency) : bean;
+        }
+    }
+
+    private record Delayed(StorageService storage, Duration latency) implements StorageService {
+
+        @Override
+        public void store(final String id, final Resource resource) {
+            sleep();
+            storage.store(id, resource);
+        }
+
+        @Override
+        public Optional<Resource> get(final String id) {
+            return storage.get(id);
+        }
+
+        @Override
+        public List<String> list(final String prefix) {
+            return storage.list(prefix);
+        }
+
+        @Override
+        public void deleteAll(final List<String> ids) {
+            storage.deleteAll(ids);
+        }
+
+        @Override
+        public Resource compose(final String id, final List<String> sources, final String contentType) {
+            sleep();
+            return storage.compose(id, sources, contentType);
+        }
+
+        private void sleep() {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalog.benchmarks.load;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record EndpointLatency(
+        long count,
+        long errors,
+        @JsonProperty("p50_ms") double p50Millis,
+        @JsonProperty("p99_ms") double p99Millis,
+        @JsonProperty("p999_ms") double p999Millis,
+        @JsonProperty("max_ms") double maxMillis
+) {
+
+    public double errorRate() {
+        return count == 0 ? 0 : (double) errors / count;
+    }
+}
@@ -0,0 +1,56 @@
+package com.fullcycle.admin.catalog.benchmarks.load;
+
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and error count of each endpoint, recorded concurrently by the response callbacks.
+ */
+final class Latencies {
+
+    private volatile Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(final String endpoint, final long nanos, final boolean ok) {
+        final var measured = endpoints.computeIfAbsent(endpoint, it -> new Endpoint());
+        measured.recorder.recordValue(nanos);
+        if (!ok) {
+            measured.errors.increment();
+        }
+    }
+
+    /**
+     * Drops what was recorded so far, used at the end of the warmup.
+     */
+    void reset() {
+        endpoints = new ConcurrentHashMap<>();
+    }
+
+    Map<String, EndpointLatency> summary() {
+        final var summary = new TreeMap<String, EndpointLatency>();
+        endpoints.forEach((endpoint, measured) -> {
+            final var histogram = measured.recorder.getIntervalHistogram();
+            summary.put(endpoint, new EndpointLatency(
+                    histogram.getTotalCount(),
+                    measured.errors.sum(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())
+            ));
+        });
+        return summary;
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Endpoint {
+        private final Recorder recorder = new Recorder(3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalog.benchmarks.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends requests to the API recording the latency of each one under its endpoint.
+ */
+final class LoadClient {
+
+    private final HttpClient http;
+    private final URI baseUri;
+    private final Latencies latencies;
+
+    LoadClient(final HttpClient http, final URI baseUri, final Latencies latencies) {
+        this.http = http;
+        this.baseUri = baseUri;
+        this.latencies = latencies;
+    }
+
+    HttpRequest.Builder request(final String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path));
+    }
+
+    /**
+     * @param startNanos when the request should have been sent, the latency is measured from it so the time waiting
+     *                   behind slow requests is not left out
+     */
+    CompletableFuture<HttpResponse<byte[]>> send(
+            final String endpoint,
+            final HttpRequest.Builder request,
+            final long startNanos
+    ) {
+        return http.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> latencies.record(
+                        endpoint,
+                        System.nanoTime() - startNanos,
+                        error == null && response.statusCode() < 400
+                ))
+                .thenApply(response -> {
+                    if (response.statusCode() >= 400) {
+                        throw new IllegalStateException("%s answered %d".formatted(endpoint, response.statusCode()));
+                    }
+                    return response;
+                });
+    }
+}
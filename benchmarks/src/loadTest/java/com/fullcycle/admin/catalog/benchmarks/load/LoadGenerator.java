@@ -0,0 +1,51 @@
+package com.fullcycle.admin.catalog.benchmarks.load;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Starts requests at a fixed rate, without waiting for the previous responses, so a slow server makes the latency grow
+ * instead of the load shrink. Above {@code maxInFlight} pending requests the next ones wait, and that wait is part of
+ * their latency as it is measured from when they were scheduled.
+ */
+final class LoadGenerator {
+
+    private final Traffic traffic;
+    private final int rps;
+    private final int maxInFlight;
+
+    LoadGenerator(final Traffic traffic, final int rps, final int maxInFlight) {
+        this.traffic = traffic;
+        this.rps = rps;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * @return requests sent, which returns after every one of them is answered or timed out
+     */
+    long run(final Duration duration) throws InterruptedException {
+        final var interval = TimeUnit.SECONDS.toNanos(1) / rps;
+        final var inFlight = new Semaphore(maxInFlight);
+        final var start = System.nanoTime();
+        final var end = start + duration.toNanos();
+
+        long sent = 0;
+        for (var scheduled = start; scheduled < end; scheduled += interval) {
+            final var wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            inFlight.acquire();
+            traffic.next().run(scheduled).whenComplete((response, error) -> inFlight.release());
+            sent++;
+        }
+
+        if (!inFlight.tryAcquire(maxInFlight, 1, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Requests still pending a minute after the run");
+        }
+        return sent;
+    }
+}
@@ -0,0 +1,59 @@
+package com.fullcycle.admin.catalog.benchmarks.load;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Seeds a catalog, drives mixed traffic against the API at a target rate and reports the latency percentiles of each
+ * endpoint. Exits with 1 when an endpoint fails too many requests or regresses beyond the stored baseline; with
+ * {@code loadtest.update-baseline} the run becomes the new baseline instead.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final var settings = LoadTestSettings.fromSystemProperties();
+        final var report = run(settings);
+
+        report.print(System.out);
+        report.write(settings.results());
+
+        if (settings.updateBaseline()) {
+            report.write(settings.baseline());
+            System.out.printf("%nBaseline written to %s%n", settings.baseline());
+            System.exit(0);
+        }
+
+        final var baseline = LoadTestReport.read(settings.baseline());
+        if (baseline.isEmpty()) {
+            System.out.printf("%nNo baseline at %s, only the error rates were checked%n", settings.baseline());
+        }
+
+        final var failures = report.failures(settings, baseline.orElse(null));
+        failures.forEach(failure -> System.out.println("FAILED: " + failure));
+        System.exit(failures.isEmpty() ? 0 : 1);
+    }
+
+    static LoadTestReport run(final LoadTestSettings settings) throws Exception {
+        final var http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        try (final var server = CatalogServer.start(settings)) {
+            final var catalog = new CatalogSeeder(http, server.baseUri()).seed(settings.catalogSize());
+            final var latencies = new Latencies();
+            final var client = new LoadClient(http, server.baseUri(), latencies);
+            final var traffic = new Traffic(client, catalog, settings.writeRatio(), settings.uploadRatio());
+            final var generator = new LoadGenerator(traffic, settings.rps(), settings.maxInFlight());
+
+            generator.run(settings.warmup());
+            latencies.reset();
+            final var sent = generator.run(settings.duration());
+
+            return LoadTestReport.of(settings, sent, latencies.summary());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.fullcycle.admin.catalog.benchmarks.load;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalog.infraestructure.configuration.json.Json;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Latency percentiles per endpoint of a run, written as JSON so runs can be kept as baselines and compared.
+ */
+public record LoadTestReport(
+        String database,
+        String threads,
+        @JsonProperty("catalog_size") int catalogSize,
+        @JsonProperty("target_rps") int targetRps,
+        @JsonProperty("achieved_rps") double achievedRps,
+        Map<String, EndpointLatency> endpoints
+) {
+
+    static LoadTestReport of(
+            final LoadTestSettings settings,
+            final long sent,
+            final Map<String, EndpointLatency> endpoints
+    ) {
+        return new LoadTestReport(
+                settings.database().name().toLowerCase(),
+                settings.threads().name().toLowerCase(),
+                settings.catalogSize(),
+                settings.rps(),
+                sent / (settings.duration().toMillis() / 1000.0),
+                endpoints
+        );
+    }
+
+    static Optional<LoadTestReport> read(final Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(Json.mapper().readValue(file.toFile(), LoadTestReport.class));
+    }
+
+    void write(final Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Json.mapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), this);
+    }
+
+    /**
+     * @return the endpoints above the error rate, and the percentiles above the baseline ones by more than the
+     * tolerance plus the slack; endpoints missing from the baseline are only checked for errors
+     */
+    List<String> failures(final LoadTestSettings settings, final LoadTestReport baseline) {
+        final var failures = new ArrayList<String>();
+        final var slack = settings.slack().toNanos() / 1_000_000.0;
+
+        endpoints.forEach((endpoint, current) -> {
+            if (current.errorRate() > settings.maxErrorRate()) {
+                failures.add("%s failed %d of %d requests".formatted(endpoint, current.errors(), current.count()));
+            }
+
+            final var previous = baseline == null ? null : baseline.endpoints().get(endpoint);
+            if (previous == null) {
+                return;
+            }
+            compare(failures, endpoint, "p50", previous.p50Millis(), current.p50Millis(), settings.tolerance(), slack);
+            compare(failures, endpoint, "p99", previous.p99Millis(), current.p99Millis(), settings.tolerance(), slack);
+            compare(failures, endpoint, "p99.9", previous.p999Millis(), current.p999Millis(), settings.tolerance(), slack);
+        });
+        return failures;
+    }
+
+    void print(final PrintStream out) {
+        out.printf("%n%s, %s threads, %d seeded, %.1f of %d req/s%n", database, threads, catalogSize, achievedRps, targetRps);
+        out.printf("%-62s %8s %7s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        endpoints.forEach((endpoint, it) -> out.printf(
+                "%-62s %8d %7d %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, it.count(), it.errors(), it.p50Millis(), it.p99Millis(), it.p999Millis(), it.maxMillis()
+        ));
+    }
+
+    private static void compare(
+            final List<String> failures,
+            final String endpoint,
+            final String percentile,
+            final double baseline,
+            final double current,
+            final double tolerance,
+            final double slack
+    ) {
+        if (current > baseline * (1 + tolerance) + slack) {
+            failures.add("%s %s regressed from %.2f ms to %.2f ms".formatted(endpoint, percentile, baseline, current));
+        }
+    }
+}
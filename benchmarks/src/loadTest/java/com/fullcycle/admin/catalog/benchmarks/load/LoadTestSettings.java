@@ -0,0 +1,78 @@
+package com.fullcycle.admin.catalog.benchmarks.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of a load test run, read from {@code loadtest.*} system properties.
+ *
+ * @param catalogSize    categories and cast members seeded; half as many genres and a twentieth as many videos
+ * @param rps            requests started per second, whatever the latency of the previous ones
+ * @param writeRatio     share of the requests that create or update aggregates
+ * @param maxInFlight    requests awaiting a response before new ones wait, the wait counts as latency
+ * @param uploadRatio    share of the requests that upload a trailer, on top of the uploads among the writes
+ * @param threads        whether the server handles requests on the Undertow workers or on virtual threads
+ * @param storageLatency added to every media stored, as a stand-in for the round trips to Google Cloud Storage
+ * @param tolerance      relative increase over the baseline percentiles accepted before failing
+ * @param slack          absolute increase always accepted, so sub-millisecond percentiles don't fail on noise
+ */
+public record LoadTestSettings(
+        Database database,
+        int catalogSize,
+        int rps,
+        double writeRatio,
+        int maxInFlight,
+        double uploadRatio,
+        Threads threads,
+        Duration storageLatency,
+        Duration warmup,
+        Duration duration,
+        double tolerance,
+        Duration slack,
+        double maxErrorRate,
+        Path baseline,
+        Path results,
+        boolean updateBaseline
+) {
+
+    public enum Database {
+        H2, MYSQL
+    }
+
+    public enum Threads {
+        PLATFORM, VIRTUAL
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        final var database = Database.valueOf(property("database", "h2").toUpperCase());
+        return new LoadTestSettings(
+                database,
+                Integer.parseInt(property("catalog-size", "1000")),
+                Integer.parseInt(property("rps", "200")),
+                Double.parseDouble(property("write-ratio", "0.2")),
+                Integer.parseInt(property("max-in-flight", "64")),
+                Double.parseDouble(property("upload-ratio", "0")),
+                Threads.valueOf(property("threads", "platform").toUpperCase()),
+                Duration.parse(property("storage-latency", "PT0S")),
+                Duration.parse(property("warmup", "PT30S")),
+                Duration.parse(property("duration", "PT60S")),
+                Double.parseDouble(property("tolerance", "0.25")),
+                Duration.parse(property("slack", "PT0.002S")),
+                Double.parseDouble(property("max-error-rate", "0.001")),
+                Path.of(property("baseline", "baselines/loadtest-%s.json".formatted(database.name().toLowerCase()))),
+                Path.of(property("results", "build/results/loadtest/local.json")),
+                Boolean.parseBoolean(property("update-baseline", "false"))
+        );
+    }
+
+    public LoadTestSettings withThreads(final Threads threads, final Path results) {
+        return new LoadTestSettings(
+                database, catalogSize, rps, writeRatio, maxInFlight, uploadRatio, threads, storageLatency,
+                warmup, duration, tolerance, slack, maxErrorRate, baseline, results, updateBaseline
+        );
+    }
+
+    private static String property(final String name, final String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.benchmarks.load;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * A multipart/form-data body with a single file part, which {@link java.net.http.HttpClient} can't build by itself.
+ */
+record Multipart(String contentType, byte[] body) {
+
+    static Multipart part(final String name, final String filename, final byte[] content) {
+        final var boundary = UUID.randomUUID().toString();
+        final var body = new ByteArrayOutputStream(content.length + 256);
+        body.writeBytes(("--%s\r\nContent-Disposition: form-data; name=\"%s\"; filename=\"%s\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").formatted(boundary, name, filename)
+                .getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes("\r\n--%s--\r\n".formatted(boundary).getBytes(StandardCharsets.UTF_8));
+        return new Multipart("multipart/form-data; boundary=" + boundary, body.toByteArray());
+    }
+}
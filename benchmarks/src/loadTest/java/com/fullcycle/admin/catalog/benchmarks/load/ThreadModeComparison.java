@@ -0,0 +1,74 @@
+package com.fullcycle.admin.catalog.benchmarks.load;
+
+import com.fullcycle.admin.catalog.infraestructure.concurrency.VirtualThreads;
+
+import java.io.PrintStream;
+import java.util.TreeSet;
+
+/**
+ * Runs the same load twice, with the server handling requests on the Undertow workers and then on virtual threads,
+ * and prints the throughput and latency of each endpoint side by side. Meant to be run with a share of uploads and a
+ * storage latency, the load that holds the workers. Needs Java 21.
+ */
+public final class ThreadModeComparison {
+
+    private ThreadModeComparison() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        if (!VirtualThreads.isSupported()) {
+            System.err.printf("Virtual threads need Java 21 or newer, running on %s%n", Runtime.version());
+            System.exit(1);
+        }
+
+        final var settings = LoadTestSettings.fromSystemProperties();
+        final var platform = run(settings, LoadTestSettings.Threads.PLATFORM);
+        final var virtual = run(settings, LoadTestSettings.Threads.VIRTUAL);
+
+        print(System.out, settings, platform, virtual);
+        System.exit(0);
+    }
+
+    private static LoadTestReport run(final LoadTestSettings settings, final LoadTestSettings.Threads threads) throws Exception {
+        final var name = settings.results().getFileName().toString().replaceFirst("\\.json$", "");
+        final var results = settings.results().resolveSibling("%s-%s.json".formatted(name, threads.name().toLowerCase()));
+
+        final var report = LoadTest.run(settings.withThreads(threads, results));
+        report.print(System.out);
+        report.write(results);
+        return report;
+    }
+
+    private static void print(
+            final PrintStream out,
+            final LoadTestSettings settings,
+            final LoadTestReport platform,
+            final LoadTestReport virtual
+    ) {
+        final var seconds = settings.duration().toMillis() / 1000.0;
+        final var endpoints = new TreeSet<>(platform.endpoints().keySet());
+        endpoints.addAll(virtual.endpoints().keySet());
+
+        out.printf(
+                "%n%d req/s offered, %.0f%% uploads, %dms storage latency%n",
+                settings.rps(), settings.uploadRatio() * 100, settings.storageLatency().toMillis()
+        );
+        out.printf("%-62s %25s %25s%n", "", "platform", "virtual");
+        out.printf("%-62s %8s %9s %6s %8s %9s %6s%n", "endpoint", "req/s", "p99 ms", "errors", "req/s", "p99 ms", "errors");
+        for (final var endpoint : endpoints) {
+            final var before = platform.endpoints().get(endpoint);
+            final var after = virtual.endpoints().get(endpoint);
+            out.printf(
+                    "%-62s %8.1f %9.2f %6d %8.1f %9.2f %6d%n",
+                    endpoint,
+                    before == null ? 0 : before.count() / seconds,
+                    before == null ? 0 : before.p99Millis(),
+                    before == null ? 0 : before.errors(),
+                    after == null ? 0 : after.count() / seconds,
+                    after == null ? 0 : after.p99Millis(),
+                    after == null ? 0 : after.errors()
+            );
+        }
+        out.printf("%-62s %8.1f %16s %8.1f%n", "total", platform.achievedRps(), "", virtual.achievedRps());
+    }
+}
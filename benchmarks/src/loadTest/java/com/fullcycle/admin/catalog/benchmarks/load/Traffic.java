@@ -0,0 +1,194 @@
+package com.fullcycle.admin.catalog.benchmarks.load;
+
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.infraestructure.castmember.models.CreateCastMemberRequest;
+import com.fullcycle.admin.catalog.infraestructure.category.models.CreateCategoryRequest;
+import com.fullcycle.admin.catalog.infraestructure.category.models.UpdateCategoryRequest;
+import com.fullcycle.admin.catalog.infraestructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infraestructure.genre.models.CreateGenreRequest;
+import com.fullcycle.admin.catalog.infraestructure.video.models.InitiateMediaUploadRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The mix of requests sent during the run: reads by id and list searches of categories, genres and cast members,
+ * whole and ranged media downloads, creates and updates, and chunked trailer uploads.
+ * <p>
+ * Writes are picked with the configured ratio and never delete, so the seeded ids stay valid for the whole run. The
+ * upload ratio adds trailer uploads beyond the few among the writes, to load the storage.
+ */
+final class Traffic {
+
+    private final LoadClient client;
+    private final Catalog catalog;
+    private final double writeRatio;
+    private final double uploadRatio;
+    private final Random random = new Random(7);
+    private final byte[] trailer = new byte[CatalogSeeder.MEDIA_SIZE];
+
+    private final List<Weighted> reads = List.of(
+            new Weighted(15, this::getCategory),
+            new Weighted(10, this::listCategories),
+            new Weighted(10, this::getGenre),
+            new Weighted(8, this::listGenres),
+            new Weighted(10, this::getCastMember),
+            new Weighted(8, this::listCastMembers),
+            new Weighted(10, this::getMediaRange),
+            new Weighted(4, this::getMedia)
+    );
+
+    private final List<Weighted> writes = List.of(
+            new Weighted(8, this::createCategory),
+            new Weighted(6, this::updateCategory),
+            new Weighted(4, this::createGenre),
+            new Weighted(4, this::createCastMember),
+            new Weighted(1, this::uploadTrailer)
+    );
+
+    Traffic(final LoadClient client, final Catalog catalog, final double writeRatio, final double uploadRatio) {
+        this.client = client;
+        this.catalog = catalog;
+        this.writeRatio = writeRatio;
+        this.uploadRatio = uploadRatio;
+        random.nextBytes(trailer);
+    }
+
+    /**
+     * Called only by the thread pacing the run, which also builds the request bodies.
+     */
+    Operation next() {
+        if (uploadRatio > 0 && random.nextDouble() < uploadRatio) {
+            return this::uploadTrailer;
+        }
+
+        final var candidates = random.nextDouble() < writeRatio ? writes : reads;
+        var pick = random.nextInt(candidates.stream().mapToInt(Weighted::weight).sum());
+        for (final var candidate : candidates) {
+            pick -= candidate.weight();
+            if (pick < 0) {
+                return candidate.operation();
+            }
+        }
+        throw new IllegalStateException("No operation picked");
+    }
+
+    private CompletableFuture<?> getCategory(final long start) {
+        return client.send("GET /categories/{id}", client.request("categories/" + Catalog.any(catalog.categories(), random)), start);
+    }
+
+    private CompletableFuture<?> listCategories(final long start) {
+        return client.send("GET /categories?search", client.request("categories?search=" + term()), start);
+    }
+
+    private CompletableFuture<?> getGenre(final long start) {
+        return client.send("GET /genres/{id}", client.request("genres/" + Catalog.any(catalog.genres(), random)), start);
+    }
+
+    private CompletableFuture<?> listGenres(final long start) {
+        final var pages = Math.max(1, catalog.genres().size() / 10);
+        return client.send("GET /genres?page", client.request("genres?page=" + random.nextInt(pages)), start);
+    }
+
+    private CompletableFuture<?> getCastMember(final long start) {
+        return client.send("GET /cast_members/{id}", client.request("cast_members/" + Catalog.any(catalog.castMembers(), random)), start);
+    }
+
+    private CompletableFuture<?> listCastMembers(final long start) {
+        return client.send("GET /cast_members?search", client.request("cast_members?search=" + term()), start);
+    }
+
+    private CompletableFuture<?> getMedia(final long start) {
+        return client.send("GET /videos/{id}/medias/{type}", client.request(media()), start);
+    }
+
+    private CompletableFuture<?> getMediaRange(final long start) {
+        final var first = random.nextInt(CatalogSeeder.MEDIA_SIZE - 65536);
+        final var request = client.request(media()).header("Range", "bytes=%d-%d".formatted(first, first + 65535));
+        return client.send("GET /videos/{id}/medias/{type} (range)", request, start);
+    }
+
+    private CompletableFuture<?> createCategory(final long start) {
+        final var body = new CreateCategoryRequest(Fixture.name(), Fixture.Videos.description(), true);
+        return client.send("POST /categories", json(client.request("categories")).POST(publisher(body)), start);
+    }
+
+    private CompletableFuture<?> updateCategory(final long start) {
+        final var body = new UpdateCategoryRequest(Fixture.name(), Fixture.Videos.description(), true);
+        final var request = json(client.request("categories/" + Catalog.any(catalog.categories(), random)));
+        return client.send("PUT /categories/{id}", request.PUT(publisher(body)), start);
+    }
+
+    private CompletableFuture<?> createGenre(final long start) {
+        final var categories = List.of(Catalog.any(catalog.categories(), random), Catalog.any(catalog.categories(), random));
+        final var body = new CreateGenreRequest(Fixture.name(), categories.stream().distinct().toList(), true);
+        return client.send("POST /genres", json(client.request("genres")).POST(publisher(body)), start);
+    }
+
+    private CompletableFuture<?> createCastMember(final long start) {
+        final var body = new CreateCastMemberRequest(Fixture.name(), Fixture.CastMembers.type());
+        return client.send("POST /cast_members", json(client.request("cast_members")).POST(publisher(body)), start);
+    }
+
+    /**
+     * Each step is recorded under its own endpoint, the first one measured from the intended start.
+     */
+    private CompletableFuture<?> uploadTrailer(final long start) {
+        final var uploads = "videos/%s/medias/TRAILER/uploads".formatted(Catalog.any(catalog.videos(), random));
+        final var body = new InitiateMediaUploadRequest("trailer.mp4", "video/mp4");
+
+        return client.send("POST /videos/{id}/medias/{type}/uploads", json(client.request(uploads)).POST(publisher(body)), start)
+                .thenCompose(initiated -> {
+                    final var upload = "%s/%s".formatted(uploads, uploadId(initiated.body()));
+                    final var part = Multipart.part("part", "trailer.mp4", trailer);
+                    final var request = client.request(upload + "/parts/1")
+                            .header("Content-Type", part.contentType())
+                            .PUT(HttpRequest.BodyPublishers.ofByteArray(part.body()));
+
+                    return client.send("PUT /videos/{id}/medias/{type}/uploads/{uploadId}/parts/{n}", request, System.nanoTime())
+                            .thenCompose(uploaded -> client.send(
+                                    "POST /videos/{id}/medias/{type}/uploads/{uploadId}/complete",
+                                    client.request(upload + "/complete").POST(HttpRequest.BodyPublishers.noBody()),
+                                    System.nanoTime()
+                            ));
+                });
+    }
+
+    private String media() {
+        return "videos/%s/medias/VIDEO".formatted(Catalog.any(catalog.videos(), random));
+    }
+
+    private String term() {
+        return URLEncoder.encode(Catalog.any(catalog.searchTerms(), random), StandardCharsets.UTF_8);
+    }
+
+    private static HttpRequest.Builder json(final HttpRequest.Builder request) {
+        return request.header("Content-Type", "application/json");
+    }
+
+    private static HttpRequest.BodyPublisher publisher(final Object body) {
+        return HttpRequest.BodyPublishers.ofString(Json.writeValueAsString(body));
+    }
+
+    private static String uploadId(final byte[] body) {
+        try {
+            return Json.mapper().readTree(body).path("upload_id").asText();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    interface Operation {
+        CompletableFuture<?> run(long start);
+    }
+
+    private record Weighted(int weight, Operation operation) {
+    }
+}
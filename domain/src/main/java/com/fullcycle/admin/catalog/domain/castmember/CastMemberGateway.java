@@ -1,15 +1,20 @@
 package com.fullcycle.admin.catalog.domain.castmember;
 
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CastMemberGateway {
 
     CastMember create(CastMember castMember);
 
+    List<CastMember> createAll(List<CastMember> castMembers);
+
     void deleteById(CastMemberID id);
 
     Optional<CastMember> findById(CastMemberID id);
@@ -18,5 +23,9 @@ public interface CastMemberGateway {
 
     Pagination<CastMember> findAll(SearchQuery searchQuery);
 
+    void forEach(Consumer<CastMember> action);
+
+    ChangeFeed<CastMember> changesSince(ChangeQuery query);
+
     List<CastMemberID> existsByIds(final Iterable<CastMemberID> ids);
 }
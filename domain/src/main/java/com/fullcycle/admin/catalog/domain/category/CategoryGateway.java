@@ -1,14 +1,19 @@
 package com.fullcycle.admin.catalog.domain.category;
 
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
     Category create(Category category);
 
+    List<Category> createAll(List<Category> categories);
+
     void deleteById(CategoryID id);
 
     Optional<Category> findById(CategoryID id);
@@ -17,5 +22,15 @@ public interface CategoryGateway {
 
     Pagination<Category> findAll(SearchQuery searchQuery);
 
+    /**
+     * Visits every category once, in id order, without loading them all in memory.
+     */
+    void forEach(Consumer<Category> action);
+
+    /**
+     * Changes after the watermark of the query, deletions included, in the order they happened.
+     */
+    ChangeFeed<Category> changesSince(ChangeQuery query);
+
     List<CategoryID> existsByIds(final Iterable<CategoryID> ids);
 }
\ No newline at end of file
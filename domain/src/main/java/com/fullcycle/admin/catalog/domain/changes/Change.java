@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalog.domain.changes;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * @param changedAt {@code updated_at} of the record, or the time it was deleted
+ * @param item      the record as it is now, null when it was deleted
+ */
+public record Change<T>(
+        ChangeType type,
+        String id,
+        Instant changedAt,
+        T item
+) {
+    public Change {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(changedAt);
+    }
+
+    /**
+     * A record never updated since it was created keeps {@code created_at} equal to {@code updated_at}.
+     */
+    public static <T> Change<T> saved(
+            final String id,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final T item
+    ) {
+        final var type = updatedAt.equals(createdAt) ? ChangeType.CREATED : ChangeType.UPDATED;
+        return new Change<>(type, id, updatedAt, Objects.requireNonNull(item));
+    }
+
+    public static <T> Change<T> deleted(final String id, final Instant deletedAt) {
+        return new Change<>(ChangeType.DELETED, id, deletedAt, null);
+    }
+
+    public <R> Change<R> map(final Function<T, R> mapper) {
+        return new Change<>(type, id, changedAt, item != null ? mapper.apply(item) : null);
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.domain.changes;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * @param items     ordered by {@code (changedAt, id)}
+ * @param watermark where the next call resumes, the {@code since} of the query when there were no changes
+ * @param hasMore   whether more changes were already available after this page
+ */
+public record ChangeFeed<T>(
+        List<Change<T>> items,
+        String watermark,
+        boolean hasMore
+) {
+    public <R> ChangeFeed<R> map(final Function<T, R> mapper) {
+        final List<Change<R>> newList = this.items.stream()
+                .map(it -> it.map(mapper))
+                .toList();
+
+        return new ChangeFeed<>(newList, watermark(), hasMore());
+    }
+}
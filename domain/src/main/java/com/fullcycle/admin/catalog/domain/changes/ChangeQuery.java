@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalog.domain.changes;
+
+/**
+ * @param since watermark returned by the previous call, empty to read every change from the beginning
+ */
+public record ChangeQuery(String since, int limit) {
+}
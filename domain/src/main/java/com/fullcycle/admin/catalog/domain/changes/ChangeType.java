@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalog.domain.changes;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
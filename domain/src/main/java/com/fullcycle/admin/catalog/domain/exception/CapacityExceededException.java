@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalog.domain.exception;
+
+import com.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The request is valid but can't be accepted right now, the caller may try it again after {@link #retryAfter()}.
+ */
+public class CapacityExceededException extends DomainException {
+
+    private final Duration retryAfter;
+
+    protected CapacityExceededException(final String message, final List<Error> errors, final Duration retryAfter) {
+        super(message, errors);
+        this.retryAfter = Objects.requireNonNull(retryAfter);
+    }
+
+    public static CapacityExceededException with(final Error error, final Duration retryAfter) {
+        return new CapacityExceededException(error.message(), List.of(error), retryAfter);
+    }
+
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+}
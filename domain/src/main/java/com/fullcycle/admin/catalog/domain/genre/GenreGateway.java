@@ -1,15 +1,20 @@
 package com.fullcycle.admin.catalog.domain.genre;
 
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GenreGateway {
 
     Genre create(Genre genre);
 
+    List<Genre> createAll(List<Genre> genres);
+
     void deleteById(GenreID id);
 
     Optional<Genre> findById(GenreID id);
@@ -18,5 +23,9 @@ public interface GenreGateway {
 
     Pagination<Genre> findAll(SearchQuery searchQuery);
 
+    void forEach(Consumer<Genre> action);
+
+    ChangeFeed<Genre> changesSince(ChangeQuery query);
+
     List<GenreID> existsByIds(final Iterable<GenreID> ids);
 }
@@ -3,17 +3,28 @@ package com.fullcycle.admin.catalog.domain.pagination;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * @param total      {@link #UNKNOWN_TOTAL} on keyset pages, which are not counted
+ * @param nextCursor cursor of the next keyset page, null on offset pages and on the last keyset page
+ */
 public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String nextCursor
 ) {
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> newList = this.items.stream()
                 .map(mapper)
                 .toList();
 
-        return new Pagination<>(currentPage(), perPage(), total(), newList);
+        return new Pagination<>(currentPage(), perPage(), total(), newList, nextCursor());
     }
 }
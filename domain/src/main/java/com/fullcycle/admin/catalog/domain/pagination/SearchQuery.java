@@ -1,10 +1,28 @@
 package com.fullcycle.admin.catalog.domain.pagination;
 
+/**
+ * @param cursor null for offset paging by {@code page}. An empty cursor starts a keyset walk, later pages pass the
+ *               {@link Pagination#nextCursor()} of the previous one.
+ */
 public record SearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor
 ) {
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
 }
@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalog.domain.resource;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+final class BoundedInputStream extends FilterInputStream {
+
+    private long remaining;
+
+    private BoundedInputStream(final InputStream in, final long limit) {
+        super(in);
+        this.remaining = limit;
+    }
+
+    static BoundedInputStream with(final InputStream in, final long limit) {
+        return new BoundedInputStream(in, limit);
+    }
+
+    static void checkRange(final long offset, final long length, final long total) {
+        if (offset < 0 || length < 0 || offset + length > total) {
+            throw new IllegalArgumentException(
+                    "Range [%d, %d) is outside of content with length %d".formatted(offset, offset + length, total)
+            );
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (remaining <= 0) {
+            return -1;
+        }
+        final var result = super.read();
+        if (result != -1) {
+            remaining--;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (remaining <= 0) {
+            return -1;
+        }
+        final var result = super.read(b, off, (int) Math.min(len, remaining));
+        if (result > 0) {
+            remaining -= result;
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        final var result = super.skip(Math.min(n, remaining));
+        remaining -= result;
+        return result;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(super.available(), remaining);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalog.domain.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Objects;
+
+final class BufferedContent implements ResourceContent {
+
+    private final byte[] content;
+
+    private BufferedContent(final byte[] content) {
+        this.content = Objects.requireNonNull(content);
+    }
+
+    static BufferedContent with(final byte[] content) {
+        return new BufferedContent(content);
+    }
+
+    @Override
+    public long length() {
+        return content.length;
+    }
+
+    @Override
+    public InputStream openStream() {
+        return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public boolean isBuffered() {
+        return true;
+    }
+
+    @Override
+    public ResourceContent slice(final long offset, final long length) {
+        BoundedInputStream.checkRange(offset, length, content.length);
+        return StreamedContent.with(length, () -> new ByteArrayInputStream(content, (int) offset, (int) length));
+    }
+
+    @Override
+    public byte[] bytes() {
+        return content;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final BufferedContent that = (BufferedContent) o;
+        return Arrays.equals(content, that.content);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(content);
+    }
+}
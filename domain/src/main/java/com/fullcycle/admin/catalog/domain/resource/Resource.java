@@ -1,29 +1,75 @@
 package com.fullcycle.admin.catalog.domain.resource;
 
 import com.fullcycle.admin.catalog.domain.ValueObject;
-import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalog.domain.utils.ChecksumUtils;
 
-import java.util.Arrays;
+import java.io.InputStream;
 import java.util.Objects;
+import java.util.Optional;
 
 public class Resource extends ValueObject {
-    private final String checksum;
-    private final byte[] content;
+    private volatile String checksum;
+    private final ResourceContent content;
     private final String contentType;
     private final String name;
-    private Resource(final String checksum, final byte[] content, final String contentType, final String name) {
-        this.checksum = Objects.requireNonNull(checksum);
+    private Resource(final String checksum, final ResourceContent content, final String contentType, final String name) {
+        this.checksum = checksum;
         this.content = Objects.requireNonNull(content);
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
     }
 
     public static Resource with(final String checksum, final byte[] content, final String contentType, final String name) {
-        return new Resource(checksum, content, contentType, name);
+        return new Resource(Objects.requireNonNull(checksum), ResourceContent.of(content), contentType, name);
     }
 
-    public String checksum() { return checksum; }
+    public static Resource with(final String checksum, final ResourceContent content, final String contentType, final String name) {
+        return new Resource(Objects.requireNonNull(checksum), content, contentType, name);
+    }
+
+    /**
+     * Creates a resource whose checksum is only computed, by streaming the content once, when it is first requested.
+     */
+    public static Resource with(final ResourceContent content, final String contentType, final String name) {
+        return new Resource(null, content, contentType, name);
+    }
+
+    public String checksum() {
+        var result = checksum;
+        if (result == null) {
+            synchronized (this) {
+                result = checksum;
+                if (result == null) {
+                    result = checksum = ChecksumUtils.crc32c(content.openStream());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the checksum if it was given or already computed, without reading the content
+     */
+    public Optional<String> knownChecksum() {
+        return Optional.ofNullable(checksum);
+    }
+
+    /**
+     * Reads the whole content into memory. Prefer {@link #openStream()} for medias that may be big.
+     */
     public byte[] content() {
+        return content.bytes();
+    }
+    public InputStream openStream() {
+        return content.openStream();
+    }
+    public long contentLength() {
+        return content.length();
+    }
+    public boolean isBuffered() {
+        return content.isBuffered();
+    }
+    public ResourceContent source() {
         return content;
     }
     public String contentType() {
@@ -33,18 +79,30 @@ public class Resource extends ValueObject {
         return name;
     }
 
+    public Resource buffered() {
+        if (isBuffered()) {
+            return this;
+        }
+        return new Resource(checksum(), ResourceContent.of(content()), contentType, name);
+    }
+
+    /**
+     * Resources are equal when their names, types, lengths and checksums are. Lazy checksums are computed when the rest
+     * matches, which streams the content once.
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Resource resource = (Resource) o;
-        return Objects.equals(checksum, resource.checksum) && Arrays.equals(content, resource.content) && Objects.equals(contentType, resource.contentType) && Objects.equals(name, resource.name);
+        return name.equals(resource.name)
+                && contentType.equals(resource.contentType)
+                && contentLength() == resource.contentLength()
+                && checksum().equals(resource.checksum());
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(checksum, contentType, name);
-        result = 31 * result + Arrays.hashCode(content);
-        return result;
+        return Objects.hash(contentType, name, contentLength());
     }
 }
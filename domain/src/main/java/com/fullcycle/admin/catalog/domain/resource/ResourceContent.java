@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalog.domain.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+
+/**
+ * Source of the bytes behind a {@link Resource}.
+ * <p>
+ * A buffered content keeps the whole payload on the heap, while a streamed content only knows its length
+ * and how to open a fresh {@link InputStream} every time it is read, so big medias never have to be
+ * materialized in memory.
+ */
+public interface ResourceContent {
+
+    long length();
+
+    InputStream openStream();
+
+    boolean isBuffered();
+
+    /**
+     * Returns a view over {@code length} bytes starting at {@code offset}. Ranged sources only read that window.
+     */
+    ResourceContent slice(long offset, long length);
+
+    default byte[] bytes() {
+        try (final var in = openStream()) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static ResourceContent of(final byte[] content) {
+        return BufferedContent.with(content);
+    }
+
+    static ResourceContent of(final long length, final Supplier<InputStream> opener) {
+        return StreamedContent.with(length, opener);
+    }
+
+    static ResourceContent ranged(final long length, final RangeReader reader) {
+        return StreamedContent.with(length, reader);
+    }
+
+    @FunctionalInterface
+    interface RangeReader {
+        InputStream open(long offset, long length);
+    }
+}
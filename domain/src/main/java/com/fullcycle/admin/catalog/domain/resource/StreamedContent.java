@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalog.domain.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Two streamed contents are equal only when they read the same window through the same reader, comparing the bytes
+ * would mean reading both sources.
+ */
+final class StreamedContent implements ResourceContent {
+
+    private final long length;
+    private final RangeReader reader;
+
+    private StreamedContent(final long length, final RangeReader reader) {
+        if (length < 0) {
+            throw new IllegalArgumentException("'length' should not be negative");
+        }
+        this.length = length;
+        this.reader = Objects.requireNonNull(reader);
+    }
+
+    static StreamedContent with(final long length, final Supplier<InputStream> opener) {
+        Objects.requireNonNull(opener);
+        return new StreamedContent(length, (offset, size) -> {
+            final var in = opener.get();
+            try {
+                in.skipNBytes(offset);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return BoundedInputStream.with(in, size);
+        });
+    }
+
+    static StreamedContent with(final long length, final RangeReader reader) {
+        return new StreamedContent(length, reader);
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public InputStream openStream() {
+        return reader.open(0, length);
+    }
+
+    @Override
+    public boolean isBuffered() {
+        return false;
+    }
+
+    @Override
+    public ResourceContent slice(final long offset, final long length) {
+        BoundedInputStream.checkRange(offset, length, this.length);
+        return new StreamedContent(length, (start, size) -> reader.open(offset + start, size));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final StreamedContent that = (StreamedContent) o;
+        return length == that.length && reader == that.reader;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(length, System.identityHashCode(reader));
+    }
+}
@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalog.domain.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.CRC32C;
+
+public final class ChecksumUtils {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private ChecksumUtils() {}
+
+    public static String crc32c(final InputStream in) {
+        final var crc = new CRC32C();
+        final var buffer = new byte[BUFFER_SIZE];
+        try (in) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return "%08x".formatted(crc.getValue());
+    }
+}
@@ -12,4 +12,14 @@ public interface MediaResourceGateway {
     void clearResource(VideoID id);
 
     Optional<Resource> getResource(VideoID videoID, VideoMediaType type);
+
+    MediaUpload initiateUpload(VideoID id, VideoMediaType type, String contentType, String name);
+
+    Optional<MediaUpload> findUpload(VideoID id, VideoMediaType type, String uploadId);
+
+    void storeUploadPart(MediaUpload upload, int partNumber, Resource part);
+
+    Optional<AudioVideoMedia> completeUpload(MediaUpload upload);
+
+    void abortUpload(MediaUpload upload);
 }
@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalog.domain.video;
+
+import com.fullcycle.admin.catalog.domain.ValueObject;
+import com.fullcycle.admin.catalog.domain.utils.IdUtils;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+public class MediaUpload extends ValueObject {
+
+    public static final int MAX_PARTS = 10_000;
+
+    // same shape as IdUtils.uuid(): anything else (like "..") could escape the upload folder
+    private static final Pattern ID_FORMAT = Pattern.compile("[0-9a-f]{32}");
+
+    private final String id;
+    private final VideoID videoId;
+    private final VideoMediaType type;
+
+    private MediaUpload(final String id, final VideoID videoId, final VideoMediaType type) {
+        this.id = Objects.requireNonNull(id);
+        this.videoId = Objects.requireNonNull(videoId);
+        this.type = Objects.requireNonNull(type);
+    }
+
+    public static MediaUpload newUpload(final VideoID videoId, final VideoMediaType type) {
+        return new MediaUpload(IdUtils.uuid(), videoId, type);
+    }
+
+    public static MediaUpload with(final String id, final VideoID videoId, final VideoMediaType type) {
+        return new MediaUpload(id, videoId, type);
+    }
+
+    public static boolean supports(final VideoMediaType type) {
+        return type == VideoMediaType.VIDEO || type == VideoMediaType.TRAILER;
+    }
+
+    public static boolean isValidId(final String id) {
+        return id != null && ID_FORMAT.matcher(id).matches();
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public VideoID videoId() {
+        return videoId;
+    }
+
+    public VideoMediaType type() {
+        return type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MediaUpload that = (MediaUpload) o;
+        return Objects.equals(id, that.id) && Objects.equals(videoId, that.videoId) && type == that.type;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, videoId, type);
+    }
+}
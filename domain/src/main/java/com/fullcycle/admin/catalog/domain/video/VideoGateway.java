@@ -1,13 +1,18 @@
 package com.fullcycle.admin.catalog.domain.video;
 
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface VideoGateway {
 
     Video create(Video video);
 
+    List<Video> createAll(List<Video> videos);
+
     Video update(Video video);
 
     void deleteById(VideoID videoID);
@@ -15,4 +20,6 @@ public interface VideoGateway {
     Optional<Video> findById(VideoID videoID);
 
     Pagination<VideoPreview> findAll(VideoSearchQuery query);
+
+    ChangeFeed<Video> changesSince(ChangeQuery query);
 }
@@ -14,6 +14,23 @@ public record VideoSearchQuery(
         String direction,
         Set<CategoryID> categories,
         Set<GenreID> genres,
-        Set<CastMemberID> castMembers
+        Set<CastMemberID> castMembers,
+        String cursor
 ) {
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> castMembers
+    ) {
+        this(page, perPage, terms, sort, direction, categories, genres, castMembers, null);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
 }
@@ -0,0 +1,179 @@
+package com.fullcycle.admin.catalog.domain.resource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ResourceTest {
+
+    @Test
+    void givenBufferedContent_whenCallsWith_thenReturnInstance() {
+        final var expectedChecksum = "abc";
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedContentType = "video/mp4";
+        final var expectedName = "video";
+
+        final var resource = Resource.with(expectedChecksum, expectedContent, expectedContentType, expectedName);
+
+        Assertions.assertEquals(expectedChecksum, resource.checksum());
+        Assertions.assertSame(expectedContent, resource.content());
+        Assertions.assertEquals(expectedContent.length, resource.contentLength());
+        Assertions.assertEquals(expectedContentType, resource.contentType());
+        Assertions.assertEquals(expectedName, resource.name());
+        Assertions.assertTrue(resource.isBuffered());
+        Assertions.assertSame(resource, resource.buffered());
+    }
+
+    @Test
+    void givenStreamedContent_whenCallsOpenStream_thenReadWithoutBuffering() throws IOException {
+        final var expectedContent = "Conteudo".getBytes();
+        final var opened = new AtomicInteger();
+        final var content = ResourceContent.of(expectedContent.length, () -> {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(expectedContent);
+        });
+
+        final var resource = Resource.with("abc", content, "video/mp4", "video");
+
+        Assertions.assertFalse(resource.isBuffered());
+        Assertions.assertEquals(expectedContent.length, resource.contentLength());
+        Assertions.assertEquals(0, opened.get());
+
+        try (final var in = resource.openStream()) {
+            Assertions.assertArrayEquals(expectedContent, in.readAllBytes());
+        }
+        Assertions.assertEquals(1, opened.get());
+    }
+
+    @Test
+    void givenStreamedContentWithoutChecksum_whenCallsChecksum_thenComputeCrc32cOnce() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var opened = new AtomicInteger();
+        final var content = ResourceContent.of(expectedContent.length, () -> {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(expectedContent);
+        });
+        final var expectedChecksum = Resource.with(ResourceContent.of(expectedContent), "video/mp4", "video").checksum();
+
+        final var resource = Resource.with(content, "video/mp4", "video");
+
+        Assertions.assertEquals(0, opened.get());
+        Assertions.assertEquals(expectedChecksum, resource.checksum());
+        Assertions.assertEquals(expectedChecksum, resource.checksum());
+        Assertions.assertEquals(8, expectedChecksum.length());
+        Assertions.assertEquals(1, opened.get());
+    }
+
+    @Test
+    void givenStreamedContent_whenCallsBuffered_thenReturnEquivalentBufferedResource() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var resource = Resource.with(
+                "abc",
+                ResourceContent.of(expectedContent.length, () -> new ByteArrayInputStream(expectedContent)),
+                "video/mp4",
+                "video"
+        );
+
+        final var result = resource.buffered();
+
+        Assertions.assertTrue(result.isBuffered());
+        Assertions.assertEquals(Resource.with("abc", expectedContent, "video/mp4", "video"), result);
+    }
+
+    @Test
+    void givenStreamedResourcesWithTheSameBytes_whenCallsEquals_thenEqualBeforeAndAfterTheirChecksums() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var first = Resource.with(
+                ResourceContent.of(expectedContent.length, () -> new ByteArrayInputStream(expectedContent)),
+                "video/mp4",
+                "video"
+        );
+        final var second = Resource.with(
+                ResourceContent.of(expectedContent.length, () -> new ByteArrayInputStream(expectedContent)),
+                "video/mp4",
+                "video"
+        );
+        final var buffered = Resource.with(first.checksum(), expectedContent, "video/mp4", "video");
+
+        Assertions.assertEquals(second, buffered);
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(first, buffered);
+        Assertions.assertEquals(first.hashCode(), second.hashCode());
+        Assertions.assertNotEquals(first, Resource.with(ResourceContent.of("Outra co".getBytes()), "video/mp4", "video"));
+    }
+
+    @Test
+    void givenNegativeLength_whenCallsOf_thenReturnError() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> ResourceContent.of(-1, () -> new ByteArrayInputStream(new byte[0]))
+        );
+    }
+
+    @Test
+    void givenBufferedContent_whenCallsSlice_thenReadOnlyTheRange() {
+        final var content = ResourceContent.of("Conteudo".getBytes());
+
+        final var result = content.slice(2, 3);
+
+        Assertions.assertEquals(3, result.length());
+        Assertions.assertArrayEquals("nte".getBytes(), result.bytes());
+        Assertions.assertArrayEquals("t".getBytes(), result.slice(1, 1).bytes());
+    }
+
+    @Test
+    void givenRangedContent_whenCallsSlice_thenOpenOnlyTheRequestedWindow() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var requested = new ArrayList<long[]>();
+        final var content = ResourceContent.ranged(expectedContent.length, (offset, length) -> {
+            requested.add(new long[]{offset, length});
+            return new ByteArrayInputStream(expectedContent, (int) offset, (int) length);
+        });
+
+        final var result = content.slice(4, 4).slice(1, 2);
+
+        Assertions.assertArrayEquals("ud".getBytes(), result.bytes());
+        Assertions.assertEquals(1, requested.size());
+        Assertions.assertArrayEquals(new long[]{5, 2}, requested.get(0));
+    }
+
+    @Test
+    void givenStreamedContent_whenCallsSlice_thenSkipAndLimitTheStream() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var content = ResourceContent.of(expectedContent.length, () -> new ByteArrayInputStream(expectedContent));
+
+        Assertions.assertArrayEquals("teu".getBytes(), content.slice(3, 3).bytes());
+        Assertions.assertArrayEquals(expectedContent, content.bytes());
+    }
+
+    @Test
+    void givenRangeOutOfBounds_whenCallsSlice_thenReturnError() {
+        final var content = ResourceContent.of("Conteudo".getBytes());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> content.slice(6, 3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> content.slice(-1, 3));
+    }
+
+    @Test
+    void givenStreamedResourcesWithChecksums_whenCallsEquals_thenCompareThemWithoutReadingTheContent() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var opened = new AtomicInteger();
+        final var content = ResourceContent.of(expectedContent.length, () -> {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(expectedContent);
+        });
+
+        final var withChecksum = Resource.with("abc", content, "video/mp4", "video");
+        final var sameChecksum = Resource.with("abc", ResourceContent.of(expectedContent), "video/mp4", "video");
+        final var otherChecksum = Resource.with("def", content, "video/mp4", "video");
+
+        Assertions.assertEquals(withChecksum, sameChecksum);
+        Assertions.assertEquals(withChecksum.hashCode(), sameChecksum.hashCode());
+        Assertions.assertNotEquals(withChecksum, otherChecksum);
+        Assertions.assertEquals(0, opened.get());
+    }
+}
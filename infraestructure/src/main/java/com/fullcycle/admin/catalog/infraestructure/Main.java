@@ -1,7 +1,6 @@
 package com.fullcycle.admin.catalog.infraestructure;
 
 import com.fullcycle.admin.catalog.infraestructure.configuration.WebServerConfig;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.core.env.AbstractEnvironment;
@@ -13,7 +12,4 @@ public class Main {
         System.setProperty(AbstractEnvironment.ACTIVE_PROFILES_PROPERTY_NAME, "development");
         SpringApplication.run(WebServerConfig.class, args);
     }
-
-    @RabbitListener(queues = "video.encoded.queue")
-    void dummy() {}
 }
\ No newline at end of file
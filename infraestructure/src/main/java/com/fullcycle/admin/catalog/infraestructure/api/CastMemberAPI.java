@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalog.infraestructure.api;
 
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.infraestructure.bulk.ImportReader;
 import com.fullcycle.admin.catalog.infraestructure.castmember.models.CastMemberListResponse;
 import com.fullcycle.admin.catalog.infraestructure.castmember.models.CastMemberResponse;
 import com.fullcycle.admin.catalog.infraestructure.castmember.models.CreateCastMemberRequest;
@@ -9,10 +11,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
 
 @RequestMapping("cast_members")
 @Tag(name = "Cast Members")
@@ -30,6 +37,51 @@ public interface CastMemberAPI {
     )
     ResponseEntity<?> create(@RequestBody CreateCastMemberRequest input);
 
+    @Operation(
+            summary = "Import cast members from NDJSON or CSV lines, streaming the result of each line",
+            description = "NDJSON lines are the same JSON objects accepted by the create. CSV columns: name, type."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Imported, each line reports its id or its errors"),
+            @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @PostMapping(
+            value = "import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportReader.TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    ResponseEntity<StreamingResponseBody> importCastMembers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) throws HttpMediaTypeNotSupportedException;
+
+    @Operation(
+            summary = "Export all cast members as NDJSON, one per line, in a single database scan",
+            description = "Each line is the same JSON object returned by the get by id."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> exportCastMembers();
+
+    @Operation(
+            summary = "List the cast members created, updated or deleted after a watermark",
+            description = "Same watermark semantics as the category changes."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "An invalid or expired watermark or limit was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @GetMapping(value = "changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    ChangeFeed<CastMemberResponse> listChanges(
+            @RequestParam(name = "since", required = false, defaultValue = "") String since,
+            @RequestParam(name = "limit", required = false, defaultValue = "100") int limit
+    );
+
     @Operation(summary = "Get a cast member by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast member retrieved successfully"),
@@ -77,6 +129,7 @@ public interface CastMemberAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor
     );
 }
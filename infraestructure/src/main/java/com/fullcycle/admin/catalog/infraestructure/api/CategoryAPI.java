@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalog.infraestructure.api;
 
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.infraestructure.bulk.ImportReader;
 import com.fullcycle.admin.catalog.infraestructure.category.models.CategoryResponse;
 import com.fullcycle.admin.catalog.infraestructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalog.infraestructure.category.models.CreateCategoryRequest;
@@ -9,10 +11,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
 
 @RequestMapping("categories")
 @Tag(name = "Categories")
@@ -30,6 +37,52 @@ public interface CategoryAPI {
     )
     ResponseEntity<?> create(@RequestBody CreateCategoryRequest input);
 
+    @Operation(
+            summary = "Import categories from NDJSON or CSV lines, streaming the result of each line",
+            description = "NDJSON lines are the same JSON objects accepted by the create. CSV columns: name, description, is_active."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Imported, each line reports its id or its errors"),
+            @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @PostMapping(
+            value = "import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportReader.TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    ResponseEntity<StreamingResponseBody> importCategories(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) throws HttpMediaTypeNotSupportedException;
+
+    @Operation(
+            summary = "Export all categories as NDJSON, one per line, in a single database scan",
+            description = "Each line is the same JSON object returned by the get by id."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> exportCategories();
+
+    @Operation(
+            summary = "List the categories created, updated or deleted after a watermark",
+            description = "Changes are ordered by (changed_at, id). Pass the returned watermark as 'since' on the next "
+                    + "call to resume after the last change seen; deleted ones come without the item."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "An invalid or expired watermark or limit was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @GetMapping(value = "changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    ChangeFeed<CategoryResponse> listChanges(
+            @RequestParam(name = "since", required = false, defaultValue = "") String since,
+            @RequestParam(name = "limit", required = false, defaultValue = "100") int limit
+    );
+
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
@@ -42,7 +95,8 @@ public interface CategoryAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor
     );
 
     @Operation(summary = "Get a category by it's identifier")
@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalog.infraestructure.api;
 
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.infraestructure.bulk.ImportReader;
 import com.fullcycle.admin.catalog.infraestructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalog.infraestructure.genre.models.GenreListResponse;
 import com.fullcycle.admin.catalog.infraestructure.genre.models.GenreResponse;
@@ -9,10 +11,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
 
 @RequestMapping("genres")
 @Tag(name = "Genres")
@@ -30,6 +37,51 @@ public interface GenreAPI {
     )
     ResponseEntity<?> create(@RequestBody CreateGenreRequest input);
 
+    @Operation(
+            summary = "Import genres from NDJSON or CSV lines, streaming the result of each line",
+            description = "NDJSON lines are the same JSON objects accepted by the create. CSV columns: name, is_active, categories_id with the ids separated by |."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Imported, each line reports its id or its errors"),
+            @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @PostMapping(
+            value = "import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportReader.TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    ResponseEntity<StreamingResponseBody> importGenres(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) throws HttpMediaTypeNotSupportedException;
+
+    @Operation(
+            summary = "Export all genres as NDJSON, one per line, in a single database scan",
+            description = "Each line is the same JSON object returned by the get by id."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> exportGenres();
+
+    @Operation(
+            summary = "List the genres created, updated or deleted after a watermark",
+            description = "Same watermark semantics as the category changes."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "An invalid or expired watermark or limit was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @GetMapping(value = "changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    ChangeFeed<GenreResponse> listChanges(
+            @RequestParam(name = "since", required = false, defaultValue = "") String since,
+            @RequestParam(name = "limit", required = false, defaultValue = "100") int limit
+    );
+
     @GetMapping
     @Operation(summary = "List all genres paginated")
     @ApiResponses(value = {
@@ -42,7 +94,8 @@ public interface GenreAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor
     );
 
     @Operation(summary = "Get a genre by it's identifier")
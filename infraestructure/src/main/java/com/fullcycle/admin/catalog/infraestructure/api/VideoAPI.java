@@ -0,0 +1,186 @@
+package com.fullcycle.admin.catalog.infraestructure.api;
+
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.infraestructure.bulk.ImportReader;
+import com.fullcycle.admin.catalog.infraestructure.video.models.InitiateMediaUploadRequest;
+import com.fullcycle.admin.catalog.infraestructure.video.models.VideoResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.Set;
+
+@RequestMapping("videos")
+@Tag(name = "Video")
+public interface VideoAPI {
+
+    @Operation(summary = "Accept a video to be created in background, its progress is polled on the returned location")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Video creation accepted"),
+            @ApiResponse(responseCode = "503", description = "Too many videos being created, retry after the Retry-After seconds"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @PostMapping(
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<?> createAsync(
+            @RequestParam(name = "title", required = false) String title,
+            @RequestParam(name = "description", required = false) String description,
+            @RequestParam(name = "year_launched", required = false) Integer launchedAt,
+            @RequestParam(name = "duration", required = false) Double duration,
+            @RequestParam(name = "opened", required = false) Boolean opened,
+            @RequestParam(name = "published", required = false) Boolean published,
+            @RequestParam(name = "rating", required = false) String rating,
+            @RequestParam(name = "categories_id", required = false) Set<String> categories,
+            @RequestParam(name = "cast_members_id", required = false) Set<String> castMembers,
+            @RequestParam(name = "genres_id", required = false) Set<String> genres,
+            @RequestParam(name = "video_file", required = false) MultipartFile videoFile,
+            @RequestParam(name = "trailer_file", required = false) MultipartFile trailerFile,
+            @RequestParam(name = "banner_file", required = false) MultipartFile bannerFile,
+            @RequestParam(name = "thumb_file", required = false) MultipartFile thumbFile,
+            @RequestParam(name = "thumb_half_file", required = false) MultipartFile thumbHalfFile
+    );
+
+    @Operation(
+            summary = "Import videos metadata from NDJSON or CSV lines, streaming the result of each line",
+            description = "Medias are uploaded afterwards. CSV columns: title, description, year_launched, duration, opened, published, rating, categories_id, genres_id, cast_members_id with the ids separated by |."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Imported, each line reports its id or its errors"),
+            @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @PostMapping(
+            value = "import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportReader.TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    ResponseEntity<StreamingResponseBody> importVideos(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) throws HttpMediaTypeNotSupportedException;
+
+    @Operation(summary = "Get the progress of a video creation")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Video creation retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Video creation was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @GetMapping(
+            value = "creations/{id}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<?> getCreation(@PathVariable(name = "id") String id);
+
+    @Operation(
+            summary = "List the videos created, updated or deleted after a watermark",
+            description = "Same watermark semantics as the category changes."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "An invalid or expired watermark or limit was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @GetMapping(value = "changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    ChangeFeed<VideoResponse> listChanges(
+            @RequestParam(name = "since", required = false, defaultValue = "") String since,
+            @RequestParam(name = "limit", required = false, defaultValue = "100") int limit
+    );
+
+    @Operation(summary = "Download a video media, supporting byte ranges and conditional requests")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+            @ApiResponse(responseCode = "206", description = "Media range retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Media was not modified"),
+            @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "416", description = "Requested range is not satisfiable"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @GetMapping(value = "{id}/medias/{type}")
+    ResponseEntity<StreamingResponseBody> getMediaByType(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
+
+    @Operation(summary = "Start a chunked upload of a video or trailer media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload started successfully"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @PostMapping(
+            value = "{id}/medias/{type}/uploads",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<?> initiateUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody InitiateMediaUploadRequest input
+    );
+
+    @Operation(summary = "Upload a numbered part of a chunked upload")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Part uploaded successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @PutMapping(
+            value = "{id}/medias/{type}/uploads/{uploadId}/parts/{partNumber}",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<?> uploadPart(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId,
+            @PathVariable(name = "partNumber") int partNumber,
+            @RequestParam(name = "part") MultipartFile part
+    );
+
+    @Operation(summary = "Assemble the uploaded parts into the video media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload completed successfully"),
+            @ApiResponse(responseCode = "404", description = "Video or upload was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @PostMapping(
+            value = "{id}/medias/{type}/uploads/{uploadId}/complete",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<?> completeUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId
+    );
+
+    @DeleteMapping(value = "{id}/medias/{type}/uploads/{uploadId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Abort a chunked upload discarding its parts")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Upload aborted successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    void abortUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId
+    );
+}
@@ -1,26 +1,39 @@
 package com.fullcycle.admin.catalog.infraestructure.api.controllers;
 
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.castmember.bulk.ImportCastMembersUseCase;
 import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberCommand;
 import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.delete.DeleteCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.changes.ListCastMemberChangesUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.fullcycle.admin.catalog.application.castmember.update.UpdateCastMemberCommand;
 import com.fullcycle.admin.catalog.application.castmember.update.UpdateCastMemberUseCase;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infraestructure.api.CastMemberAPI;
+import com.fullcycle.admin.catalog.infraestructure.bulk.ImportReader;
+import com.fullcycle.admin.catalog.infraestructure.bulk.ImportReport;
 import com.fullcycle.admin.catalog.infraestructure.castmember.models.CastMemberListResponse;
 import com.fullcycle.admin.catalog.infraestructure.castmember.models.CastMemberResponse;
 import com.fullcycle.admin.catalog.infraestructure.castmember.models.CreateCastMemberRequest;
 import com.fullcycle.admin.catalog.infraestructure.castmember.models.UpdateCastMemberRequest;
 import com.fullcycle.admin.catalog.infraestructure.castmember.presenters.CastMemberApiPresenter;
+import com.fullcycle.admin.catalog.infraestructure.export.NdjsonExport;
 import com.fullcycle.admin.catalog.infraestructure.genre.models.GenreListResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.Objects;
+import java.util.Set;
 
 @RestController
 public class CastMemberController implements CastMemberAPI {
@@ -32,18 +45,29 @@ public class CastMemberController implements CastMemberAPI {
 
     private final ListCastMembersUseCase listCastMembersUseCase;
 
+    private final ImportCastMembersUseCase importCastMembersUseCase;
+    private final ExportCastMembersUseCase exportCastMembersUseCase;
+
+    private final ListCastMemberChangesUseCase listCastMemberChangesUseCase;
+
     public CastMemberController(
             final CreateCastMemberUseCase createCastMemberUseCase,
             final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
             final UpdateCastMemberUseCase updateCastMemberUseCase,
             final DeleteCastMemberUseCase deleteCastMemberUseCase,
-            final ListCastMembersUseCase listCastMembersUseCase
+            final ListCastMembersUseCase listCastMembersUseCase,
+            final ImportCastMembersUseCase importCastMembersUseCase,
+            final ExportCastMembersUseCase exportCastMembersUseCase,
+            final ListCastMemberChangesUseCase listCastMemberChangesUseCase
     ) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.importCastMembersUseCase = Objects.requireNonNull(importCastMembersUseCase);
+        this.exportCastMembersUseCase = Objects.requireNonNull(exportCastMembersUseCase);
+        this.listCastMemberChangesUseCase = Objects.requireNonNull(listCastMemberChangesUseCase);
     }
 
     @Override
@@ -78,9 +102,33 @@ public class CastMemberController implements CastMemberAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor
     ) {
-        return listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        return listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor))
                 .map(CastMemberApiPresenter::present);
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> importCastMembers(final String contentType, final InputStream body) throws HttpMediaTypeNotSupportedException {
+        final var records = ImportReader.read(
+                body,
+                contentType,
+                CreateCastMemberRequest.class,
+                Set.of(),
+                it -> CreateCastMemberCommand.with(it.name(), it.type())
+        );
+
+        return ImportReport.stream(results -> importCastMembersUseCase.execute(ImportCommand.with(records, results)));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCastMembers() {
+        return NdjsonExport.stream(lines -> exportCastMembersUseCase.execute(it -> lines.accept(CastMemberApiPresenter.present(it))));
+    }
+
+    @Override
+    public ChangeFeed<CastMemberResponse> listChanges(final String since, final int limit) {
+        return listCastMemberChangesUseCase.execute(new ChangeQuery(since, limit)).map(CastMemberApiPresenter::present);
+    }
 }
@@ -1,28 +1,41 @@
 package com.fullcycle.admin.catalog.infraestructure.api.controllers;
 
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.category.bulk.ImportCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.changes.ListCategoryChangesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryCommand;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalog.infraestructure.api.CategoryAPI;
+import com.fullcycle.admin.catalog.infraestructure.bulk.ImportReader;
+import com.fullcycle.admin.catalog.infraestructure.bulk.ImportReport;
 import com.fullcycle.admin.catalog.infraestructure.category.models.CategoryResponse;
 import com.fullcycle.admin.catalog.infraestructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalog.infraestructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalog.infraestructure.category.models.UpdateCategoryRequest;
 import com.fullcycle.admin.catalog.infraestructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalog.infraestructure.export.NdjsonExport;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 
 @RestController
@@ -37,18 +50,30 @@ public class CategoryController implements CategoryAPI {
 
     private final ListCategoriesUseCase listCategoriesUseCase;
 
+    private final ImportCategoriesUseCase importCategoriesUseCase;
+
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+
+    private final ListCategoryChangesUseCase listCategoryChangesUseCase;
+
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final ImportCategoriesUseCase importCategoriesUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase,
+            final ListCategoryChangesUseCase listCategoryChangesUseCase
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.importCategoriesUseCase = Objects.requireNonNull(importCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.listCategoryChangesUseCase = Objects.requireNonNull(listCategoryChangesUseCase);
     }
 
     @Override
@@ -74,11 +99,12 @@ public class CategoryController implements CategoryAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor
     ) {
         return listCategoriesUseCase.execute(
                 new SearchQuery(
-                        page, perPage, search, sort, direction
+                        page, perPage, search, sort, direction, cursor
                 )
         ).map(CategoryApiPresenter::present);
     }
@@ -109,4 +135,27 @@ public class CategoryController implements CategoryAPI {
     public void delete(final String id) {
         deleteCategoryUseCase.execute(id);
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> importCategories(final String contentType, final InputStream body) throws HttpMediaTypeNotSupportedException {
+        final var records = ImportReader.read(
+                body,
+                contentType,
+                CreateCategoryRequest.class,
+                Set.of(),
+                it -> CreateCategoryCommand.with(it.name(), it.description(), it.active())
+        );
+
+        return ImportReport.stream(results -> importCategoriesUseCase.execute(ImportCommand.with(records, results)));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCategories() {
+        return NdjsonExport.stream(lines -> exportCategoriesUseCase.execute(it -> lines.accept(CategoryApiPresenter.present(it))));
+    }
+
+    @Override
+    public ChangeFeed<CategoryResponse> listChanges(final String since, final int limit) {
+        return listCategoryChangesUseCase.execute(new ChangeQuery(since, limit)).map(CategoryApiPresenter::present);
+    }
 }
@@ -1,30 +1,45 @@
 package com.fullcycle.admin.catalog.infraestructure.api.controllers;
 
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.genre.bulk.ImportGenresUseCase;
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreCommand;
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrieve.changes.ListGenreChangesUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrieve.export.ExportGenresUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrieve.list.ListGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.update.UpdateGenreCommand;
 import com.fullcycle.admin.catalog.application.genre.update.UpdateGenreUseCase;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infraestructure.api.GenreAPI;
+import com.fullcycle.admin.catalog.infraestructure.bulk.ImportReader;
+import com.fullcycle.admin.catalog.infraestructure.bulk.ImportReport;
+import com.fullcycle.admin.catalog.infraestructure.export.NdjsonExport;
 import com.fullcycle.admin.catalog.infraestructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalog.infraestructure.genre.models.GenreListResponse;
 import com.fullcycle.admin.catalog.infraestructure.genre.models.GenreResponse;
 import com.fullcycle.admin.catalog.infraestructure.genre.models.UpdateGenreRequest;
 import com.fullcycle.admin.catalog.infraestructure.genre.presenters.GenreApiPresenter;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @RestController
 public class GenreController implements GenreAPI {
 
+    private static final String CATEGORIES_ID = "categories_id";
+
     private final CreateGenreUseCase createGenreUseCase;
 
     private final GetGenreByIdUseCase getGenreByIdUseCase;
@@ -35,18 +50,29 @@ public class GenreController implements GenreAPI {
 
     private final ListGenreUseCase listGenreUseCase;
 
+    private final ImportGenresUseCase importGenresUseCase;
+    private final ExportGenresUseCase exportGenresUseCase;
+
+    private final ListGenreChangesUseCase listGenreChangesUseCase;
+
     public GenreController(
             final CreateGenreUseCase createGenreUseCase,
             final GetGenreByIdUseCase getGenreByIdUseCase,
             final UpdateGenreUseCase updateGenreUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
-            final ListGenreUseCase listGenreUseCase
-            ) {
+            final ListGenreUseCase listGenreUseCase,
+            final ImportGenresUseCase importGenresUseCase,
+            final ExportGenresUseCase exportGenresUseCase,
+            final ListGenreChangesUseCase listGenreChangesUseCase
+    ) {
         this.createGenreUseCase = Objects.requireNonNull(createGenreUseCase);
         this.getGenreByIdUseCase = Objects.requireNonNull(getGenreByIdUseCase);
         this.updateGenreUseCase = Objects.requireNonNull(updateGenreUseCase);
         this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
         this.listGenreUseCase = Objects.requireNonNull(listGenreUseCase);
+        this.importGenresUseCase = Objects.requireNonNull(importGenresUseCase);
+        this.exportGenresUseCase = Objects.requireNonNull(exportGenresUseCase);
+        this.listGenreChangesUseCase = Objects.requireNonNull(listGenreChangesUseCase);
     }
 
     @Override
@@ -68,9 +94,10 @@ public class GenreController implements GenreAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor
     ) {
-        return listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        return listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor))
                 .map(GenreApiPresenter::present);
     }
 
@@ -94,4 +121,27 @@ public class GenreController implements GenreAPI {
     public void delete(final String id) {
         deleteGenreUseCase.execute(id);
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> importGenres(final String contentType, final InputStream body) throws HttpMediaTypeNotSupportedException {
+        final var records = ImportReader.read(
+                body,
+                contentType,
+                CreateGenreRequest.class,
+                Set.of(CATEGORIES_ID),
+                it -> CreateGenreCommand.with(it.name(), it.active(), it.categories())
+        );
+
+        return ImportReport.stream(results -> importGenresUseCase.execute(ImportCommand.with(records, results)));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportGenres() {
+        return NdjsonExport.stream(lines -> exportGenresUseCase.execute(it -> lines.accept(GenreApiPresenter.present(it))));
+    }
+
+    @Override
+    public ChangeFeed<GenreResponse> listChanges(final String since, final int limit) {
+        return listGenreChangesUseCase.execute(new ChangeQuery(since, limit)).map(GenreApiPresenter::present);
+    }
 }
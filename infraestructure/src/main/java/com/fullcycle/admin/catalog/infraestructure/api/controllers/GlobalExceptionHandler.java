@@ -1,8 +1,13 @@
 package com.fullcycle.admin.catalog.infraestructure.api.controllers;
 
+import com.fullcycle.admin.catalog.domain.exception.CapacityExceededException;
 import com.fullcycle.admin.catalog.domain.exception.DomainException;
 import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
 import com.fullcycle.admin.catalog.domain.validation.Error;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,6 +18,8 @@ import java.util.List;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
     @ExceptionHandler(value = NotFoundException.class)
     public ResponseEntity<?> handleNotFoundException(
             final NotFoundException ex
@@ -20,6 +27,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = CapacityExceededException.class)
+    public ResponseEntity<?> handleCapacityExceededException(
+            final CapacityExceededException ex
+    ) {
+        // Retry-After is given in whole seconds, rounded up so clients never come back too early
+        final var seconds = Math.max(1, (ex.retryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(ApiError.from(ex));
+    }
+
     @ExceptionHandler(value = DomainException.class)
     public ResponseEntity<?> handleDomainException(
             final DomainException ex
@@ -27,6 +45,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(ex));
     }
 
+    /**
+     * References are validated against the ids known to exist, which may include ids deleted by another instance
+     * meanwhile, so MySQL rejecting the foreign key is a validation error as well. The SQL stays in the logs.
+     */
+    @ExceptionHandler(value = DataIntegrityViolationException.class)
+    public ResponseEntity<?> handleDataIntegrityViolationException(
+            final DataIntegrityViolationException ex
+    ) {
+        log.warn("Write rejected by a constraint of the database", ex);
+        final var error = new Error("Some of the referenced ids no longer exist");
+        return ResponseEntity.unprocessableEntity().body(new ApiError(error.message(), List.of(error)));
+    }
+
     record ApiError(String message, List<Error> errors) {
         static ApiError from(final DomainException ex) {
             return new ApiError(ex.getMessage(), ex.getErrors());
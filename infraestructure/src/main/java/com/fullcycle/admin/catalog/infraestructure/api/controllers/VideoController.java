@@ -0,0 +1,327 @@
+package com.fullcycle.admin.catalog.infraestructure.api.controllers;
+
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.video.bulk.ImportVideosUseCase;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
+import com.fullcycle.admin.catalog.application.video.create.async.AcceptVideoCreationCommand;
+import com.fullcycle.admin.catalog.application.video.create.async.AcceptVideoCreationUseCase;
+import com.fullcycle.admin.catalog.application.video.create.async.GetVideoCreationUseCase;
+import com.fullcycle.admin.catalog.application.video.media.get.GetMediaCommand;
+import com.fullcycle.admin.catalog.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalog.application.video.media.get.MediaOutput;
+import com.fullcycle.admin.catalog.application.video.media.get.MediaRange;
+import com.fullcycle.admin.catalog.application.video.media.multipart.abort.AbortMediaUploadCommand;
+import com.fullcycle.admin.catalog.application.video.media.multipart.abort.AbortMediaUploadUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.complete.CompleteMediaUploadCommand;
+import com.fullcycle.admin.catalog.application.video.media.multipart.complete.CompleteMediaUploadUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.initiate.InitiateMediaUploadCommand;
+import com.fullcycle.admin.catalog.application.video.media.multipart.initiate.InitiateMediaUploadUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.part.UploadMediaPartCommand;
+import com.fullcycle.admin.catalog.application.video.media.multipart.part.UploadMediaPartUseCase;
+import com.fullcycle.admin.catalog.application.video.retrieve.changes.ListVideoChangesUseCase;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.ResourceContent;
+import com.fullcycle.admin.catalog.infraestructure.api.VideoAPI;
+import com.fullcycle.admin.catalog.infraestructure.bulk.ImportReader;
+import com.fullcycle.admin.catalog.infraestructure.bulk.ImportReport;
+import com.fullcycle.admin.catalog.infraestructure.video.MediaStaging;
+import com.fullcycle.admin.catalog.infraestructure.video.models.ImportVideoRequest;
+import com.fullcycle.admin.catalog.infraestructure.video.models.InitiateMediaUploadRequest;
+import com.fullcycle.admin.catalog.infraestructure.video.models.VideoResponse;
+import com.fullcycle.admin.catalog.infraestructure.video.presenters.VideoApiPresenter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+@RestController
+public class VideoController implements VideoAPI {
+
+    private static final Pattern BYTE_RANGE = Pattern.compile("(\\d{0,18})-(\\d{0,18})");
+    private static final int MAX_RANGES = 16;
+    private static final Set<String> ID_COLUMNS = Set.of("categories_id", "genres_id", "cast_members_id");
+
+    private final AcceptVideoCreationUseCase acceptVideoCreationUseCase;
+    private final GetVideoCreationUseCase getVideoCreationUseCase;
+    private final MediaStaging mediaStaging;
+    private final GetMediaUseCase getMediaUseCase;
+    private final InitiateMediaUploadUseCase initiateMediaUploadUseCase;
+    private final UploadMediaPartUseCase uploadMediaPartUseCase;
+    private final CompleteMediaUploadUseCase completeMediaUploadUseCase;
+    private final AbortMediaUploadUseCase abortMediaUploadUseCase;
+    private final ImportVideosUseCase importVideosUseCase;
+    private final ListVideoChangesUseCase listVideoChangesUseCase;
+
+    public VideoController(
+            final AcceptVideoCreationUseCase acceptVideoCreationUseCase,
+            final GetVideoCreationUseCase getVideoCreationUseCase,
+            final MediaStaging mediaStaging,
+            final GetMediaUseCase getMediaUseCase,
+            final InitiateMediaUploadUseCase initiateMediaUploadUseCase,
+            final UploadMediaPartUseCase uploadMediaPartUseCase,
+            final CompleteMediaUploadUseCase completeMediaUploadUseCase,
+            final AbortMediaUploadUseCase abortMediaUploadUseCase,
+            final ImportVideosUseCase importVideosUseCase,
+            final ListVideoChangesUseCase listVideoChangesUseCase
+    ) {
+        this.acceptVideoCreationUseCase = Objects.requireNonNull(acceptVideoCreationUseCase);
+        this.getVideoCreationUseCase = Objects.requireNonNull(getVideoCreationUseCase);
+        this.mediaStaging = Objects.requireNonNull(mediaStaging);
+        this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
+        this.initiateMediaUploadUseCase = Objects.requireNonNull(initiateMediaUploadUseCase);
+        this.uploadMediaPartUseCase = Objects.requireNonNull(uploadMediaPartUseCase);
+        this.completeMediaUploadUseCase = Objects.requireNonNull(completeMediaUploadUseCase);
+        this.abortMediaUploadUseCase = Objects.requireNonNull(abortMediaUploadUseCase);
+        this.importVideosUseCase = Objects.requireNonNull(importVideosUseCase);
+        this.listVideoChangesUseCase = Objects.requireNonNull(listVideoChangesUseCase);
+    }
+
+    @Override
+    public ResponseEntity<?> createAsync(
+            final String title,
+            final String description,
+            final Integer launchedAt,
+            final Double duration,
+            final Boolean opened,
+            final Boolean published,
+            final String rating,
+            final Set<String> categories,
+            final Set<String> castMembers,
+            final Set<String> genres,
+            final MultipartFile videoFile,
+            final MultipartFile trailerFile,
+            final MultipartFile bannerFile,
+            final MultipartFile thumbFile,
+            final MultipartFile thumbHalfFile
+    ) {
+        // the container discards the multipart files with the request, so the medias are staged before answering
+        final var staging = mediaStaging.open();
+        try {
+            final var command = CreateVideoCommand.with(
+                    title,
+                    description,
+                    launchedAt,
+                    duration != null ? duration : 0.0,
+                    rating,
+                    opened != null && opened,
+                    published != null && published,
+                    categories != null ? categories : Set.of(),
+                    genres != null ? genres : Set.of(),
+                    castMembers != null ? castMembers : Set.of(),
+                    staging.stage(videoFile),
+                    staging.stage(trailerFile),
+                    staging.stage(bannerFile),
+                    staging.stage(thumbFile),
+                    staging.stage(thumbHalfFile)
+            );
+
+            final var output = acceptVideoCreationUseCase.execute(AcceptVideoCreationCommand.with(command, staging::close));
+
+            return ResponseEntity.accepted()
+                    .location(URI.create("/videos/creations/" + output.id()))
+                    .body(output);
+        } catch (final RuntimeException e) {
+            staging.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> importVideos(final String contentType, final InputStream body) throws HttpMediaTypeNotSupportedException {
+        final var records = ImportReader.read(
+                body,
+                contentType,
+                ImportVideoRequest.class,
+                ID_COLUMNS,
+                it -> CreateVideoCommand.with(
+                        it.title(),
+                        it.description(),
+                        it.launchedAt(),
+                        it.duration() != null ? it.duration() : 0.0,
+                        it.rating(),
+                        it.opened() != null && it.opened(),
+                        it.published() != null && it.published(),
+                        it.categories() != null ? it.categories() : Set.of(),
+                        it.genres() != null ? it.genres() : Set.of(),
+                        it.castMembers() != null ? it.castMembers() : Set.of(),
+                        null,
+                        null,
+                        null,
+                        null,
+                        null
+                )
+        );
+
+        return ImportReport.stream(results -> importVideosUseCase.execute(ImportCommand.with(records, results)));
+    }
+
+    @Override
+    public ResponseEntity<?> getCreation(final String id) {
+        return ResponseEntity.ok(VideoApiPresenter.present(getVideoCreationUseCase.execute(id)));
+    }
+
+    @Override
+    public ChangeFeed<VideoResponse> listChanges(final String since, final int limit) {
+        return listVideoChangesUseCase.execute(new ChangeQuery(since, limit)).map(VideoApiPresenter::present);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> getMediaByType(final String id, final String type, final String range, final String ifNoneMatch) {
+        final var command = GetMediaCommand.with(id, type, parseRanges(range), parseEntityTags(ifNoneMatch));
+
+        final var output = getMediaUseCase.execute(command);
+
+        final var eTag = "\"%s\"".formatted(output.checksum());
+        return switch (output.status()) {
+            case NOT_MODIFIED -> ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .build();
+            case RANGE_NOT_SATISFIABLE -> ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .eTag(eTag)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(output.totalLength()))
+                    .build();
+            case PARTIAL -> ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .eTag(eTag)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(
+                            output.offset(),
+                            output.offset() + output.contentLength() - 1,
+                            output.totalLength()
+                    ))
+                    .contentType(MediaType.parseMediaType(output.contentType()))
+                    .contentLength(output.contentLength())
+                    .body(content(output));
+            case FULL -> ResponseEntity.ok()
+                    .eTag(eTag)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .contentType(MediaType.parseMediaType(output.contentType()))
+                    .contentLength(output.contentLength())
+                    .body(content(output));
+        };
+    }
+
+    @Override
+    public ResponseEntity<?> initiateUpload(final String id, final String type, final InitiateMediaUploadRequest input) {
+        final var command = InitiateMediaUploadCommand.with(id, type, input.contentType(), input.name());
+
+        final var output = initiateMediaUploadUseCase.execute(command);
+
+        return ResponseEntity.created(
+                URI.create("/videos/%s/medias/%s/uploads/%s".formatted(id, type, output.uploadId()))
+        ).body(output);
+    }
+
+    @Override
+    public ResponseEntity<?> uploadPart(
+            final String id,
+            final String type,
+            final String uploadId,
+            final int partNumber,
+            final MultipartFile part
+    ) {
+        final var command = UploadMediaPartCommand.with(id, type, uploadId, partNumber, resourceOf(part));
+        return ResponseEntity.ok(uploadMediaPartUseCase.execute(command));
+    }
+
+    @Override
+    public ResponseEntity<?> completeUpload(final String id, final String type, final String uploadId) {
+        final var command = CompleteMediaUploadCommand.with(id, type, uploadId);
+        return ResponseEntity.ok(completeMediaUploadUseCase.execute(command));
+    }
+
+    @Override
+    public void abortUpload(final String id, final String type, final String uploadId) {
+        abortMediaUploadUseCase.execute(AbortMediaUploadCommand.with(id, type, uploadId));
+    }
+
+    /**
+     * Parses a {@code bytes=} Range header, an empty optional means the header is present but malformed or asks
+     * for more ranges than we are willing to evaluate.
+     */
+    /**
+     * An unknown unit or an invalid Range header is ignored, as RFC 9110 allows, and the whole media is sent.
+     */
+    private static List<MediaRange> parseRanges(final String header) {
+        if (header == null || !header.startsWith("bytes=")) {
+            return List.of();
+        }
+
+        final var specs = header.substring("bytes=".length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            return List.of();
+        }
+
+        final var ranges = new ArrayList<MediaRange>();
+        for (final var spec : specs) {
+            final var matcher = BYTE_RANGE.matcher(spec.trim());
+            if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+                return List.of();
+            }
+            final var first = matcher.group(1).isEmpty() ? null : Long.valueOf(matcher.group(1));
+            final var last = matcher.group(2).isEmpty() ? null : Long.valueOf(matcher.group(2));
+            if (first != null && last != null && first > last) {
+                return List.of();
+            }
+            ranges.add(MediaRange.of(first, last));
+        }
+        return ranges;
+    }
+
+    private static List<String> parseEntityTags(final String header) {
+        if (header == null) {
+            return List.of();
+        }
+        return Arrays.stream(header.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .map(tag -> tag.replace("\"", ""))
+                .filter(tag -> !tag.isEmpty())
+                .toList();
+    }
+
+    private Resource resourceOf(final MultipartFile part) {
+        // the multipart body is spooled by the container, so the part is streamed instead of copied into the heap
+        final var content = ResourceContent.of(part.getSize(), () -> {
+            try {
+                return part.getInputStream();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return Resource.with(
+                content,
+                Objects.requireNonNullElse(part.getContentType(), MediaType.APPLICATION_OCTET_STREAM_VALUE),
+                Objects.requireNonNullElse(part.getOriginalFilename(), part.getName())
+        );
+    }
+
+    /**
+     * Streams the media straight from the storage. The body isn't a Spring {@code Resource}, so Spring MVC never applies
+     * its own range handling on top of the one of the use case.
+     */
+    private static StreamingResponseBody content(final MediaOutput output) {
+        return out -> {
+            try (final var in = output.openStream()) {
+                in.transferTo(out);
+            }
+        };
+    }
+}
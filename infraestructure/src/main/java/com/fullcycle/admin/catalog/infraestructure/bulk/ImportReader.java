@@ -0,0 +1,260 @@
+package com.fullcycle.admin.catalog.infraestructure.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fullcycle.admin.catalog.application.bulk.ImportRecord;
+import com.fullcycle.admin.catalog.infraestructure.configuration.json.Json;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Reads the lines of an import lazily, as NDJSON (one request object per line) or CSV (a header with the request
+ * properties, then one request per row).
+ * <p>
+ * In CSV the values of list properties are separated by {@code |}. A line that can't be read becomes an unreadable
+ * record instead of failing the whole import.
+ */
+public final class ImportReader {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final String LIST_SEPARATOR = "\\|";
+
+    private static final ObjectMapper MAPPER = Json.mapper();
+
+    private ImportReader() {
+    }
+
+    public static <R, T> Iterator<ImportRecord<T>> read(
+            final InputStream body,
+            final String contentType,
+            final Class<R> requestType,
+            final Set<String> listColumns,
+            final Function<R, T> toCommand
+    ) throws HttpMediaTypeNotSupportedException {
+        final var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        final var mediaType = MediaType.parseMediaType(contentType);
+
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(mediaType)) {
+            return new NdjsonRecords<>(reader, requestType, toCommand);
+        }
+        if (MediaType.parseMediaType(TEXT_CSV_VALUE).isCompatibleWith(mediaType)) {
+            return new CsvRecords<>(reader, requestType, listColumns, toCommand);
+        }
+        throw new HttpMediaTypeNotSupportedException(mediaType, List.of(MediaType.APPLICATION_NDJSON, MediaType.parseMediaType(TEXT_CSV_VALUE)));
+    }
+
+    private static <R, T> ImportRecord<T> toRecord(
+            final long line,
+            final Function<R, T> toCommand,
+            final ReadRequest<R> read
+    ) {
+        try {
+            return ImportRecord.with(line, toCommand.apply(read.read()));
+        } catch (final IOException | IllegalArgumentException e) {
+            return ImportRecord.unreadable(line, "Could not read the line: %s".formatted(firstLine(e.getMessage())));
+        }
+    }
+
+    private static String firstLine(final String message) {
+        if (message == null) {
+            return "unknown error";
+        }
+        final var end = message.indexOf('\n');
+        return end < 0 ? message : message.substring(0, end);
+    }
+
+    @FunctionalInterface
+    private interface ReadRequest<R> {
+        R read() throws IOException;
+    }
+
+    private static abstract class Records<T> implements Iterator<ImportRecord<T>> {
+
+        private ImportRecord<T> next;
+
+        protected abstract ImportRecord<T> readNext() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = readNext();
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public ImportRecord<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final var current = next;
+            next = null;
+            return current;
+        }
+    }
+
+    private static final class NdjsonRecords<R, T> extends Records<T> {
+
+        private final BufferedReader reader;
+        private final Class<R> requestType;
+        private final Function<R, T> toCommand;
+        private long line;
+
+        private NdjsonRecords(final BufferedReader reader, final Class<R> requestType, final Function<R, T> toCommand) {
+            this.reader = reader;
+            this.requestType = requestType;
+            this.toCommand = toCommand;
+        }
+
+        @Override
+        protected ImportRecord<T> readNext() throws IOException {
+            String json;
+            do {
+                json = reader.readLine();
+                line++;
+            } while (json != null && json.isBlank());
+
+            if (json == null) {
+                return null;
+            }
+            final var content = json;
+            return toRecord(line, toCommand, () -> MAPPER.readValue(content, requestType));
+        }
+    }
+
+    private static final class CsvRecords<R, T> extends Records<T> {
+
+        private final BufferedReader reader;
+        private final Class<R> requestType;
+        private final Set<String> listColumns;
+        private final Function<R, T> toCommand;
+        private List<String> header;
+        private long line;
+
+        private CsvRecords(
+                final BufferedReader reader,
+                final Class<R> requestType,
+                final Set<String> listColumns,
+                final Function<R, T> toCommand
+        ) {
+            this.reader = reader;
+            this.requestType = requestType;
+            this.listColumns = listColumns;
+            this.toCommand = toCommand;
+        }
+
+        @Override
+        protected ImportRecord<T> readNext() throws IOException {
+            if (header == null) {
+                final var columns = readRow();
+                if (columns == null) {
+                    return null;
+                }
+                header = columns.values().stream().map(String::trim).toList();
+            }
+
+            final var row = readRow();
+            if (row == null) {
+                return null;
+            }
+            if (row.values().size() != header.size()) {
+                return ImportRecord.unreadable(row.line(), "Expected %d columns but found %d".formatted(
+                        header.size(), row.values().size()
+                ));
+            }
+            return toRecord(row.line(), toCommand, () -> MAPPER.treeToValue(toNode(row.values()), requestType));
+        }
+
+        private ObjectNode toNode(final List<String> values) {
+            final var node = MAPPER.createObjectNode();
+            for (int i = 0; i < header.size(); i++) {
+                final var column = header.get(i);
+                final var value = values.get(i);
+
+                if (listColumns.contains(column)) {
+                    final var items = node.putArray(column);
+                    for (final var item : value.split(LIST_SEPARATOR)) {
+                        if (!item.isBlank()) {
+                            items.add(item.trim());
+                        }
+                    }
+                } else if (value.isEmpty()) {
+                    node.putNull(column);
+                } else {
+                    node.put(column, value);
+                }
+            }
+            return node;
+        }
+
+        /**
+         * Reads one RFC 4180 row, skipping blank lines. Quoted values may contain separators, escaped quotes and line
+         * breaks, the row is numbered by the line it starts.
+         */
+        private Row readRow() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+            } while (text != null && text.isBlank());
+
+            if (text == null) {
+                return null;
+            }
+
+            final var start = line;
+            final var values = new ArrayList<String>();
+            final var value = new StringBuilder();
+            var quoted = false;
+
+            for (int i = 0; ; i++) {
+                if (i == text.length()) {
+                    if (!quoted || (text = reader.readLine()) == null) {
+                        break;
+                    }
+                    line++;
+                    value.append('\n');
+                    i = -1;
+                    continue;
+                }
+
+                final var c = text.charAt(i);
+                if (quoted && c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = !quoted;
+                } else if (c == ',' && !quoted) {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else {
+                    value.append(c);
+                }
+            }
+            values.add(value.toString());
+
+            return new Row(start, values);
+        }
+    }
+
+    private record Row(long line, List<String> values) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalog.infraestructure.bulk;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fullcycle.admin.catalog.application.bulk.ImportOutput;
+import com.fullcycle.admin.catalog.application.bulk.ImportResult;
+import com.fullcycle.admin.catalog.infraestructure.bulk.models.ImportLineResponse;
+import com.fullcycle.admin.catalog.infraestructure.configuration.json.Json;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Streams the report of an import as NDJSON while it runs: one line per imported line, in order, followed by a
+ * summary line with the totals.
+ */
+public final class ImportReport {
+
+    private static final ObjectWriter WRITER = Json.mapper().writer();
+
+    private ImportReport() {
+    }
+
+    public static ResponseEntity<StreamingResponseBody> stream(
+            final Function<Consumer<ImportResult>, ImportOutput> importer
+    ) {
+        final StreamingResponseBody body = output -> {
+            final var writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            final var summary = importer.apply(result -> write(writer, ImportLineResponse.from(result)));
+            write(writer, summary);
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private static void write(final Writer writer, final Object line) {
+        try {
+            writer.write(WRITER.writeValueAsString(line));
+            writer.write('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
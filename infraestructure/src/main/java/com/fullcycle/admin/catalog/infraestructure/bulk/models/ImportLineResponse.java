@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalog.infraestructure.bulk.models;
+
+import com.fullcycle.admin.catalog.application.bulk.ImportResult;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.util.List;
+
+public record ImportLineResponse(
+        long line,
+        String id,
+        List<Error> errors
+) {
+    public static ImportLineResponse from(final ImportResult result) {
+        return new ImportLineResponse(result.line(), result.id(), result.errors());
+    }
+}
@@ -0,0 +1,104 @@
+package com.fullcycle.admin.catalog.infraestructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded read-through cache of aggregates by id.
+ * <p>
+ * Misses are cached as well, for a shorter time, so lookups of unknown ids don't reach MySQL every time. Concurrent
+ * misses of the same id wait for a single load. Aggregates are mutable, so every read returns a copy of the cached one.
+ */
+public class AggregateCache<T> {
+
+    private final Cache<String, Optional<T>> cache;
+    private final UnaryOperator<T> copy;
+
+    public AggregateCache(
+            final String name,
+            final long maxSize,
+            final Duration ttl,
+            final Duration negativeTtl,
+            final UnaryOperator<T> copy,
+            final MeterRegistry registry
+    ) {
+        this.copy = Objects.requireNonNull(copy);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PresenceExpiry<T>(ttl, negativeTtl))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+
+    public Optional<T> get(final String id, final Function<String, Optional<T>> loader) {
+        return cache.get(id, loader).map(copy);
+    }
+
+    /**
+     * Removes the id once any load of it already running finishes, so a load that read the old state can't outlive the
+     * invalidation.
+     */
+    public void invalidate(final String id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * Removes the cached aggregates matching the predicate, as the ones referencing an aggregate deleted meanwhile.
+     */
+    public void invalidateIf(final Predicate<T> predicate) {
+        cache.asMap().forEach((id, value) -> {
+            if (value.filter(predicate).isPresent()) {
+                cache.invalidate(id);
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private record PresenceExpiry<T>(Duration ttl, Duration negativeTtl) implements Expiry<String, Optional<T>> {
+
+        @Override
+        public long expireAfterCreate(final String id, final Optional<T> value, final long currentTime) {
+            return value.isPresent() ? ttl.toNanos() : negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                final String id,
+                final Optional<T> value,
+                final long currentTime,
+                final long currentDuration
+        ) {
+            return expireAfterCreate(id, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+                final String id,
+                final Optional<T> value,
+                final long currentTime,
+                final long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
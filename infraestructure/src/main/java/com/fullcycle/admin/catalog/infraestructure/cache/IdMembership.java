@@ -0,0 +1,111 @@
+package com.fullcycle.admin.catalog.infraestructure.cache;
+
+import com.fullcycle.admin.catalog.domain.Identifier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Ids known to exist for one aggregate type, so validating references doesn't query MySQL for each write.
+ * <p>
+ * Known ids are answered from memory. Unknown ids are checked with the gateway and remembered when they exist; they
+ * are never rejected from memory because they may have been created by another instance. The set is loaded in the
+ * background when the scheduler starts and reloaded periodically, which also drops the ids deleted by other instances.
+ * Until then a write may still reference an id deleted elsewhere, MySQL rejects its foreign key and the API answers
+ * it as a validation error.
+ */
+public class IdMembership {
+
+    private static final Logger log = LoggerFactory.getLogger(IdMembership.class);
+
+    private final String name;
+    private final Supplier<? extends Collection<String>> allIds;
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile Set<String> known = ConcurrentHashMap.newKeySet();
+    private Set<String> removedWhileLoading;
+
+    public IdMembership(
+            final String name,
+            final Supplier<? extends Collection<String>> allIds,
+            final MeterRegistry registry
+    ) {
+        this.name = Objects.requireNonNull(name);
+        this.allIds = Objects.requireNonNull(allIds);
+        this.hits = registry.counter("cache.membership.lookups", "cache", name, "result", "hit");
+        this.misses = registry.counter("cache.membership.lookups", "cache", name, "result", "miss");
+        Gauge.builder("cache.membership.size", this, IdMembership::size).tag("cache", name).register(registry);
+    }
+
+    public <ID extends Identifier> List<ID> existing(
+            final Iterable<ID> ids,
+            final Function<List<ID>, List<ID>> existsByIds
+    ) {
+        final var existing = new ArrayList<ID>();
+        final var unknown = new ArrayList<ID>();
+        for (final var id : ids) {
+            (known.contains(id.getValue()) ? existing : unknown).add(id);
+        }
+        hits.increment(existing.size());
+
+        if (!unknown.isEmpty()) {
+            misses.increment(unknown.size());
+            final var found = existsByIds.apply(unknown);
+            found.forEach(this::add);
+            existing.addAll(found);
+        }
+        return existing;
+    }
+
+    public void add(final Identifier id) {
+        known.add(id.getValue());
+    }
+
+    public synchronized void remove(final Identifier id) {
+        known.remove(id.getValue());
+        if (removedWhileLoading != null) {
+            removedWhileLoading.add(id.getValue());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.aggregates.membership-refresh-interval:300000}")
+    public void refresh() {
+        synchronized (this) {
+            removedWhileLoading = ConcurrentHashMap.newKeySet();
+        }
+
+        try {
+            final Set<String> loaded = ConcurrentHashMap.newKeySet();
+            loaded.addAll(allIds.get());
+
+            synchronized (this) {
+                loaded.removeAll(removedWhileLoading);
+                known = loaded;
+            }
+            log.debug("Loaded {} known {} ids", loaded.size(), name);
+        } catch (final RuntimeException e) {
+            log.warn("Could not load the known {} ids, unknown ids keep being checked in MySQL", name, e);
+        } finally {
+            synchronized (this) {
+                removedWhileLoading = null;
+            }
+        }
+    }
+
+    public int size() {
+        return known.size();
+    }
+}
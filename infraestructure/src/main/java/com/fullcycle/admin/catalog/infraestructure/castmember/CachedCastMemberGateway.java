@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalog.infraestructure.castmember;
+
+import com.fullcycle.admin.catalog.domain.castmember.CastMember;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.infraestructure.cache.AggregateCache;
+import com.fullcycle.admin.catalog.infraestructure.cache.IdMembership;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Reads cast members by id through a cache, invalidated by the writes of this instance.
+ * Reference validations are answered from the ids known to exist. A delete also invalidates the cached aggregates
+ * referencing the deleted id, through {@code onDeleted}.
+ */
+public class CachedCastMemberGateway implements CastMemberGateway {
+
+    private final CastMemberGateway gateway;
+    private final AggregateCache<CastMember> cache;
+    private final IdMembership members;
+    private final Consumer<CastMemberID> onDeleted;
+
+    public CachedCastMemberGateway(
+            final CastMemberGateway gateway,
+            final AggregateCache<CastMember> cache,
+            final IdMembership members,
+            final Consumer<CastMemberID> onDeleted
+    ) {
+        this.gateway = Objects.requireNonNull(gateway);
+        this.cache = Objects.requireNonNull(cache);
+        this.members = Objects.requireNonNull(members);
+        this.onDeleted = Objects.requireNonNull(onDeleted);
+    }
+
+    @Override
+    public CastMember create(final CastMember castMember) {
+        final var result = gateway.create(castMember);
+        cache.invalidate(result.getId().getValue());
+        members.add(result.getId());
+        return result;
+    }
+
+    @Override
+    public List<CastMember> createAll(final List<CastMember> castMembers) {
+        final var result = gateway.createAll(castMembers);
+        result.forEach(it -> {
+            cache.invalidate(it.getId().getValue());
+            members.add(it.getId());
+        });
+        return result;
+    }
+
+    @Override
+    public void deleteById(final CastMemberID id) {
+        gateway.deleteById(id);
+        cache.invalidate(id.getValue());
+        members.remove(id);
+        onDeleted.accept(id);
+    }
+
+    @Override
+    public Optional<CastMember> findById(final CastMemberID id) {
+        return cache.get(id.getValue(), it -> gateway.findById(id));
+    }
+
+    @Override
+    public CastMember update(final CastMember castMember) {
+        final var result = gateway.update(castMember);
+        cache.invalidate(result.getId().getValue());
+        return result;
+    }
+
+    @Override
+    public Pagination<CastMember> findAll(final SearchQuery searchQuery) {
+        return gateway.findAll(searchQuery);
+    }
+
+    @Override
+    public void forEach(final Consumer<CastMember> action) {
+        gateway.forEach(action);
+    }
+
+    @Override
+    public ChangeFeed<CastMember> changesSince(final ChangeQuery query) {
+        return gateway.changesSince(query);
+    }
+
+    @Override
+    public List<CastMemberID> existsByIds(final Iterable<CastMemberID> ids) {
+        return members.existing(ids, gateway::existsByIds);
+    }
+}
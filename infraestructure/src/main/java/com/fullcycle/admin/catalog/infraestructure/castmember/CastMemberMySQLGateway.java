@@ -3,19 +3,29 @@ package com.fullcycle.admin.catalog.infraestructure.castmember;
 import com.fullcycle.admin.catalog.domain.castmember.CastMember;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalog.domain.changes.Change;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infraestructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalog.infraestructure.castmember.persistence.CastMemberRepository;
-import com.fullcycle.admin.catalog.infraestructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalog.infraestructure.changes.ChangeFeeds;
+import com.fullcycle.admin.catalog.infraestructure.export.ForwardCursor;
+import com.fullcycle.admin.catalog.infraestructure.search.TextSearch;
+import com.fullcycle.admin.catalog.infraestructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalog.infraestructure.utils.SqlUtils;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
 import static org.springframework.data.jpa.domain.Specification.where;
@@ -23,10 +33,27 @@ import static org.springframework.data.jpa.domain.Specification.where;
 @Component
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
-    private final CastMemberRepository castMemberRepository;
+    private static final String NAME = "name";
+    private static final String AGGREGATE = "cast_member";
 
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    private final CastMemberRepository castMemberRepository;
+    private final EntityManager entityManager;
+    private final TextSearch textSearch;
+    private final ForwardCursor cursor;
+    private final ChangeFeeds changeFeeds;
+
+    public CastMemberMySQLGateway(
+            final CastMemberRepository castMemberRepository,
+            final EntityManager entityManager,
+            final TextSearch textSearch,
+            final ForwardCursor cursor,
+            final ChangeFeeds changeFeeds
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.textSearch = Objects.requireNonNull(textSearch);
+        this.cursor = Objects.requireNonNull(cursor);
+        this.changeFeeds = Objects.requireNonNull(changeFeeds);
     }
 
     @Override
@@ -35,10 +62,20 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     @Override
+    @Transactional
+    public List<CastMember> createAll(final List<CastMember> castMembers) {
+        castMembers.forEach(it -> entityManager.persist(CastMemberJpaEntity.from(it)));
+        entityManager.flush();
+        return castMembers;
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final CastMemberID id) {
         final var memberID = id.getValue();
         if(castMemberRepository.existsById(memberID)) {
             castMemberRepository.deleteById(memberID);
+            changeFeeds.recordDeletion(AGGREGATE, memberID);
         }
     }
 
@@ -55,16 +92,19 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
 
     @Override
     public Pagination<CastMember> findAll(final SearchQuery query) {
+        if (query.isKeyset()) {
+            return findAllAfter(query);
+        }
+
         final var page = PageRequest.of(
                 query.page(),
                 query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
+                TextSearch.sort(query.sort(), query.direction())
         );
 
-        final var where = Optional.ofNullable(query.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+        final Specification<CastMemberJpaEntity> where = TextSearch.isRelevance(query.sort())
+                ? textSearch.ranked(query.terms(), NAME)
+                : textSearch.matching(query.terms(), NAME);
 
         final var pageResult = castMemberRepository.findAll(where(where), page);
 
@@ -76,6 +116,56 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         );
     }
 
+    private Pagination<CastMember> findAllAfter(final SearchQuery query) {
+        final Specification<CastMemberJpaEntity> where = textSearch.matching(query.terms(), NAME);
+
+        final var keys = KeysetUtils.seek(
+                entityManager,
+                CastMemberJpaEntity.class,
+                where,
+                query.sort(),
+                query.direction(),
+                query.cursor(),
+                query.perPage() + 1
+        );
+
+        return KeysetUtils.page(
+                query.page(),
+                query.perPage(),
+                query.sort(),
+                query.direction(),
+                keys,
+                ids -> castMemberRepository.findAllById(ids).stream().map(CastMemberJpaEntity::toAggregate).toList(),
+                it -> it.getId().getValue()
+        );
+    }
+
+    @Override
+    public void forEach(final Consumer<CastMember> action) {
+        cursor.forEach(
+                "SELECT id, name, type, created_at, updated_at FROM cast_members WHERE id > ? ORDER BY id LIMIT ?",
+                (rs, rowNum) -> CastMember.with(
+                        CastMemberID.from(rs.getString("id")),
+                        rs.getString("name"),
+                        CastMemberType.valueOf(rs.getString("type")),
+                        SqlUtils.instant(rs, "created_at"),
+                        SqlUtils.instant(rs, "updated_at")
+                ),
+                it -> it.getId().getValue(),
+                action
+        );
+    }
+
+    @Override
+    public ChangeFeed<CastMember> changesSince(final ChangeQuery query) {
+        return changeFeeds.read(AGGREGATE, query, (after, until, limit) ->
+                castMemberRepository.findChangedAfter(after.at(), after.id(), until, PageRequest.of(0, limit)).stream()
+                        .map(CastMemberJpaEntity::toAggregate)
+                        .map(it -> Change.saved(it.getId().getValue(), it.getCreatedAt(), it.getUpdatedAt(), it))
+                        .toList()
+        );
+    }
+
     @Override
     public List<CastMemberID> existsByIds(final Iterable<CastMemberID> ids) {
         final var castMemberIDS = StreamSupport.stream(ids.spliterator(), false)
@@ -86,10 +176,6 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
                 .toList();
     }
 
-    private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
-    }
-
     private CastMember save(CastMember castMember) {
         return castMemberRepository.save(CastMemberJpaEntity.from(castMember)).toAggregate();
     }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
@@ -15,4 +16,19 @@ public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity,
 
     @Query(value = "select c.id from CastMember c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select c.id from CastMember c")
+    List<String> findAllIds();
+
+    @Query(value = """
+            select c from CastMember c
+            where c.updatedAt >= :at and (c.updatedAt > :at or c.id > :id) and c.updatedAt < :until
+            order by c.updatedAt, c.id
+            """)
+    List<CastMemberJpaEntity> findChangedAfter(
+            @Param("at") Instant at,
+            @Param("id") String id,
+            @Param("until") Instant until,
+            Pageable page
+    );
 }
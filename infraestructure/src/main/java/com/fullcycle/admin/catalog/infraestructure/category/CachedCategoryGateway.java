@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalog.infraestructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.infraestructure.cache.AggregateCache;
+import com.fullcycle.admin.catalog.infraestructure.cache.IdMembership;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Reads categories by id through a cache, invalidated by the writes of this instance.
+ * Reference validations are answered from the ids known to exist. A delete also invalidates the cached aggregates
+ * referencing the deleted id, through {@code onDeleted}.
+ */
+public class CachedCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway gateway;
+    private final AggregateCache<Category> cache;
+    private final IdMembership members;
+    private final Consumer<CategoryID> onDeleted;
+
+    public CachedCategoryGateway(
+            final CategoryGateway gateway,
+            final AggregateCache<Category> cache,
+            final IdMembership members,
+            final Consumer<CategoryID> onDeleted
+    ) {
+        this.gateway = Objects.requireNonNull(gateway);
+        this.cache = Objects.requireNonNull(cache);
+        this.members = Objects.requireNonNull(members);
+        this.onDeleted = Objects.requireNonNull(onDeleted);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var result = gateway.create(category);
+        cache.invalidate(result.getId().getValue());
+        members.add(result.getId());
+        return result;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var result = gateway.createAll(categories);
+        result.forEach(it -> {
+            cache.invalidate(it.getId().getValue());
+            members.add(it.getId());
+        });
+        return result;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        gateway.deleteById(id);
+        cache.invalidate(id.getValue());
+        members.remove(id);
+        onDeleted.accept(id);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return cache.get(id.getValue(), it -> gateway.findById(id));
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var result = gateway.update(category);
+        cache.invalidate(result.getId().getValue());
+        return result;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery searchQuery) {
+        return gateway.findAll(searchQuery);
+    }
+
+    @Override
+    public void forEach(final Consumer<Category> action) {
+        gateway.forEach(action);
+    }
+
+    @Override
+    public ChangeFeed<Category> changesSince(final ChangeQuery query) {
+        return gateway.changesSince(query);
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        return members.existing(ids, gateway::existsByIds);
+    }
+}
@@ -3,29 +3,55 @@ package com.fullcycle.admin.catalog.infraestructure.category;
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.changes.Change;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalog.infraestructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalog.infraestructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalog.infraestructure.changes.ChangeFeeds;
+import com.fullcycle.admin.catalog.infraestructure.export.ForwardCursor;
+import com.fullcycle.admin.catalog.infraestructure.search.TextSearch;
+import com.fullcycle.admin.catalog.infraestructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalog.infraestructure.utils.SqlUtils;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
-import static com.fullcycle.admin.catalog.infraestructure.utils.SpecificationUtils.like;
-
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
-    private final CategoryRepository repository;
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String AGGREGATE = "category";
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    private final CategoryRepository repository;
+    private final EntityManager entityManager;
+    private final TextSearch textSearch;
+    private final ForwardCursor cursor;
+    private final ChangeFeeds changeFeeds;
+
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final EntityManager entityManager,
+            final TextSearch textSearch,
+            final ForwardCursor cursor,
+            final ChangeFeeds changeFeeds
+    ) {
         this.repository = repository;
+        this.entityManager = entityManager;
+        this.textSearch = textSearch;
+        this.cursor = cursor;
+        this.changeFeeds = changeFeeds;
     }
 
     @Override
@@ -38,11 +64,26 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 .toAggregate();
     }
 
+    /**
+     * Persists with {@code persist} instead of {@code save}, so the assigned ids don't cost a select each and the inserts
+     * are sent in JDBC batches.
+     */
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> categories) {
+        categories.forEach(it -> entityManager.persist(CategoryJpaEntity.from(it)));
+        entityManager.flush();
+        return categories;
+    }
+
     @Override
+    @Transactional
     public void deleteById(final CategoryID id) {
         final var idValue = id.getValue();
         if(repository.existsById(idValue)) {
+            repository.touchGenresOf(idValue, InstantUtils.now());
             repository.deleteById(idValue);
+            changeFeeds.recordDeletion(AGGREGATE, idValue);
         }
     }
 
@@ -58,16 +99,19 @@ public class CategoryMySQLGateway implements CategoryGateway {
 
     @Override
     public Pagination<Category> findAll(final SearchQuery query) {
+        if (query.isKeyset()) {
+            return findAllAfter(query);
+        }
+
         final var page = PageRequest.of(
                 query.page(),
                 query.perPage(),
-                Sort.by(Direction.fromString(query.direction()), query.sort())
+                TextSearch.sort(query.sort(), query.direction())
         );
 
-        final var specification = Optional.ofNullable(query.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+        final Specification<CategoryJpaEntity> specification = TextSearch.isRelevance(query.sort())
+                ? textSearch.ranked(query.terms(), NAME, DESCRIPTION)
+                : textSearch.matching(query.terms(), NAME, DESCRIPTION);
 
         var pageResult = repository.findAll(Specification.where(specification), page);
 
@@ -79,10 +123,56 @@ public class CategoryMySQLGateway implements CategoryGateway {
         );
     }
 
-    private Specification<CategoryJpaEntity> assembleSpecification(final String terms) {
-        final Specification<CategoryJpaEntity> nameLike = like("name", terms);
-        final Specification<CategoryJpaEntity> descriptionLike = like("description", terms);
-        return nameLike.or(descriptionLike);
+    private Pagination<Category> findAllAfter(final SearchQuery query) {
+        final Specification<CategoryJpaEntity> specification = textSearch.matching(query.terms(), NAME, DESCRIPTION);
+
+        final var keys = KeysetUtils.seek(
+                entityManager,
+                CategoryJpaEntity.class,
+                specification,
+                query.sort(),
+                query.direction(),
+                query.cursor(),
+                query.perPage() + 1
+        );
+
+        return KeysetUtils.page(
+                query.page(),
+                query.perPage(),
+                query.sort(),
+                query.direction(),
+                keys,
+                ids -> repository.findAllById(ids).stream().map(CategoryJpaEntity::toAggregate).toList(),
+                it -> it.getId().getValue()
+        );
+    }
+
+    @Override
+    public void forEach(final Consumer<Category> action) {
+        cursor.forEach(
+                "SELECT id, name, description, active, created_at, updated_at, deleted_at FROM categories WHERE id > ? ORDER BY id LIMIT ?",
+                (rs, rowNum) -> Category.with(
+                        CategoryID.from(rs.getString("id")),
+                        rs.getString("name"),
+                        rs.getString("description"),
+                        rs.getBoolean("active"),
+                        SqlUtils.instant(rs, "created_at"),
+                        SqlUtils.instant(rs, "updated_at"),
+                        SqlUtils.instant(rs, "deleted_at")
+                ),
+                it -> it.getId().getValue(),
+                action
+        );
+    }
+
+    @Override
+    public ChangeFeed<Category> changesSince(final ChangeQuery query) {
+        return changeFeeds.read(AGGREGATE, query, (after, until, limit) ->
+                repository.findChangedAfter(after.at(), after.id(), until, PageRequest.of(0, limit)).stream()
+                        .map(CategoryJpaEntity::toAggregate)
+                        .map(it -> Change.saved(it.getId().getValue(), it.getCreatedAt(), it.getUpdatedAt(), it))
+                        .toList()
+        );
     }
 
     @Override
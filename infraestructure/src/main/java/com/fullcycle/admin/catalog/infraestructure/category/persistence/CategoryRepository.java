@@ -4,9 +4,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>{
@@ -15,4 +17,34 @@ public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, Str
 
     @Query("SELECT c.id FROM Category c WHERE c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query("SELECT c.id FROM Category c")
+    List<String> findAllIds();
+
+    /**
+     * Seeks {@code (updated_at, id)} after the given key. The range on {@code updated_at} alone lets MySQL scan the
+     * composite index instead of merging the two branches of the OR.
+     */
+    @Query("""
+            SELECT c FROM Category c
+            WHERE c.updatedAt >= :at AND (c.updatedAt > :at OR c.id > :id) AND c.updatedAt < :until
+            ORDER BY c.updatedAt, c.id
+            """)
+    List<CategoryJpaEntity> findChangedAfter(
+            @Param("at") Instant at,
+            @Param("id") String id,
+            @Param("until") Instant until,
+            Pageable page
+    );
+
+    /**
+     * Deleting a category cascades to the genres_categories rows, which doesn't change the genres themselves. Clears the
+     * persistence context, so genres loaded afterwards see the new timestamp.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            nativeQuery = true,
+            value = "UPDATE genres SET updated_at = :at WHERE id IN (SELECT genre_id FROM genres_categories WHERE category_id = :id)"
+    )
+    int touchGenresOf(@Param("id") String id, @Param("at") Instant at);
 }
@@ -0,0 +1,163 @@
+package com.fullcycle.admin.catalog.infraestructure.changes;
+
+import com.fullcycle.admin.catalog.domain.changes.Change;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads the changes of an aggregate after a watermark, merging the saved rows with the tombstones of the deleted ones.
+ * <p>
+ * Both sides are seeked by {@code (changed_at, id)} on their own index and merged, so a call costs the changes it
+ * returns instead of the size of the table. Changes newer than the settle time are left for the next call: the
+ * timestamps are taken before the transaction commits, so a slower transaction could otherwise commit a change behind a
+ * watermark already handed out.
+ */
+public class ChangeFeeds {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeeds.class);
+
+    private static final Comparator<Change<?>> ORDER = Comparator.comparing(Watermark::of);
+
+    private final JdbcOperations jdbc;
+    private final Clock clock;
+    private final Duration settleTime;
+    private final Duration tombstoneRetention;
+    private final int maxLimit;
+
+    public ChangeFeeds(
+            final JdbcOperations jdbc,
+            final Clock clock,
+            final Duration settleTime,
+            final Duration tombstoneRetention,
+            final int maxLimit
+    ) {
+        this.jdbc = Objects.requireNonNull(jdbc);
+        this.clock = Objects.requireNonNull(clock);
+        this.settleTime = Objects.requireNonNull(settleTime);
+        this.tombstoneRetention = Objects.requireNonNull(tombstoneRetention);
+        this.maxLimit = maxLimit;
+    }
+
+    @FunctionalInterface
+    public interface SavedRows<T> {
+
+        /**
+         * @return up to {@code limit} rows with {@code (updated_at, id)} after the watermark and {@code updated_at}
+         * before {@code until}, in that order
+         */
+        List<Change<T>> read(Watermark after, Instant until, int limit);
+    }
+
+    /**
+     * Must run in the transaction that deletes the row.
+     */
+    public void recordDeletion(final String aggregate, final String id) {
+        jdbc.update(
+                "INSERT INTO tombstones (aggregate, id, deleted_at) VALUES (?, ?, ?)",
+                aggregate,
+                id,
+                Timestamp.from(now())
+        );
+    }
+
+    public <T> ChangeFeed<T> read(final String aggregate, final ChangeQuery query, final SavedRows<T> savedRows) {
+        if (query.limit() < 1 || query.limit() > maxLimit) {
+            throw DomainException.with(new Error("'limit' must be between 1 and %d".formatted(maxLimit)));
+        }
+
+        final var now = now();
+        final var after = Watermark.decode(query.since());
+        if (!after.equals(Watermark.START) && after.at().isBefore(now.minus(tombstoneRetention))) {
+            throw DomainException.with(new Error(
+                    "'since' is older than the deletions kept by the feed, resync from the export"
+            ));
+        }
+
+        final var until = now.minus(settleTime);
+        final var changes = new ArrayList<Change<T>>(2 * query.limit() + 2);
+        changes.addAll(savedRows.read(after, until, query.limit() + 1));
+        changes.addAll(deletions(aggregate, after, until, query.limit() + 1));
+        changes.sort(ORDER);
+
+        final var hasMore = changes.size() > query.limit();
+        final var items = hasMore ? List.copyOf(changes.subList(0, query.limit())) : List.copyOf(changes);
+
+        return new ChangeFeed<>(items, watermark(after, items, hasMore, until).encode(), hasMore);
+    }
+
+    /**
+     * Once the feed is drained the watermark moves up to {@code until}, so consumers of an aggregate that rarely changes
+     * don't fall behind the tombstone retention. Both sides read strictly before {@code until}, so {@code (until, "")}
+     * sorts before every change left for the next call and after every change already returned.
+     */
+    private static Watermark watermark(
+            final Watermark after,
+            final List<? extends Change<?>> items,
+            final boolean hasMore,
+            final Instant until
+    ) {
+        final var last = items.isEmpty() ? after : Watermark.of(items.get(items.size() - 1));
+        if (hasMore) {
+            return last;
+        }
+
+        final var drained = new Watermark(until, "");
+        return drained.isAfter(last) ? drained : last;
+    }
+
+    private <T> List<Change<T>> deletions(
+            final String aggregate,
+            final Watermark after,
+            final Instant until,
+            final int limit
+    ) {
+        final var at = Timestamp.from(after.at());
+        return jdbc.query(
+                """
+                        SELECT id, deleted_at FROM tombstones
+                        WHERE aggregate = ? AND deleted_at >= ? AND (deleted_at > ? OR id > ?) AND deleted_at < ?
+                        ORDER BY deleted_at, id
+                        LIMIT ?
+                        """,
+                (rs, i) -> Change.<T>deleted(rs.getString("id"), rs.getTimestamp("deleted_at").toInstant()),
+                aggregate,
+                at,
+                at,
+                after.id(),
+                Timestamp.from(until),
+                limit
+        );
+    }
+
+    @Scheduled(
+            initialDelayString = "${changes.purge-interval:3600000}",
+            fixedDelayString = "${changes.purge-interval:3600000}"
+    )
+    public void purge() {
+        final var purged = jdbc.update(
+                "DELETE FROM tombstones WHERE deleted_at < ?",
+                Timestamp.from(now().minus(tombstoneRetention))
+        );
+        log.debug("Purged {} tombstones", purged);
+    }
+
+    private Instant now() {
+        return clock.instant().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalog.infraestructure.changes;
+
+import com.fullcycle.admin.catalog.domain.changes.Change;
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.infraestructure.configuration.json.Json;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Position in a change feed, the {@code (changed_at, id)} of the last change a consumer has seen. Clients only get it
+ * encoded, as an opaque token.
+ */
+public record Watermark(Instant at, String id) implements Comparable<Watermark> {
+
+    public static final Watermark START = new Watermark(Instant.EPOCH, "");
+
+    private static final Comparator<Watermark> ORDER = Comparator.comparing(Watermark::at)
+            .thenComparing(Watermark::id);
+
+    public Watermark {
+        Objects.requireNonNull(at);
+        Objects.requireNonNull(id);
+    }
+
+    public static Watermark of(final Change<?> change) {
+        return new Watermark(change.changedAt(), change.id());
+    }
+
+    public static Watermark decode(final String since) {
+        if (since == null || since.isBlank()) {
+            return START;
+        }
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(since), StandardCharsets.UTF_8);
+            final Map<?, ?> fields = Json.readValue(json, Map.class);
+            return new Watermark(Instant.parse((String) fields.get("at")), (String) fields.get("id"));
+        } catch (final RuntimeException e) {
+            throw DomainException.with(new Error("'since' is not a valid watermark"));
+        }
+    }
+
+    public String encode() {
+        final var fields = new LinkedHashMap<String, String>();
+        fields.put("at", at.toString());
+        fields.put("id", id);
+
+        final var json = Json.writeValueAsString(fields);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isAfter(final Watermark other) {
+        return compareTo(other) > 0;
+    }
+
+    @Override
+    public int compareTo(final Watermark other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalog.infraestructure.concurrency;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Puts the Hikari {@link DataSource} beans behind a {@link LimitedDataSource} sized to their maximum pool size.
+ */
+public class DataSourceLimiting implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceLimiting.class);
+
+    private final Supplier<Duration> waitTimeout;
+
+    public DataSourceLimiting(final Supplier<Duration> waitTimeout) {
+        this.waitTimeout = Objects.requireNonNull(waitTimeout);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof LimitedDataSource) {
+            return bean;
+        }
+
+        final var pool = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        if (pool == null) {
+            log.warn("DataSource {} is not a Hikari pool, its connections are not limited", beanName);
+            return bean;
+        }
+
+        log.info("Limiting DataSource {} to {} concurrent connections", beanName, pool.getMaximumPoolSize());
+        return new LimitedDataSource(dataSource, pool.getMaximumPoolSize(), waitTimeout.get());
+    }
+}
@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalog.infraestructure.concurrency;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates virtual threads without compiling against Java 21, the build still targets Java 17. Only the JVM running
+ * the application has to be Java 21 or newer.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {}
+
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    /**
+     * @return an executor starting a new virtual thread, named with the prefix and a counter, for each task
+     * @throws IllegalStateException when the JVM is older than Java 21
+     */
+    public static ExecutorService executor(final String prefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException(
+                    "Virtual threads need Java 21 or newer, running on %s".formatted(Runtime.version())
+            );
+        }
+
+        try {
+            final var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final var ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            final var named = ofVirtual.getMethod("name", String.class, long.class).invoke(builder, prefix, 1L);
+            final var factory = (ThreadFactory) ofVirtual.getMethod("factory").invoke(named);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create virtual threads", e);
+        }
+    }
+}
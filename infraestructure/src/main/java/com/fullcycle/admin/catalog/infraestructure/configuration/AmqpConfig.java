@@ -3,8 +3,15 @@ package com.fullcycle.admin.catalog.infraestructure.configuration;
 import com.fullcycle.admin.catalog.infraestructure.configuration.annotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalog.infraestructure.configuration.annotations.VideoEncodedQueue;
 import com.fullcycle.admin.catalog.infraestructure.configuration.annotations.VideoEvents;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.ConsumerProperties;
 import com.fullcycle.admin.catalog.infraestructure.configuration.properties.QueueProperties;
+import com.fullcycle.admin.catalog.infraestructure.video.LegacyVideoEncodedQueue;
+import com.fullcycle.admin.catalog.infraestructure.video.VideoEncoderListener;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +33,51 @@ public class AmqpConfig {
         return new QueueProperties();
     }
 
+    @Bean
+    @ConfigurationProperties("amqp.consumers.video-encoded")
+    @VideoEncodedQueue
+    ConsumerProperties videoEncodedConsumerProperties() {
+        return new ConsumerProperties();
+    }
+
+    /**
+     * Batches of up to {@code batch-size} messages are handed to the listener at once and acknowledged by it, so
+     * status updates for the same video can be coalesced and acks sent together.
+     */
+    @Bean
+    SimpleRabbitListenerContainerFactory videoEncodedListenerFactory(
+            final ConnectionFactory connectionFactory,
+            @VideoEncodedQueue final ConsumerProperties props
+    ) {
+        final var factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setConcurrentConsumers(props.getConcurrency());
+        factory.setMaxConcurrentConsumers(props.getMaxConcurrency());
+        factory.setPrefetchCount(props.getPrefetch());
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(props.getBatchSize());
+        factory.setReceiveTimeout(props.getReceiveTimeout().toMillis());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+
+    @Bean
+    LegacyVideoEncodedQueue legacyVideoEncodedQueue(
+            final ConnectionFactory connectionFactory,
+            final RabbitListenerEndpointRegistry registry,
+            @VideoEncodedQueue final QueueProperties props
+    ) {
+        // not a bean, so it never declares anything by itself when amqp.admin.auto-create is off
+        final var admin = new RabbitAdmin(connectionFactory);
+        return new LegacyVideoEncodedQueue(
+                admin,
+                () -> registry.getListenerContainer(VideoEncoderListener.LEGACY_LISTENER_ID).start(),
+                props
+        );
+    }
+
     @Configuration
     static class Admin {
 
@@ -51,10 +103,31 @@ public class AmqpConfig {
             return BindingBuilder.bind(queue).to(exchange).with(props.getRoutingKey());
         }
 
+        /**
+         * A quorum queue, so the broker counts the deliveries of each message in {@code x-delivery-count} and dead
+         * letters it once it was requeued more than {@code max-retries} times.
+         * <p>
+         * RabbitMQ refuses to redeclare an existing queue with other arguments, so it is declared under a new name. The
+         * former {@code video.encoded.queue} is unbound and drained by {@link LegacyVideoEncodedQueue}. When
+         * {@code amqp.admin.auto-create} is off, declare and bind the new queue before deploying.
+         */
         @Bean
         @VideoEncodedQueue
-        Queue videoEncodedQueue(@VideoEncodedQueue QueueProperties props) {
-            return new Queue(props.getQueue());
+        Queue videoEncodedQueue(
+                @VideoEncodedQueue QueueProperties props,
+                @VideoEncodedQueue ConsumerProperties consumerProps
+        ) {
+            return QueueBuilder.durable(props.getQueue())
+                    .quorum()
+                    .deliveryLimit(consumerProps.getMaxRetries())
+                    .deadLetterExchange("")
+                    .deadLetterRoutingKey(props.getDeadLetterQueue())
+                    .build();
+        }
+
+        @Bean
+        Queue videoEncodedDeadLetterQueue(@VideoEncodedQueue QueueProperties props) {
+            return new Queue(props.getDeadLetterQueue());
         }
 
         @Bean
@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration;
+
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.BulkImportProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BulkImportConfig {
+
+    @Bean
+    @ConfigurationProperties("bulk-import")
+    BulkImportProperties bulkImportProperties() {
+        return new BulkImportProperties();
+    }
+}
@@ -0,0 +1,150 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration;
+
+import com.fullcycle.admin.catalog.domain.castmember.CastMember;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.infraestructure.cache.AggregateCache;
+import com.fullcycle.admin.catalog.infraestructure.cache.IdMembership;
+import com.fullcycle.admin.catalog.infraestructure.castmember.CachedCastMemberGateway;
+import com.fullcycle.admin.catalog.infraestructure.castmember.CastMemberMySQLGateway;
+import com.fullcycle.admin.catalog.infraestructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalog.infraestructure.category.CachedCategoryGateway;
+import com.fullcycle.admin.catalog.infraestructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalog.infraestructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.CacheProperties;
+import com.fullcycle.admin.catalog.infraestructure.genre.CachedGenreGateway;
+import com.fullcycle.admin.catalog.infraestructure.genre.GenreMySQLGateway;
+import com.fullcycle.admin.catalog.infraestructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalog.infraestructure.video.CachedVideoGateway;
+import com.fullcycle.admin.catalog.infraestructure.video.DefaultVideoGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Puts the id lookups and reference validations of the gateways behind caches. Each instance only invalidates the
+ * entries it writes, the ones written by other instances are refreshed by the TTL or the periodic reload of known ids.
+ * Deleting a category, genre or cast member also invalidates the cached genres and videos referencing it, as MySQL
+ * drops those references along with the row.
+ */
+@Configuration
+@ConditionalOnProperty(value = "cache.aggregates.enabled", havingValue = "true")
+public class CacheConfig {
+
+    @Bean
+    @ConfigurationProperties("cache.aggregates")
+    CacheProperties cacheProperties() {
+        return new CacheProperties();
+    }
+
+    @Bean
+    AggregateCache<Category> categoryCache(final CacheProperties props, final ObjectProvider<MeterRegistry> registry) {
+        return cache("categories", props, Category::with, registry);
+    }
+
+    @Bean
+    AggregateCache<Genre> genreCache(final CacheProperties props, final ObjectProvider<MeterRegistry> registry) {
+        return cache("genres", props, Genre::with, registry);
+    }
+
+    @Bean
+    AggregateCache<CastMember> castMemberCache(final CacheProperties props, final ObjectProvider<MeterRegistry> registry) {
+        return cache("cast_members", props, CastMember::with, registry);
+    }
+
+    @Bean
+    AggregateCache<Video> videoCache(final CacheProperties props, final ObjectProvider<MeterRegistry> registry) {
+        return cache("videos", props, Video::with, registry);
+    }
+
+    @Bean
+    IdMembership categoryMembership(final CategoryRepository repository, final ObjectProvider<MeterRegistry> registry) {
+        return new IdMembership("categories", repository::findAllIds, registry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    @Primary
+    CategoryGateway cachedCategoryGateway(
+            final CategoryMySQLGateway gateway,
+            final AggregateCache<Category> categoryCache,
+            @Qualifier("categoryMembership") final IdMembership members,
+            final AggregateCache<Genre> genreCache,
+            final AggregateCache<Video> videoCache
+    ) {
+        return new CachedCategoryGateway(gateway, categoryCache, members, id -> {
+            genreCache.invalidateIf(genre -> genre.getCategories().contains(id));
+            videoCache.invalidateIf(video -> video.getCategories().contains(id));
+        });
+    }
+
+    @Bean
+    IdMembership genreMembership(final GenreRepository repository, final ObjectProvider<MeterRegistry> registry) {
+        return new IdMembership("genres", repository::findAllIds, registry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    @Primary
+    GenreGateway cachedGenreGateway(
+            final GenreMySQLGateway gateway,
+            final AggregateCache<Genre> genreCache,
+            @Qualifier("genreMembership") final IdMembership members,
+            final AggregateCache<Video> videoCache
+    ) {
+        return new CachedGenreGateway(gateway, genreCache, members, id ->
+                videoCache.invalidateIf(video -> video.getGenres().contains(id))
+        );
+    }
+
+    @Bean
+    IdMembership castMemberMembership(final CastMemberRepository repository, final ObjectProvider<MeterRegistry> registry) {
+        return new IdMembership("cast_members", repository::findAllIds, registry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    @Primary
+    CastMemberGateway cachedCastMemberGateway(
+            final CastMemberMySQLGateway gateway,
+            final AggregateCache<CastMember> castMemberCache,
+            @Qualifier("castMemberMembership") final IdMembership members,
+            final AggregateCache<Video> videoCache
+    ) {
+        return new CachedCastMemberGateway(gateway, castMemberCache, members, id ->
+                videoCache.invalidateIf(video -> video.getCastMembers().contains(id))
+        );
+    }
+
+    @Bean
+    @Primary
+    VideoGateway cachedVideoGateway(final DefaultVideoGateway gateway, final AggregateCache<Video> videoCache) {
+        return new CachedVideoGateway(gateway, videoCache);
+    }
+
+    private static <T> AggregateCache<T> cache(
+            final String name,
+            final CacheProperties props,
+            final UnaryOperator<T> copy,
+            final ObjectProvider<MeterRegistry> registry
+    ) {
+        return new AggregateCache<>(
+                name,
+                props.getMaxSize(),
+                props.getTtl(),
+                props.getNegativeTtl(),
+                copy,
+                registry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration;
+
+import com.fullcycle.admin.catalog.infraestructure.changes.ChangeFeeds;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.ChangeFeedProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.time.Clock;
+
+@Configuration
+public class ChangeFeedConfig {
+
+    @Bean
+    @ConfigurationProperties("changes")
+    ChangeFeedProperties changeFeedProperties() {
+        return new ChangeFeedProperties();
+    }
+
+    @Bean
+    ChangeFeeds changeFeeds(final JdbcOperations jdbc, final ChangeFeedProperties props) {
+        return new ChangeFeeds(
+                jdbc,
+                Clock.systemUTC(),
+                props.getSettleTime(),
+                props.getTombstoneRetention(),
+                props.getMaxLimit()
+        );
+    }
+}
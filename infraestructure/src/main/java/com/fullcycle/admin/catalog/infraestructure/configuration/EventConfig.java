@@ -1,22 +1,74 @@
 package com.fullcycle.admin.catalog.infraestructure.configuration;
 
 import com.fullcycle.admin.catalog.infraestructure.configuration.annotations.VideoCreatedQueue;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.OutboxProperties;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.PublisherProperties;
 import com.fullcycle.admin.catalog.infraestructure.configuration.properties.QueueProperties;
+import com.fullcycle.admin.catalog.infraestructure.outbox.OutboxEventService;
+import com.fullcycle.admin.catalog.infraestructure.outbox.OutboxRelay;
+import com.fullcycle.admin.catalog.infraestructure.outbox.persistence.OutboxEventRepository;
 import com.fullcycle.admin.catalog.infraestructure.services.EventService;
-import com.fullcycle.admin.catalog.infraestructure.services.impl.RabbitEventService;
+import com.fullcycle.admin.catalog.infraestructure.services.impl.RabbitBatchPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
+@EnableScheduling
 public class EventConfig {
 
+    @Bean
+    @ConfigurationProperties("outbox.relay")
+    OutboxProperties outboxProperties() {
+        return new OutboxProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.publisher")
+    PublisherProperties publisherProperties() {
+        return new PublisherProperties();
+    }
+
+    @Bean
+    RabbitBatchPublisher rabbitBatchPublisher(
+            final PublisherProperties props,
+            final RabbitOperations ops,
+            final ObjectProvider<MeterRegistry> registry
+    ) {
+        return new RabbitBatchPublisher(
+                ops,
+                props.getBatchSize(),
+                props.getLinger(),
+                props.getMaxUnconfirmed(),
+                props.getConfirmTimeout(),
+                registry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
     @Bean
     @VideoCreatedQueue
     EventService videoCreatedEventService(
             @VideoCreatedQueue final QueueProperties props,
-            final RabbitOperations ops
+            final OutboxEventRepository outboxEventRepository,
+            final JdbcOperations jdbc
     ){
-        return new RabbitEventService(props.getExchange(), props.getRoutingKey(), ops);
+        return new OutboxEventService(props.getExchange(), props.getRoutingKey(), outboxEventRepository, jdbc);
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+    OutboxRelay outboxRelay(
+            final OutboxProperties props,
+            final OutboxEventRepository outboxEventRepository,
+            final RabbitBatchPublisher publisher
+    ) {
+        return new OutboxRelay(outboxEventRepository, publisher, props.getBatchSize(), props.getClaimTimeout());
     }
 }
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration;
+
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.ExportProperties;
+import com.fullcycle.admin.catalog.infraestructure.export.ForwardCursor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class ExportConfig {
+
+    @Bean
+    @ConfigurationProperties("export")
+    ExportProperties exportProperties() {
+        return new ExportProperties();
+    }
+
+    @Bean
+    ForwardCursor forwardCursor(final DataSource dataSource, final ExportProperties props) {
+        return new ForwardCursor(dataSource, props.getChunkSize());
+    }
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration;
+
+import com.fullcycle.admin.catalog.infraestructure.metrics.UseCaseInstrumentation;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Static so the post processor is created before the use cases, the registry is only resolved when the first one
+     * is wrapped and so still gets all of its own post processing.
+     */
+    @Bean
+    @ConditionalOnProperty(value = "metrics.use-cases.enabled", havingValue = "true", matchIfMissing = true)
+    static UseCaseInstrumentation useCaseInstrumentation(final ObjectProvider<MeterRegistry> registry) {
+        return new UseCaseInstrumentation(registry);
+    }
+}
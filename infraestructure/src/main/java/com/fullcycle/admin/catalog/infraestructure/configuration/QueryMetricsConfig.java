@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration;
+
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.QueryMetricsProperties;
+import com.fullcycle.admin.catalog.infraestructure.metrics.DataSourceInstrumentation;
+import com.fullcycle.admin.catalog.infraestructure.metrics.GatewayQueryAttribution;
+import com.fullcycle.admin.catalog.infraestructure.metrics.QueryMetrics;
+import com.fullcycle.admin.catalog.infraestructure.metrics.RequestQueriesFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Counts and times the SQL statements by the gateway method and by the HTTP request that ran them.
+ */
+@Configuration
+@ConditionalOnProperty(value = "metrics.queries.enabled", havingValue = "true")
+public class QueryMetricsConfig {
+
+    /**
+     * Both post processors are static so they are registered before the data source and the gateways are created.
+     */
+    @Bean
+    static DataSourceInstrumentation dataSourceInstrumentation(final ObjectProvider<QueryMetrics> metrics) {
+        return new DataSourceInstrumentation(metrics);
+    }
+
+    @Bean
+    static GatewayQueryAttribution gatewayQueryAttribution() {
+        return new GatewayQueryAttribution();
+    }
+
+    @Bean
+    @ConfigurationProperties("metrics.queries")
+    QueryMetricsProperties queryMetricsProperties() {
+        return new QueryMetricsProperties();
+    }
+
+    @Bean
+    QueryMetrics queryMetrics(final QueryMetricsProperties props, final ObjectProvider<MeterRegistry> registry) {
+        return new QueryMetrics(registry.getIfAvailable(SimpleMeterRegistry::new), props.getSlowThreshold());
+    }
+
+    @Bean
+    RequestQueriesFilter requestQueriesFilter(
+            final QueryMetricsProperties props,
+            final ObjectProvider<MeterRegistry> registry
+    ) {
+        return new RequestQueriesFilter(registry.getIfAvailable(SimpleMeterRegistry::new), props.getRequestStatementsWarning());
+    }
+}
@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration;
+
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.SearchProperties;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.VideoIndexProperties;
+import com.fullcycle.admin.catalog.infraestructure.search.TextSearch;
+import com.fullcycle.admin.catalog.infraestructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalog.infraestructure.video.search.LuceneVideoIndex;
+import com.fullcycle.admin.catalog.infraestructure.video.search.VideoIndexLoader;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Clock;
+
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    @ConfigurationProperties("search.full-text")
+    SearchProperties searchProperties() {
+        return new SearchProperties();
+    }
+
+    @Bean
+    TextSearch textSearch(final SearchProperties props) {
+        return new TextSearch(props.isEnabled(), props.getMinTokenSize());
+    }
+
+    @Bean
+    @ConfigurationProperties("search.video-index")
+    VideoIndexProperties videoIndexProperties() {
+        return new VideoIndexProperties();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(value = "search.video-index.enabled", havingValue = "true")
+    LuceneVideoIndex luceneVideoIndex(final VideoIndexProperties props) {
+        final var path = props.getPath() == null || props.getPath().isBlank() ? null : Path.of(props.getPath());
+        return new LuceneVideoIndex(path, Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "search.video-index.enabled", havingValue = "true")
+    VideoIndexLoader videoIndexLoader(
+            final LuceneVideoIndex index,
+            final VideoRepository videoRepository,
+            final PlatformTransactionManager transactionManager,
+            final VideoIndexProperties props
+    ) {
+        final var transactions = new TransactionTemplate(transactionManager);
+        transactions.setReadOnly(true);
+
+        return new VideoIndexLoader(
+                index,
+                videoRepository,
+                transactions,
+                Clock.systemUTC(),
+                props.getBatchSize(),
+                props.getCatchUpMargin()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Spring Boot only creates its {@code applicationTaskExecutor} when there is no other {@link java.util.concurrent.Executor}
+ * bean, and the media store and video creation executors make it back off. Spring MVC would then run the async
+ * requests, as the streamed bulk import reports, on a {@code SimpleAsyncTaskExecutor} starting a new thread for each
+ * one. It is declared here, bounded by {@code spring.task.execution.pool}. With {@code virtual-threads.enabled} the MVC
+ * async support uses the request executor instead.
+ */
+@Configuration
+public class TaskExecutionConfig {
+
+    @Lazy
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public ThreadPoolTaskExecutor applicationTaskExecutor(final TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
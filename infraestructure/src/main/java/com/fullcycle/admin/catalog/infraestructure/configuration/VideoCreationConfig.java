@@ -0,0 +1,78 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration;
+
+import com.fullcycle.admin.catalog.infraestructure.configuration.annotations.VideoCreationExecutor;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.VideoCreationProperties;
+import com.fullcycle.admin.catalog.infraestructure.video.MediaStaging;
+import com.fullcycle.admin.catalog.infraestructure.video.VideoCreationMySQLGateway;
+import com.fullcycle.admin.catalog.infraestructure.video.VideoCreationRecovery;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class VideoCreationConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "video-creation")
+    public VideoCreationProperties videoCreationProperties() { return new VideoCreationProperties(); }
+
+    @Bean(destroyMethod = "shutdown")
+    @VideoCreationExecutor
+    public ExecutorService videoCreationExecutor(final VideoCreationProperties prop) {
+        // bounded queue, when it is full new creations are refused instead of piling up staged medias on disk
+        final var count = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                prop.getConcurrency(),
+                prop.getConcurrency(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(prop.getQueueCapacity()),
+                task -> new Thread(task, "video-creation-" + count.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Bean
+    public VideoCreationMySQLGateway videoCreationGateway(final JdbcOperations jdbc, final VideoCreationProperties prop) {
+        return new VideoCreationMySQLGateway(jdbc, instanceId(prop));
+    }
+
+    @Bean
+    public MediaStaging mediaStaging(final VideoCreationProperties prop) {
+        final var directory = prop.getStagingDirectory() != null
+                ? Path.of(prop.getStagingDirectory())
+                : Path.of(System.getProperty("java.io.tmpdir"), "admin-videos-staging");
+        // one folder per instance, so a restart only deletes the medias its previous process left behind
+        return new MediaStaging(directory.resolve(instanceId(prop)));
+    }
+
+    @Bean
+    public VideoCreationRecovery videoCreationRecovery(
+            final VideoCreationMySQLGateway gateway,
+            final MediaStaging staging,
+            final VideoCreationProperties prop
+    ) {
+        return new VideoCreationRecovery(gateway, staging, prop.getRetention(), prop.getStaleAfter());
+    }
+
+    private static String instanceId(final VideoCreationProperties prop) {
+        if (prop.getInstanceId() != null && !prop.getInstanceId().isBlank()) {
+            return prop.getInstanceId();
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (final UnknownHostException e) {
+            throw new IllegalStateException("Could not resolve the host name, set video-creation.instance-id", e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration;
+
+import com.fullcycle.admin.catalog.infraestructure.concurrency.DataSourceLimiting;
+import com.fullcycle.admin.catalog.infraestructure.concurrency.VirtualThreads;
+import com.fullcycle.admin.catalog.infraestructure.configuration.annotations.RequestExecutor;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.VirtualThreadsProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Serves each request on its own virtual thread instead of on the Undertow workers, which are left to hand the
+ * requests over. Requests blocked on MySQL, the storage or RabbitMQ then no longer hold platform threads, so a few slow
+ * uploads can't starve the reads.
+ * <p>
+ * The database connections are limited to the Hikari pool size, the requests above it wait for a free connection
+ * instead of failing on the short pool timeout. MySQL Connector/J still holds a {@code synchronized} lock around its
+ * socket reads, pinning the carrier thread, so the JDBC calls running at once are also bounded by
+ * {@code jdk.virtualThreadScheduler.parallelism}, which defaults to the number of cores.
+ */
+@Configuration
+@ConditionalOnProperty(value = "virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    /**
+     * Static so the post processor is registered before the data source is created.
+     */
+    @Bean
+    static DataSourceLimiting dataSourceLimiting(final ObjectProvider<VirtualThreadsProperties> props) {
+        return new DataSourceLimiting(() -> props.getObject().getDatabaseWaitTimeout());
+    }
+
+    @Bean
+    @ConfigurationProperties("virtual-threads")
+    VirtualThreadsProperties virtualThreadsProperties() {
+        return new VirtualThreadsProperties();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @RequestExecutor
+    ExecutorService requestExecutor() {
+        return VirtualThreads.executor("http-");
+    }
+
+    @Bean
+    WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadRequests(
+            @RequestExecutor final ExecutorService executor
+    ) {
+        return factory -> factory.addDeploymentInfoCustomizers(deployment -> deployment
+                .setExecutor(executor)
+                .setAsyncExecutor(executor)
+        );
+    }
+
+    /**
+     * Streamed responses, as the bulk import reports, are written from the MVC task executor rather than from the
+     * request thread.
+     */
+    @Bean
+    WebMvcConfigurer virtualThreadStreaming(@RequestExecutor final ExecutorService executor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(new TaskExecutorAdapter(executor));
+            }
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration.properties;
+
+public class BulkImportProperties {
+    private int batchSize = 1000;
+
+    public BulkImportProperties() {}
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
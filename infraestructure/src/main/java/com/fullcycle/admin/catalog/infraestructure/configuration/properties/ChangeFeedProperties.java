@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration.properties;
+
+import java.time.Duration;
+
+public class ChangeFeedProperties {
+    private Duration settleTime = Duration.ofSeconds(5);
+    private Duration tombstoneRetention = Duration.ofDays(30);
+    private int maxLimit = 1000;
+
+    public ChangeFeedProperties() {}
+
+    public Duration getSettleTime() {
+        return settleTime;
+    }
+
+    public void setSettleTime(Duration settleTime) {
+        this.settleTime = settleTime;
+    }
+
+    public Duration getTombstoneRetention() {
+        return tombstoneRetention;
+    }
+
+    public void setTombstoneRetention(Duration tombstoneRetention) {
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+}
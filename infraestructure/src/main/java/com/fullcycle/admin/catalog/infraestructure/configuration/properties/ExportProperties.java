@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration.properties;
+
+public class ExportProperties {
+    private int chunkSize = 1000;
+
+    public ExportProperties() {}
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+}
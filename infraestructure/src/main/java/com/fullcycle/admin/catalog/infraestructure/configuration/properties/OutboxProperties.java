@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration.properties;
+
+import java.time.Duration;
+
+public class OutboxProperties {
+    private int batchSize = 100;
+    private Duration claimTimeout = Duration.ofMinutes(1);
+
+    public OutboxProperties() {}
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getClaimTimeout() {
+        return claimTimeout;
+    }
+
+    public void setClaimTimeout(Duration claimTimeout) {
+        this.claimTimeout = claimTimeout;
+    }
+}
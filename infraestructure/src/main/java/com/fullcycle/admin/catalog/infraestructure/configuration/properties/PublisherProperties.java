@@ -0,0 +1,44 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration.properties;
+
+import java.time.Duration;
+
+public class PublisherProperties {
+    private int batchSize = 100;
+    private Duration linger = Duration.ofMillis(5);
+    private int maxUnconfirmed = 1000;
+    private Duration confirmTimeout = Duration.ofSeconds(5);
+
+    public PublisherProperties() {}
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getLinger() {
+        return linger;
+    }
+
+    public void setLinger(Duration linger) {
+        this.linger = linger;
+    }
+
+    public int getMaxUnconfirmed() {
+        return maxUnconfirmed;
+    }
+
+    public void setMaxUnconfirmed(int maxUnconfirmed) {
+        this.maxUnconfirmed = maxUnconfirmed;
+    }
+
+    public Duration getConfirmTimeout() {
+        return confirmTimeout;
+    }
+
+    public void setConfirmTimeout(Duration confirmTimeout) {
+        this.confirmTimeout = confirmTimeout;
+    }
+}
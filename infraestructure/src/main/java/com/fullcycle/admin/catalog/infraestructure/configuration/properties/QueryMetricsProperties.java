@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration.properties;
+
+import java.time.Duration;
+
+public class QueryMetricsProperties {
+    private Duration slowThreshold = Duration.ofMillis(200);
+    private int requestStatementsWarning = 30;
+
+    public QueryMetricsProperties() {}
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+
+    public int getRequestStatementsWarning() {
+        return requestStatementsWarning;
+    }
+
+    public void setRequestStatementsWarning(int requestStatementsWarning) {
+        this.requestStatementsWarning = requestStatementsWarning;
+    }
+}
@@ -11,6 +11,8 @@ public class QueueProperties implements InitializingBean {
     private String exchange;
     private String routingKey;
     private String queue;
+    private String deadLetterQueue;
+    private String legacyQueue;
 
     public String getExchange() {
         return exchange;
@@ -36,12 +38,30 @@ public class QueueProperties implements InitializingBean {
         this.queue = queue;
     }
 
+    public String getDeadLetterQueue() {
+        return deadLetterQueue;
+    }
+
+    public void setDeadLetterQueue(String deadLetterQueue) {
+        this.deadLetterQueue = deadLetterQueue;
+    }
+
+    public String getLegacyQueue() {
+        return legacyQueue;
+    }
+
+    public void setLegacyQueue(String legacyQueue) {
+        this.legacyQueue = legacyQueue;
+    }
+
     @Override
     public String toString() {
         return "QueueProperties{" +
                 "exchange='" + exchange + '\'' +
                 ", routingKey='" + routingKey + '\'' +
                 ", queue='" + queue + '\'' +
+                ", deadLetterQueue='" + deadLetterQueue + '\'' +
+                ", legacyQueue='" + legacyQueue + '\'' +
                 '}';
     }
 
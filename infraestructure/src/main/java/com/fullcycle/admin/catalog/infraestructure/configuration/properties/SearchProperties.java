@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration.properties;
+
+public class SearchProperties {
+    private boolean enabled = true;
+    private int minTokenSize = 3;
+
+    public SearchProperties() {}
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMinTokenSize() {
+        return minTokenSize;
+    }
+
+    public void setMinTokenSize(int minTokenSize) {
+        this.minTokenSize = minTokenSize;
+    }
+}
@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration.properties;
+
+import java.time.Duration;
+
+public class VideoIndexProperties {
+    private String path;
+    private int batchSize = 500;
+    private Duration catchUpMargin = Duration.ofMinutes(5);
+
+    public VideoIndexProperties() {}
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getCatchUpMargin() {
+        return catchUpMargin;
+    }
+
+    public void setCatchUpMargin(Duration catchUpMargin) {
+        this.catchUpMargin = catchUpMargin;
+    }
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration.properties;
+
+import java.time.Duration;
+
+public class VirtualThreadsProperties {
+    private Duration databaseWaitTimeout = Duration.ofSeconds(5);
+
+    public VirtualThreadsProperties() {}
+
+    public Duration getDatabaseWaitTimeout() {
+        return databaseWaitTimeout;
+    }
+
+    public void setDatabaseWaitTimeout(Duration databaseWaitTimeout) {
+        this.databaseWaitTimeout = databaseWaitTimeout;
+    }
+}
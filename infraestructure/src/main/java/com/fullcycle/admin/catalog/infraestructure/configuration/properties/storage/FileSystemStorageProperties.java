@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration.properties.storage;
+
+public class FileSystemStorageProperties {
+    private String root;
+
+    public FileSystemStorageProperties() {}
+
+    public String getRoot() {
+        return root;
+    }
+
+    public void setRoot(String root) {
+        this.root = root;
+    }
+}
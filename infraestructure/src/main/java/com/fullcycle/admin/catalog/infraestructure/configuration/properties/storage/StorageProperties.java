@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalog.infraestructure.configuration.properties.sto
 public class StorageProperties {
     private String locationPattern;
     private String filenamePattern;
+    private int storeConcurrency = 8;
 
     public StorageProperties() {}
 
@@ -21,4 +22,12 @@ public class StorageProperties {
     public void setFilenamePattern(String filenamePattern) {
         this.filenamePattern = filenamePattern;
     }
+
+    public int getStoreConcurrency() {
+        return storeConcurrency;
+    }
+
+    public void setStoreConcurrency(int storeConcurrency) {
+        this.storeConcurrency = storeConcurrency;
+    }
 }
@@ -1,9 +1,12 @@
 package com.fullcycle.admin.catalog.infraestructure.configuration.storage;
 
+import com.fullcycle.admin.catalog.infraestructure.configuration.annotations.MediaStoreExecutor;
 import com.fullcycle.admin.catalog.infraestructure.configuration.properties.GoogleStorageProperties;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.storage.FileSystemStorageProperties;
 import com.fullcycle.admin.catalog.infraestructure.configuration.properties.storage.StorageProperties;
 import com.fullcycle.admin.catalog.infraestructure.services.StorageService;
 import com.fullcycle.admin.catalog.infraestructure.services.impl.GCStorageService;
+import com.fullcycle.admin.catalog.infraestructure.services.local.FileSystemStorageService;
 import com.fullcycle.admin.catalog.infraestructure.services.local.InMemoryStorageService;
 import com.google.cloud.storage.Storage;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -12,6 +15,11 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 public class StorageConfig {
 
@@ -19,12 +27,34 @@ public class StorageConfig {
     @ConfigurationProperties(value = "storage.admin-videos")
     public StorageProperties storageProperties() { return new StorageProperties(); }
 
+    @Bean(destroyMethod = "shutdown")
+    @MediaStoreExecutor
+    public ExecutorService mediaStoreExecutor(final StorageProperties prop) {
+        final var count = new AtomicInteger();
+        return Executors.newFixedThreadPool(prop.getStoreConcurrency(), task -> {
+            final var thread = new Thread(task, "media-store-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     @Bean("storageService")
-    @Profile({"development", "production"})
+    @Profile("(development | production) & !filesystem")
     public StorageService gcStorageService(final GoogleStorageProperties prop, final Storage storage) {
         return new GCStorageService(prop.getBucket(), storage);
     }
 
+    @Bean
+    @Profile("filesystem")
+    @ConfigurationProperties(value = "storage.admin-videos.file-system")
+    public FileSystemStorageProperties fileSystemStorageProperties() { return new FileSystemStorageProperties(); }
+
+    @Bean("storageService")
+    @Profile("filesystem")
+    public StorageService fileSystemStorageService(final FileSystemStorageProperties prop) {
+        return new FileSystemStorageService(Path.of(prop.getRoot()));
+    }
+
     @Bean("storageService")
     @ConditionalOnMissingBean
     public StorageService inMemoryStorageService() {
@@ -1,9 +1,15 @@
 package com.fullcycle.admin.catalog.infraestructure.configuration.usecase;
 
+import com.fullcycle.admin.catalog.application.castmember.bulk.DefaultImportCastMembersUseCase;
+import com.fullcycle.admin.catalog.application.castmember.bulk.ImportCastMembersUseCase;
 import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.delete.DeleteCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.changes.DefaultListCastMemberChangesUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.changes.ListCastMemberChangesUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.export.DefaultExportCastMembersUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
@@ -11,6 +17,7 @@ import com.fullcycle.admin.catalog.application.castmember.retrieve.list.ListCast
 import com.fullcycle.admin.catalog.application.castmember.update.DefaultUpdateCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.update.UpdateCastMemberUseCase;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.BulkImportProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -49,5 +56,19 @@ public class CastMemberUseCaseConfig {
     public UpdateCastMemberUseCase updateCastMemberUseCase() {
         return new DefaultUpdateCastMemberUseCase(castMemberGateway);
     }
-}
 
+    @Bean
+    public ImportCastMembersUseCase importCastMembersUseCase(final BulkImportProperties props) {
+        return new DefaultImportCastMembersUseCase(castMemberGateway, props.getBatchSize());
+    }
+
+    @Bean
+    public ExportCastMembersUseCase exportCastMembersUseCase() {
+        return new DefaultExportCastMembersUseCase(castMemberGateway);
+    }
+
+    @Bean
+    public ListCastMemberChangesUseCase listCastMemberChangesUseCase() {
+        return new DefaultListCastMemberChangesUseCase(castMemberGateway);
+    }
+}
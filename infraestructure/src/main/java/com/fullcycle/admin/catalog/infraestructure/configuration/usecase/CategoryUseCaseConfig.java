@@ -1,9 +1,15 @@
 package com.fullcycle.admin.catalog.infraestructure.configuration.usecase;
 
+import com.fullcycle.admin.catalog.application.category.bulk.DefaultImportCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.bulk.ImportCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.create.DefaultCreateCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.changes.DefaultListCategoryChangesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.changes.ListCategoryChangesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalog.application.category.retrieve.list.DefaultListCategoriesUseCase;
@@ -11,6 +17,7 @@ import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCatego
 import com.fullcycle.admin.catalog.application.category.update.DefaultUpdateCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.BulkImportProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -47,4 +54,19 @@ public class CategoryUseCaseConfig {
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
     }
+
+    @Bean
+    public ImportCategoriesUseCase importCategoriesUseCase(final BulkImportProperties props) {
+        return new DefaultImportCategoriesUseCase(categoryGateway, props.getBatchSize());
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ListCategoryChangesUseCase listCategoryChangesUseCase() {
+        return new DefaultListCategoryChangesUseCase(categoryGateway);
+    }
 }
@@ -1,9 +1,15 @@
 package com.fullcycle.admin.catalog.infraestructure.configuration.usecase;
 
+import com.fullcycle.admin.catalog.application.genre.bulk.DefaultImportGenresUseCase;
+import com.fullcycle.admin.catalog.application.genre.bulk.ImportGenresUseCase;
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.create.DefaultCreateGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrieve.changes.DefaultListGenreChangesUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrieve.changes.ListGenreChangesUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrieve.export.DefaultExportGenresUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrieve.export.ExportGenresUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrieve.list.DefaultListGenreUseCase;
@@ -12,6 +18,7 @@ import com.fullcycle.admin.catalog.application.genre.update.DefaultUpdateGenreUs
 import com.fullcycle.admin.catalog.application.genre.update.UpdateGenreUseCase;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.BulkImportProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -53,4 +60,19 @@ public class GenreUseCaseConfig {
     public DeleteGenreUseCase deleteGenreUseCase() {
         return new DefaultDeleteGenreUseCase(genreGateway);
     }
+
+    @Bean
+    public ImportGenresUseCase importGenresUseCase(final BulkImportProperties props) {
+        return new DefaultImportGenresUseCase(genreGateway, categoryGateway, props.getBatchSize());
+    }
+
+    @Bean
+    public ExportGenresUseCase exportGenresUseCase() {
+        return new DefaultExportGenresUseCase(genreGateway);
+    }
+
+    @Bean
+    public ListGenreChangesUseCase listGenreChangesUseCase() {
+        return new DefaultListGenreChangesUseCase(genreGateway);
+    }
 }
@@ -0,0 +1,139 @@
+package com.fullcycle.admin.catalog.infraestructure.configuration.usecase;
+
+import com.fullcycle.admin.catalog.application.video.bulk.DefaultImportVideosUseCase;
+import com.fullcycle.admin.catalog.application.video.bulk.ImportVideosUseCase;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoUseCase;
+import com.fullcycle.admin.catalog.application.video.create.DefaultCreateVideoUseCase;
+import com.fullcycle.admin.catalog.application.video.create.async.AcceptVideoCreationUseCase;
+import com.fullcycle.admin.catalog.application.video.create.async.DefaultAcceptVideoCreationUseCase;
+import com.fullcycle.admin.catalog.application.video.create.async.DefaultGetVideoCreationUseCase;
+import com.fullcycle.admin.catalog.application.video.create.async.GetVideoCreationUseCase;
+import com.fullcycle.admin.catalog.application.video.create.async.VideoCreationGateway;
+import com.fullcycle.admin.catalog.application.video.media.get.DefaultGetMediaUseCase;
+import com.fullcycle.admin.catalog.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.abort.AbortMediaUploadUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.abort.DefaultAbortMediaUploadUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.complete.CompleteMediaUploadUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.complete.DefaultCompleteMediaUploadUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.initiate.DefaultInitiateMediaUploadUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.initiate.InitiateMediaUploadUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.part.DefaultUploadMediaPartUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.part.UploadMediaPartUseCase;
+import com.fullcycle.admin.catalog.application.video.media.update.BatchUpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalog.application.video.media.update.DefaultBatchUpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalog.application.video.retrieve.changes.DefaultListVideoChangesUseCase;
+import com.fullcycle.admin.catalog.application.video.retrieve.changes.ListVideoChangesUseCase;
+import com.fullcycle.admin.catalog.application.video.update.DefaultUpdateVideoUseCase;
+import com.fullcycle.admin.catalog.application.video.update.UpdateVideoUseCase;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.infraestructure.configuration.annotations.MediaStoreExecutor;
+import com.fullcycle.admin.catalog.infraestructure.configuration.annotations.VideoCreationExecutor;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.BulkImportProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+@Configuration
+public class VideoUseCaseConfig {
+
+    private final VideoGateway videoGateway;
+    private final CategoryGateway categoryGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final GenreGateway genreGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+    private final Executor mediaStoreExecutor;
+    private final VideoCreationGateway videoCreationGateway;
+    private final Executor videoCreationExecutor;
+
+    public VideoUseCaseConfig(
+            final VideoGateway videoGateway,
+            final CategoryGateway categoryGateway,
+            final CastMemberGateway castMemberGateway,
+            final GenreGateway genreGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            @MediaStoreExecutor final Executor mediaStoreExecutor,
+            final VideoCreationGateway videoCreationGateway,
+            @VideoCreationExecutor final Executor videoCreationExecutor
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaStoreExecutor = Objects.requireNonNull(mediaStoreExecutor);
+        this.videoCreationGateway = Objects.requireNonNull(videoCreationGateway);
+        this.videoCreationExecutor = Objects.requireNonNull(videoCreationExecutor);
+    }
+
+    @Bean
+    public CreateVideoUseCase createVideoUseCase() {
+        return new DefaultCreateVideoUseCase(
+                videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, mediaStoreExecutor
+        );
+    }
+
+    @Bean
+    public AcceptVideoCreationUseCase acceptVideoCreationUseCase() {
+        return new DefaultAcceptVideoCreationUseCase(createVideoUseCase(), videoCreationGateway, videoCreationExecutor);
+    }
+
+    @Bean
+    public GetVideoCreationUseCase getVideoCreationUseCase() {
+        return new DefaultGetVideoCreationUseCase(videoCreationGateway);
+    }
+
+    @Bean
+    public UpdateVideoUseCase updateVideoUseCase() {
+        return new DefaultUpdateVideoUseCase(
+                videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, mediaStoreExecutor
+        );
+    }
+
+    @Bean
+    public GetMediaUseCase getMediaUseCase() {
+        return new DefaultGetMediaUseCase(mediaResourceGateway);
+    }
+
+    @Bean
+    public InitiateMediaUploadUseCase initiateMediaUploadUseCase() {
+        return new DefaultInitiateMediaUploadUseCase(mediaResourceGateway, videoGateway);
+    }
+
+    @Bean
+    public UploadMediaPartUseCase uploadMediaPartUseCase() {
+        return new DefaultUploadMediaPartUseCase(mediaResourceGateway);
+    }
+
+    @Bean
+    public CompleteMediaUploadUseCase completeMediaUploadUseCase() {
+        return new DefaultCompleteMediaUploadUseCase(mediaResourceGateway, videoGateway);
+    }
+
+    @Bean
+    public AbortMediaUploadUseCase abortMediaUploadUseCase() {
+        return new DefaultAbortMediaUploadUseCase(mediaResourceGateway);
+    }
+
+    @Bean
+    public BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase() {
+        return new DefaultBatchUpdateMediaStatusUseCase(videoGateway);
+    }
+
+    @Bean
+    public ImportVideosUseCase importVideosUseCase(final BulkImportProperties props) {
+        return new DefaultImportVideosUseCase(
+                videoGateway, categoryGateway, castMemberGateway, genreGateway, props.getBatchSize()
+        );
+    }
+
+    @Bean
+    public ListVideoChangesUseCase listVideoChangesUseCase() {
+        return new DefaultListVideoChangesUseCase(videoGateway);
+    }
+}
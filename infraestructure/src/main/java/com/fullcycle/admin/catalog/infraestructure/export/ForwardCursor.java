@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalog.infraestructure.export;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Walks a table forward in key order, one chunk per query, handing the items over one at a time.
+ * <p>
+ * Each chunk is read whole and its connection goes back to the pool before the items are handed over, so a slow
+ * consumer, like a client downloading an export, never holds a connection and memory stays bounded by the chunk size.
+ * The walk isn't a snapshot: a row written during it shows up only if its key is ahead of the last one read.
+ */
+public class ForwardCursor {
+
+    private final JdbcTemplate jdbc;
+    private final int chunkSize;
+
+    public ForwardCursor(final DataSource dataSource, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param sql the query of one chunk: the items with a key greater than its first parameter, in key order and limited
+     *            to its second parameter
+     */
+    public <T> void forEach(
+            final String sql,
+            final RowMapper<T> mapper,
+            final Function<T, String> keyOf,
+            final Consumer<T> action
+    ) {
+        forEach(sql, new RowMapperResultSetExtractor<>(mapper), keyOf, action);
+    }
+
+    /**
+     * Same as {@link #forEach(String, RowMapper, Function, Consumer)}, for items folded from more than one row.
+     */
+    public <T> void forEach(
+            final String sql,
+            final ResultSetExtractor<List<T>> extractor,
+            final Function<T, String> keyOf,
+            final Consumer<T> action
+    ) {
+        var after = "";
+        while (true) {
+            final var chunk = jdbc.query(sql, extractor, after, chunkSize);
+            chunk.forEach(action);
+            if (chunk.size() < chunkSize) {
+                return;
+            }
+            after = keyOf.apply(chunk.get(chunk.size() - 1));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalog.infraestructure.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fullcycle.admin.catalog.infraestructure.configuration.json.Json;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Streams items as NDJSON while they are produced, serializing each one straight to the response.
+ * <p>
+ * The producers read through a {@link ForwardCursor}, so no database connection is held while the client downloads.
+ */
+public final class NdjsonExport {
+
+    private NdjsonExport() {
+    }
+
+    public static ResponseEntity<StreamingResponseBody> stream(final Consumer<Consumer<Object>> producer) {
+        final StreamingResponseBody body = output -> {
+            try (final var generator = Json.mapper().getFactory().createGenerator(output)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                producer.accept(item -> write(generator, item));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private static void write(final JsonGenerator generator, final Object item) {
+        try {
+            generator.writeObject(item);
+            generator.writeRaw('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
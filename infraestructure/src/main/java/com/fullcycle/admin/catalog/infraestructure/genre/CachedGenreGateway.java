@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalog.infraestructure.genre;
+
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.infraestructure.cache.AggregateCache;
+import com.fullcycle.admin.catalog.infraestructure.cache.IdMembership;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Reads genres by id through a cache, invalidated by the writes of this instance.
+ * Reference validations are answered from the ids known to exist. A delete also invalidates the cached aggregates
+ * referencing the deleted id, through {@code onDeleted}.
+ */
+public class CachedGenreGateway implements GenreGateway {
+
+    private final GenreGateway gateway;
+    private final AggregateCache<Genre> cache;
+    private final IdMembership members;
+    private final Consumer<GenreID> onDeleted;
+
+    public CachedGenreGateway(
+            final GenreGateway gateway,
+            final AggregateCache<Genre> cache,
+            final IdMembership members,
+            final Consumer<GenreID> onDeleted
+    ) {
+        this.gateway = Objects.requireNonNull(gateway);
+        this.cache = Objects.requireNonNull(cache);
+        this.members = Objects.requireNonNull(members);
+        this.onDeleted = Objects.requireNonNull(onDeleted);
+    }
+
+    @Override
+    public Genre create(final Genre genre) {
+        final var result = gateway.create(genre);
+        cache.invalidate(result.getId().getValue());
+        members.add(result.getId());
+        return result;
+    }
+
+    @Override
+    public List<Genre> createAll(final List<Genre> genres) {
+        final var result = gateway.createAll(genres);
+        result.forEach(it -> {
+            cache.invalidate(it.getId().getValue());
+            members.add(it.getId());
+        });
+        return result;
+    }
+
+    @Override
+    public void deleteById(final GenreID id) {
+        gateway.deleteById(id);
+        cache.invalidate(id.getValue());
+        members.remove(id);
+        onDeleted.accept(id);
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID id) {
+        return cache.get(id.getValue(), it -> gateway.findById(id));
+    }
+
+    @Override
+    public Genre update(final Genre genre) {
+        final var result = gateway.update(genre);
+        cache.invalidate(result.getId().getValue());
+        return result;
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery searchQuery) {
+        return gateway.findAll(searchQuery);
+    }
+
+    @Override
+    public void forEach(final Consumer<Genre> action) {
+        gateway.forEach(action);
+    }
+
+    @Override
+    public ChangeFeed<Genre> changesSince(final ChangeQuery query) {
+        return gateway.changesSince(query);
+    }
+
+    @Override
+    public List<GenreID> existsByIds(final Iterable<GenreID> ids) {
+        return members.existing(ids, gateway::existsByIds);
+    }
+}
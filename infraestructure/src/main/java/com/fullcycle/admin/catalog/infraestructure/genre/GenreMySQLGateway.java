@@ -1,32 +1,66 @@
 package com.fullcycle.admin.catalog.infraestructure.genre;
 
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.changes.Change;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
 import com.fullcycle.admin.catalog.domain.genre.Genre;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalog.infraestructure.changes.ChangeFeeds;
+import com.fullcycle.admin.catalog.infraestructure.export.ForwardCursor;
 import com.fullcycle.admin.catalog.infraestructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalog.infraestructure.genre.persistence.GenreRepository;
-import com.fullcycle.admin.catalog.infraestructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalog.infraestructure.search.TextSearch;
+import com.fullcycle.admin.catalog.infraestructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalog.infraestructure.utils.SqlUtils;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
-import static org.springframework.data.jpa.domain.Specification.where;
-
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String AGGREGATE = "genre";
+
     private final GenreRepository repository;
+    private final EntityManager entityManager;
+    private final TextSearch textSearch;
+    private final ForwardCursor cursor;
+    private final ChangeFeeds changeFeeds;
 
-    public GenreMySQLGateway(final GenreRepository repository) {
+    public GenreMySQLGateway(
+            final GenreRepository repository,
+            final EntityManager entityManager,
+            final TextSearch textSearch,
+            final ForwardCursor cursor,
+            final ChangeFeeds changeFeeds
+    ) {
         this.repository = Objects.requireNonNull(repository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.textSearch = Objects.requireNonNull(textSearch);
+        this.cursor = Objects.requireNonNull(cursor);
+        this.changeFeeds = Objects.requireNonNull(changeFeeds);
     }
 
     @Override
@@ -35,11 +69,21 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     @Override
+    @Transactional
+    public List<Genre> createAll(final List<Genre> genres) {
+        genres.forEach(it -> entityManager.persist(GenreJpaEntity.from(it)));
+        entityManager.flush();
+        return genres;
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final GenreID id) {
         final var genreID = id.getValue();
 
         if(repository.existsById(genreID)) {
             repository.deleteById(genreID);
+            changeFeeds.recordDeletion(AGGREGATE, genreID);
         }
     }
 
@@ -56,24 +100,103 @@ public class GenreMySQLGateway implements GenreGateway {
 
     @Override
     public Pagination<Genre> findAll(final SearchQuery query) {
+        if (query.isKeyset()) {
+            return findAllAfter(query);
+        }
+
+        final var idsPage = findIds(query);
+
+        return new Pagination<>(
+                idsPage.getNumber(),
+                idsPage.getSize(),
+                idsPage.getTotalElements(),
+                findAllWithCategories(idsPage.getContent())
+        );
+    }
+
+    private Page<String> findIds(final SearchQuery query) {
+        final var terms = Optional.ofNullable(query.terms())
+                .filter(str -> !str.isBlank())
+                .orElse(null);
+        final var relevance = TextSearch.isRelevance(query.sort());
+        final var fullTextQuery = textSearch.fullTextQuery(terms);
+
+        if (fullTextQuery.isPresent()) {
+            return relevance
+                    ? repository.findIdsByRelevance(fullTextQuery.get(), PageRequest.of(query.page(), query.perPage()))
+                    : repository.findIdsMatching(fullTextQuery.get(), PageRequest.of(
+                            query.page(),
+                            query.perPage(),
+                            TextSearch.sort(query.sort(), query.direction())
+                    ));
+        }
+
         final var page = PageRequest.of(
                 query.page(),
                 query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
+                relevance ? Sort.by(NAME, ID) : TextSearch.sort(query.sort(), query.direction())
         );
+        return repository.findIds(SqlUtils.like(terms), page);
+    }
 
-        final var where = Optional.ofNullable(query.terms())
-                        .filter(str -> !str.isBlank())
-                        .map(this::assembleSpecification)
-                        .orElse(null);
+    private Pagination<Genre> findAllAfter(final SearchQuery query) {
+        final Specification<GenreJpaEntity> where = textSearch.matching(query.terms(), NAME);
 
-        final var pageResult = repository.findAll(where(where), page);
+        final var keys = KeysetUtils.seek(
+                entityManager,
+                GenreJpaEntity.class,
+                where,
+                query.sort(),
+                query.direction(),
+                query.cursor(),
+                query.perPage() + 1
+        );
 
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList()
+        return KeysetUtils.page(
+                query.page(),
+                query.perPage(),
+                query.sort(),
+                query.direction(),
+                keys,
+                this::findAllWithCategories,
+                it -> it.getId().getValue()
+        );
+    }
+
+    private List<Genre> findAllWithCategories(final List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final var genres = repository.findAllWithCategories(ids).stream()
+                .collect(Collectors.toMap(GenreJpaEntity::getId, GenreJpaEntity::toAggregate));
+
+        return ids.stream()
+                .map(genres::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Pages by genre and joins each page with its categories in the same query, so a genre is never split between chunks.
+     */
+    @Override
+    public void forEach(final Consumer<Genre> action) {
+        cursor.forEach("""
+                SELECT g.id, g.name, g.active, g.created_at, g.updated_at, g.deleted_at, gc.category_id
+                FROM (SELECT * FROM genres WHERE id > ? ORDER BY id LIMIT ?) g
+                LEFT JOIN genres_categories gc ON gc.genre_id = g.id
+                ORDER BY g.id, gc.category_id
+                """, rs -> new GenreRows().extractData(rs), it -> it.getId().getValue(), action);
+    }
+
+    @Override
+    public ChangeFeed<Genre> changesSince(final ChangeQuery query) {
+        return changeFeeds.read(AGGREGATE, query, (after, until, limit) ->
+                findAllWithCategories(repository.findIdsChangedAfter(after.at(), after.id(), until, PageRequest.of(0, limit)))
+                        .stream()
+                        .map(it -> Change.saved(it.getId().getValue(), it.getCreatedAt(), it.getUpdatedAt(), it))
+                        .toList()
         );
     }
 
@@ -87,11 +210,57 @@ public class GenreMySQLGateway implements GenreGateway {
                 .toList();
     }
 
-    private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
-    }
-
     private Genre save(Genre genre) {
         return repository.save(GenreJpaEntity.from(genre)).toAggregate();
     }
+
+    /**
+     * Folds the consecutive rows of each genre, one per category, back into the genre.
+     */
+    private static class GenreRows implements ResultSetExtractor<List<Genre>> {
+
+        private final List<Genre> genres = new ArrayList<>();
+        private String id;
+        private String name;
+        private boolean active;
+        private Instant createdAt;
+        private Instant updatedAt;
+        private Instant deletedAt;
+        private List<CategoryID> categories;
+
+        @Override
+        public List<Genre> extractData(final ResultSet rs) throws SQLException {
+            while (rs.next()) {
+                processRow(rs);
+            }
+            finish();
+            return genres;
+        }
+
+        private void processRow(final ResultSet rs) throws SQLException {
+            final var rowId = rs.getString("id");
+            if (!rowId.equals(id)) {
+                finish();
+                id = rowId;
+                name = rs.getString("name");
+                active = rs.getBoolean("active");
+                createdAt = SqlUtils.instant(rs, "created_at");
+                updatedAt = SqlUtils.instant(rs, "updated_at");
+                deletedAt = SqlUtils.instant(rs, "deleted_at");
+                categories = new ArrayList<>();
+            }
+
+            final var categoryId = rs.getString("category_id");
+            if (categoryId != null) {
+                categories.add(CategoryID.from(categoryId));
+            }
+        }
+
+        private void finish() {
+            if (id != null) {
+                genres.add(Genre.with(GenreID.from(id), name, active, categories, createdAt, updatedAt, deletedAt));
+                id = null;
+            }
+        }
+    }
 }
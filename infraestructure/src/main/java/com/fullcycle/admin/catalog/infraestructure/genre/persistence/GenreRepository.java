@@ -2,16 +2,59 @@ package com.fullcycle.admin.catalog.infraestructure.genre.persistence;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
-    Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
+
+    /**
+     * Pages only the ids, so the eager categories of each genre are not loaded one select at a time.
+     */
+    @Query(
+            value = "select g.id from Genre g where ( :terms is null or UPPER(g.name) like :terms )",
+            countQuery = "select count(g) from Genre g where ( :terms is null or UPPER(g.name) like :terms )"
+    )
+    Page<String> findIds(@Param("terms") String terms, Pageable page);
+
+    @Query(
+            value = "select g.id from Genre g where match_against(g.name, :query) > 0",
+            countQuery = "select count(g) from Genre g where match_against(g.name, :query) > 0"
+    )
+    Page<String> findIdsMatching(@Param("query") String query, Pageable page);
+
+    @Query(
+            value = """
+                    select g.id from Genre g
+                    where match_against(g.name, :query) > 0
+                    order by match_against(g.name, :query) desc, g.id
+                    """,
+            countQuery = "select count(g) from Genre g where match_against(g.name, :query) > 0"
+    )
+    Page<String> findIdsByRelevance(@Param("query") String query, Pageable page);
+
+    @Query(value = "select distinct g from Genre g left join fetch g.categories where g.id in :ids")
+    List<GenreJpaEntity> findAllWithCategories(@Param("ids") Collection<String> ids);
 
     @Query(value = "select g.id from Genre g where g.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select g.id from Genre g")
+    List<String> findAllIds();
+
+    @Query(value = """
+            select g.id from Genre g
+            where g.updatedAt >= :at and (g.updatedAt > :at or g.id > :id) and g.updatedAt < :until
+            order by g.updatedAt, g.id
+            """)
+    List<String> findIdsChangedAfter(
+            @Param("at") Instant at,
+            @Param("id") String id,
+            @Param("until") Instant until,
+            Pageable page
+    );
 }
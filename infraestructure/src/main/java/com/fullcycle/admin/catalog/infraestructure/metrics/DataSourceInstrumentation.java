@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalog.infraestructure.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+
+/**
+ * Wraps the {@link DataSource} beans so every statement, and every row read from its results, goes through
+ * {@link QueryMetrics}.
+ */
+public class DataSourceInstrumentation implements BeanPostProcessor {
+
+    private final ObjectProvider<QueryMetrics> metrics;
+
+    public DataSourceInstrumentation(final ObjectProvider<QueryMetrics> metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+
+        final var listener = metrics.getIfAvailable();
+        if (listener == null) {
+            return bean;
+        }
+
+        return ProxyDataSourceBuilder.create(beanName, dataSource)
+                .listener(listener)
+                .methodListener(listener)
+                .proxyResultSet()
+                .build();
+    }
+}
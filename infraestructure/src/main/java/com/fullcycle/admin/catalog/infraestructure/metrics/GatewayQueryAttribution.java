@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalog.infraestructure.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Proxies the gateway beans so the statements they run are attributed to them, as {@code DefaultVideoGateway.findAll}.
+ * <p>
+ * The advice goes before the existing ones, so the statements flushed when a {@code @Transactional} gateway method
+ * commits are attributed to it as well.
+ */
+public class GatewayQueryAttribution extends AbstractAdvisingBeanPostProcessor {
+
+    private static final String BASE_PACKAGE = "com.fullcycle.admin.catalog.";
+
+    public GatewayQueryAttribution() {
+        this.advisor = new DefaultPointcutAdvisor(new GatewayMethods(), new Attributed());
+        this.beforeExistingAdvisors = true;
+        setProxyTargetClass(true);
+    }
+
+    static Set<Class<?>> gatewaysOf(final Class<?> type) {
+        return ClassUtils.getAllInterfacesForClassAsSet(type).stream()
+                .filter(it -> it.getName().startsWith(BASE_PACKAGE) && it.getSimpleName().endsWith("Gateway"))
+                .collect(Collectors.toSet());
+    }
+
+    private static final class GatewayMethods extends StaticMethodMatcherPointcut {
+
+        private GatewayMethods() {
+            setClassFilter(type -> !gatewaysOf(type).isEmpty());
+        }
+
+        @Override
+        public boolean matches(final Method method, final Class<?> targetClass) {
+            return gatewaysOf(targetClass).stream()
+                    .anyMatch(it -> ClassUtils.hasMethod(it, method.getName(), method.getParameterTypes()));
+        }
+    }
+
+    private static final class Attributed implements MethodInterceptor {
+
+        @Override
+        public Object invoke(final MethodInvocation invocation) throws Throwable {
+            final var target = invocation.getThis();
+            final var type = target != null ? ClassUtils.getUserClass(target) : invocation.getMethod().getDeclaringClass();
+            QueryContext.enter(type.getSimpleName() + "." + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                QueryContext.exit();
+            }
+        }
+    }
+}
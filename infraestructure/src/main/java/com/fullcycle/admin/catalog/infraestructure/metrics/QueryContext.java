@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalog.infraestructure.metrics;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The gateway method running on the current thread and the statements of the HTTP request it is serving, if any.
+ * <p>
+ * Gateways call each other, as the cached gateways delegating to the MySQL ones, so the callers are kept as a stack and
+ * statements are attributed to the innermost.
+ */
+final class QueryContext {
+
+    static final String NO_GATEWAY = "other";
+
+    private static final ThreadLocal<Deque<String>> CALLERS = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<RequestQueries> REQUEST = new ThreadLocal<>();
+
+    private QueryContext() {}
+
+    static void enter(final String caller) {
+        CALLERS.get().push(caller);
+    }
+
+    static void exit() {
+        CALLERS.get().pop();
+    }
+
+    static String caller() {
+        final var caller = CALLERS.get().peek();
+        return caller != null ? caller : NO_GATEWAY;
+    }
+
+    static RequestQueries beginRequest() {
+        final var queries = new RequestQueries();
+        REQUEST.set(queries);
+        return queries;
+    }
+
+    static void endRequest() {
+        REQUEST.remove();
+    }
+
+    static RequestQueries request() {
+        return REQUEST.get();
+    }
+}
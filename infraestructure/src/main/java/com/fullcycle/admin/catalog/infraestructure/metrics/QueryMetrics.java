@@ -0,0 +1,114 @@
+package com.fullcycle.admin.catalog.infraestructure.metrics;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Listens to the statements of the proxied {@link javax.sql.DataSource} and attributes them to the gateway method that
+ * ran them, or to {@value QueryContext#NO_GATEWAY} when no gateway is running.
+ * <p>
+ * Statements are timed under {@code db.statements} and the rows read from their results counted under {@code db.rows},
+ * both tagged with the caller. A batch counts as a single statement, it is one round trip. Statements slower than the
+ * threshold are logged with their SQL only: bind parameters are never logged and quoted literals are replaced by
+ * {@code ?}.
+ */
+public class QueryMetrics implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryMetrics.class);
+
+    private static final String START = QueryMetrics.class.getName() + ".start";
+    private static final Pattern QUOTED_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+
+    private final MeterRegistry registry;
+    private final Clock clock;
+    private final long slowThreshold;
+    private final Map<String, CallerMeters> meters = new ConcurrentHashMap<>();
+
+    public QueryMetrics(final MeterRegistry registry, final Duration slowThreshold) {
+        this.registry = Objects.requireNonNull(registry);
+        this.clock = registry.config().clock();
+        this.slowThreshold = slowThreshold.toNanos();
+    }
+
+    @Override
+    public void beforeQuery(final ExecutionInfo execution, final List<QueryInfo> queries) {
+        execution.addCustomValue(START, clock.monotonicTime());
+    }
+
+    @Override
+    public void afterQuery(final ExecutionInfo execution, final List<QueryInfo> queries) {
+        final var elapsed = clock.monotonicTime() - execution.getCustomValue(START, Long.class);
+        final var caller = QueryContext.caller();
+
+        metersOf(caller).statements.record(elapsed, TimeUnit.NANOSECONDS);
+        final var request = QueryContext.request();
+        if (request != null) {
+            request.statement(caller, elapsed);
+        }
+
+        if (elapsed >= slowThreshold) {
+            log.warn(
+                    "Slow statement in {} took {}ms{}: {}",
+                    caller,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    execution.isBatch() ? " for a batch of " + execution.getBatchSize() : "",
+                    queries.stream().map(it -> redact(it.getQuery())).distinct().collect(Collectors.joining("; "))
+            );
+        }
+    }
+
+    @Override
+    public void beforeMethod(final MethodExecutionContext context) {
+    }
+
+    /**
+     * Counts the rows as they are read, every call of the proxied connections, statements and results ends up here.
+     */
+    @Override
+    public void afterMethod(final MethodExecutionContext context) {
+        if (!"next".equals(context.getMethod().getName())
+                || !(context.getTarget() instanceof ResultSet)
+                || !Boolean.TRUE.equals(context.getResult())) {
+            return;
+        }
+
+        metersOf(QueryContext.caller()).rows.increment();
+        final var request = QueryContext.request();
+        if (request != null) {
+            request.row();
+        }
+    }
+
+    static String redact(final String sql) {
+        return QUOTED_LITERAL.matcher(sql).replaceAll("?");
+    }
+
+    private CallerMeters metersOf(final String caller) {
+        return meters.computeIfAbsent(caller, it -> new CallerMeters(
+                Timer.builder("db.statements").tag("caller", it).register(registry),
+                Counter.builder("db.rows").tag("caller", it).register(registry)
+        ));
+    }
+
+    private record CallerMeters(Timer statements, Counter rows) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalog.infraestructure.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Statements run while serving one HTTP request. Only the thread serving the request updates it.
+ */
+final class RequestQueries {
+
+    private final Map<String, Integer> statementsByCaller = new HashMap<>();
+    private int statements;
+    private long nanos;
+    private long rows;
+
+    void statement(final String caller, final long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        statementsByCaller.merge(caller, 1, Integer::sum);
+    }
+
+    void row() {
+        rows++;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long nanos() {
+        return nanos;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    /**
+     * @return the callers that ran the most statements, as {@code DefaultVideoGateway.findById x40}
+     */
+    String topCallers(final int limit) {
+        return statementsByCaller.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(limit)
+                .map(it -> it.getKey() + " x" + it.getValue())
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,82 @@
+package com.fullcycle.admin.catalog.infraestructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums the statements run while serving each request, tagged with its method and route.
+ * <p>
+ * Records how many statements ran under {@code db.request.statements}, the time spent on them under
+ * {@code db.request.time} and the rows read under {@code db.request.rows}. A request running more statements than the
+ * warning threshold is logged with the gateway methods that ran the most, it usually is an N+1 query.
+ */
+public class RequestQueriesFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestQueriesFilter.class);
+
+    private final MeterRegistry registry;
+    private final int statementsWarning;
+
+    public RequestQueriesFilter(final MeterRegistry registry, final int statementsWarning) {
+        this.registry = Objects.requireNonNull(registry);
+        this.statementsWarning = statementsWarning;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) throws ServletException, IOException {
+        final var queries = QueryContext.beginRequest();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryContext.endRequest();
+            record(request, queries);
+        }
+    }
+
+    private void record(final HttpServletRequest request, final RequestQueries queries) {
+        final var method = request.getMethod();
+        final var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        final var uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("db.request.statements")
+                .tags("method", method, "uri", uri)
+                .register(registry)
+                .record(queries.statements());
+        Timer.builder("db.request.time")
+                .tags("method", method, "uri", uri)
+                .register(registry)
+                .record(queries.nanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("db.request.rows")
+                .tags("method", method, "uri", uri)
+                .register(registry)
+                .record(queries.rows());
+
+        if (queries.statements() > statementsWarning) {
+            log.warn(
+                    "{} {} ran {} statements in {}ms, most from {}",
+                    method,
+                    request.getRequestURI(),
+                    queries.statements(),
+                    TimeUnit.NANOSECONDS.toMillis(queries.nanos()),
+                    queries.topCallers(3)
+            );
+        }
+    }
+}
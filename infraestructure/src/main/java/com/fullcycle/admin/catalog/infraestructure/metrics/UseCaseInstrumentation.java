@@ -0,0 +1,117 @@
+package com.fullcycle.admin.catalog.infraestructure.metrics;
+
+import com.fullcycle.admin.catalog.application.UnitUseCase;
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vavr.control.Either;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.NameMatchMethodPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Wraps every {@link UseCase} and {@link UnitUseCase} bean in a proxy that measures its {@code execute}.
+ * <p>
+ * Executions are timed under {@code usecase.executions}, tagged with the use case and an outcome: {@code success},
+ * {@code failure} for a left {@link Either} or a thrown {@link DomainException}, and {@code error} for any other
+ * exception. Thrown exceptions are also counted by class under {@code usecase.exceptions}, and
+ * {@code usecase.in.flight} gauges the executions running. The meters of a use case are registered when it is wrapped,
+ * so an execution only reads the clock and updates them.
+ */
+public class UseCaseInstrumentation implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> registry;
+
+    public UseCaseInstrumentation(final ObjectProvider<MeterRegistry> registry) {
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!(bean instanceof UseCase<?, ?>) && !(bean instanceof UnitUseCase<?>)) {
+            return bean;
+        }
+
+        final var meters = registry.getIfAvailable();
+        if (meters == null) {
+            return bean;
+        }
+
+        final var advisor = new NameMatchMethodPointcutAdvisor(new Measured(nameOf(bean.getClass()), meters));
+        advisor.setMappedName("execute");
+
+        final var proxy = new ProxyFactory(bean);
+        proxy.setProxyTargetClass(true);
+        proxy.addAdvisor(advisor);
+        return proxy.getProxy(bean.getClass().getClassLoader());
+    }
+
+    /**
+     * @return the abstract use case implemented, as {@code CreateCategoryUseCase} for {@code DefaultCreateCategoryUseCase}
+     */
+    static String nameOf(final Class<?> type) {
+        var current = type;
+        while (current.getSuperclass() != null
+                && current.getSuperclass() != UseCase.class
+                && current.getSuperclass() != UnitUseCase.class) {
+            current = current.getSuperclass();
+        }
+        return current.getSuperclass() != null ? current.getSimpleName() : type.getSimpleName();
+    }
+
+    private static final class Measured implements MethodInterceptor {
+
+        private final String useCase;
+        private final MeterRegistry registry;
+        private final Clock clock;
+        private final Timer success;
+        private final Timer failure;
+        private final Timer error;
+        private final AtomicInteger inFlight;
+
+        private Measured(final String useCase, final MeterRegistry registry) {
+            this.useCase = useCase;
+            this.registry = registry;
+            this.clock = registry.config().clock();
+            this.success = timer("success");
+            this.failure = timer("failure");
+            this.error = timer("error");
+            this.inFlight = registry.gauge("usecase.in.flight", Tags.of("usecase", useCase), new AtomicInteger());
+        }
+
+        @Override
+        public Object invoke(final MethodInvocation invocation) throws Throwable {
+            inFlight.incrementAndGet();
+            final var start = clock.monotonicTime();
+            try {
+                final var result = invocation.proceed();
+                final var outcome = result instanceof Either<?, ?> either && either.isLeft() ? failure : success;
+                outcome.record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (final Throwable t) {
+                (t instanceof DomainException ? failure : error).record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+                registry.counter("usecase.exceptions", "usecase", useCase, "exception", t.getClass().getSimpleName())
+                        .increment();
+                throw t;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private Timer timer(final String outcome) {
+            return Timer.builder("usecase.executions")
+                    .tags("usecase", useCase, "outcome", outcome)
+                    .register(registry);
+        }
+    }
+}
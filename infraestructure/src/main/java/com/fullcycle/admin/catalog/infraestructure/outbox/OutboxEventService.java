@@ -0,0 +1,74 @@
+package com.fullcycle.admin.catalog.infraestructure.outbox;
+
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.infraestructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infraestructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalog.infraestructure.outbox.persistence.OutboxEventRepository;
+import com.fullcycle.admin.catalog.infraestructure.services.EventService;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes the events to the outbox table in the transaction of the caller, {@link OutboxRelay} publishes them later.
+ */
+public class OutboxEventService implements EventService {
+
+    private static final String INSERT = """
+            INSERT INTO outbox_events (exchange, routing_key, event_type, payload, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final String exchange;
+    private final String routingKey;
+    private final OutboxEventRepository outboxEventRepository;
+    private final JdbcOperations jdbc;
+
+    public OutboxEventService(
+            final String exchange,
+            final String routingKey,
+            final OutboxEventRepository outboxEventRepository,
+            final JdbcOperations jdbc
+    ) {
+        this.exchange = Objects.requireNonNull(exchange);
+        this.routingKey = Objects.requireNonNull(routingKey);
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+        this.jdbc = Objects.requireNonNull(jdbc);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void send(final Object event) {
+        outboxEventRepository.save(OutboxEventJpaEntity.with(
+                exchange,
+                routingKey,
+                event.getClass().getSimpleName(),
+                Json.writeValueAsString(event),
+                InstantUtils.now()
+        ));
+    }
+
+    /**
+     * Inserts the events in a single JDBC batch, the generated ids keep Hibernate from batching the entity inserts.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendAll(final List<?> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        final var createdAt = Timestamp.from(InstantUtils.now());
+        jdbc.batchUpdate(INSERT, events, events.size(), (statement, event) -> {
+            statement.setString(1, exchange);
+            statement.setString(2, routingKey);
+            statement.setString(3, event.getClass().getSimpleName());
+            statement.setString(4, Json.writeValueAsString(event));
+            statement.setTimestamp(5, createdAt);
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package com.fullcycle.admin.catalog.infraestructure.outbox;
+
+import com.fullcycle.admin.catalog.domain.utils.IdUtils;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.infraestructure.outbox.persistence.OutboxEventRepository;
+import com.fullcycle.admin.catalog.infraestructure.services.impl.RabbitBatchPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Publishes the outbox rows in batches, deleting them only after the broker confirmed them.
+ * <p>
+ * Each batch is first claimed in the table for {@code claimTimeout}, so the relays of several instances publish
+ * different rows. A crash, a nack or a confirm timeout publishes the row again on a later run: consumers must tolerate
+ * duplicated events.
+ */
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitBatchPublisher publisher;
+    private final int batchSize;
+    private final Duration claimTimeout;
+
+    public OutboxRelay(
+            final OutboxEventRepository outboxEventRepository,
+            final RabbitBatchPublisher publisher,
+            final int batchSize,
+            final Duration claimTimeout
+    ) {
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+        this.publisher = Objects.requireNonNull(publisher);
+        this.batchSize = batchSize;
+        this.claimTimeout = Objects.requireNonNull(claimTimeout);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval}")
+    public void relay() {
+        try {
+            int confirmed;
+            do {
+                confirmed = publishBatch();
+            } while (confirmed == batchSize);
+        } catch (final AmqpException e) {
+            log.warn("Could not relay the outbox events, they will be retried", e);
+        }
+    }
+
+    public int publishBatch() {
+        final var owner = IdUtils.uuid();
+        final var now = InstantUtils.now();
+        if (outboxEventRepository.claimOldest(owner, now, now.plus(claimTimeout), batchSize) == 0) {
+            return 0;
+        }
+
+        try {
+            final var events = outboxEventRepository.findClaimed(owner);
+            final var confirms = events.stream()
+                    .map(it -> publisher.publish(it.getExchange(), it.getRoutingKey(), it.getPayload()))
+                    .toList();
+
+            final var confirmed = new ArrayList<Long>(events.size());
+            for (int i = 0; i < events.size(); i++) {
+                if (awaitConfirm(confirms.get(i))) {
+                    confirmed.add(events.get(i).getId());
+                }
+            }
+
+            if (!confirmed.isEmpty()) {
+                outboxEventRepository.deleteAllByIdInBatch(confirmed);
+            }
+            return confirmed.size();
+        } finally {
+            // the unconfirmed rows are retried on the next run instead of waiting for the claim to expire
+            outboxEventRepository.release(owner);
+        }
+    }
+
+    private static boolean awaitConfirm(final CompletableFuture<Void> confirm) {
+        // the publisher bounds every confirm with its own timeout
+        try {
+            confirm.join();
+            return true;
+        } catch (final RuntimeException e) {
+            log.debug("Outbox event was not confirmed, it will be retried", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalog.infraestructure.outbox.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    /**
+     * Claims the oldest rows nobody holds, or whose claim expired, for {@code owner}. The UPDATE locks the rows it
+     * changes, so relays running on other instances at the same time claim other rows.
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = """
+                    UPDATE outbox_events SET claimed_by = :owner, claimed_until = :until
+                    WHERE claimed_until IS NULL OR claimed_until < :now
+                    ORDER BY id
+                    LIMIT :limit
+                    """
+    )
+    int claimOldest(
+            @Param("owner") String owner,
+            @Param("now") Instant now,
+            @Param("until") Instant until,
+            @Param("limit") int limit
+    );
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.claimedBy = :owner ORDER BY e.id")
+    List<OutboxEventJpaEntity> findClaimed(@Param("owner") String owner);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedBy = NULL, e.claimedUntil = NULL WHERE e.claimedBy = :owner")
+    int release(@Param("owner") String owner);
+}
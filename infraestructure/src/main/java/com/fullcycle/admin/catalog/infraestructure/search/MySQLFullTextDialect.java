@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalog.infraestructure.search;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.MySQL57Dialect;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import java.util.List;
+
+/**
+ * Registers {@code match_against(col1, ..., colN, query)}, rendered as
+ * {@code match (col1, ..., colN) against (query in boolean mode)}, so full text searches can be written in JPQL and
+ * with the criteria API.
+ */
+public class MySQLFullTextDialect extends MySQL57Dialect {
+
+    public MySQLFullTextDialect() {
+        super();
+        registerFunction(TextSearch.MATCH_AGAINST, new MatchAgainstFunction());
+    }
+
+    static class MatchAgainstFunction implements SQLFunction {
+
+        @Override
+        public boolean hasArguments() {
+            return true;
+        }
+
+        @Override
+        public boolean hasParenthesesIfNoArguments() {
+            return false;
+        }
+
+        @Override
+        public Type getReturnType(final Type firstArgumentType, final Mapping mapping) {
+            return StandardBasicTypes.DOUBLE;
+        }
+
+        /**
+         * {@link SQLFunction} declares the arguments as a raw list, the override has to keep it.
+         */
+        @Override
+        @SuppressWarnings("rawtypes")
+        public String render(final Type firstArgumentType, final List rawArguments, final SessionFactoryImplementor factory) {
+            final List<?> arguments = rawArguments;
+            if (arguments.size() < 2) {
+                throw new QueryException("match_against requires at least one column and the query");
+            }
+
+            final var columns = arguments.subList(0, arguments.size() - 1);
+            final var query = arguments.get(arguments.size() - 1);
+
+            final var sql = new StringBuilder("match (");
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(columns.get(i));
+            }
+            return sql.append(") against (").append(query).append(" in boolean mode)").toString();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.fullcycle.admin.catalog.infraestructure.search;
+
+import com.fullcycle.admin.catalog.infraestructure.utils.SpecificationUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Matches search terms against text columns.
+ * <p>
+ * With full text enabled the columns are matched with {@code MATCH ... AGAINST} in boolean mode, every word of the
+ * terms is required and matched as a prefix, so the FULLTEXT index covering exactly those columns is used. Words
+ * shorter than the index minimum token size are not indexed, terms made only of such words, and every search when
+ * full text is disabled, fall back to {@code UPPER(col) LIKE '%TERMS%'}.
+ * <p>
+ * The {@link #RELEVANCE} sort orders the matches by their full text score, or by the first column when falling back.
+ */
+public class TextSearch {
+
+    public static final String RELEVANCE = "relevance";
+
+    static final String MATCH_AGAINST = "match_against";
+
+    private static final String ID = "id";
+
+    private final boolean fullText;
+    private final int minTokenSize;
+
+    public TextSearch(final boolean fullText, final int minTokenSize) {
+        this.fullText = fullText;
+        this.minTokenSize = minTokenSize;
+    }
+
+    public static boolean isRelevance(final String sort) {
+        return RELEVANCE.equalsIgnoreCase(sort);
+    }
+
+    /**
+     * @return the sort of a page request, unsorted for {@link #RELEVANCE} as the order comes from the search itself
+     */
+    public static Sort sort(final String sort, final String direction) {
+        return isRelevance(sort) ? Sort.unsorted() : Sort.by(Sort.Direction.fromString(direction), sort);
+    }
+
+    /**
+     * @return the boolean mode query for the terms, empty when they must be matched with {@code LIKE}
+     */
+    public Optional<String> fullTextQuery(final String terms) {
+        if (!fullText || terms == null) {
+            return Optional.empty();
+        }
+
+        final var words = Arrays.stream(terms.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> word.length() >= minTokenSize)
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+
+        return words.isEmpty() ? Optional.empty() : Optional.of(words);
+    }
+
+    /**
+     * @return rows whose columns match the terms, or {@code null} when there are no terms
+     */
+    public <T> Specification<T> matching(final String terms, final String... props) {
+        if (terms == null || terms.isBlank()) {
+            return null;
+        }
+
+        final var query = fullTextQuery(terms);
+        if (query.isPresent()) {
+            return (root, criteria, cb) -> cb.greaterThan(score(root, cb, query.get(), props), 0d);
+        }
+
+        return Arrays.stream(props)
+                .map(prop -> SpecificationUtils.<T>like(prop, terms))
+                .reduce(Specification::or)
+                .orElse(null);
+    }
+
+    /**
+     * Same as {@link #matching(String, String...)} and also orders the rows by relevance, to be used with an unsorted
+     * page request.
+     */
+    public <T> Specification<T> ranked(final String terms, final String... props) {
+        final Specification<T> matching = matching(terms, props);
+        return (root, criteria, cb) -> {
+            criteria.orderBy(relevance(root, cb, terms, props));
+            return matching == null ? null : matching.toPredicate(root, criteria, cb);
+        };
+    }
+
+    public List<Order> relevance(final Root<?> root, final CriteriaBuilder cb, final String terms, final String... props) {
+        final var orders = new ArrayList<Order>();
+        fullTextQuery(terms).ifPresentOrElse(
+                query -> orders.add(cb.desc(score(root, cb, query, props))),
+                () -> orders.add(cb.asc(root.get(props[0])))
+        );
+        orders.add(cb.asc(root.get(ID)));
+        return orders;
+    }
+
+    private static Expression<Double> score(
+            final Root<?> root,
+            final CriteriaBuilder cb,
+            final String query,
+            final String... props
+    ) {
+        final var arguments = new ArrayList<Expression<?>>();
+        for (final var prop : props) {
+            arguments.add(root.get(prop));
+        }
+        arguments.add(cb.literal(query));
+        return cb.function(MATCH_AGAINST, Double.class, arguments.toArray(Expression[]::new));
+    }
+}
@@ -1,5 +1,15 @@
 package com.fullcycle.admin.catalog.infraestructure.services;
 
+import java.util.List;
+
+/**
+ * Sends domain events from inside the transaction that produced them. Implementations must not wait on the broker,
+ * the events are written to the outbox and published later by {@code OutboxRelay}.
+ */
 public interface EventService {
     void send(Object event);
+
+    default void sendAll(final List<?> events) {
+        events.forEach(this::send);
+    }
 }
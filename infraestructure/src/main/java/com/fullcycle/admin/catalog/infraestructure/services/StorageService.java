@@ -8,9 +8,17 @@ import java.util.Optional;
 public interface StorageService {
     void store(String id, Resource resource);
 
+    /**
+     * Returns the object metadata with a lazy content, whose {@code slice} only reads the requested byte range.
+     */
     Optional<Resource> get(String id);
 
     List<String> list(String prefix);
 
     void deleteAll(List<String> ids);
+
+    /**
+     * Concatenates the {@code sources}, in order, into a new object stored under {@code id}.
+     */
+    Resource compose(String id, List<String> sources, String contentType);
 }
@@ -1,17 +1,28 @@
 package com.fullcycle.admin.catalog.infraestructure.services.impl;
 
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.ResourceContent;
 import com.fullcycle.admin.catalog.infraestructure.services.StorageService;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
 
 public class GCStorageService implements StorageService {
 
+    private static final int CHUNK_SIZE = 8 * 1024 * 1024;
+    private static final int MAX_COMPOSE_SOURCES = 32;
+
     private final String bucket;
     private final Storage storage;
 
@@ -22,22 +33,33 @@ public class GCStorageService implements StorageService {
 
     @Override
     public void store(final String id, final Resource resource) {
-        final var blob = BlobInfo.newBuilder(bucket, id)
-                .setContentType(resource.contentType())
-                .setCrc32cFromHexString(resource.checksum())
-                .build();
-        storage.create(blob, resource.content());
+        if (resource.isBuffered()) {
+            storage.create(blob(id, resource.contentType(), resource.checksum()), resource.content());
+            return;
+        }
+
+        // resumable upload: only one chunk of the media is kept in memory at a time. A given checksum is validated by
+        // GCS, otherwise it is computed from the bytes uploaded and checked against the one GCS computed
+        final var known = resource.knownChecksum();
+        final var crc = new CRC32C();
+        final Blob uploaded;
+        try (final var in = new CheckedInputStream(resource.openStream(), crc)) {
+            uploaded = storage.createFrom(blob(id, resource.contentType(), known.orElse(null)), in, CHUNK_SIZE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final var computed = "%08x".formatted(crc.getValue());
+        if (known.isEmpty() && !computed.equals(uploaded.getCrc32cToHexString())) {
+            storage.delete(BlobId.of(bucket, id));
+            throw new IllegalStateException("Stored object %s does not match the uploaded bytes".formatted(id));
+        }
     }
 
     @Override
     public Optional<Resource> get(final String id) {
         return Optional.ofNullable(storage.get(bucket, id))
-                .map(blob -> Resource.with(
-                        blob.getCrc32cToHexString(),
-                        blob.getContent(),
-                        blob.getContentType(),
-                        blob.getName()
-                ));
+                .map(this::toResource);
     }
 
     @Override
@@ -57,4 +79,59 @@ public class GCStorageService implements StorageService {
 
         storage.delete(blobs);
     }
+
+    @Override
+    public Resource compose(final String id, final List<String> sources, final String contentType) {
+        final var target = BlobInfo.newBuilder(bucket, id)
+                .setContentType(contentType)
+                .build();
+
+        // a compose request accepts at most 32 sources, bigger uploads are appended to the target in rounds
+        Blob blob = null;
+        var index = 0;
+        do {
+            final var request = Storage.ComposeRequest.newBuilder().setTarget(target);
+            var limit = MAX_COMPOSE_SOURCES;
+            if (blob != null) {
+                request.addSource(id);
+                limit--;
+            }
+            final var end = Math.min(sources.size(), index + limit);
+            request.addSource(sources.subList(index, end));
+            blob = storage.compose(request.build());
+            index = end;
+        } while (index < sources.size());
+
+        return toResource(blob);
+    }
+
+    private BlobInfo blob(final String id, final String contentType, final String checksum) {
+        final var blob = BlobInfo.newBuilder(bucket, id).setContentType(contentType);
+        if (checksum != null) {
+            blob.setCrc32cFromHexString(checksum);
+        }
+        return blob.build();
+    }
+
+    private Resource toResource(final Blob blob) {
+        return Resource.with(
+                blob.getCrc32cToHexString(),
+                ResourceContent.ranged(blob.getSize(), (offset, length) -> read(blob.getBlobId(), offset, length)),
+                blob.getContentType(),
+                blob.getName()
+        );
+    }
+
+    private InputStream read(final BlobId id, final long offset, final long length) {
+        // ranged reads only download the requested window of the blob
+        final var reader = storage.reader(id);
+        try {
+            reader.seek(offset);
+            reader.limit(offset + length);
+        } catch (final IOException e) {
+            reader.close();
+            throw new UncheckedIOException(e);
+        }
+        return Channels.newInputStream(reader);
+    }
 }
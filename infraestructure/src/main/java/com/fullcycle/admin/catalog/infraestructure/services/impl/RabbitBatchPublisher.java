@@ -0,0 +1,209 @@
+package com.fullcycle.admin.catalog.infraestructure.services.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes messages in batches bounded by size and by a linger time, each batch on a single cached channel.
+ * <p>
+ * Confirms are tracked asynchronously through correlation data, so the connection factory must use correlated
+ * publisher confirms. At most {@code maxUnconfirmed} messages may wait for a confirm, further publishes block until
+ * the window has room again.
+ */
+public class RabbitBatchPublisher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RabbitBatchPublisher.class);
+
+    private final RabbitOperations ops;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration confirmTimeout;
+    private final Semaphore window;
+    private final BlockingQueue<PendingMessage> buffer;
+    private final Thread flusher;
+
+    private final DistributionSummary batchSizes;
+    private final Timer confirmLatency;
+    private final Counter nacks;
+
+    private volatile boolean running;
+
+    public RabbitBatchPublisher(
+            final RabbitOperations ops,
+            final int batchSize,
+            final Duration linger,
+            final int maxUnconfirmed,
+            final Duration confirmTimeout,
+            final MeterRegistry registry
+    ) {
+        this.ops = Objects.requireNonNull(ops);
+        this.batchSize = batchSize;
+        this.linger = Objects.requireNonNull(linger);
+        this.confirmTimeout = Objects.requireNonNull(confirmTimeout);
+        this.window = new Semaphore(maxUnconfirmed);
+        this.buffer = new LinkedBlockingQueue<>();
+
+        this.batchSizes = DistributionSummary.builder("amqp.publisher.batch.size")
+                .description("Messages published per batch")
+                .register(registry);
+        this.confirmLatency = Timer.builder("amqp.publisher.confirm.latency")
+                .description("Time between publishing a message and receiving its confirm")
+                .register(registry);
+        this.nacks = Counter.builder("amqp.publisher.nacks")
+                .description("Messages negatively acknowledged by the broker")
+                .register(registry);
+        registry.gauge("amqp.publisher.unconfirmed", window, it -> maxUnconfirmed - it.availablePermits());
+
+        this.running = true;
+        this.flusher = new Thread(this::flushLoop, "amqp-batch-publisher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Blocks the caller for up to {@code confirmTimeout} while {@code maxUnconfirmed} messages are already waiting for
+     * a confirm, then fails with {@link AmqpTimeoutException}. Only the outbox relay publishes through it, never a
+     * request thread.
+     *
+     * @return completed once the broker confirms the message, or exceptionally when it is nacked, times out or
+     * could not be published
+     */
+    public CompletableFuture<Void> publish(final String exchange, final String routingKey, final String payload) {
+        if (!running) {
+            throw new AmqpException("Publisher is closed");
+        }
+
+        acquire();
+
+        final var message = new PendingMessage(exchange, routingKey, payload);
+        message.confirmed.whenComplete((ignored, error) -> window.release());
+        message.confirmed.orTimeout(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        buffer.add(message);
+        return message.confirmed;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            flusher.join(confirmTimeout.toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        final var remaining = new ArrayList<PendingMessage>();
+        buffer.drainTo(remaining);
+        remaining.forEach(it -> it.confirmed.completeExceptionally(new AmqpException("Publisher is closed")));
+    }
+
+    private void acquire() {
+        try {
+            if (!window.tryAcquire(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new AmqpTimeoutException("Too many messages waiting for a publisher confirm");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException(e);
+        }
+    }
+
+    private void flushLoop() {
+        final var batch = new ArrayList<PendingMessage>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                final var first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                final var deadline = System.nanoTime() + linger.toNanos();
+                while (batch.size() < batchSize) {
+                    final var next = buffer.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    buffer.drainTo(batch, batchSize - batch.size());
+                }
+
+                flush(batch);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final RuntimeException e) {
+                log.error("Unexpected error publishing a batch of messages", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(final List<PendingMessage> batch) {
+        batchSizes.record(batch.size());
+        try {
+            ops.invoke(channel -> {
+                for (final var message : batch) {
+                    if (message.confirmed.isDone()) {
+                        // timed out while buffered, the caller already gave up on it
+                        continue;
+                    }
+                    final var correlation = new CorrelationData();
+                    final var publishedAt = System.nanoTime();
+                    correlation.getFuture().addCallback(
+                            confirm -> onConfirm(message, publishedAt, confirm),
+                            message.confirmed::completeExceptionally
+                    );
+                    channel.convertAndSend(message.exchange, message.routingKey, message.payload, correlation);
+                }
+                return null;
+            });
+        } catch (final AmqpException e) {
+            log.warn("Could not publish a batch of {} messages", batch.size(), e);
+            batch.forEach(it -> it.confirmed.completeExceptionally(e));
+        }
+    }
+
+    private void onConfirm(final PendingMessage message, final long publishedAt, final CorrelationData.Confirm confirm) {
+        confirmLatency.record(System.nanoTime() - publishedAt, TimeUnit.NANOSECONDS);
+        if (confirm != null && confirm.isAck()) {
+            message.confirmed.complete(null);
+        } else {
+            nacks.increment();
+            final var reason = confirm != null ? confirm.getReason() : null;
+            message.confirmed.completeExceptionally(new AmqpException("Message was nacked by the broker: " + reason));
+        }
+    }
+
+    private static class PendingMessage {
+        private final String exchange;
+        private final String routingKey;
+        private final String payload;
+        private final CompletableFuture<Void> confirmed;
+
+        private PendingMessage(final String exchange, final String routingKey, final String payload) {
+            this.exchange = exchange;
+            this.routingKey = routingKey;
+            this.payload = payload;
+            this.confirmed = new CompletableFuture<>();
+        }
+    }
+}
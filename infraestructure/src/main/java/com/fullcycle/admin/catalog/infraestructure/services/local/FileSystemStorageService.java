@@ -0,0 +1,365 @@
+package com.fullcycle.admin.catalog.infraestructure.services.local;
+
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.ResourceContent;
+import com.fullcycle.admin.catalog.infraestructure.services.StorageService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.FileInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Stores each resource as a plain file under {@code root}, next to a hidden {@code .<name>.meta} file holding
+ * its content type and checksum. Writes go to a temporary file that is atomically renamed over the target,
+ * so readers never see a partially written object.
+ * <p>
+ * The data is renamed before its metadata, which also records the version (size, modification time and file key)
+ * of the data it describes. A reader that finds metadata of another version, or none at all, falls back to
+ * computing the checksum from the data itself.
+ */
+public class FileSystemStorageService implements StorageService {
+
+    private static final String METADATA_SUFFIX = ".meta";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String CHECKSUM = "checksum";
+    private static final String VERSION = "version";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final Path root;
+
+    public FileSystemStorageService(final Path root) {
+        this.root = Objects.requireNonNull(root).toAbsolutePath().normalize();
+        invoke(() -> Files.createDirectories(this.root));
+    }
+
+    @Override
+    public void store(final String id, final Resource resource) {
+        final var target = resolve(id);
+        invoke(() -> {
+            Files.createDirectories(target.getParent());
+            final var temp = tempFile(target);
+            try {
+                final String checksum;
+                try (final var out = FileChannel.open(temp, WRITE);
+                     final var in = resource.openStream()) {
+                    checksum = copy(id, resource, in, out);
+                    out.force(true);
+                }
+                publish(temp, target, resource.contentType(), checksum);
+            } catch (final IOException | RuntimeException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Resource> get(final String id) {
+        final var file = resolve(id);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        return invoke(() -> {
+            final var metadata = readMetadata(file);
+            final var contentType = metadata.getProperty(CONTENT_TYPE, DEFAULT_CONTENT_TYPE);
+            final var content = ResourceContent.ranged(Files.size(file), (offset, length) -> read(file, offset, length));
+            if (!version(file).equals(metadata.getProperty(VERSION))) {
+                // caught between the data and the metadata renames (or after a crash there): the checksum is
+                // computed from the data on demand instead of trusting metadata of another version
+                return Optional.of(Resource.with(content, contentType, id));
+            }
+            return Optional.of(Resource.with(metadata.getProperty(CHECKSUM), content, contentType, id));
+        });
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        final var separator = prefix.lastIndexOf('/');
+        final var folder = resolve(prefix.substring(0, separator + 1));
+        final var namePrefix = prefix.substring(separator + 1);
+        if (!Files.isDirectory(folder)) {
+            return List.of();
+        }
+
+        // only the entries of the prefix folder matching the name prefix are walked, not the whole root
+        return invoke(() -> {
+            try (final var children = Files.list(folder)) {
+                return children
+                        .filter(child -> child.getFileName().toString().startsWith(namePrefix))
+                        .flatMap(FileSystemStorageService::walk)
+                        .filter(Files::isRegularFile)
+                        .filter(file -> !file.getFileName().toString().startsWith("."))
+                        .map(this::idOf)
+                        .sorted()
+                        .toList();
+            }
+        });
+    }
+
+    @Override
+    public void deleteAll(final List<String> ids) {
+        ids.forEach(id -> invoke(() -> {
+            final var file = resolve(id);
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(metadataFile(file));
+            return null;
+        }));
+    }
+
+    @Override
+    public Resource compose(final String id, final List<String> sources, final String contentType) {
+        final var target = resolve(id);
+        invoke(() -> {
+            Files.createDirectories(target.getParent());
+            final var temp = tempFile(target);
+            try {
+                // the parts feed the CRC32C while they are copied, so the composed file is never read back
+                final var crc = new CRC32C();
+                try (final var out = FileChannel.open(temp, WRITE)) {
+                    var position = 0L;
+                    for (final var source : sources) {
+                        final var file = existing(source);
+                        try (final var in = new CheckedInputStream(Files.newInputStream(file), crc)) {
+                            position += transfer(source, in, Files.size(file), out, position);
+                        }
+                    }
+                    out.force(true);
+                }
+                publish(temp, target, contentType, "%08x".formatted(crc.getValue()));
+            } catch (final IOException | RuntimeException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            return null;
+        });
+        return get(id).orElseThrow();
+    }
+
+    private Path resolve(final String id) {
+        final var path = root.resolve(id).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Id %s is outside of the storage root".formatted(id));
+        }
+        return path;
+    }
+
+    private Path existing(final String id) {
+        final var file = resolve(id);
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Source %s not found".formatted(id));
+        }
+        return file;
+    }
+
+    private String idOf(final Path file) {
+        return root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+    }
+
+    private static Stream<Path> walk(final Path path) {
+        try {
+            return Files.walk(path);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Copies the resource into {@code out} and returns its checksum. File-backed sources with a known checksum are
+     * transferred by the kernel without passing through the heap, everything else goes through
+     * {@link FileChannel#transferFrom} and feeds the CRC32C on the way when the checksum isn't known yet, so the source
+     * is never read twice.
+     */
+    private static String copy(final String id, final Resource resource, final InputStream in, final FileChannel out) throws IOException {
+        final var length = resource.contentLength();
+        final var knownChecksum = resource.knownChecksum();
+        final var region = FileRegion.of(in);
+        if (knownChecksum.isPresent() && region.isPresent()) {
+            final var source = region.get();
+            var position = 0L;
+            while (position < length) {
+                final var transferred = source.channel().transferTo(source.position() + position, length - position, out);
+                if (transferred <= 0) {
+                    throw truncated(id, position, length);
+                }
+                position += transferred;
+            }
+            return knownChecksum.get();
+        }
+
+        if (knownChecksum.isPresent()) {
+            transfer(id, in, length, out, 0);
+            return knownChecksum.get();
+        }
+        final var crc = new CRC32C();
+        transfer(id, new CheckedInputStream(in, crc), length, out, 0);
+        return "%08x".formatted(crc.getValue());
+    }
+
+    /**
+     * Writes {@code length} bytes of {@code in} into {@code out} starting at {@code position}.
+     */
+    private static long transfer(final String id, final InputStream in, final long length, final FileChannel out, final long position) throws IOException {
+        final var source = Channels.newChannel(in);
+        var transferred = 0L;
+        while (transferred < length) {
+            final var count = out.transferFrom(source, position + transferred, length - transferred);
+            if (count <= 0) {
+                throw truncated(id, transferred, length);
+            }
+            transferred += count;
+        }
+        return transferred;
+    }
+
+    private static IOException truncated(final String id, final long position, final long length) {
+        return new IOException("Content of %s ended after %d of %d bytes".formatted(id, position, length));
+    }
+
+    /**
+     * Renames the written temporary file over the target, then records its metadata.
+     */
+    private static void publish(final Path temp, final Path target, final String contentType, final String checksum) throws IOException {
+        final var version = version(temp);
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        writeMetadata(target, contentType, checksum, version);
+    }
+
+    /**
+     * Identifies the data a metadata file was written for. A rename keeps all of these, a new write changes them.
+     */
+    private static String version(final Path file) throws IOException {
+        final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return "%d:%d:%s".formatted(attributes.size(), attributes.lastModifiedTime().toMillis(), attributes.fileKey());
+    }
+
+    private static Path tempFile(final Path target) throws IOException {
+        return Files.createTempFile(target.getParent(), "." + target.getFileName(), TEMP_SUFFIX);
+    }
+
+    private static Path metadataFile(final Path file) {
+        return file.resolveSibling("." + file.getFileName() + METADATA_SUFFIX);
+    }
+
+    private static void writeMetadata(final Path file, final String contentType, final String checksum, final String version) throws IOException {
+        final var metadata = new Properties();
+        metadata.setProperty(CONTENT_TYPE, contentType);
+        metadata.setProperty(CHECKSUM, checksum);
+        metadata.setProperty(VERSION, version);
+
+        final var temp = tempFile(file);
+        try (final var out = Files.newOutputStream(temp)) {
+            metadata.store(out, null);
+        }
+        Files.move(temp, metadataFile(file), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static Properties readMetadata(final Path file) throws IOException {
+        final var metadata = new Properties();
+        try (final var in = Files.newInputStream(metadataFile(file))) {
+            metadata.load(in);
+        } catch (final NoSuchFileException e) {
+            // the data was renamed but its metadata isn't there yet
+        }
+        return metadata;
+    }
+
+    private static InputStream read(final Path file, final long offset, final long length) {
+        return invoke(() -> new RegionInputStream(FileChannel.open(file, READ), offset, offset + length));
+    }
+
+    private static <T> T invoke(final IOCallable<T> callable) {
+        try {
+            return callable.call();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOCallable<T> {
+        T call() throws IOException;
+    }
+
+    /**
+     * The file region behind a stream, when the stream reads straight from a file.
+     */
+    private record FileRegion(FileChannel channel, long position) {
+
+        private static Optional<FileRegion> of(final InputStream in) throws IOException {
+            if (in instanceof RegionInputStream region) {
+                return Optional.of(new FileRegion(region.channel, region.position));
+            }
+            if (in instanceof FileInputStream file) {
+                final var channel = file.getChannel();
+                return Optional.of(new FileRegion(channel, channel.position()));
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads a file region with positional reads straight into the caller's buffer, holding no other memory.
+     */
+    private static final class RegionInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        private RegionInputStream(final FileChannel channel, final long start, final long end) {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= end) {
+                return -1;
+            }
+            final var count = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, end - position)), position);
+            if (count < 0) {
+                return -1;
+            }
+            position += count;
+            return count;
+        }
+
+        @Override
+        public long skip(final long n) {
+            final var skipped = Math.max(0, Math.min(n, end - position));
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.fullcycle.admin.catalog.infraestructure.services.local;
 
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.ResourceContent;
 import com.fullcycle.admin.catalog.infraestructure.services.StorageService;
 
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -25,7 +27,7 @@ public class InMemoryStorageService implements StorageService {
 
     @Override
     public void store(final String id, final Resource resource) {
-        storage.put(id, resource);
+        storage.put(id, resource.buffered());
     }
 
     @Override
@@ -44,4 +46,17 @@ public class InMemoryStorageService implements StorageService {
     public void deleteAll(final List<String> ids) {
         ids.forEach(storage::remove);
     }
+
+    @Override
+    public Resource compose(final String id, final List<String> sources, final String contentType) {
+        final var content = new ByteArrayOutputStream();
+        sources.forEach(source -> content.writeBytes(
+                get(source).orElseThrow(() -> new IllegalArgumentException("Source %s not found".formatted(source)))
+                        .content()
+        ));
+
+        final var resource = Resource.with(ResourceContent.of(content.toByteArray()), contentType, id);
+        storage.put(id, resource);
+        return resource;
+    }
 }
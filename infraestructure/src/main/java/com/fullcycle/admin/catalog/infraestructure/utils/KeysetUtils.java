@@ -0,0 +1,232 @@
+package com.fullcycle.admin.catalog.infraestructure.utils;
+
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.infraestructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infraestructure.search.TextSearch;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset (seek) paging: each page continues after the sort key and id of the last row of the previous one, so deep
+ * pages cost the same as the first and no count is needed.
+ * <p>
+ * A page is read in two steps, first the ids are seeked ordered by {@code (sort, id)}, then the rows are loaded by
+ * those ids. The cursor is opaque to clients and carries the sort and direction it was issued for.
+ */
+public final class KeysetUtils {
+
+    private static final String ID = "id";
+
+    private KeysetUtils() {
+    }
+
+    public record Key(String id, Object value) {
+    }
+
+    private record Cursor(String sort, String direction, String id, String value) {
+    }
+
+    /**
+     * @return up to {@code limit} keys after the cursor, seek one more than the page size to know if there is a next
+     * page
+     */
+    public static <T> List<Key> seek(
+            final EntityManager entityManager,
+            final Class<T> type,
+            final Specification<T> where,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final int limit
+    ) {
+        if (TextSearch.isRelevance(sort)) {
+            throw DomainException.with(new Error("'relevance' sort does not support a cursor"));
+        }
+
+        final var ascending = Sort.Direction.fromString(direction).isAscending();
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(type);
+        final Path<Object> sortKey = root.get(sort);
+        final Path<String> id = root.get(ID);
+
+        final var predicates = new ArrayList<Predicate>();
+        if (where != null) {
+            final var predicate = where.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            final var after = decode(cursor, sort, direction);
+            predicates.add(after(cb, sortKey, id, ascending, after.id(), parse(after.value(), sortKey.getJavaType())));
+        }
+
+        query.multiselect(id, sortKey)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(ascending
+                        ? List.of(cb.asc(sortKey), cb.asc(id))
+                        : List.of(cb.desc(sortKey), cb.desc(id)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(KeysetUtils::toKey)
+                .toList();
+    }
+
+    /**
+     * Assembles the page from keys seeked with {@code perPage + 1}, loading the rows in one call and keeping the
+     * seek order.
+     */
+    public static <T> Pagination<T> page(
+            final int currentPage,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final List<Key> keys,
+            final Function<List<String>, List<T>> loader,
+            final Function<T, String> idOf
+    ) {
+        final var pageKeys = keys.size() > perPage ? keys.subList(0, perPage) : keys;
+        final var ids = pageKeys.stream().map(Key::id).toList();
+
+        final Map<String, T> rows = ids.isEmpty()
+                ? Map.of()
+                : loader.apply(ids).stream().collect(Collectors.toMap(idOf, Function.identity()));
+
+        final var items = ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        final var nextCursor = keys.size() > perPage
+                ? encode(sort, direction, pageKeys.get(pageKeys.size() - 1))
+                : null;
+
+        return new Pagination<>(currentPage, perPage, Pagination.UNKNOWN_TOTAL, items, nextCursor);
+    }
+
+    /**
+     * Rows after the key in {@code (sort, id)} order. Nulls sort first on ascending and last on descending, as in
+     * MySQL, so they are matched explicitly.
+     */
+    private static Predicate after(
+            final CriteriaBuilder cb,
+            final Path<Object> sortKey,
+            final Path<String> id,
+            final boolean ascending,
+            final String lastId,
+            final Comparable<Object> lastValue
+    ) {
+        final var idAfter = ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+        final var key = cast(sortKey);
+
+        if (lastValue == null) {
+            return ascending
+                    ? cb.or(cb.and(cb.isNull(sortKey), idAfter), cb.isNotNull(sortKey))
+                    : cb.and(cb.isNull(sortKey), idAfter);
+        }
+
+        final var tie = cb.and(cb.equal(sortKey, lastValue), idAfter);
+        return ascending
+                ? cb.or(cb.greaterThan(key, lastValue), tie)
+                : cb.or(cb.lessThan(key, lastValue), tie, cb.isNull(sortKey));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Path<Comparable<Object>> cast(final Path<Object> path) {
+        return (Path<Comparable<Object>>) (Path<?>) path;
+    }
+
+    private static Key toKey(final Tuple tuple) {
+        return new Key(String.valueOf(tuple.get(0)), tuple.get(1));
+    }
+
+    private static String encode(final String sort, final String direction, final Key key) {
+        final var value = key.value() == null ? null : key.value().toString();
+        final var fields = new LinkedHashMap<String, String>();
+        fields.put("sort", sort);
+        fields.put("direction", direction.toLowerCase());
+        fields.put("id", key.id());
+        fields.put("value", value);
+
+        final var json = Json.writeValueAsString(fields);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decode(final String cursor, final String sort, final String direction) {
+        final Cursor decoded;
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final Map<?, ?> fields = Json.readValue(json, Map.class);
+            decoded = new Cursor(
+                    (String) fields.get("sort"),
+                    (String) fields.get("direction"),
+                    (String) fields.get("id"),
+                    (String) fields.get("value")
+            );
+        } catch (final RuntimeException e) {
+            throw invalidCursor();
+        }
+
+        if (!sort.equals(decoded.sort()) || !direction.equalsIgnoreCase(decoded.direction()) || decoded.id() == null) {
+            throw invalidCursor();
+        }
+        return decoded;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> parse(final String value, final Class<?> type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            final Object parsed;
+            if (Instant.class.equals(type)) {
+                parsed = Instant.parse(value);
+            } else if (Integer.class.equals(type) || int.class.equals(type)) {
+                parsed = Integer.valueOf(value);
+            } else if (Long.class.equals(type) || long.class.equals(type)) {
+                parsed = Long.valueOf(value);
+            } else if (Double.class.equals(type) || double.class.equals(type)) {
+                parsed = Double.valueOf(value);
+            } else if (BigDecimal.class.equals(type)) {
+                parsed = new BigDecimal(value);
+            } else if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+                parsed = Boolean.valueOf(value);
+            } else if (type.isEnum()) {
+                parsed = Enum.valueOf(type.asSubclass(Enum.class), value);
+            } else {
+                parsed = value;
+            }
+            return (Comparable<Object>) parsed;
+        } catch (final RuntimeException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'cursor' is invalid for the requested sort"));
+    }
+}
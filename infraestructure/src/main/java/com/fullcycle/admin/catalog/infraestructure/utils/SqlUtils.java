@@ -1,5 +1,9 @@
 package com.fullcycle.admin.catalog.infraestructure.utils;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+
 public final class SqlUtils {
 
     private SqlUtils() {
@@ -10,6 +14,11 @@ public final class SqlUtils {
         return upper("%" + term + "%");
     }
 
+    public static Instant instant(final ResultSet rs, final String column) throws SQLException {
+        final var timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
     private static String upper(final String term) {
         if (term == null) return null;
         return term.toUpperCase();
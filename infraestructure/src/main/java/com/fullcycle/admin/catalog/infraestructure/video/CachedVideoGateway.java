@@ -0,0 +1,71 @@
+package com.fullcycle.admin.catalog.infraestructure.video;
+
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoGateway;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoPreview;
+import com.fullcycle.admin.catalog.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalog.infraestructure.cache.AggregateCache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Reads videos by id through a cache, invalidated by the writes of this instance.
+ */
+public class CachedVideoGateway implements VideoGateway {
+
+    private final VideoGateway gateway;
+    private final AggregateCache<Video> cache;
+
+    public CachedVideoGateway(final VideoGateway gateway, final AggregateCache<Video> cache) {
+        this.gateway = Objects.requireNonNull(gateway);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public Video create(final Video video) {
+        final var result = gateway.create(video);
+        cache.invalidate(result.getId().getValue());
+        return result;
+    }
+
+    @Override
+    public List<Video> createAll(final List<Video> videos) {
+        final var result = gateway.createAll(videos);
+        result.forEach(it -> cache.invalidate(it.getId().getValue()));
+        return result;
+    }
+
+    @Override
+    public Video update(final Video video) {
+        final var result = gateway.update(video);
+        cache.invalidate(result.getId().getValue());
+        return result;
+    }
+
+    @Override
+    public void deleteById(final VideoID videoID) {
+        gateway.deleteById(videoID);
+        cache.invalidate(videoID.getValue());
+    }
+
+    @Override
+    public Optional<Video> findById(final VideoID videoID) {
+        return cache.get(videoID.getValue(), it -> gateway.findById(videoID));
+    }
+
+    @Override
+    public Pagination<VideoPreview> findAll(final VideoSearchQuery query) {
+        return gateway.findAll(query);
+    }
+
+    @Override
+    public ChangeFeed<Video> changesSince(final ChangeQuery query) {
+        return gateway.changesSince(query);
+    }
+}
@@ -1,16 +1,23 @@
 package com.fullcycle.admin.catalog.infraestructure.video;
 
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.ResourceContent;
+import com.fullcycle.admin.catalog.domain.validation.Error;
 import com.fullcycle.admin.catalog.domain.video.*;
 import com.fullcycle.admin.catalog.infraestructure.configuration.properties.storage.StorageProperties;
 import com.fullcycle.admin.catalog.infraestructure.services.StorageService;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 @Component
 public class DefaultMediaResourceGateway implements MediaResourceGateway {
 
+    private static final String UPLOAD_SESSION = "session";
+    private static final String UPLOAD_PART = "part-";
+
     final StorageService service;
     final String filenamePattern;
     final String locationPattern;
@@ -56,6 +63,81 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
         return service.get(filepath(videoID, type));
     }
 
+    @Override
+    public MediaUpload initiateUpload(final VideoID id, final VideoMediaType type, final String contentType, final String name) {
+        final var upload = MediaUpload.newUpload(id, type);
+        // the session marker keeps the original name and content type, so any instance can complete the upload
+        final var session = Resource.with(ResourceContent.of(name.getBytes(StandardCharsets.UTF_8)), contentType, UPLOAD_SESSION);
+        service.store(sessionPath(upload), session);
+        return upload;
+    }
+
+    @Override
+    public Optional<MediaUpload> findUpload(final VideoID id, final VideoMediaType type, final String uploadId) {
+        if (!MediaUpload.isValidId(uploadId)) {
+            return Optional.empty();
+        }
+        final var upload = MediaUpload.with(uploadId, id, type);
+        return service.get(sessionPath(upload)).map(session -> upload);
+    }
+
+    @Override
+    public void storeUploadPart(final MediaUpload upload, final int partNumber, final Resource part) {
+        service.store(partPath(upload, partNumber), part);
+    }
+
+    @Override
+    public Optional<AudioVideoMedia> completeUpload(final MediaUpload upload) {
+        return service.get(sessionPath(upload)).map(session -> {
+            final var parts = service.list(uploadFolder(upload).concat(UPLOAD_PART)).stream()
+                    .sorted()
+                    .toList();
+
+            if (parts.isEmpty()) {
+                throw DomainException.with(new Error("Upload %s has no parts".formatted(upload.id())));
+            }
+            for (int i = 0; i < parts.size(); i++) {
+                if (!parts.get(i).equals(partPath(upload, i + 1))) {
+                    throw DomainException.with(new Error("Upload %s is missing part %d".formatted(upload.id(), i + 1)));
+                }
+            }
+
+            final var filepath = filepath(upload.videoId(), upload.type());
+            final var resource = service.compose(filepath, parts, session.contentType());
+            final var media = AudioVideoMedia.with(
+                    resource.checksum(),
+                    new String(session.content(), StandardCharsets.UTF_8),
+                    filepath
+            );
+
+            abortUpload(upload);
+            return media;
+        });
+    }
+
+    @Override
+    public void abortUpload(final MediaUpload upload) {
+        service.deleteAll(service.list(uploadFolder(upload)));
+    }
+
+    private String uploadFolder(final MediaUpload upload) {
+        if (!MediaUpload.isValidId(upload.id())) {
+            throw DomainException.with(new Error("Upload id %s is invalid".formatted(upload.id())));
+        }
+        return folderName(upload.videoId())
+                .concat("/uploads/")
+                .concat(upload.id())
+                .concat("/");
+    }
+
+    private String sessionPath(final MediaUpload upload) {
+        return uploadFolder(upload).concat(UPLOAD_SESSION);
+    }
+
+    private String partPath(final MediaUpload upload, final int partNumber) {
+        return uploadFolder(upload).concat(UPLOAD_PART).concat("%05d".formatted(partNumber));
+    }
+
     private String filepath(final VideoID id, final VideoMediaType type) {
         return folderName(id)
                 .concat("/")
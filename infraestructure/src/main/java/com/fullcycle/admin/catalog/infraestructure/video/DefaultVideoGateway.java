@@ -1,19 +1,30 @@
 package com.fullcycle.admin.catalog.infraestructure.video;
 
 import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.changes.Change;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.utils.CollectionUtils;
 import com.fullcycle.admin.catalog.domain.video.*;
+import com.fullcycle.admin.catalog.infraestructure.changes.ChangeFeeds;
 import com.fullcycle.admin.catalog.infraestructure.configuration.annotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalog.infraestructure.services.EventService;
-import com.fullcycle.admin.catalog.infraestructure.utils.SqlUtils;
+import com.fullcycle.admin.catalog.infraestructure.search.TextSearch;
+import com.fullcycle.admin.catalog.infraestructure.utils.KeysetUtils;
 import com.fullcycle.admin.catalog.infraestructure.video.persistence.VideoJpaEntity;
 import com.fullcycle.admin.catalog.infraestructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalog.infraestructure.video.search.LuceneVideoIndex;
+import com.fullcycle.admin.catalog.infraestructure.video.search.VideoIndexChange;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -25,14 +36,29 @@ import static com.fullcycle.admin.catalog.domain.utils.CollectionUtils.nullIfEmp
 @Component
 public class DefaultVideoGateway implements VideoGateway {
 
+    private static final String AGGREGATE = "video";
+
     private final EventService eventService;
     private final VideoRepository videoRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher indexChanges;
+    private final ObjectProvider<LuceneVideoIndex> searchIndex;
+    private final ChangeFeeds changeFeeds;
 
     public DefaultVideoGateway(
             @VideoCreatedQueue final EventService eventService,
-            final VideoRepository videoRepository) {
+            final VideoRepository videoRepository,
+            final EntityManager entityManager,
+            final ApplicationEventPublisher indexChanges,
+            final ObjectProvider<LuceneVideoIndex> searchIndex,
+            final ChangeFeeds changeFeeds
+    ) {
         this.eventService = Objects.requireNonNull(eventService);
         this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.indexChanges = Objects.requireNonNull(indexChanges);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+        this.changeFeeds = Objects.requireNonNull(changeFeeds);
     }
 
     @Override
@@ -41,6 +67,23 @@ public class DefaultVideoGateway implements VideoGateway {
         return save(video);
     }
 
+    /**
+     * Persists the videos and their relation rows in JDBC batches, and writes the domain events of all of them at once.
+     */
+    @Override
+    @Transactional
+    public List<Video> createAll(final List<Video> videos) {
+        videos.forEach(it -> entityManager.persist(VideoJpaEntity.from(it)));
+        entityManager.flush();
+
+        final var events = new ArrayList<>();
+        videos.forEach(it -> it.publishDomainEvents(events::add));
+        eventService.sendAll(events);
+
+        videos.forEach(it -> indexChanges.publishEvent(new VideoIndexChange.Saved(it)));
+        return videos;
+    }
+
     @Override
     @Transactional
     public Video update(final Video video) {
@@ -48,10 +91,13 @@ public class DefaultVideoGateway implements VideoGateway {
     }
 
     @Override
+    @Transactional
     public void deleteById(final VideoID id) {
         final var videoID = id.getValue();
         if (videoRepository.existsById(videoID)) {
             videoRepository.deleteById(videoID);
+            changeFeeds.recordDeletion(AGGREGATE, videoID);
+            indexChanges.publishEvent(new VideoIndexChange.Deleted(videoID));
         }
     }
 
@@ -64,14 +110,23 @@ public class DefaultVideoGateway implements VideoGateway {
 
     @Override
     public Pagination<VideoPreview> findAll(final VideoSearchQuery query) {
+        if (query.isKeyset()) {
+            return findAllAfter(query);
+        }
+
+        final var index = searchIndex.getIfAvailable();
+        if (index != null && index.supports(query)) {
+            return index.search(query);
+        }
+
         final var page = PageRequest.of(
                 query.page(),
                 query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
+                TextSearch.sort(query.sort(), query.direction())
         );
 
         final var result = videoRepository.findAll(
-                SqlUtils.like(query.terms()),
+                terms(query.terms()),
                 nullIfEmpty(mapTo(query.categories(), Identifier::getValue)),
                 nullIfEmpty(mapTo(query.genres(), Identifier::getValue)),
                 nullIfEmpty(mapTo(query.castMembers(), Identifier::getValue)),
@@ -86,12 +141,51 @@ public class DefaultVideoGateway implements VideoGateway {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeFeed<Video> changesSince(final ChangeQuery query) {
+        return changeFeeds.read(AGGREGATE, query, (after, until, limit) ->
+                videoRepository.findChangedAfter(after.at(), after.id(), until, PageRequest.of(0, limit)).stream()
+                        .map(VideoJpaEntity::toAggregate)
+                        .map(it -> Change.saved(it.getId().getValue(), it.getCreatedAt(), it.getUpdatedAt(), it))
+                        .toList()
+        );
+    }
+
+    private Pagination<VideoPreview> findAllAfter(final VideoSearchQuery query) {
+        final var keys = videoRepository.seek(
+                terms(query.terms()),
+                nullIfEmpty(mapTo(query.categories(), Identifier::getValue)),
+                nullIfEmpty(mapTo(query.genres(), Identifier::getValue)),
+                nullIfEmpty(mapTo(query.castMembers(), Identifier::getValue)),
+                query.sort(),
+                query.direction(),
+                query.cursor(),
+                query.perPage() + 1
+        );
+
+        return KeysetUtils.page(
+                query.page(),
+                query.perPage(),
+                query.sort(),
+                query.direction(),
+                keys,
+                videoRepository::findPreviews,
+                VideoPreview::id
+        );
+    }
+
+    private static String terms(final String terms) {
+        return terms == null || terms.isBlank() ? null : terms;
+    }
+
     private Video save(final Video video) {
         final var result =  videoRepository.save(VideoJpaEntity.from(video))
                 .toAggregate();
 
 
         video.publishDomainEvents(eventService::send);
+        indexChanges.publishEvent(new VideoIndexChange.Saved(result));
 
         return result;
     }
@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalog.infraestructure.video;
+
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.QueueProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.Objects;
+
+/**
+ * Retires the former classic queue of the encoder results, replaced by a quorum queue under another name.
+ * <p>
+ * Once the application is ready the former queue is unbound from the exchange, so it stops collecting copies of the
+ * results. An empty queue without consumers is deleted; otherwise the results still there are drained by the encoder
+ * listener, and a later start deletes it. Every step is idempotent, so any instance may run it.
+ */
+public class LegacyVideoEncodedQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyVideoEncodedQueue.class);
+
+    private final AmqpAdmin admin;
+    private final Runnable drain;
+    private final QueueProperties props;
+
+    public LegacyVideoEncodedQueue(final AmqpAdmin admin, final Runnable drain, final QueueProperties props) {
+        this.admin = Objects.requireNonNull(admin);
+        this.drain = Objects.requireNonNull(drain);
+        this.props = Objects.requireNonNull(props);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void retire() {
+        final var queue = props.getLegacyQueue();
+        try {
+            final var info = admin.getQueueInfo(queue);
+            if (info == null) {
+                return;
+            }
+
+            admin.removeBinding(new Binding(queue, Binding.DestinationType.QUEUE, props.getExchange(), props.getRoutingKey(), null));
+            if (info.getMessageCount() == 0 && info.getConsumerCount() == 0) {
+                // the broker refuses it if a message or a consumer showed up meanwhile
+                admin.deleteQueue(queue, true, true);
+                log.info("Deleted the former queue {}", queue);
+            } else {
+                log.info("Draining {} encoder results left in the former queue {}", info.getMessageCount(), queue);
+                drain.run();
+            }
+        } catch (final AmqpException e) {
+            log.warn("Could not retire the former queue {}, it will be tried on the next start", queue, e);
+        }
+    }
+}
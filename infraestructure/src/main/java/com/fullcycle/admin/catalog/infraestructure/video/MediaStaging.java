@@ -0,0 +1,114 @@
+package com.fullcycle.admin.catalog.infraestructure.video;
+
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.ResourceContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Copies uploaded medias out of the request, so they can still be read after the response was sent.
+ * <p>
+ * The directory belongs to a single instance: the medias older than its start are orphans of a previous process.
+ */
+public class MediaStaging {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaStaging.class);
+
+    private final Path directory;
+
+    public MediaStaging(final Path directory) {
+        this.directory = Objects.requireNonNull(directory);
+    }
+
+    public Session open() {
+        return new Session();
+    }
+
+    /**
+     * Deletes the medias staged before {@code before}, left behind by a process that stopped before releasing them.
+     *
+     * @return how many were deleted
+     */
+    public int deleteStagedBefore(final Instant before) {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        var deleted = 0;
+        try (final var files = Files.newDirectoryStream(directory, "media-*.staged")) {
+            for (final var file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(before) && Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (final IOException e) {
+                    log.warn("Could not delete staged media {}", file, e);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return deleted;
+    }
+
+    public class Session implements AutoCloseable {
+
+        private final List<Path> files = new ArrayList<>();
+
+        private Session() {
+        }
+
+        public Resource stage(final MultipartFile media) {
+            if (media == null || media.isEmpty()) {
+                return null;
+            }
+
+            try {
+                Files.createDirectories(directory);
+                final var file = Files.createTempFile(directory, "media-", ".staged");
+                files.add(file);
+                media.transferTo(file);
+
+                final var content = ResourceContent.of(Files.size(file), () -> {
+                    try {
+                        return Files.newInputStream(file);
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                return Resource.with(
+                        content,
+                        Objects.requireNonNullElse(media.getContentType(), MediaType.APPLICATION_OCTET_STREAM_VALUE),
+                        Objects.requireNonNullElse(media.getOriginalFilename(), media.getName())
+                );
+            } catch (final IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            for (final var file : files) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (final IOException e) {
+                    log.warn("Could not delete staged media {}", file, e);
+                }
+            }
+            files.clear();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.fullcycle.admin.catalog.infraestructure.video;
+
+import com.fullcycle.admin.catalog.application.video.create.async.VideoCreation;
+import com.fullcycle.admin.catalog.application.video.create.async.VideoCreationGateway;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.infraestructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infraestructure.utils.SqlUtils;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Keeps the creations in MySQL, so every instance answers their status and they outlive the process that accepted them.
+ * <p>
+ * Each creation records the instance that owns it: its queue and its staged medias live only there, so the creations
+ * an instance leaves unfinished are failed by {@link VideoCreationRecovery}.
+ */
+public class VideoCreationMySQLGateway implements VideoCreationGateway {
+
+    private static final String UNFINISHED = "('QUEUED', 'PROCESSING')";
+    private static final String FINISHED = "('COMPLETED', 'FAILED')";
+
+    private final JdbcOperations jdbc;
+    private final String owner;
+
+    public VideoCreationMySQLGateway(final JdbcOperations jdbc, final String owner) {
+        this.jdbc = Objects.requireNonNull(jdbc);
+        this.owner = Objects.requireNonNull(owner);
+    }
+
+    @Override
+    public VideoCreation save(final VideoCreation creation) {
+        final var errors = Json.writeValueAsString(creation.errors());
+        final var updated = jdbc.update(
+                "UPDATE video_creations SET status = ?, video_id = ?, errors = ?, updated_at = ? WHERE id = ?",
+                creation.status().name(),
+                creation.videoId(),
+                errors,
+                Timestamp.from(creation.updatedAt()),
+                creation.id()
+        );
+        if (updated == 0) {
+            jdbc.update(
+                    """
+                            INSERT INTO video_creations (id, status, video_id, errors, owner, created_at, updated_at)
+                            VALUES (?, ?, ?, ?, ?, ?, ?)
+                            """,
+                    creation.id(),
+                    creation.status().name(),
+                    creation.videoId(),
+                    errors,
+                    owner,
+                    Timestamp.from(creation.createdAt()),
+                    Timestamp.from(creation.updatedAt())
+            );
+        }
+        return creation;
+    }
+
+    @Override
+    public Optional<VideoCreation> findById(final String id) {
+        return jdbc.query(
+                "SELECT id, status, video_id, errors, created_at, updated_at FROM video_creations WHERE id = ?",
+                VideoCreationMySQLGateway::creation,
+                id
+        ).stream().findFirst();
+    }
+
+    /**
+     * Fails the unfinished creations this instance accepted before {@code before}.
+     *
+     * @return how many were failed
+     */
+    public int failUnfinished(final Instant before, final Error error) {
+        return jdbc.update(
+                "UPDATE video_creations SET status = 'FAILED', errors = ?, updated_at = ? WHERE owner = ? AND status IN " + UNFINISHED + " AND updated_at < ?",
+                Json.writeValueAsString(List.of(error)),
+                Timestamp.from(InstantUtils.now()),
+                owner,
+                Timestamp.from(before)
+        );
+    }
+
+    /**
+     * Fails the unfinished creations of any instance that weren't updated since {@code before}.
+     *
+     * @return how many were failed
+     */
+    public int failStale(final Instant before, final Error error) {
+        return jdbc.update(
+                "UPDATE video_creations SET status = 'FAILED', errors = ?, updated_at = ? WHERE status IN " + UNFINISHED + " AND updated_at < ?",
+                Json.writeValueAsString(List.of(error)),
+                Timestamp.from(InstantUtils.now()),
+                Timestamp.from(before)
+        );
+    }
+
+    /**
+     * Deletes the creations finished before {@code before}.
+     *
+     * @return how many were deleted
+     */
+    public int deleteFinished(final Instant before) {
+        return jdbc.update(
+                "DELETE FROM video_creations WHERE status IN " + FINISHED + " AND updated_at < ?",
+                Timestamp.from(before)
+        );
+    }
+
+    private static VideoCreation creation(final ResultSet rs, final int rowNum) throws SQLException {
+        return new VideoCreation(
+                rs.getString("id"),
+                VideoCreation.Status.valueOf(rs.getString("status")),
+                rs.getString("video_id"),
+                List.of(Json.readValue(rs.getString("errors"), Error[].class)),
+                SqlUtils.instant(rs, "created_at"),
+                SqlUtils.instant(rs, "updated_at")
+        );
+    }
+}
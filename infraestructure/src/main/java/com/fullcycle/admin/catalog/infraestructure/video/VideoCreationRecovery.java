@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalog.infraestructure.video;
+
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Fails the video creations lost with the process that ran them and deletes the medias they staged.
+ * <p>
+ * When an instance starts, the creations it accepted before can't run anymore: their queue went with the previous
+ * process. Only what is older than the start is touched, requests are accepted before the application is ready.
+ * Creations of instances that never come back, like a replaced pod, are failed once they go {@code staleAfter} without
+ * an update.
+ */
+public class VideoCreationRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoCreationRecovery.class);
+
+    static final Error INTERRUPTED = new Error("The video creation was interrupted, please send it again");
+
+    private final VideoCreationMySQLGateway gateway;
+    private final MediaStaging staging;
+    private final Duration retention;
+    private final Duration staleAfter;
+    private final Instant startedAt;
+
+    public VideoCreationRecovery(
+            final VideoCreationMySQLGateway gateway,
+            final MediaStaging staging,
+            final Duration retention,
+            final Duration staleAfter
+    ) {
+        this.gateway = Objects.requireNonNull(gateway);
+        this.staging = Objects.requireNonNull(staging);
+        this.retention = Objects.requireNonNull(retention);
+        this.staleAfter = Objects.requireNonNull(staleAfter);
+        this.startedAt = InstantUtils.now();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        final var failed = gateway.failUnfinished(startedAt, INTERRUPTED);
+        final var deleted = staging.deleteStagedBefore(startedAt);
+        if (failed > 0 || deleted > 0) {
+            log.warn("Failed {} video creations interrupted by a restart and deleted {} staged medias", failed, deleted);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${video-creation.purge-interval:600000}",
+            fixedDelayString = "${video-creation.purge-interval:600000}"
+    )
+    public void purge() {
+        final var now = InstantUtils.now();
+        final var failed = gateway.failStale(now.minus(staleAfter), INTERRUPTED);
+        if (failed > 0) {
+            log.warn("Failed {} video creations abandoned by their instance", failed);
+        }
+        final var deleted = gateway.deleteFinished(now.minus(retention));
+        log.debug("Deleted {} finished video creations", deleted);
+    }
+}
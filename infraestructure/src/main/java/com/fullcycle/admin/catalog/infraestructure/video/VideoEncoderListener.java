@@ -0,0 +1,208 @@
+package com.fullcycle.admin.catalog.infraestructure.video;
+
+import com.fullcycle.admin.catalog.application.video.media.update.BatchUpdateMediaStatusOutput;
+import com.fullcycle.admin.catalog.application.video.media.update.BatchUpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusCommand;
+import com.fullcycle.admin.catalog.domain.video.MediaStatus;
+import com.fullcycle.admin.catalog.infraestructure.configuration.annotations.VideoEncodedQueue;
+import com.fullcycle.admin.catalog.infraestructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.ConsumerProperties;
+import com.fullcycle.admin.catalog.infraestructure.video.models.VideoEncoderCompleted;
+import com.fullcycle.admin.catalog.infraestructure.video.models.VideoEncoderError;
+import com.fullcycle.admin.catalog.infraestructure.video.models.VideoEncoderResult;
+import com.rabbitmq.client.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Applies the encoder results to the media status of the videos.
+ * <p>
+ * Messages that can never be processed, either unreadable or for a video that does not exist, are rejected to the
+ * dead letter queue. Messages whose update failed are requeued up to {@code max-retries} times, counted by the
+ * {@code x-delivery-count} header of the quorum queue, and then sent to the dead letter queue as well.
+ */
+@Component
+public class VideoEncoderListener {
+
+    private static final String LISTENER_ID = "videoEncodedListener";
+    public static final String LEGACY_LISTENER_ID = "legacyVideoEncodedListener";
+    private static final String DELIVERY_COUNT = "x-delivery-count";
+
+    private static final Logger log = LoggerFactory.getLogger(VideoEncoderListener.class);
+
+    private final BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase;
+    private final int maxRetries;
+
+    public VideoEncoderListener(
+            final BatchUpdateMediaStatusUseCase batchUpdateMediaStatusUseCase,
+            @VideoEncodedQueue final ConsumerProperties props
+    ) {
+        this.batchUpdateMediaStatusUseCase = Objects.requireNonNull(batchUpdateMediaStatusUseCase);
+        this.maxRetries = props.getMaxRetries();
+    }
+
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "${amqp.queues.video-encoded.queue}",
+            containerFactory = "videoEncodedListenerFactory"
+    )
+    public void onVideoEncoded(final List<Message> messages, final Channel channel) throws IOException {
+        settle(messages, channel);
+    }
+
+    /**
+     * Drains the results left in the former classic queue, started by {@link LegacyVideoEncodedQueue} only while it
+     * still holds some.
+     */
+    @RabbitListener(
+            id = LEGACY_LISTENER_ID,
+            queues = "${amqp.queues.video-encoded.legacy-queue}",
+            containerFactory = "videoEncodedListenerFactory",
+            autoStartup = "false"
+    )
+    public void onLegacyVideoEncoded(final List<Message> messages, final Channel channel) throws IOException {
+        settle(messages, channel);
+    }
+
+    private void settle(final List<Message> messages, final Channel channel) throws IOException {
+        final var settlement = new Settlement(maxRetries);
+        final var commands = new ArrayList<UpdateMediaStatusCommand>();
+        final var messagesByVideo = new LinkedHashMap<String, List<Message>>();
+
+        for (final var message : messages) {
+            final var result = read(message);
+            if (result instanceof VideoEncoderCompleted completed && completed.id() != null && completed.video() != null) {
+                final var command = toCommand(completed);
+                commands.add(command);
+                messagesByVideo.computeIfAbsent(command.videoId(), it -> new ArrayList<>()).add(message);
+            } else if (result instanceof VideoEncoderError error) {
+                log.error("[message:video.encoder.error] [payload:{}]", Json.writeValueAsString(error));
+                settlement.ack(message);
+            } else {
+                log.warn("Invalid encoder result, sending it to the dead letter queue: {}", result);
+                settlement.reject(message);
+            }
+        }
+
+        if (!commands.isEmpty()) {
+            settle(settlement, messagesByVideo, batchUpdateMediaStatusUseCase.execute(commands));
+        }
+
+        settlement.send(channel);
+    }
+
+    private static void settle(
+            final Settlement settlement,
+            final Map<String, List<Message>> messagesByVideo,
+            final BatchUpdateMediaStatusOutput output
+    ) {
+        messagesByVideo.forEach((videoId, messages) -> {
+            if (output.updated().contains(videoId)) {
+                messages.forEach(settlement::ack);
+            } else if (output.notFound().contains(videoId)) {
+                log.warn("Video {} of an encoder result was not found, sending it to the dead letter queue", videoId);
+                messages.forEach(settlement::reject);
+            } else {
+                log.warn("Could not update the media status of video {}, it will be retried", videoId, output.failed().get(videoId));
+                messages.forEach(settlement::retry);
+            }
+        });
+    }
+
+    private static VideoEncoderResult read(final Message message) {
+        try {
+            return Json.readValue(new String(message.getBody(), StandardCharsets.UTF_8), VideoEncoderResult.class);
+        } catch (final RuntimeException e) {
+            log.debug("Could not read an encoder result", e);
+            return null;
+        }
+    }
+
+    private static UpdateMediaStatusCommand toCommand(final VideoEncoderCompleted completed) {
+        return UpdateMediaStatusCommand.with(
+                completed.id(),
+                completed.video().resourceId(),
+                MediaStatus.COMPLETED,
+                completed.video().encodedVideoFolder(),
+                completed.video().filePath()
+        );
+    }
+
+    /**
+     * Collects the outcome of each delivery. When the whole batch succeeded a single ack covering every delivery is
+     * sent, otherwise each delivery is settled on its own.
+     */
+    private static class Settlement {
+        private final int maxRetries;
+        private final List<Long> acks = new ArrayList<>();
+        private final List<Long> rejects = new ArrayList<>();
+        private final List<Long> retries = new ArrayList<>();
+
+        Settlement(final int maxRetries) {
+            this.maxRetries = maxRetries;
+        }
+
+        void ack(final Message message) {
+            acks.add(tag(message));
+        }
+
+        void reject(final Message message) {
+            rejects.add(tag(message));
+        }
+
+        void retry(final Message message) {
+            if (retries(message) >= maxRetries) {
+                log.warn("Encoder result failed after {} retries, sending it to the dead letter queue", maxRetries);
+                rejects.add(tag(message));
+            } else {
+                retries.add(tag(message));
+            }
+        }
+
+        void send(final Channel channel) throws IOException {
+            if (rejects.isEmpty() && retries.isEmpty()) {
+                if (!acks.isEmpty()) {
+                    channel.basicAck(acks.stream().mapToLong(Long::longValue).max().getAsLong(), true);
+                }
+                return;
+            }
+
+            for (final var tag : acks) {
+                channel.basicAck(tag, false);
+            }
+            for (final var tag : rejects) {
+                channel.basicReject(tag, false);
+            }
+            for (final var tag : retries) {
+                channel.basicNack(tag, false, true);
+            }
+        }
+
+        private static long tag(final Message message) {
+            return message.getMessageProperties().getDeliveryTag();
+        }
+
+        /**
+         * Quorum queues count the previous deliveries of a message. A classic queue only flags a redelivery, which is
+         * then taken as the last retry.
+         */
+        private int retries(final Message message) {
+            final var properties = message.getMessageProperties();
+            if (properties.getHeader(DELIVERY_COUNT) instanceof Number count) {
+                return count.intValue();
+            }
+            return Boolean.TRUE.equals(properties.isRedelivered()) ? maxRetries : 0;
+        }
+    }
+}
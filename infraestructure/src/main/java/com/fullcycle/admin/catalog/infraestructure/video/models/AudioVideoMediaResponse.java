@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalog.infraestructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record AudioVideoMediaResponse(
+        String id,
+        String checksum,
+        String name,
+        String location,
+        @JsonProperty("encoded_location") String encodedLocation,
+        String status
+) {
+}
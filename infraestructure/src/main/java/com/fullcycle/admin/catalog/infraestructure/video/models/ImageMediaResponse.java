@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.infraestructure.video.models;
+
+public record ImageMediaResponse(
+        String id,
+        String checksum,
+        String name,
+        String location
+) {
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalog.infraestructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Set;
+
+public record ImportVideoRequest(
+        String title,
+        String description,
+        @JsonProperty("year_launched") Integer launchedAt,
+        Double duration,
+        Boolean opened,
+        Boolean published,
+        String rating,
+        @JsonProperty("categories_id") Set<String> categories,
+        @JsonProperty("genres_id") Set<String> genres,
+        @JsonProperty("cast_members_id") Set<String> castMembers
+) {
+}
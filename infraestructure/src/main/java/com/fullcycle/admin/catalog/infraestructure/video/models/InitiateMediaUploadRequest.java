@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.infraestructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record InitiateMediaUploadRequest(
+        String name,
+        @JsonProperty("content_type") String contentType
+) {
+}
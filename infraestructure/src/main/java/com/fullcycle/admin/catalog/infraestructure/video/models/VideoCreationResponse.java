@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalog.infraestructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.time.Instant;
+import java.util.List;
+
+public record VideoCreationResponse(
+        String id,
+        String status,
+        @JsonProperty("video_id") String videoId,
+        List<Error> errors,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt
+) {
+}
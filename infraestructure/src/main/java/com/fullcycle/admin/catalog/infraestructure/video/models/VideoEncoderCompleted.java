@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalog.infraestructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record VideoEncoderCompleted(
+        @JsonProperty("id") String id,
+        @JsonProperty("output_bucket_path") String outputBucket,
+        @JsonProperty("video") VideoMetadata video
+) implements VideoEncoderResult {
+
+    private static final String COMPLETED = "COMPLETED";
+
+    @Override
+    @JsonProperty("status")
+    public String getStatus() {
+        return COMPLETED;
+    }
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalog.infraestructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record VideoEncoderError(
+        @JsonProperty("message") VideoMessage message,
+        @JsonProperty("error") String error
+) implements VideoEncoderResult {
+
+    private static final String ERROR = "ERROR";
+
+    @Override
+    @JsonProperty("status")
+    public String getStatus() {
+        return ERROR;
+    }
+}
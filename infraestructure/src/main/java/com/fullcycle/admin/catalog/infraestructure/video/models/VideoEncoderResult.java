@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalog.infraestructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.EXISTING_PROPERTY, property = "status")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = VideoEncoderCompleted.class, name = "COMPLETED"),
+        @JsonSubTypes.Type(value = VideoEncoderError.class, name = "ERROR")
+})
+public sealed interface VideoEncoderResult permits VideoEncoderCompleted, VideoEncoderError {
+
+    String getStatus();
+}
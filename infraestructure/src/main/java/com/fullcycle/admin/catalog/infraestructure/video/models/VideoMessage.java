@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalog.infraestructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record VideoMessage(
+        @JsonProperty("resource_id") String resourceId,
+        @JsonProperty("file_path") String filePath
+) {
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalog.infraestructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record VideoMetadata(
+        @JsonProperty("encoded_video_folder") String encodedVideoFolder,
+        @JsonProperty("resource_id") String resourceId,
+        @JsonProperty("file_path") String filePath
+) {
+}
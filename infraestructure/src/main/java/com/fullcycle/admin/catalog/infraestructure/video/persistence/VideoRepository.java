@@ -1,21 +1,19 @@
 package com.fullcycle.admin.catalog.infraestructure.video.persistence;
 
-import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
-import com.fullcycle.admin.catalog.domain.category.CategoryID;
-import com.fullcycle.admin.catalog.domain.genre.GenreID;
 import com.fullcycle.admin.catalog.domain.video.VideoPreview;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Set;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
-public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
+public interface VideoRepository extends JpaRepository<VideoJpaEntity, String>, VideoSearchRepository {
 
     @Query("""
-            select distinct new com.fullcycle.admin.catalog.domain.video.VideoPreview(
+            select new com.fullcycle.admin.catalog.domain.video.VideoPreview(
                 v.id as id,
                 v.title as title,
                 v.description as description,
@@ -23,23 +21,29 @@ public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
                 v.updatedAt as updatedAt
             )
             from Video v
-                left join v.categories categories
-                left join v.genres genres
-                left join v.castMembers castMembers
-            where
-                ( :terms is null or UPPER(v.title) like :terms )
-            and
-                ( :categories is null or categories.id.categoryId in :categories )
-            and
-                ( :genres is null or genres.id.genreId in :genres )
-            and
-                ( :castMembers is null or castMembers.id.castMemberId in :castMembers )
+            where v.id in :ids
             """)
-    Page<VideoPreview> findAll(
-            @Param("terms") String terms,
-            @Param("categories") Set<String> categories,
-            @Param("genres") Set<String> genres,
-            @Param("castMembers") Set<String> castMembers,
+    List<VideoPreview> findPreviews(@Param("ids") Collection<String> ids);
+
+    @Query("select v from Video v where v.updatedAt > :since and v.id > :after order by v.id")
+    List<VideoJpaEntity> findUpdatedSince(
+            @Param("since") Instant since,
+            @Param("after") String after,
             Pageable page
     );
+
+    @Query("""
+            select v from Video v
+            where v.updatedAt >= :at and (v.updatedAt > :at or v.id > :id) and v.updatedAt < :until
+            order by v.updatedAt, v.id
+            """)
+    List<VideoJpaEntity> findChangedAfter(
+            @Param("at") Instant at,
+            @Param("id") String id,
+            @Param("until") Instant until,
+            Pageable page
+    );
+
+    @Query(value = "select v.id from Video v where v.id in :ids")
+    List<String> existsByIds(@Param("ids") Collection<String> ids);
 }
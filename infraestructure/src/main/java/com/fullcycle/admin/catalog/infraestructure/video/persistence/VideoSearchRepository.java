@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalog.infraestructure.video.persistence;
+
+import com.fullcycle.admin.catalog.domain.video.VideoPreview;
+import com.fullcycle.admin.catalog.infraestructure.utils.KeysetUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Set;
+
+public interface VideoSearchRepository {
+
+    Page<VideoPreview> findAll(
+            String terms,
+            Set<String> categories,
+            Set<String> genres,
+            Set<String> castMembers,
+            Pageable page
+    );
+
+    List<KeysetUtils.Key> seek(
+            String terms,
+            Set<String> categories,
+            Set<String> genres,
+            Set<String> castMembers,
+            String sort,
+            String direction,
+            String cursor,
+            int limit
+    );
+}
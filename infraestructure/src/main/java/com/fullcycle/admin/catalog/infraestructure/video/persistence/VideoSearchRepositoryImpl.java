@@ -0,0 +1,155 @@
+package com.fullcycle.admin.catalog.infraestructure.video.persistence;
+
+import com.fullcycle.admin.catalog.domain.video.VideoPreview;
+import com.fullcycle.admin.catalog.infraestructure.search.TextSearch;
+import com.fullcycle.admin.catalog.infraestructure.utils.KeysetUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Searches videos without joining the relation tables into the main query. Each relation filter becomes an
+ * {@code EXISTS} subquery, added only when the filter is present, so there is no row fan out to de-duplicate and the
+ * count is a plain count over the filtered videos.
+ * <p>
+ * The terms are matched against the title through {@link TextSearch}, an unsorted page is ordered by relevance.
+ */
+public class VideoSearchRepositoryImpl implements VideoSearchRepository {
+
+    private static final String TITLE = "title";
+
+    private final EntityManager entityManager;
+    private final TextSearch textSearch;
+
+    public VideoSearchRepositoryImpl(final EntityManager entityManager, final TextSearch textSearch) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.textSearch = Objects.requireNonNull(textSearch);
+    }
+
+    @Override
+    public Page<VideoPreview> findAll(
+            final String terms,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> castMembers,
+            final Pageable page
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+
+        final var query = cb.createQuery(VideoPreview.class);
+        final var video = query.from(VideoJpaEntity.class);
+        query.select(cb.construct(
+                        VideoPreview.class,
+                        video.get("id"),
+                        video.get("title"),
+                        video.get("description"),
+                        video.get("createdAt"),
+                        video.get("updatedAt")
+                ))
+                .where(filters(cb, query, video, terms, categories, genres, castMembers))
+                .orderBy(page.getSort().isSorted()
+                        ? QueryUtils.toOrders(page.getSort(), video, cb)
+                        : textSearch.relevance(video, cb, terms, TITLE));
+
+        final var content = entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, page, () -> count(terms, categories, genres, castMembers));
+    }
+
+    @Override
+    public List<KeysetUtils.Key> seek(
+            final String terms,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> castMembers,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final int limit
+    ) {
+        final Specification<VideoJpaEntity> where = (video, query, cb) ->
+                cb.and(filters(cb, query, video, terms, categories, genres, castMembers));
+
+        return KeysetUtils.seek(entityManager, VideoJpaEntity.class, where, sort, direction, cursor, limit);
+    }
+
+    private long count(
+            final String terms,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> castMembers
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+
+        final var query = cb.createQuery(Long.class);
+        final var video = query.from(VideoJpaEntity.class);
+        query.select(cb.count(video))
+                .where(filters(cb, query, video, terms, categories, genres, castMembers));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate[] filters(
+            final CriteriaBuilder cb,
+            final CriteriaQuery<?> query,
+            final Root<VideoJpaEntity> video,
+            final String terms,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> castMembers
+    ) {
+        final var predicates = new ArrayList<Predicate>();
+
+        final Specification<VideoJpaEntity> matching = textSearch.matching(terms, TITLE);
+        if (matching != null) {
+            predicates.add(matching.toPredicate(video, query, cb));
+        }
+        if (categories != null) {
+            predicates.add(exists(cb, query, video, VideoCategoryJpaEntity.class, "categoryId", categories));
+        }
+        if (genres != null) {
+            predicates.add(exists(cb, query, video, VideoGenreJpaEntity.class, "genreId", genres));
+        }
+        if (castMembers != null) {
+            predicates.add(exists(cb, query, video, VideoCastMemberJpaEntity.class, "castMemberId", castMembers));
+        }
+
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    /**
+     * {@code exists (select 1 from <relation> r where r.video_id = v.id and r.<column> in (:ids))}, which MySQL may run
+     * as a semi-join starting from the {@code (<column>, video_id)} index when the filter is selective.
+     */
+    private static <R> Predicate exists(
+            final CriteriaBuilder cb,
+            final AbstractQuery<?> query,
+            final Root<VideoJpaEntity> video,
+            final Class<R> relation,
+            final String column,
+            final Set<String> ids
+    ) {
+        final var subquery = query.subquery(Integer.class);
+        final var root = subquery.from(relation);
+        final Path<Object> id = root.get("id");
+
+        return cb.exists(subquery
+                .select(cb.literal(1))
+                .where(
+                        cb.equal(id.get("videoId"), video.get("id")),
+                        id.get(column).in(ids)
+                ));
+    }
+}
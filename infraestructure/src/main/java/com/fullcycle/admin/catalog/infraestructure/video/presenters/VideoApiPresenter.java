@@ -0,0 +1,73 @@
+package com.fullcycle.admin.catalog.infraestructure.video.presenters;
+
+import com.fullcycle.admin.catalog.application.video.create.async.VideoCreationOutput;
+import com.fullcycle.admin.catalog.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalog.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalog.domain.video.ImageMedia;
+import com.fullcycle.admin.catalog.infraestructure.video.models.AudioVideoMediaResponse;
+import com.fullcycle.admin.catalog.infraestructure.video.models.ImageMediaResponse;
+import com.fullcycle.admin.catalog.infraestructure.video.models.VideoCreationResponse;
+import com.fullcycle.admin.catalog.infraestructure.video.models.VideoResponse;
+
+public interface VideoApiPresenter {
+
+    static VideoCreationResponse present(final VideoCreationOutput output) {
+        return new VideoCreationResponse(
+                output.id(),
+                output.status(),
+                output.videoId(),
+                output.errors(),
+                output.createdAt(),
+                output.updatedAt()
+        );
+    }
+
+    static VideoResponse present(final VideoOutput output) {
+        return new VideoResponse(
+                output.id(),
+                output.title(),
+                output.description(),
+                output.launchedAt(),
+                output.duration(),
+                output.opened(),
+                output.published(),
+                output.rating().getName(),
+                output.categories(),
+                output.genres(),
+                output.castMembers(),
+                present(output.video()),
+                present(output.trailer()),
+                present(output.banner()),
+                present(output.thumbnail()),
+                present(output.thumbnailHalf()),
+                output.createdAt(),
+                output.updatedAt()
+        );
+    }
+
+    static AudioVideoMediaResponse present(final AudioVideoMedia media) {
+        if (media == null) {
+            return null;
+        }
+        return new AudioVideoMediaResponse(
+                media.id(),
+                media.checksum(),
+                media.name(),
+                media.rawLocation(),
+                media.encodedPath(),
+                media.status().name()
+        );
+    }
+
+    static ImageMediaResponse present(final ImageMedia media) {
+        if (media == null) {
+            return null;
+        }
+        return new ImageMediaResponse(
+                media.id(),
+                media.checksum(),
+                media.name(),
+                media.location()
+        );
+    }
+}
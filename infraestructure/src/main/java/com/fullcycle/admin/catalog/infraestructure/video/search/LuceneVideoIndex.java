@@ -0,0 +1,582 @@
+package com.fullcycle.admin.catalog.infraestructure.video.search;
+
+import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoPreview;
+import com.fullcycle.admin.catalog.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalog.infraestructure.search.TextSearch;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.collation.CollationDocValuesField;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiTerms;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.text.Collator;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * In-process inverted index of the videos, used to filter, rank and facet video searches without touching MySQL.
+ * <p>
+ * Writes are applied once the gateway transaction commits and become searchable at the next refresh, so searches are
+ * near real time. A snapshot commits the index to its directory along with a watermark, on restart only the videos
+ * updated after the watermark are indexed again, see {@link VideoIndexLoader}. Without a path the index lives in memory
+ * and is rebuilt on every start.
+ * <p>
+ * Searches are served only once the index is {@link #isReady() ready}, and only for the sorts it keeps doc values for.
+ * They match the same as MySQL, every word of the terms as a prefix of the title, and titles are sorted with a
+ * collator ignoring case and accents, as the {@code _ai_ci} collation of the column.
+ * <p>
+ * The index is local to the instance. It sees the writes of its own gateway and what {@link VideoIndexLoader} reads
+ * at start, writes made on other instances only show up after a restart. It is therefore disabled by default and
+ * meant for single instance deployments.
+ * <p>
+ * Each id keeps the {@code updated_at} of its last write, or a tombstone once deleted, so an older version read by
+ * the loader never replaces a newer one indexed meanwhile.
+ */
+public class LuceneVideoIndex implements AutoCloseable {
+
+    public static final String CATEGORIES = "categories";
+    public static final String GENRES = "genres";
+    public static final String CAST_MEMBERS = "cast_members";
+    public static final String RATING = "rating";
+    public static final String LAUNCHED_AT = "launched_at";
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String CREATED_AT = "createdAt";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String SORT_SUFFIX = "_sort";
+    private static final String WATERMARK = "watermark";
+    private static final String FORMAT = "format";
+    private static final String CURRENT_FORMAT = "2";
+    private static final long DELETED = Long.MAX_VALUE;
+
+    private static final float PREFIX_BOOST = 0.5f;
+
+    private static final Logger log = LoggerFactory.getLogger(LuceneVideoIndex.class);
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final FacetsConfig facetsConfig;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final Clock clock;
+    private final AtomicBoolean ready;
+    private final Collator collator;
+    private final Map<String, Long> versions;
+    private final Map<String, Instant> failed;
+
+    private volatile SortedSetDocValuesReaderState facetsState;
+
+    public LuceneVideoIndex(final Path path, final Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+        this.analyzer = analyzer();
+        this.facetsConfig = new FacetsConfig();
+        this.facetsConfig.setMultiValued(CATEGORIES, true);
+        this.facetsConfig.setMultiValued(GENRES, true);
+        this.facetsConfig.setMultiValued(CAST_MEMBERS, true);
+        this.ready = new AtomicBoolean(false);
+        this.collator = Collator.getInstance(Locale.ROOT);
+        this.collator.setStrength(Collator.PRIMARY);
+        this.versions = new ConcurrentHashMap<>();
+        this.failed = new ConcurrentHashMap<>();
+
+        try {
+            this.directory = path == null ? new ByteBuffersDirectory() : FSDirectory.open(path);
+            this.writer = new IndexWriter(
+                    directory,
+                    new IndexWriterConfig(analyzer).setOpenMode(openMode(directory))
+            );
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not open the video search index", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(final VideoIndexChange change) {
+        try {
+            if (change instanceof VideoIndexChange.Saved saved) {
+                index(saved.video());
+            } else if (change instanceof VideoIndexChange.Deleted deleted) {
+                delete(deleted.id());
+            }
+        } catch (final RuntimeException e) {
+            // MySQL already committed, the id is kept for VideoIndexLoader to retry and holds back the next snapshot
+            failed.put(change.id(), clock.instant());
+            log.error("Could not apply {} to the video search index", change, e);
+        }
+    }
+
+    /**
+     * Indexes the video unless a newer version of it was indexed or it was deleted.
+     */
+    public void index(final Video video) {
+        final var id = video.getId().getValue();
+        final var version = micros(video.getUpdatedAt());
+        versions.compute(id, (key, current) -> {
+            if (current != null && current > version) {
+                return current;
+            }
+            try {
+                writer.updateDocument(new Term(ID, id), facetsConfig.build(toDocument(video)));
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Could not index video " + id, e);
+            }
+            return version;
+        });
+    }
+
+    public void delete(final String id) {
+        versions.compute(id, (key, current) -> {
+            try {
+                writer.deleteDocuments(new Term(ID, id));
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Could not delete video " + id + " from the index", e);
+            }
+            return DELETED;
+        });
+    }
+
+    /**
+     * @return the ids whose write failed after their transaction committed, with the time of the last failure
+     */
+    public Map<String, Instant> failedWrites() {
+        return Map.copyOf(failed);
+    }
+
+    /**
+     * Clears a failed write once retried, unless it failed again since.
+     */
+    public void retried(final String id, final Instant failedAt) {
+        failed.remove(id, failedAt);
+    }
+
+    public boolean isReady() {
+        return ready.get();
+    }
+
+    public void markReady() {
+        ready.set(true);
+    }
+
+    /**
+     * @return true when the query can be answered by the index
+     */
+    public boolean supports(final VideoSearchQuery query) {
+        return isReady() && !query.isKeyset() && sortField(query.sort()).isPresent();
+    }
+
+    public Pagination<VideoPreview> search(final VideoSearchQuery query) {
+        final var luceneQuery = toQuery(query);
+        final var sort = sort(query);
+        final var from = query.page() * query.perPage();
+
+        return withSearcher(searcher -> {
+            final var total = searcher.count(luceneQuery);
+            final var items = new ArrayList<VideoPreview>(query.perPage());
+
+            if (from < total && query.perPage() > 0) {
+                final var hits = searcher.search(luceneQuery, from + query.perPage(), sort, false).scoreDocs;
+                final var storedFields = searcher.storedFields();
+                for (int i = from; i < hits.length; i++) {
+                    items.add(toPreview(storedFields.document(hits[i].doc)));
+                }
+            }
+
+            return new Pagination<>(query.page(), query.perPage(), total, items);
+        });
+    }
+
+    /**
+     * @return the most frequent values of each facet among the videos matching the query, by dimension
+     */
+    public Map<String, Map<String, Long>> facets(final VideoSearchQuery query, final int topN) {
+        final var luceneQuery = toQuery(query);
+
+        return withSearcher(searcher -> {
+            final var result = new LinkedHashMap<String, Map<String, Long>>();
+            final var state = facetsState(searcher.getIndexReader());
+            if (state == null) {
+                return result;
+            }
+
+            final var collector = new FacetsCollector();
+            FacetsCollector.search(searcher, luceneQuery, 1, collector);
+            final var counts = new SortedSetDocValuesFacetCounts(state, collector);
+
+            for (final var dim : List.of(CATEGORIES, GENRES, CAST_MEMBERS, RATING, LAUNCHED_AT)) {
+                final var values = new LinkedHashMap<String, Long>();
+                final var top = topChildren(counts, topN, dim);
+                if (top != null) {
+                    for (final var labelValue : top.labelValues) {
+                        values.put(labelValue.label, labelValue.value.longValue());
+                    }
+                }
+                result.put(dim, values);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Makes the writes so far visible to searches, without waiting when another refresh is running.
+     */
+    @Scheduled(fixedDelayString = "${search.video-index.refresh-interval:1000}")
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (final IOException e) {
+            log.warn("Could not refresh the video search index", e);
+        }
+    }
+
+    public void refreshBlocking() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.video-index.snapshot-interval:60000}")
+    public void snapshot() {
+        if (isReady()) {
+            snapshot(clock.instant());
+        }
+    }
+
+    /**
+     * Commits the index to its directory. Every video updated before the watermark and already indexed is part of
+     * the snapshot. While writes are failing the watermark stays before the first of them, so a restart indexes
+     * those videos again.
+     */
+    public void snapshot(final Instant watermark) {
+        final var effective = failed.values().stream()
+                .min(Comparator.naturalOrder())
+                .filter(firstFailure -> firstFailure.isBefore(watermark))
+                .orElse(watermark);
+        try {
+            writer.setLiveCommitData(Map.of(WATERMARK, effective.toString(), FORMAT, CURRENT_FORMAT).entrySet());
+            writer.commit();
+        } catch (final IOException e) {
+            log.warn("Could not snapshot the video search index", e);
+        }
+    }
+
+    /**
+     * @return the watermark of the snapshot the index was restored from, empty when it starts empty
+     */
+    public Optional<Instant> lastSnapshot() {
+        final var commitData = writer.getLiveCommitData();
+        if (commitData == null) {
+            return Optional.empty();
+        }
+        for (final var entry : commitData) {
+            if (WATERMARK.equals(entry.getKey())) {
+                return Optional.of(Instant.parse(entry.getValue()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Visits the ids present in the index, including ids deleted since the last merge.
+     */
+    public void forEachId(final Consumer<String> consumer) {
+        withSearcher(searcher -> {
+            final var terms = MultiTerms.getTerms(searcher.getIndexReader(), ID);
+            if (terms != null) {
+                final var iterator = terms.iterator();
+                BytesRef term;
+                while ((term = iterator.next()) != null) {
+                    consumer.accept(term.utf8ToString());
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (isReady()) {
+                snapshot(clock.instant());
+            }
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        } catch (final IOException e) {
+            log.warn("Could not close the video search index", e);
+        }
+    }
+
+    private Query toQuery(final VideoSearchQuery query) {
+        final var builder = new BooleanQuery.Builder();
+        var empty = true;
+
+        for (final var token : tokens(query.terms())) {
+            builder.add(
+                    new BooleanQuery.Builder()
+                            .add(new TermQuery(new Term(TITLE, token)), BooleanClause.Occur.SHOULD)
+                            .add(new BoostQuery(new PrefixQuery(new Term(TITLE, token)), PREFIX_BOOST), BooleanClause.Occur.SHOULD)
+                            .build(),
+                    BooleanClause.Occur.MUST
+            );
+            empty = false;
+        }
+
+        empty &= !filter(builder, CATEGORIES, query.categories());
+        empty &= !filter(builder, GENRES, query.genres());
+        empty &= !filter(builder, CAST_MEMBERS, query.castMembers());
+
+        return empty ? new MatchAllDocsQuery() : builder.build();
+    }
+
+    private static boolean filter(
+            final BooleanQuery.Builder builder,
+            final String field,
+            final Set<? extends Identifier> ids
+    ) {
+        if (ids == null || ids.isEmpty()) {
+            return false;
+        }
+        final var values = ids.stream().map(it -> new BytesRef(it.getValue())).toList();
+        builder.add(new TermInSetQuery(field, values), BooleanClause.Occur.FILTER);
+        return true;
+    }
+
+    private Sort sort(final VideoSearchQuery query) {
+        final var reverse = "desc".equalsIgnoreCase(query.direction());
+        final var field = sortField(query.sort()).orElseThrow();
+        final var tieBreak = new SortField(ID + SORT_SUFFIX, SortField.Type.STRING);
+
+        return field == SortField.FIELD_SCORE
+                ? new Sort(SortField.FIELD_SCORE, tieBreak)
+                : new Sort(new SortField(field.getField(), field.getType(), reverse), tieBreak);
+    }
+
+    private static Optional<SortField> sortField(final String sort) {
+        if (sort == null) {
+            return Optional.empty();
+        }
+        if (TextSearch.isRelevance(sort)) {
+            return Optional.of(SortField.FIELD_SCORE);
+        }
+        return switch (sort) {
+            case TITLE -> Optional.of(new SortField(TITLE + SORT_SUFFIX, SortField.Type.STRING));
+            case CREATED_AT, UPDATED_AT -> Optional.of(new SortField(sort + SORT_SUFFIX, SortField.Type.LONG));
+            default -> Optional.empty();
+        };
+    }
+
+    private List<String> tokens(final String terms) {
+        final var tokens = new ArrayList<String>();
+        if (terms == null || terms.isBlank()) {
+            return tokens;
+        }
+        try (final var stream = analyzer.tokenStream(TITLE, terms)) {
+            final var term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    private Document toDocument(final Video video) {
+        final var id = video.getId().getValue();
+        final var document = new Document();
+
+        document.add(new StringField(ID, id, Field.Store.YES));
+        document.add(new SortedDocValuesField(ID + SORT_SUFFIX, new BytesRef(id)));
+
+        document.add(new TextField(TITLE, video.getTitle(), Field.Store.YES));
+        final var titleSort = new CollationDocValuesField(TITLE + SORT_SUFFIX, collator);
+        titleSort.setStringValue(video.getTitle());
+        document.add(titleSort);
+        if (video.getDescription() != null) {
+            document.add(new StoredField(DESCRIPTION, video.getDescription()));
+        }
+
+        document.add(new StoredField(CREATED_AT, video.getCreatedAt().toString()));
+        document.add(new NumericDocValuesField(CREATED_AT + SORT_SUFFIX, micros(video.getCreatedAt())));
+        document.add(new StoredField(UPDATED_AT, video.getUpdatedAt().toString()));
+        document.add(new NumericDocValuesField(UPDATED_AT + SORT_SUFFIX, micros(video.getUpdatedAt())));
+
+        if (video.getRating() != null) {
+            document.add(new SortedSetDocValuesFacetField(RATING, video.getRating().name()));
+        }
+        if (video.getLaunchedAt() != null) {
+            document.add(new SortedSetDocValuesFacetField(LAUNCHED_AT, String.valueOf(video.getLaunchedAt().getValue())));
+        }
+
+        addIds(document, CATEGORIES, video.getCategories());
+        addIds(document, GENRES, video.getGenres());
+        addIds(document, CAST_MEMBERS, video.getCastMembers());
+
+        return document;
+    }
+
+    private static void addIds(final Document document, final String field, final Collection<? extends Identifier> ids) {
+        for (final var id : ids) {
+            document.add(new StringField(field, id.getValue(), Field.Store.NO));
+            document.add(new SortedSetDocValuesFacetField(field, id.getValue()));
+        }
+    }
+
+    private static VideoPreview toPreview(final Document document) {
+        return new VideoPreview(
+                document.get(ID),
+                document.get(TITLE),
+                document.get(DESCRIPTION),
+                Instant.parse(document.get(CREATED_AT)),
+                Instant.parse(document.get(UPDATED_AT))
+        );
+    }
+
+    private static long micros(final Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    /**
+     * Snapshots written with other analysis or sort keys are dropped and indexed again from MySQL.
+     */
+    private static IndexWriterConfig.OpenMode openMode(final Directory directory) throws IOException {
+        if (DirectoryReader.indexExists(directory)
+                && !CURRENT_FORMAT.equals(SegmentInfos.readLatestCommit(directory).getUserData().get(FORMAT))) {
+            log.info("Dropping the video search index snapshot of an older format");
+            return IndexWriterConfig.OpenMode.CREATE;
+        }
+        return IndexWriterConfig.OpenMode.CREATE_OR_APPEND;
+    }
+
+    private SortedSetDocValuesReaderState facetsState(final IndexReader reader) throws IOException {
+        final var current = facetsState;
+        if (current != null && current.getReader() == reader) {
+            return current;
+        }
+        try {
+            final var state = new DefaultSortedSetDocValuesReaderState(reader, facetsConfig);
+            facetsState = state;
+            return state;
+        } catch (final IllegalArgumentException e) {
+            // nothing was indexed with facets yet
+            return null;
+        }
+    }
+
+    private static FacetResult topChildren(
+            final SortedSetDocValuesFacetCounts counts,
+            final int topN,
+            final String dim
+    ) throws IOException {
+        try {
+            return counts.getTopChildren(topN, dim);
+        } catch (final IllegalArgumentException e) {
+            // dimension never indexed
+            return null;
+        }
+    }
+
+    private <T> T withSearcher(final SearcherFunction<T> function) {
+        try {
+            final IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return function.apply(searcher);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not search the video index", e);
+        }
+    }
+
+    private static Analyzer analyzer() {
+        return new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(final String fieldName) {
+                final var tokenizer = new StandardTokenizer();
+                final TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer));
+                return new TokenStreamComponents(tokenizer, stream);
+            }
+
+            @Override
+            protected TokenStream normalize(final String fieldName, final TokenStream in) {
+                return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface SearcherFunction<T> {
+        T apply(IndexSearcher searcher) throws IOException;
+    }
+}
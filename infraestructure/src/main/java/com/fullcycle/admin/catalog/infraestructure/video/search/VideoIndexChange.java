@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.infraestructure.video.search;
+
+import com.fullcycle.admin.catalog.domain.video.Video;
+
+/**
+ * Published by the video gateway on every write, applied to the search index once the transaction commits.
+ */
+public sealed interface VideoIndexChange {
+
+    String id();
+
+    record Saved(Video video) implements VideoIndexChange {
+
+        @Override
+        public String id() {
+            return video.getId().getValue();
+        }
+    }
+
+    record Deleted(String id) implements VideoIndexChange {
+    }
+}
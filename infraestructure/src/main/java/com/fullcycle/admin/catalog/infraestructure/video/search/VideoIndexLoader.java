@@ -0,0 +1,150 @@
+package com.fullcycle.admin.catalog.infraestructure.video.search;
+
+import com.fullcycle.admin.catalog.infraestructure.video.persistence.VideoJpaEntity;
+import com.fullcycle.admin.catalog.infraestructure.video.persistence.VideoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Brings the video index up to date with MySQL when the application starts, then marks it ready.
+ * <p>
+ * An empty index is built from every video. An index restored from a snapshot only indexes the videos updated after
+ * its watermark, minus a margin for transactions that were still open when the snapshot was taken, and drops the
+ * videos deleted since.
+ * <p>
+ * Afterwards it retries the writes the index failed to apply, reading those videos again from MySQL.
+ */
+public class VideoIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoIndexLoader.class);
+
+    private final LuceneVideoIndex index;
+    private final VideoRepository videoRepository;
+    private final TransactionOperations transactions;
+    private final Clock clock;
+    private final int batchSize;
+    private final Duration catchUpMargin;
+
+    public VideoIndexLoader(
+            final LuceneVideoIndex index,
+            final VideoRepository videoRepository,
+            final TransactionOperations transactions,
+            final Clock clock,
+            final int batchSize,
+            final Duration catchUpMargin
+    ) {
+        this.index = Objects.requireNonNull(index);
+        this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.transactions = Objects.requireNonNull(transactions);
+        this.clock = Objects.requireNonNull(clock);
+        this.batchSize = batchSize;
+        this.catchUpMargin = Objects.requireNonNull(catchUpMargin);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        final var loader = new Thread(this::load, "video-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    public void load() {
+        final var startedAt = clock.instant();
+        final var snapshot = index.lastSnapshot();
+
+        try {
+            final var since = snapshot.map(it -> it.minus(catchUpMargin)).orElse(Instant.EPOCH);
+            final var indexed = indexUpdatedSince(since);
+            final var removed = snapshot.isPresent() ? removeDeleted() : 0;
+
+            index.snapshot(startedAt);
+            index.refreshBlocking();
+            index.markReady();
+
+            log.info(
+                    "Video search index ready, {} videos indexed and {} removed since {}",
+                    indexed, removed, snapshot.map(Instant::toString).orElse("an empty index")
+            );
+        } catch (final RuntimeException e) {
+            log.error("Could not load the video search index, searches keep using MySQL", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.video-index.retry-interval:60000}")
+    public void retryFailedWrites() {
+        final var failed = index.failedWrites();
+        if (failed.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactions.executeWithoutResult(status -> {
+                final var found = new HashSet<String>();
+                for (final VideoJpaEntity video : videoRepository.findAllById(failed.keySet())) {
+                    index.index(video.toAggregate());
+                    found.add(video.getId());
+                }
+                failed.keySet().stream()
+                        .filter(id -> !found.contains(id))
+                        .forEach(index::delete);
+            });
+            failed.forEach(index::retried);
+        } catch (final RuntimeException e) {
+            log.warn("Could not retry {} failed writes of the video search index", failed.size(), e);
+        }
+    }
+
+    private int indexUpdatedSince(final Instant since) {
+        var indexed = 0;
+        var after = "";
+        while (true) {
+            final var lastId = after;
+            final var batch = transactions.execute(status -> {
+                final var videos = videoRepository.findUpdatedSince(since, lastId, PageRequest.ofSize(batchSize));
+                videos.forEach(it -> index.index(it.toAggregate()));
+                return videos;
+            });
+
+            if (batch == null || batch.isEmpty()) {
+                return indexed;
+            }
+            indexed += batch.size();
+            after = batch.get(batch.size() - 1).getId();
+
+            if (batch.size() < batchSize) {
+                return indexed;
+            }
+        }
+    }
+
+    private int removeDeleted() {
+        final var ids = new ArrayList<String>();
+        index.forEachId(ids::add);
+
+        var removed = 0;
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            final List<String> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            final var existing = new HashSet<>(videoRepository.existsByIds(batch));
+            for (final var id : batch) {
+                if (!existing.contains(id)) {
+                    index.delete(id);
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+}
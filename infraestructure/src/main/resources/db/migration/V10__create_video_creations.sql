@@ -0,0 +1,13 @@
+-- Criações de vídeo aceitas para rodar em background; o dono é a instância que guarda a fila e os arquivos em staging.
+CREATE TABLE video_creations(
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    status VARCHAR(32) NOT NULL,
+    video_id CHAR(32) NULL,
+    errors TEXT NOT NULL,
+    owner VARCHAR(255) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_video_creations_status_updated_at ON video_creations (status, updated_at);
+CREATE INDEX idx_video_creations_owner_status ON video_creations (owner, status);
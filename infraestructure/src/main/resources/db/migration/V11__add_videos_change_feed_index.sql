@@ -0,0 +1,2 @@
+-- O feed de alterações dos vídeos avança por (updated_at, id), como o das categorias, gêneros e membros do elenco.
+CREATE INDEX idx_videos_updated_at_id ON videos (updated_at, id);
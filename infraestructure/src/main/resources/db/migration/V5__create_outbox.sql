@@ -0,0 +1,8 @@
+CREATE TABLE outbox_events(
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    exchange VARCHAR(255) NOT NULL,
+    routing_key VARCHAR(255) NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
@@ -0,0 +1,5 @@
+-- Os índices únicos começam por video_id; estes atendem os filtros da busca de vídeos a partir da relação.
+-- O índice criado implicitamente para a FK de cada coluna passa a ser coberto por estes e é descartado pelo MySQL.
+CREATE INDEX idx_vcs_category_video ON videos_categories (category_id, video_id);
+CREATE INDEX idx_vgs_genre_video ON videos_genres (genre_id, video_id);
+CREATE INDEX idx_vcms_cast_member_video ON videos_cast_members (cast_member_id, video_id);
@@ -0,0 +1,14 @@
+-- O feed de alterações avança por (updated_at, id) a partir da marca d'água do consumidor.
+CREATE INDEX idx_categories_updated_at_id ON categories (updated_at, id);
+CREATE INDEX idx_genres_updated_at_id ON genres (updated_at, id);
+CREATE INDEX idx_cast_members_updated_at_id ON cast_members (updated_at, id);
+
+-- As exclusões apagam a linha; a lápide mantém o registro da exclusão para o feed até expirar a retenção.
+CREATE TABLE tombstones(
+    aggregate VARCHAR(32) NOT NULL,
+    id CHAR(32) NOT NULL,
+    deleted_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_tombstones PRIMARY KEY (aggregate, id)
+);
+
+CREATE INDEX idx_tombstones_aggregate_deleted_at_id ON tombstones (aggregate, deleted_at, id);
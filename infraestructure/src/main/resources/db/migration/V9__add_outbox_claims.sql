@@ -0,0 +1,4 @@
+ALTER TABLE outbox_events ADD COLUMN claimed_by VARCHAR(32) NULL;
+ALTER TABLE outbox_events ADD COLUMN claimed_until DATETIME(6) NULL;
+
+CREATE INDEX idx_outbox_events_claimed_by ON outbox_events (claimed_by);
@@ -3,10 +3,12 @@ package com.fullcycle.admin.catalog;
 import com.fullcycle.admin.catalog.infraestructure.castmember.persistence.CastMemberRepository;
 import com.fullcycle.admin.catalog.infraestructure.category.persistence.CategoryRepository;
 import com.fullcycle.admin.catalog.infraestructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalog.infraestructure.outbox.persistence.OutboxEventRepository;
 import com.fullcycle.admin.catalog.infraestructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.Collection;
@@ -19,11 +21,14 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
         final var applicationContext = SpringExtension.getApplicationContext(context);
 
         cleanUp(List.of(
+                applicationContext.getBean(OutboxEventRepository.class),
                 applicationContext.getBean(VideoRepository.class),
                 applicationContext.getBean(CastMemberRepository.class),
                 applicationContext.getBean(GenreRepository.class),
                 applicationContext.getBean(CategoryRepository.class)
         ));
+        applicationContext.getBean(JdbcOperations.class).update("DELETE FROM tombstones");
+        applicationContext.getBean(JdbcOperations.class).update("DELETE FROM video_creations");
     }
 
     private void cleanUp(final Collection<CrudRepository> repositories) {
@@ -2,10 +2,17 @@ package com.fullcycle.admin.catalog.infraestructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalog.ControllerTest;
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.bulk.ImportOutput;
+import com.fullcycle.admin.catalog.application.bulk.ImportResult;
+import com.fullcycle.admin.catalog.application.castmember.bulk.DefaultImportCastMembersUseCase;
+import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberCommand;
 import com.fullcycle.admin.catalog.domain.Fixture;
 import com.fullcycle.admin.catalog.application.castmember.create.CreateCastMemberOutput;
 import com.fullcycle.admin.catalog.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.fullcycle.admin.catalog.application.castmember.delete.DefaultDeleteCastMemberUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.changes.DefaultListCastMemberChangesUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.export.DefaultExportCastMembersUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.get.CastMemberOutput;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import com.fullcycle.admin.catalog.application.castmember.retrieve.list.CastMemberListOutput;
@@ -14,6 +21,7 @@ import com.fullcycle.admin.catalog.application.castmember.update.DefaultUpdateCa
 import com.fullcycle.admin.catalog.application.castmember.update.UpdateCastMemberOutput;
 import com.fullcycle.admin.catalog.domain.castmember.CastMember;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberType;
 import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
 import com.fullcycle.admin.catalog.domain.exception.NotificationException;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
@@ -29,9 +37,12 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.junit.jupiter.api.Assertions;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -62,6 +73,15 @@ class CastMemberAPITest {
     @MockBean
     private DefaultListCastMembersUseCase listCastMembersUseCase;
 
+    @MockBean
+    private DefaultImportCastMembersUseCase importCastMembersUseCase;
+
+    @MockBean
+    private DefaultExportCastMembersUseCase exportCastMembersUseCase;
+
+    @MockBean
+    private DefaultListCastMemberChangesUseCase listCastMemberChangesUseCase;
+
     @Test
     void givenAValidCommand_whenCallsCreateCastMember_thenReturnItsIdentifier() throws Exception {
         final var expectedName = Fixture.name();
@@ -277,4 +297,39 @@ class CastMemberAPITest {
                         && Objects.equals(expectedTerms, query.terms())
         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenCsvRows_whenCallsImportCastMembers_thenReadEachRowAsACommand() throws Exception {
+        final var body = """
+                name,type
+                "Gadot, Gal",ACTOR
+                Quentin Tarantino,DIRECTOR
+                """;
+        final var commands = new ArrayList<CreateCastMemberCommand>();
+        when(importCastMembersUseCase.execute(any())).thenAnswer(call -> {
+            final ImportCommand<CreateCastMemberCommand> command = call.getArgument(0);
+            command.records().forEachRemaining(record -> {
+                commands.add(record.command());
+                command.results().accept(ImportResult.created(record.line(), "id-" + record.line()));
+            });
+            return ImportOutput.with(commands.size(), 0);
+        });
+
+        final var request = post("/cast_members/import")
+                .contentType("text/csv")
+                .content(body);
+        final var started = mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("{\"line\":3,\"id\":\"id-3\",\"errors\":[]}")))
+                .andExpect(content().string(containsString("{\"total\":2,\"created\":2,\"failed\":0}")));
+
+        Assertions.assertEquals(List.of(
+                CreateCastMemberCommand.with("Gadot, Gal", CastMemberType.ACTOR),
+                CreateCastMemberCommand.with("Quentin Tarantino", CastMemberType.DIRECTOR)
+        ), commands);
+    }
+}
@@ -2,9 +2,16 @@ package com.fullcycle.admin.catalog.infraestructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalog.ControllerTest;
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.bulk.ImportOutput;
+import com.fullcycle.admin.catalog.application.bulk.ImportResult;
+import com.fullcycle.admin.catalog.application.category.bulk.ImportCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.changes.ListCategoryChangesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
 import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
@@ -13,6 +20,8 @@ import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryOut
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.changes.Change;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
 import com.fullcycle.admin.catalog.domain.exception.DomainException;
 import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
@@ -26,8 +35,13 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
 
 import static io.vavr.API.Left;
 import static io.vavr.API.Right;
@@ -62,6 +76,15 @@ class CategoryAPITest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private ImportCategoriesUseCase importCategoriesUseCase;
+
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
+    @MockBean
+    private ListCategoryChangesUseCase listCategoryChangesUseCase;
+
     @Test
     void givenAValidCommand_whenCallsCreateCategory_thenReturnCategoryId() throws Exception {
         var expectedName = "Filmes";
@@ -318,4 +341,217 @@ class CategoryAPITest {
                 .andExpect(jsonPath("$.items[0].created_at", equalTo(category.getCreatedAt().toString())))
                 .andExpect(jsonPath("$.items[0].deleted_at", equalTo(category.getDeletedAt())));
     }
+
+    @Test
+    void givenACursor_whenCallsListCategories_thenReturnTheNextCursor() throws Exception {
+        final var expectedCursor = "eyJzb3J0IjoibmFtZSJ9";
+        final var expectedNextCursor = "eyJzb3J0IjoibmFtZSIsImlkIjoiMTIzIn0";
+        final var category = Category.newCategory("movies", null, true);
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(1, 1, Pagination.UNKNOWN_TOTAL, List.of(CategoryListOutput.from(category)), expectedNextCursor));
+
+        final var request = get("/categories")
+                .queryParam("page", "1")
+                .queryParam("perPage", "1")
+                .queryParam("cursor", expectedCursor)
+                .accept(MediaType.APPLICATION_JSON);
+        mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNKNOWN_TOTAL)))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedCursor, query.cursor())
+                        && Objects.equals("name", query.sort())
+                        && Objects.equals("asc", query.direction())
+        ));
+    }
+
+    @Test
+    void givenTheLastKeysetPage_whenCallsListCategories_thenReturnNoNextCursor() throws Exception {
+        final var category = Category.newCategory("movies", null, true);
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(2, 1, Pagination.UNKNOWN_TOTAL, List.of(CategoryListOutput.from(category)), null));
+
+        final var request = get("/categories")
+                .queryParam("page", "2")
+                .queryParam("perPage", "1")
+                .queryParam("cursor", "eyJzb3J0IjoibmFtZSJ9")
+                .accept(MediaType.APPLICATION_JSON);
+        mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.next_cursor", nullValue()));
+    }
+
+    @Test
+    void givenATamperedCursor_whenCallsListCategories_thenReturnUnprocessableEntity() throws Exception {
+        final var expectedCursor = "not-a-cursor";
+        final var expectedMessage = "'cursor' is invalid for the requested sort";
+        when(listCategoriesUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedMessage)));
+
+        final var request = get("/categories")
+                .queryParam("cursor", expectedCursor)
+                .accept(MediaType.APPLICATION_JSON);
+        mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedMessage)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedCursor, query.cursor())
+        ));
+    }
+
+    @Test
+    void givenACursorOfAnotherSort_whenCallsListCategories_thenReturnUnprocessableEntity() throws Exception {
+        final var expectedCursor = "eyJzb3J0IjoibmFtZSJ9";
+        final var expectedSort = "description";
+        final var expectedMessage = "'cursor' is invalid for the requested sort";
+        when(listCategoriesUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedMessage)));
+
+        final var request = get("/categories")
+                .queryParam("sort", expectedSort)
+                .queryParam("cursor", expectedCursor)
+                .accept(MediaType.APPLICATION_JSON);
+        mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedMessage)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedCursor, query.cursor())
+                        && Objects.equals(expectedSort, query.sort())
+        ));
+    }
+
+    @Test
+    void givenNdjsonLines_whenCallsImportCategories_thenStreamTheResultOfEachLine() throws Exception {
+        final var body = """
+                {"name": "Filmes", "description": "A mais assistida", "is_active": true}
+
+                {"name": "Séries", "is_active": false
+                """;
+        final var commands = new ArrayList<CreateCategoryCommand>();
+        when(importCategoriesUseCase.execute(any())).thenAnswer(call -> {
+            final ImportCommand<CreateCategoryCommand> command = call.getArgument(0);
+            command.records().forEachRemaining(record -> {
+                if (record.isReadable()) {
+                    commands.add(record.command());
+                    command.results().accept(ImportResult.created(record.line(), "123"));
+                } else {
+                    command.results().accept(ImportResult.failed(record.line(), List.of(new Error(record.error()))));
+                }
+            });
+            return ImportOutput.with(1, 1);
+        });
+
+        final var request = post("/categories/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body);
+        final var started = mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var lines = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8)
+                .lines()
+                .toList();
+
+        Assertions.assertEquals(List.of(CreateCategoryCommand.with("Filmes", "A mais assistida", true)), commands);
+        Assertions.assertEquals(3, lines.size());
+        Assertions.assertEquals("{\"line\":1,\"id\":\"123\",\"errors\":[]}", lines.get(0));
+        Assertions.assertTrue(lines.get(1).startsWith("{\"line\":3,\"id\":null,\"errors\":[{\"message\":\"Could not read the line:"));
+        Assertions.assertEquals("{\"total\":2,\"created\":1,\"failed\":1}", lines.get(2));
+    }
+
+    @Test
+    void givenPlainTextBody_whenCallsImportCategories_thenReturnUnsupportedMediaType() throws Exception {
+        final var request = post("/categories/import")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("Filmes");
+
+        mvc.perform(request)
+                .andExpect(status().isUnsupportedMediaType());
+
+        verify(importCategoriesUseCase, times(0)).execute(any());
+    }
+
+    @Test
+    void givenPersistedCategories_whenCallsExportCategories_thenStreamOneJsonLinePerCategory() throws Exception {
+        final var filmes = Category.newCategory("Filmes", "A mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+        doAnswer(call -> {
+            final Consumer<CategoryOutput> output = call.getArgument(0);
+            output.accept(CategoryOutput.from(filmes));
+            output.accept(CategoryOutput.from(series));
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        final var started = mvc.perform(get("/categories/export").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var lines = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8)
+                .lines()
+                .toList();
+
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertEquals(filmes.getId().getValue(), mapper.readTree(lines.get(0)).get("id").asText());
+        Assertions.assertEquals("Filmes", mapper.readTree(lines.get(0)).get("name").asText());
+        Assertions.assertEquals(series.getId().getValue(), mapper.readTree(lines.get(1)).get("id").asText());
+        Assertions.assertFalse(mapper.readTree(lines.get(1)).get("is_active").asBoolean());
+    }
+
+    @Test
+    void givenAWatermark_whenCallsListChanges_thenReturnTheChangesAndTheNextWatermark() throws Exception {
+        final var filmes = Category.newCategory("Filmes", "A mais assistida", true);
+        final var deletedAt = Instant.parse("2024-01-01T10:00:00Z");
+        final var feed = new ChangeFeed<>(
+                List.of(
+                        Change.saved(filmes.getId().getValue(), filmes.getCreatedAt(), filmes.getUpdatedAt(), CategoryOutput.from(filmes)),
+                        Change.<CategoryOutput>deleted("123", deletedAt)
+                ),
+                "next",
+                false
+        );
+        when(listCategoryChangesUseCase.execute(any())).thenReturn(feed);
+
+        final var request = get("/categories/changes")
+                .queryParam("since", "previous")
+                .queryParam("limit", "50")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.watermark", equalTo("next")))
+                .andExpect(jsonPath("$.has_more", equalTo(false)))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].type", equalTo("CREATED")))
+                .andExpect(jsonPath("$.items[0].id", equalTo(filmes.getId().getValue())))
+                .andExpect(jsonPath("$.items[0].item.name", equalTo("Filmes")))
+                .andExpect(jsonPath("$.items[1].type", equalTo("DELETED")))
+                .andExpect(jsonPath("$.items[1].changed_at", equalTo(deletedAt.toString())))
+                .andExpect(jsonPath("$.items[1].item", nullValue()));
+
+        verify(listCategoryChangesUseCase, times(1)).execute(argThat(query ->
+                "previous".equals(query.since()) && query.limit() == 50
+        ));
+    }
 }
@@ -2,9 +2,12 @@ package com.fullcycle.admin.catalog.infraestructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalog.ControllerTest;
+import com.fullcycle.admin.catalog.application.genre.bulk.ImportGenresUseCase;
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreOutput;
 import com.fullcycle.admin.catalog.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.admin.catalog.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrieve.changes.ListGenreChangesUseCase;
+import com.fullcycle.admin.catalog.application.genre.retrieve.export.ExportGenresUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrieve.get.GenreOutput;
 import com.fullcycle.admin.catalog.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.fullcycle.admin.catalog.application.genre.retrieve.list.GenreListOutput;
@@ -25,6 +28,7 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -61,6 +65,15 @@ class GenreAPITest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private ImportGenresUseCase importGenresUseCase;
+
+    @MockBean
+    private ExportGenresUseCase exportGenresUseCase;
+
+    @MockBean
+    private ListGenreChangesUseCase listGenreChangesUseCase;
+
     @Test
     void givenAValidCommand_whenCallsCreateGenre_thenReturnGenreId() throws Exception {
         final var expectedName = "Terror";
@@ -108,6 +121,26 @@ class GenreAPITest {
                 .andExpect(jsonPath("$.errors[0].message", Matchers.equalTo(expectedErrorMessage)));
     }
 
+    @Test
+    void givenACategoryDeletedMeanwhile_whenCallsCreateGenre_thenReturnNotificationWithoutTheSql() throws Exception {
+        final var expectedErrorMessage = "Some of the referenced ids no longer exist";
+        final var sqlMessage = "Cannot add or update a child row: a foreign key constraint fails (`genres_categories`)";
+        final var input = new CreateGenreRequest("Ação", List.of("123"), true);
+
+        when(createGenreUseCase.execute(any()))
+                .thenThrow(new DataIntegrityViolationException(sqlMessage));
+
+        final var request = post("/genres")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(input));
+        mvc.perform(request)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)))
+                .andExpect(jsonPath("$.errors", Matchers.hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", Matchers.equalTo(expectedErrorMessage)))
+                .andExpect(content().string(Matchers.not(Matchers.containsString("foreign key"))));
+    }
+
     @Test
     void givenAValidId_whenCallsGetGenreById_thenReturnGenre() throws Exception {
         final var expectedName = "Terror";
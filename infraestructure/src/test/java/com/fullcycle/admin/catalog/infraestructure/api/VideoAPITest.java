@@ -0,0 +1,488 @@
+package com.fullcycle.admin.catalog.infraestructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalog.ControllerTest;
+import com.fullcycle.admin.catalog.application.bulk.ImportCommand;
+import com.fullcycle.admin.catalog.application.bulk.ImportOutput;
+import com.fullcycle.admin.catalog.application.bulk.ImportResult;
+import com.fullcycle.admin.catalog.application.video.bulk.DefaultImportVideosUseCase;
+import com.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
+import com.fullcycle.admin.catalog.application.video.create.async.AcceptVideoCreationCommand;
+import com.fullcycle.admin.catalog.application.video.create.async.AcceptVideoCreationOutput;
+import com.fullcycle.admin.catalog.application.video.create.async.DefaultAcceptVideoCreationUseCase;
+import com.fullcycle.admin.catalog.application.video.create.async.DefaultGetVideoCreationUseCase;
+import com.fullcycle.admin.catalog.application.video.create.async.VideoCreation;
+import com.fullcycle.admin.catalog.application.video.create.async.VideoCreationOutput;
+import com.fullcycle.admin.catalog.application.video.media.get.DefaultGetMediaUseCase;
+import com.fullcycle.admin.catalog.application.video.media.get.MediaOutput;
+import com.fullcycle.admin.catalog.application.video.media.get.MediaRange;
+import com.fullcycle.admin.catalog.application.video.media.multipart.abort.DefaultAbortMediaUploadUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.complete.DefaultCompleteMediaUploadUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.initiate.DefaultInitiateMediaUploadUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.initiate.InitiateMediaUploadOutput;
+import com.fullcycle.admin.catalog.application.video.media.multipart.part.DefaultUploadMediaPartUseCase;
+import com.fullcycle.admin.catalog.application.video.media.multipart.part.UploadMediaPartCommand;
+import com.fullcycle.admin.catalog.application.video.media.multipart.part.UploadMediaPartOutput;
+import com.fullcycle.admin.catalog.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalog.application.video.retrieve.changes.DefaultListVideoChangesUseCase;
+import com.fullcycle.admin.catalog.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.changes.Change;
+import com.fullcycle.admin.catalog.domain.changes.ChangeFeed;
+import com.fullcycle.admin.catalog.domain.exception.CapacityExceededException;
+import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import com.fullcycle.admin.catalog.domain.video.VideoID;
+import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalog.infraestructure.video.MediaStaging;
+import com.fullcycle.admin.catalog.infraestructure.video.models.InitiateMediaUploadRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = VideoAPI.class)
+@Import(VideoAPITest.StagingConfig.class)
+class VideoAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @MockBean
+    private DefaultAcceptVideoCreationUseCase acceptVideoCreationUseCase;
+
+    @MockBean
+    private DefaultGetVideoCreationUseCase getVideoCreationUseCase;
+
+    @MockBean
+    private DefaultGetMediaUseCase getMediaUseCase;
+
+    @MockBean
+    private DefaultInitiateMediaUploadUseCase initiateMediaUploadUseCase;
+
+    @MockBean
+    private DefaultUploadMediaPartUseCase uploadMediaPartUseCase;
+
+    @MockBean
+    private DefaultCompleteMediaUploadUseCase completeMediaUploadUseCase;
+
+    @MockBean
+    private DefaultAbortMediaUploadUseCase abortMediaUploadUseCase;
+
+    @MockBean
+    private DefaultImportVideosUseCase importVideosUseCase;
+
+    @MockBean
+    private DefaultListVideoChangesUseCase listVideoChangesUseCase;
+
+    static class StagingConfig {
+        @Bean
+        MediaStaging mediaStaging() {
+            return new MediaStaging(Path.of(System.getProperty("java.io.tmpdir"), "video-api-test-staging"));
+        }
+    }
+
+    @Test
+    void givenValidCommand_whenCallsCreateAsync_thenReturnAcceptedWithStagedMedias() throws Exception {
+        final var expectedCreationId = "123";
+        final var expectedTitle = "System Design";
+        final var expectedVideo = new MockMultipartFile("video_file", "video.mp4", "video/mp4", "VIDEO".getBytes());
+
+        when(acceptVideoCreationUseCase.execute(any()))
+                .thenReturn(new AcceptVideoCreationOutput(expectedCreationId));
+
+        final var request = multipart("/videos")
+                .file(expectedVideo)
+                .param("title", expectedTitle)
+                .param("year_launched", "2022")
+                .param("duration", "120.0")
+                .param("rating", "L")
+                .param("categories_id", "c1")
+                .param("genres_id", "g1");
+
+        mvc.perform(request)
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/videos/creations/" + expectedCreationId))
+                .andExpect(jsonPath("$.id", equalTo(expectedCreationId)));
+
+        final var captor = ArgumentCaptor.forClass(AcceptVideoCreationCommand.class);
+        verify(acceptVideoCreationUseCase, times(1)).execute(captor.capture());
+
+        final var actualCommand = captor.getValue();
+        Assertions.assertEquals(expectedTitle, actualCommand.command().title());
+        Assertions.assertEquals(2022, actualCommand.command().launchedAt());
+        Assertions.assertEquals(Set.of("c1"), actualCommand.command().categories());
+        Assertions.assertEquals(Set.of(), actualCommand.command().members());
+        Assertions.assertTrue(actualCommand.command().getTrailer().isEmpty());
+
+        // the staged media outlives the request until the pipeline releases it
+        final var actualVideo = actualCommand.command().getVideo().get();
+        Assertions.assertEquals("video.mp4", actualVideo.name());
+        Assertions.assertEquals("video/mp4", actualVideo.contentType());
+        Assertions.assertArrayEquals("VIDEO".getBytes(), actualVideo.content());
+
+        actualCommand.release().run();
+        Assertions.assertThrows(UncheckedIOException.class, actualVideo::openStream);
+    }
+
+    @Test
+    void givenAFullPipeline_whenCallsCreateAsync_thenReturnServiceUnavailableWithRetryAfter() throws Exception {
+        final var expectedErrorMessage = "Too many videos being created";
+
+        when(acceptVideoCreationUseCase.execute(any()))
+                .thenThrow(CapacityExceededException.with(new Error(expectedErrorMessage), Duration.ofMillis(1500)));
+
+        final var request = multipart("/videos")
+                .param("title", "System Design")
+                .param("year_launched", "2022");
+
+        mvc.perform(request)
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    void givenCreationId_whenCallsGetCreation_thenReturnItsStatus() throws Exception {
+        final var expectedVideoId = VideoID.unique().getValue();
+        final var creation = VideoCreation.queued().processing().completed(expectedVideoId);
+
+        when(getVideoCreationUseCase.execute(creation.id()))
+                .thenReturn(VideoCreationOutput.from(creation));
+
+        mvc.perform(get("/videos/creations/{id}", creation.id()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", equalTo(creation.id())))
+                .andExpect(jsonPath("$.status", equalTo("COMPLETED")))
+                .andExpect(jsonPath("$.video_id", equalTo(expectedVideoId)))
+                .andExpect(jsonPath("$.created_at").exists());
+    }
+
+    @Test
+    void givenUnknownCreationId_whenCallsGetCreation_thenReturnNotFound() throws Exception {
+        final var expectedErrorMessage = "Video creation with ID 123 was not found";
+
+        when(getVideoCreationUseCase.execute(any()))
+                .thenThrow(NotFoundException.with(new Error(expectedErrorMessage)));
+
+        mvc.perform(get("/videos/creations/{id}", "123"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    void givenAWatermark_whenCallsListChanges_thenReturnTheChangesAndTheNextWatermark() throws Exception {
+        final var video = Fixture.video();
+        final var deletedAt = Instant.parse("2024-01-01T10:00:00Z");
+        final var feed = new ChangeFeed<>(
+                List.of(
+                        Change.saved(video.getId().getValue(), video.getCreatedAt(), video.getUpdatedAt(), VideoOutput.from(video)),
+                        Change.<VideoOutput>deleted("123", deletedAt)
+                ),
+                "next",
+                false
+        );
+        when(listVideoChangesUseCase.execute(any())).thenReturn(feed);
+
+        final var request = get("/videos/changes")
+                .queryParam("since", "previous")
+                .queryParam("limit", "50")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.watermark", equalTo("next")))
+                .andExpect(jsonPath("$.has_more", equalTo(false)))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(video.getId().getValue())))
+                .andExpect(jsonPath("$.items[0].item.title", equalTo(video.getTitle())))
+                .andExpect(jsonPath("$.items[0].item.rating", equalTo(video.getRating().getName())))
+                .andExpect(jsonPath("$.items[0].item.cast_members_id", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].item.video.status", equalTo("PENDING")))
+                .andExpect(jsonPath("$.items[0].item.thumbnail_half.location", equalTo(video.getThumbnailHalf().get().location())))
+                .andExpect(jsonPath("$.items[1].type", equalTo("DELETED")))
+                .andExpect(jsonPath("$.items[1].item", nullValue()));
+
+        verify(listVideoChangesUseCase, times(1)).execute(argThat(query ->
+                "previous".equals(query.since()) && query.limit() == 50
+        ));
+    }
+
+    @Test
+    void givenValidMedia_whenCallsGetMedia_thenReturnContentWithETag() throws Exception {
+        final var expectedVideoId = VideoID.unique().getValue();
+        final var expectedResource = Resource.with("abc", "Conteudo".getBytes(), "video/mp4", "trailer");
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.from(expectedResource));
+
+        final var request = get("/videos/{id}/medias/{type}", expectedVideoId, "TRAILER");
+        final var started = mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "video/mp4"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 8))
+                .andExpect(content().bytes("Conteudo".getBytes()));
+    }
+
+    @Test
+    void givenRangeHeader_whenCallsGetMedia_thenReturnPartialContent() throws Exception {
+        final var expectedVideoId = VideoID.unique().getValue();
+        final var expectedResource = Resource.with("abc", "Conteudo".getBytes(), "video/mp4", "trailer");
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.partial(expectedResource, 2, 3));
+
+        final var request = get("/videos/{id}/medias/{type}", expectedVideoId, "TRAILER")
+                .header(HttpHeaders.RANGE, "bytes=2-4, -3");
+        final var started = mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-4/8"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 3))
+                .andExpect(content().bytes("nte".getBytes()));
+
+        verify(getMediaUseCase, times(1)).execute(argThat(cmd ->
+                List.of(MediaRange.of(2L, 4L), MediaRange.suffix(3)).equals(cmd.ranges())
+        ));
+    }
+
+    @Test
+    void givenMatchingIfNoneMatch_whenCallsGetMedia_thenReturnNotModified() throws Exception {
+        final var expectedVideoId = VideoID.unique().getValue();
+        final var expectedResource = Resource.with("abc", "Conteudo".getBytes(), "image/jpg", "banner");
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.notModified(expectedResource));
+
+        final var request = get("/videos/{id}/medias/{type}", expectedVideoId, "BANNER")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"xyz\", \"abc\"");
+
+        mvc.perform(request)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(getMediaUseCase, times(1)).execute(argThat(cmd ->
+                List.of("xyz", "abc").equals(cmd.ifNoneMatch())
+        ));
+    }
+
+    @Test
+    void givenUnsatisfiableRange_whenCallsGetMedia_thenReturnRangeNotSatisfiable() throws Exception {
+        final var expectedVideoId = VideoID.unique().getValue();
+        final var expectedResource = Resource.with("abc", "Conteudo".getBytes(), "video/mp4", "trailer");
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.rangeNotSatisfiable(expectedResource));
+
+        final var request = get("/videos/{id}/medias/{type}", expectedVideoId, "TRAILER")
+                .header(HttpHeaders.RANGE, "bytes=100-");
+
+        mvc.perform(request)
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */8"));
+    }
+
+    @Test
+    void givenMalformedRangeHeader_whenCallsGetMedia_thenIgnoreItAndReturnTheWholeMedia() throws Exception {
+        final var expectedVideoId = VideoID.unique().getValue();
+        final var expectedResource = Resource.with("abc", "Conteudo".getBytes(), "video/mp4", "trailer");
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.from(expectedResource));
+
+        for (final var range : List.of("bytes=abc", "bytes=5-2", "items=0-1", "bytes=" + "0-0,".repeat(16) + "1-1")) {
+            final var request = get("/videos/{id}/medias/{type}", expectedVideoId, "TRAILER")
+                    .header(HttpHeaders.RANGE, range);
+            final var started = mvc.perform(request)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                    .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 8))
+                    .andExpect(content().bytes("Conteudo".getBytes()));
+        }
+
+        verify(getMediaUseCase, times(4)).execute(argThat(cmd -> cmd.ranges().isEmpty()));
+    }
+
+    @Test
+    void givenValidRequest_whenCallsInitiateUpload_thenReturnUploadId() throws Exception {
+        final var expectedVideoId = VideoID.unique().getValue();
+        final var expectedUploadId = "123";
+        final var input = new InitiateMediaUploadRequest("master.mp4", "video/mp4");
+
+        when(initiateMediaUploadUseCase.execute(any()))
+                .thenReturn(new InitiateMediaUploadOutput(expectedUploadId, expectedVideoId, VideoMediaType.VIDEO));
+
+        final var request = post("/videos/{id}/medias/{type}/uploads", expectedVideoId, "VIDEO")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(input));
+
+        mvc.perform(request)
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/videos/%s/medias/VIDEO/uploads/123".formatted(expectedVideoId)))
+                .andExpect(jsonPath("$.upload_id", equalTo(expectedUploadId)))
+                .andExpect(jsonPath("$.video_id", equalTo(expectedVideoId)));
+
+        verify(initiateMediaUploadUseCase, times(1)).execute(argThat(cmd ->
+                expectedVideoId.equals(cmd.videoId())
+                        && "VIDEO".equals(cmd.mediaType())
+                        && "video/mp4".equals(cmd.contentType())
+                        && "master.mp4".equals(cmd.name())
+        ));
+    }
+
+    @Test
+    void givenValidPart_whenCallsUploadPart_thenStreamItToTheUseCase() throws Exception {
+        final var expectedVideoId = VideoID.unique().getValue();
+        final var expectedContent = "Conteudo".getBytes();
+        final var part = new MockMultipartFile("part", "chunk", "application/octet-stream", expectedContent);
+
+        when(uploadMediaPartUseCase.execute(any()))
+                .thenAnswer(it -> {
+                    final UploadMediaPartCommand cmd = it.getArgument(0);
+                    return new UploadMediaPartOutput(cmd.uploadId(), cmd.partNumber(), cmd.part().checksum());
+                });
+
+        final var request = multipart("/videos/{id}/medias/{type}/uploads/{uploadId}/parts/{partNumber}", expectedVideoId, "VIDEO", "123", 2)
+                .file(part)
+                .with(it -> {
+                    it.setMethod("PUT");
+                    return it;
+                });
+
+        mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.upload_id", equalTo("123")))
+                .andExpect(jsonPath("$.part_number", equalTo(2)));
+
+        final var captor = ArgumentCaptor.forClass(UploadMediaPartCommand.class);
+        verify(uploadMediaPartUseCase, times(1)).execute(captor.capture());
+
+        final var command = captor.getValue();
+        Assertions.assertEquals(expectedVideoId, command.videoId());
+        Assertions.assertEquals("VIDEO", command.mediaType());
+        Assertions.assertFalse(command.part().isBuffered());
+        Assertions.assertEquals(expectedContent.length, command.part().contentLength());
+    }
+
+    @Test
+    void givenUnknownUpload_whenCallsComplete_thenReturnNotFound() throws Exception {
+        final var expectedVideoId = VideoID.unique().getValue();
+        final var expectedErrorMessage = "Upload 123 not found for video %s".formatted(expectedVideoId);
+
+        when(completeMediaUploadUseCase.execute(any()))
+                .thenThrow(NotFoundException.with(new Error(expectedErrorMessage)));
+
+        final var request = post("/videos/{id}/medias/{type}/uploads/{uploadId}/complete", expectedVideoId, "VIDEO", "123");
+
+        mvc.perform(request)
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    void givenValidUpload_whenCallsComplete_thenReturnVideoId() throws Exception {
+        final var expectedVideoId = VideoID.unique().getValue();
+
+        when(completeMediaUploadUseCase.execute(any()))
+                .thenReturn(new UploadMediaOutput(expectedVideoId, VideoMediaType.TRAILER));
+
+        final var request = post("/videos/{id}/medias/{type}/uploads/{uploadId}/complete", expectedVideoId, "TRAILER", "123");
+
+        mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.video_id", equalTo(expectedVideoId)))
+                .andExpect(jsonPath("$.media_type", equalTo("TRAILER")));
+    }
+
+    @Test
+    void givenValidUpload_whenCallsAbort_thenReturnNoContent() throws Exception {
+        final var expectedVideoId = VideoID.unique().getValue();
+
+        final var request = delete("/videos/{id}/medias/{type}/uploads/{uploadId}", expectedVideoId, "VIDEO", "123");
+
+        mvc.perform(request)
+                .andExpect(status().isNoContent());
+
+        verify(abortMediaUploadUseCase, times(1)).execute(argThat(cmd ->
+                expectedVideoId.equals(cmd.videoId()) && "123".equals(cmd.uploadId())
+        ));
+    }
+
+    @Test
+    void givenCsvRows_whenCallsImportVideos_thenReadEachRowAsACommandWithoutMedias() throws Exception {
+        final var body = """
+                title,description,year_launched,duration,opened,published,rating,categories_id,genres_id,cast_members_id
+                "Duna, Parte 1",Um deserto,2021,155.0,true,false,AGE_14,filmes|ficcao,,timothee
+                """;
+        final var commands = new ArrayList<CreateVideoCommand>();
+        when(importVideosUseCase.execute(any())).thenAnswer(call -> {
+            final ImportCommand<CreateVideoCommand> command = call.getArgument(0);
+            command.records().forEachRemaining(record -> {
+                commands.add(record.command());
+                command.results().accept(ImportResult.created(record.line(), "id-" + record.line()));
+            });
+            return ImportOutput.with(commands.size(), 0);
+        });
+
+        final var request = post("/videos/import")
+                .contentType("text/csv")
+                .content(body);
+        final var started = mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("{\"line\":2,\"id\":\"id-2\",\"errors\":[]}")))
+                .andExpect(content().string(containsString("{\"total\":1,\"created\":1,\"failed\":0}")));
+
+        Assertions.assertEquals(List.of(CreateVideoCommand.with(
+                "Duna, Parte 1", "Um deserto", 2021, 155.0, "AGE_14", true, false,
+                Set.of("filmes", "ficcao"), Set.of(), Set.of("timothee"),
+                null, null, null, null, null
+        )), commands);
+    }
+}
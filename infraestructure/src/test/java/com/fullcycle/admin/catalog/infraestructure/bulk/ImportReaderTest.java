@@ -0,0 +1,84 @@
+package com.fullcycle.admin.catalog.infraestructure.bulk;
+
+import com.fullcycle.admin.catalog.application.bulk.ImportRecord;
+import com.fullcycle.admin.catalog.infraestructure.genre.models.CreateGenreRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+class ImportReaderTest {
+
+    @Test
+    void givenNdjsonWithBlankAndInvalidLines_whenReads_thenKeepTheLineNumbers() throws Exception {
+        final var body = """
+                {"name": "Ação", "is_active": true, "categories_id": ["123"]}
+
+                not json
+                {"name": "Drama"}
+                """;
+
+        final var records = read(body, "application/x-ndjson");
+
+        Assertions.assertEquals(List.of(1L, 3L, 4L), records.stream().map(ImportRecord::line).toList());
+        Assertions.assertEquals(new CreateGenreRequest("Ação", List.of("123"), true), records.get(0).command());
+        Assertions.assertFalse(records.get(1).isReadable());
+        Assertions.assertTrue(records.get(1).error().startsWith("Could not read the line: Unrecognized token 'not'"));
+        Assertions.assertEquals(new CreateGenreRequest("Drama", null, false), records.get(2).command());
+    }
+
+    @Test
+    void givenCsvWithQuotedValues_whenReads_thenSplitOnlyOutsideQuotes() throws Exception {
+        final var body = """
+                name,is_active,categories_id
+                "Ação, aventura",true,123|456
+                "Drama ""clássico""
+                de época",false,
+
+                Terror,true
+                """;
+
+        final var records = read(body, "text/csv; charset=UTF-8");
+
+        Assertions.assertEquals(List.of(2L, 3L, 6L), records.stream().map(ImportRecord::line).toList());
+        Assertions.assertEquals(new CreateGenreRequest("Ação, aventura", List.of("123", "456"), true), records.get(0).command());
+        Assertions.assertEquals(new CreateGenreRequest("Drama \"clássico\"\nde época", List.of(), false), records.get(1).command());
+        Assertions.assertEquals("Expected 3 columns but found 2", records.get(2).error());
+    }
+
+    @Test
+    void givenUnsupportedContentType_whenReads_thenThrowsMediaTypeNotSupported() {
+        final var actualException = Assertions.assertThrows(
+                HttpMediaTypeNotSupportedException.class,
+                () -> read("name\nDrama", "text/plain")
+        );
+
+        Assertions.assertEquals(MediaType.TEXT_PLAIN, actualException.getContentType());
+        Assertions.assertEquals(
+                List.of(MediaType.APPLICATION_NDJSON, MediaType.parseMediaType(ImportReader.TEXT_CSV_VALUE)),
+                actualException.getSupportedMediaTypes()
+        );
+    }
+
+    private static List<ImportRecord<CreateGenreRequest>> read(final String body, final String contentType)
+            throws HttpMediaTypeNotSupportedException {
+        final var records = ImportReader.read(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                contentType,
+                CreateGenreRequest.class,
+                Set.of("categories_id"),
+                Function.identity()
+        );
+
+        final var result = new ArrayList<ImportRecord<CreateGenreRequest>>();
+        records.forEachRemaining(result::add);
+        return result;
+    }
+}
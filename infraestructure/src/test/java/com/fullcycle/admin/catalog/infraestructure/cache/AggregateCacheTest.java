@@ -0,0 +1,115 @@
+package com.fullcycle.admin.catalog.infraestructure.cache;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class AggregateCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AggregateCache<Category> cache = new AggregateCache<>(
+            "categories", 100, Duration.ofMinutes(5), Duration.ofMinutes(1), Category::with, registry
+    );
+
+    @Test
+    void givenACachedAggregate_whenCallsGet_thenLoadOnceAndCountHitsAndMisses() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var id = filmes.getId().getValue();
+        final var loads = new AtomicInteger();
+
+        cache.get(id, it -> {
+            loads.incrementAndGet();
+            return Optional.of(filmes);
+        });
+        final var actual = cache.get(id, it -> Optional.of(Category.newCategory("Outra", null, true)));
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals("Filmes", actual.get().getName());
+        Assertions.assertEquals(1.0, registry.get("cache.gets").tag("cache", "categories").tag("result", "hit").functionCounter().count());
+        Assertions.assertEquals(1.0, registry.get("cache.gets").tag("cache", "categories").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void givenAMissingId_whenCallsGetTwice_thenCacheTheMiss() {
+        final var loads = new AtomicInteger();
+
+        cache.get("123", it -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        final var actual = cache.get("123", it -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        Assertions.assertTrue(actual.isEmpty());
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    void givenACachedAggregate_whenTheReturnedCopyChanges_thenTheCachedOneDoesNot() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var id = filmes.getId().getValue();
+
+        cache.get(id, it -> Optional.of(filmes)).get().update("Séries", null, false);
+
+        final var actual = cache.get(id, it -> Optional.empty()).get();
+        Assertions.assertEquals("Filmes", actual.getName());
+        Assertions.assertTrue(actual.isActive());
+    }
+
+    @Test
+    void givenAnInvalidatedId_whenCallsGet_thenLoadAgain() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var id = filmes.getId().getValue();
+        cache.get(id, it -> Optional.of(filmes));
+
+        cache.invalidate(id);
+        final var actual = cache.get(id, it -> Optional.empty());
+
+        Assertions.assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void givenConcurrentMissesOfTheSameId_whenCallsGet_thenLoadOnce() throws Exception {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var loads = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(8);
+
+        try {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    return cache.get(filmes.getId().getValue(), it -> {
+                        loads.incrementAndGet();
+                        sleep(50);
+                        return Optional.of(filmes);
+                    });
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.fullcycle.admin.catalog.infraestructure.cache;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class IdMembershipTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void givenLoadedIds_whenCallsExisting_thenAskTheGatewayOnlyForUnknownIds() {
+        final var membership = new IdMembership("categories", () -> List.of("123", "456"), registry);
+        final var asked = new ArrayList<List<CategoryID>>();
+        membership.refresh();
+
+        final var actual = membership.existing(
+                List.of(CategoryID.from("123"), CategoryID.from("789"), CategoryID.from("000")),
+                ids -> {
+                    asked.add(ids);
+                    return List.of(CategoryID.from("789"));
+                }
+        );
+
+        Assertions.assertEquals(List.of(CategoryID.from("123"), CategoryID.from("789")), actual);
+        Assertions.assertEquals(List.of(List.of(CategoryID.from("789"), CategoryID.from("000"))), asked);
+        Assertions.assertEquals(3, membership.size());
+        Assertions.assertEquals(1.0, registry.get("cache.membership.lookups").tag("result", "hit").counter().count());
+        Assertions.assertEquals(2.0, registry.get("cache.membership.lookups").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void givenARemovedId_whenCallsExisting_thenAskTheGatewayAgain() {
+        final var membership = new IdMembership("categories", () -> List.of("123"), registry);
+        membership.refresh();
+
+        membership.remove(CategoryID.from("123"));
+        final var actual = membership.existing(List.of(CategoryID.from("123")), ids -> List.of());
+
+        Assertions.assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void givenAnIdRemovedWhileLoading_whenRefreshFinishes_thenKeepItRemoved() {
+        final var membership = new IdMembership[1];
+        membership[0] = new IdMembership("categories", () -> {
+            membership[0].remove(CategoryID.from("123"));
+            return List.of("123", "456");
+        }, registry);
+
+        membership[0].refresh();
+
+        Assertions.assertEquals(1, membership[0].size());
+        Assertions.assertEquals(
+                List.of(CategoryID.from("456")),
+                membership[0].existing(List.of(CategoryID.from("456")), ids -> List.of())
+        );
+    }
+
+    @Test
+    void givenAFailingLoad_whenCallsRefresh_thenKeepTheKnownIds() {
+        final var membership = new IdMembership("categories", () -> {
+            throw new IllegalStateException("Database down");
+        }, registry);
+        membership.add(CategoryID.from("123"));
+
+        membership.refresh();
+
+        Assertions.assertEquals(1, membership.size());
+    }
+}
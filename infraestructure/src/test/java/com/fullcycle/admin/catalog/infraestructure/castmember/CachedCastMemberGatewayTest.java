@@ -0,0 +1,82 @@
+package com.fullcycle.admin.catalog.infraestructure.castmember;
+
+import com.fullcycle.admin.catalog.domain.castmember.CastMember;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalog.domain.video.Rating;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.infraestructure.cache.AggregateCache;
+import com.fullcycle.admin.catalog.infraestructure.cache.IdMembership;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.*;
+
+class CachedCastMemberGatewayTest {
+
+    private CastMemberGateway delegate;
+    private AggregateCache<Video> videos;
+    private CachedCastMemberGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CastMemberGateway.class);
+        videos = new AggregateCache<>("videos", 100, Duration.ofMinutes(5), Duration.ofMinutes(1), Video::with, new SimpleMeterRegistry());
+        gateway = new CachedCastMemberGateway(
+                delegate,
+                new AggregateCache<>("cast_members", 100, Duration.ofMinutes(5), Duration.ofMinutes(1), CastMember::with, new SimpleMeterRegistry()),
+                new IdMembership("cast_members", List::of, new SimpleMeterRegistry()),
+                id -> videos.invalidateIf(video -> video.getCastMembers().contains(id))
+        );
+    }
+
+    @Test
+    void givenCachedVideos_whenCallsDeleteById_thenLoadAgainOnlyTheVideosOfTheMember() {
+        final var emma = CastMember.newMember("Emma Watson", CastMemberType.ACTOR);
+        final var withEmma = video("Harry Potter", Set.of(emma));
+        final var withoutEmma = video("Maze Runner", Set.of());
+        final var withEmmaLoads = new AtomicInteger();
+        final var withoutEmmaLoads = new AtomicInteger();
+
+        videos.get(withEmma.getId().getValue(), id -> load(withEmmaLoads, withEmma));
+        videos.get(withoutEmma.getId().getValue(), id -> load(withoutEmmaLoads, withoutEmma));
+        gateway.deleteById(emma.getId());
+        videos.get(withEmma.getId().getValue(), id -> load(withEmmaLoads, withEmma));
+        videos.get(withoutEmma.getId().getValue(), id -> load(withoutEmmaLoads, withoutEmma));
+
+        Assertions.assertEquals(2, withEmmaLoads.get());
+        Assertions.assertEquals(1, withoutEmmaLoads.get());
+        verify(delegate).deleteById(emma.getId());
+    }
+
+    private static Video video(final String title, final Set<CastMember> members) {
+        return Video.newVideo(
+                title,
+                null,
+                Year.of(2020),
+                120.0,
+                Rating.L,
+                true,
+                true,
+                Set.of(),
+                Set.of(),
+                members.stream().map(CastMember::getId).collect(Collectors.toSet())
+        );
+    }
+
+    private static Optional<Video> load(final AtomicInteger loads, final Video video) {
+        loads.incrementAndGet();
+        return Optional.of(video);
+    }
+}
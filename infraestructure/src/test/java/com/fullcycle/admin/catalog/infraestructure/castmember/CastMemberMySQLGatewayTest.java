@@ -4,6 +4,8 @@ import com.fullcycle.admin.catalog.MySQLGatewayTest;
 import com.fullcycle.admin.catalog.domain.Fixture;
 import com.fullcycle.admin.catalog.domain.castmember.CastMember;
 import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infraestructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalog.infraestructure.castmember.persistence.CastMemberRepository;
@@ -13,6 +15,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
 import static com.fullcycle.admin.catalog.domain.castmember.CastMemberType.ACTOR;
@@ -233,6 +237,50 @@ class CastMemberMySQLGatewayTest {
         }
     }
 
+    @Test
+    void givenPrePersistedMembers_whenCallsFindAllFollowingDescendingCursors_thenWalkEveryMemberOnce() {
+        final var expectedPerPage = 2;
+        mockMembers();
+
+        final var firstPage = castMemberMySQLGateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "desc", ""));
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, firstPage.total());
+        Assertions.assertEquals(List.of("Vin Diesel", "Quentin Tarantino"), names(firstPage));
+        Assertions.assertNotNull(firstPage.nextCursor());
+
+        final var secondPage = castMemberMySQLGateway.findAll(
+                new SearchQuery(1, expectedPerPage, "", "name", "desc", firstPage.nextCursor())
+        );
+
+        Assertions.assertEquals(List.of("Martin Scorsese", "Kit Harington"), names(secondPage));
+        Assertions.assertNotNull(secondPage.nextCursor());
+
+        final var lastPage = castMemberMySQLGateway.findAll(
+                new SearchQuery(2, expectedPerPage, "", "name", "desc", secondPage.nextCursor())
+        );
+
+        Assertions.assertEquals(List.of("Jason Momoa"), names(lastPage));
+        Assertions.assertNull(lastPage.nextCursor());
+    }
+
+    @Test
+    void givenATamperedCursor_whenCallsFindAll_thenThrowsDomainException() {
+        final var expectedErrorMessage = "'cursor' is invalid for the requested sort";
+        mockMembers();
+
+        final var cursor = castMemberMySQLGateway.findAll(new SearchQuery(0, 1, "", "createdAt", "asc", "")).nextCursor();
+        final var json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .replaceFirst("\"value\":\"[^\"]+\"", "\"value\":\"yesterday\"");
+        final var tampered = Base64.getUrlEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+
+        final var query = new SearchQuery(1, 1, "", "createdAt", "asc", tampered);
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> castMemberMySQLGateway.findAll(query)
+        );
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
     @Test
     void givenTwoMembersAndOnePersisted_whenCallsExistsByIds_thenReturnPersistedID() {
         final var member = CastMember.newMember("Member 1", Fixture.CastMembers.type());
@@ -255,4 +303,8 @@ class CastMemberMySQLGatewayTest {
                 CastMemberJpaEntity.from(CastMember.newMember("Martin Scorsese", DIRECTOR))
         ));
     }
+
+    private static List<String> names(final Pagination<CastMember> page) {
+        return page.items().stream().map(CastMember::getName).toList();
+    }
 }
\ No newline at end of file
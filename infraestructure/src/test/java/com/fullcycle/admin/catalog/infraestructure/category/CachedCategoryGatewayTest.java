@@ -0,0 +1,115 @@
+package com.fullcycle.admin.catalog.infraestructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.genre.Genre;
+import com.fullcycle.admin.catalog.infraestructure.cache.AggregateCache;
+import com.fullcycle.admin.catalog.infraestructure.cache.IdMembership;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachedCategoryGatewayTest {
+
+    private CategoryGateway delegate;
+    private AggregateCache<Genre> genres;
+    private CachedCategoryGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CategoryGateway.class);
+        genres = new AggregateCache<>("genres", 100, Duration.ofMinutes(5), Duration.ofMinutes(1), Genre::with, new SimpleMeterRegistry());
+        gateway = new CachedCategoryGateway(
+                delegate,
+                new AggregateCache<>("categories", 100, Duration.ofMinutes(5), Duration.ofMinutes(1), Category::with, new SimpleMeterRegistry()),
+                new IdMembership("categories", List::of, new SimpleMeterRegistry()),
+                id -> genres.invalidateIf(genre -> genre.getCategories().contains(id))
+        );
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsUpdate_thenNextFindByIdReadsTheGateway() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var updated = Category.with(filmes).update("Séries", null, true);
+        when(delegate.findById(filmes.getId())).thenReturn(Optional.of(filmes), Optional.of(updated));
+        when(delegate.update(any())).thenAnswer(returnsFirstArg());
+
+        gateway.findById(filmes.getId());
+        gateway.findById(filmes.getId());
+        gateway.update(updated);
+        final var actual = gateway.findById(filmes.getId());
+
+        Assertions.assertEquals("Séries", actual.get().getName());
+        verify(delegate, times(2)).findById(filmes.getId());
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsDeleteById_thenNextFindByIdIsEmpty() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(filmes.getId())).thenReturn(Optional.of(filmes), Optional.empty());
+
+        gateway.findById(filmes.getId());
+        gateway.deleteById(filmes.getId());
+
+        Assertions.assertTrue(gateway.findById(filmes.getId()).isEmpty());
+        verify(delegate).deleteById(filmes.getId());
+    }
+
+    @Test
+    void givenCachedGenres_whenCallsDeleteById_thenLoadAgainOnlyTheGenresOfTheCategory() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var action = Genre.newGenre("Ação", true).addCategory(filmes.getId());
+        final var drama = Genre.newGenre("Drama", true);
+        final var actionLoads = new AtomicInteger();
+        final var dramaLoads = new AtomicInteger();
+
+        genres.get(action.getId().getValue(), id -> load(actionLoads, action));
+        genres.get(drama.getId().getValue(), id -> load(dramaLoads, drama));
+        gateway.deleteById(filmes.getId());
+        genres.get(action.getId().getValue(), id -> load(actionLoads, action));
+        genres.get(drama.getId().getValue(), id -> load(dramaLoads, drama));
+
+        Assertions.assertEquals(2, actionLoads.get());
+        Assertions.assertEquals(1, dramaLoads.get());
+    }
+
+    @Test
+    void givenAFailingGateway_whenCallsFindById_thenDoNotCacheTheFailure() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        when(delegate.findById(filmes.getId()))
+                .thenThrow(new IllegalStateException("Gateway error"))
+                .thenReturn(Optional.of(filmes));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> gateway.findById(filmes.getId()));
+
+        Assertions.assertEquals(filmes.getId(), gateway.findById(filmes.getId()).get().getId());
+    }
+
+    @Test
+    void givenACreatedCategory_whenCallsExistsByIds_thenAnswerWithoutTheGateway() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        when(delegate.create(any())).thenAnswer(returnsFirstArg());
+
+        gateway.create(filmes);
+        final var actual = gateway.existsByIds(List.of(filmes.getId()));
+
+        Assertions.assertEquals(List.of(filmes.getId()), actual);
+        verify(delegate, never()).existsByIds(any());
+    }
+
+    private static Optional<Genre> load(final AtomicInteger loads, final Genre genre) {
+        loads.incrementAndGet();
+        return Optional.of(genre);
+    }
+}
@@ -3,6 +3,11 @@ package com.fullcycle.admin.catalog.infraestructure.category;
 import com.fullcycle.admin.catalog.MySQLGatewayTest;
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.changes.Change;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+import com.fullcycle.admin.catalog.domain.changes.ChangeType;
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infraestructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalog.infraestructure.category.persistence.CategoryRepository;
@@ -10,7 +15,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @MySQLGatewayTest
 class CategoryMySQLGatewayTest {
@@ -51,6 +59,80 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(category.getDeletedAt(), persistedEntity.getDeletedAt());
     }
 
+    @Test
+    void givenValidCategories_whenCallsCreateAll_thenPersistEveryCategory() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", "Episódios", false);
+
+        final var result = categoryGateway.createAll(List.of(filmes, series));
+
+        Assertions.assertEquals(List.of(filmes.getId(), series.getId()), result.stream().map(Category::getId).toList());
+        Assertions.assertEquals(2, categoryRepository.count());
+        Assertions.assertEquals("Episódios", categoryRepository.findById(series.getId().getValue()).get().getDescription());
+    }
+
+    @Test
+    void givenPersistedCategories_whenCallsForEach_thenVisitEachOnceInIdOrder() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", "Episódios", false);
+        categoryGateway.createAll(List.of(filmes, series));
+
+        final var visited = new ArrayList<Category>();
+        categoryGateway.forEach(visited::add);
+
+        final var expected = Stream.of(filmes, series).sorted(Comparator.comparing(it -> it.getId().getValue())).toList();
+        Assertions.assertEquals(expected.stream().map(Category::getId).toList(), visited.stream().map(Category::getId).toList());
+
+        final var visitedSeries = visited.get(expected.indexOf(series));
+        Assertions.assertEquals("Episódios", visitedSeries.getDescription());
+        Assertions.assertFalse(visitedSeries.isActive());
+        Assertions.assertNotNull(visitedSeries.getCreatedAt());
+        Assertions.assertNotNull(visitedSeries.getDeletedAt());
+    }
+
+    @Test
+    void givenSavedUpdatedAndDeletedCategories_whenCallsChangesSinceFollowingWatermarks_thenReturnEachChangeOnceInOrder() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var documentarios = categoryGateway.create(Category.newCategory("Documentários", null, true));
+
+        categoryGateway.update(series.clone().update("Séries", "Episódios", true));
+        categoryGateway.deleteById(documentarios.getId());
+
+        final var firstPage = categoryGateway.changesSince(new ChangeQuery("", 2));
+
+        Assertions.assertTrue(firstPage.hasMore());
+        Assertions.assertEquals(
+                List.of(ChangeType.CREATED, ChangeType.UPDATED),
+                firstPage.items().stream().map(Change::type).toList()
+        );
+        Assertions.assertEquals(filmes.getId(), firstPage.items().get(0).item().getId());
+        Assertions.assertEquals("Episódios", firstPage.items().get(1).item().getDescription());
+
+        final var secondPage = categoryGateway.changesSince(new ChangeQuery(firstPage.watermark(), 2));
+
+        Assertions.assertFalse(secondPage.hasMore());
+        Assertions.assertEquals(1, secondPage.items().size());
+        Assertions.assertEquals(ChangeType.DELETED, secondPage.items().get(0).type());
+        Assertions.assertEquals(documentarios.getId().getValue(), secondPage.items().get(0).id());
+        Assertions.assertNull(secondPage.items().get(0).item());
+
+        final var drained = categoryGateway.changesSince(new ChangeQuery(secondPage.watermark(), 2));
+
+        Assertions.assertTrue(drained.items().isEmpty());
+        Assertions.assertFalse(drained.hasMore());
+    }
+
+    @Test
+    void givenAnInvalidWatermark_whenCallsChangesSince_thenThrowsDomainException() {
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.changesSince(new ChangeQuery("not-a-watermark", 10))
+        );
+
+        Assertions.assertEquals("'since' is not a valid watermark", actualException.getErrors().get(0).message());
+    }
+
     @Test
     void givenAValidCategory_whenCallsUpdate_thenReturnACategoryUpdated() {
         final var expectedName = "Filme";
@@ -242,6 +324,98 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(movie.getId(), response.items().get(0).getId());
     }
 
+    @Test
+    void givenRelevanceSortWithoutFullText_whenCallsFindAll_thenReturnMatchesOrderedByName() {
+        final var movie = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", "Uma categoria assistida", true);
+        final var documentary = Category.newCategory("Documentários", "A categoria menos assistida", true);
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movie),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentary)
+        ));
+
+        final var response = categoryGateway.findAll(new SearchQuery(0, 10, "mais", "relevance", "desc"));
+
+        Assertions.assertEquals(1, response.total());
+        Assertions.assertEquals(List.of(movie.getId()), ids(response));
+
+        final var all = categoryGateway.findAll(new SearchQuery(0, 10, "assistida", "relevance", "desc"));
+
+        Assertions.assertEquals(List.of(documentary.getId(), movie.getId(), series.getId()), ids(all));
+    }
+
+    @Test
+    void givenRelevanceSortWithACursor_whenCallsFindAll_thenThrowsDomainException() {
+        final var expectedErrorMessage = "'relevance' sort does not support a cursor";
+
+        final var query = new SearchQuery(0, 10, "filmes", "relevance", "desc", "");
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(query)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllFollowingCursors_thenWalkEveryCategoryOnce() {
+        final var expectedPerPage = 2;
+        final var movie = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentary = Category.newCategory("Documentário", null, true);
+        final var kids = Category.newCategory("Kids", null, true);
+        final var sports = Category.newCategory("Esportes", null, true);
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movie),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentary),
+                CategoryJpaEntity.from(kids),
+                CategoryJpaEntity.from(sports)
+        ));
+
+        final var firstPage = categoryGateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", ""));
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, firstPage.total());
+        Assertions.assertEquals(List.of(documentary.getId(), sports.getId()), ids(firstPage));
+        Assertions.assertNotNull(firstPage.nextCursor());
+
+        final var secondPage = categoryGateway.findAll(
+                new SearchQuery(1, expectedPerPage, "", "name", "asc", firstPage.nextCursor())
+        );
+
+        Assertions.assertEquals(List.of(movie.getId(), kids.getId()), ids(secondPage));
+        Assertions.assertNotNull(secondPage.nextCursor());
+
+        final var lastPage = categoryGateway.findAll(
+                new SearchQuery(2, expectedPerPage, "", "name", "asc", secondPage.nextCursor())
+        );
+
+        Assertions.assertEquals(List.of(series.getId()), ids(lastPage));
+        Assertions.assertNull(lastPage.nextCursor());
+    }
+
+    @Test
+    void givenACursorOfAnotherSort_whenCallsFindAll_thenThrowsDomainException() {
+        final var expectedErrorMessage = "'cursor' is invalid for the requested sort";
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var cursor = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "")).nextCursor();
+
+        final var byDescription = new SearchQuery(1, 1, "", "description", "asc", cursor);
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(byDescription)
+        );
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        final var garbage = new SearchQuery(1, 1, "", "name", "asc", "not-a-cursor");
+        Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(garbage));
+    }
+
     @Test
     public void givenPrePersistedCategories_whenCallsExistsByIds_thenReturnIds() {
         final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
@@ -262,4 +436,8 @@ class CategoryMySQLGatewayTest {
                         expectedIds.containsAll(result)
         );
     }
+
+    private static List<CategoryID> ids(final Pagination<Category> page) {
+        return page.items().stream().map(Category::getId).toList();
+    }
 }
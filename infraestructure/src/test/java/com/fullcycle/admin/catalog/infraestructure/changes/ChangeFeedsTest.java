@@ -0,0 +1,56 @@
+package com.fullcycle.admin.catalog.infraestructure.changes;
+
+import com.fullcycle.admin.catalog.MySQLGatewayTest;
+import com.fullcycle.admin.catalog.domain.changes.Change;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@MySQLGatewayTest
+class ChangeFeedsTest {
+
+    private static final Duration SETTLE_TIME = Duration.ofSeconds(5);
+
+    @Autowired
+    private JdbcOperations jdbc;
+
+    @Test
+    void givenAChangeAtTheSettleBound_whenFollowsTheDrainedWatermark_thenReturnItOnceOnTheNextCall() {
+        final var until = Instant.parse("2024-01-01T10:00:00Z");
+        final ChangeFeeds.SavedRows<String> savedRows = (after, before, limit) -> List.of();
+        tombstone("a", until.minusSeconds(1));
+        tombstone("b", until);
+
+        final var first = feedsAt(until).read("genre", new ChangeQuery("", 10), savedRows);
+
+        Assertions.assertEquals(List.of("a"), first.items().stream().map(Change::id).toList());
+        Assertions.assertEquals(new Watermark(until, ""), Watermark.decode(first.watermark()));
+
+        final var second = feedsAt(until.plusSeconds(1)).read("genre", new ChangeQuery(first.watermark(), 10), savedRows);
+
+        Assertions.assertEquals(List.of("b"), second.items().stream().map(Change::id).toList());
+
+        final var third = feedsAt(until.plusSeconds(1)).read("genre", new ChangeQuery(second.watermark(), 10), savedRows);
+
+        Assertions.assertTrue(third.items().isEmpty());
+        Assertions.assertFalse(third.hasMore());
+    }
+
+    private ChangeFeeds feedsAt(final Instant until) {
+        final var clock = Clock.fixed(until.plus(SETTLE_TIME), ZoneOffset.UTC);
+        return new ChangeFeeds(jdbc, clock, SETTLE_TIME, Duration.ofDays(30), 100);
+    }
+
+    private void tombstone(final String id, final Instant deletedAt) {
+        jdbc.update("INSERT INTO tombstones (aggregate, id, deleted_at) VALUES ('genre', ?, ?)", id, Timestamp.from(deletedAt));
+    }
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalog.infraestructure.concurrency;
+
+import com.fullcycle.admin.catalog.IntegrationTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+@IntegrationTest
+class ApplicationTaskExecutorTest {
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private ThreadPoolTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    @Test
+    void givenOtherExecutorBeans_whenRunsAsyncRequests_thenUseTheBoundedApplicationTaskExecutor() {
+        Assertions.assertSame(applicationTaskExecutor, ReflectionTestUtils.getField(handlerAdapter, "taskExecutor"));
+        Assertions.assertEquals(32, applicationTaskExecutor.getMaxPoolSize());
+        Assertions.assertEquals("mvc-async-", applicationTaskExecutor.getThreadNamePrefix());
+    }
+}
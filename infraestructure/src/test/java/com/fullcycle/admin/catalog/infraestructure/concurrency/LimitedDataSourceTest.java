@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalog.infraestructure.concurrency;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+class LimitedDataSourceTest {
+
+    private final DataSource pool = Mockito.mock(DataSource.class);
+
+    @Test
+    void givenAllConnectionsOpen_whenCallsGetConnection_thenWaitForOneToBeClosed() throws Exception {
+        when(pool.getConnection()).thenAnswer(call -> Mockito.mock(Connection.class));
+        final var dataSource = new LimitedDataSource(pool, 2, Duration.ofSeconds(5));
+
+        final var first = dataSource.getConnection();
+        dataSource.getConnection();
+        Assertions.assertEquals(0, dataSource.available());
+
+        final var third = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (final SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        Assertions.assertFalse(third.isDone());
+
+        first.close();
+        first.close();
+
+        Assertions.assertNotNull(third.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, dataSource.available());
+        verify(pool, times(3)).getConnection();
+    }
+
+    @Test
+    void givenNoConnectionClosedInTime_whenCallsGetConnection_thenFailWithoutReachingThePool() throws Exception {
+        when(pool.getConnection()).thenAnswer(call -> Mockito.mock(Connection.class));
+        final var dataSource = new LimitedDataSource(pool, 1, Duration.ofMillis(50));
+
+        dataSource.getConnection();
+
+        Assertions.assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(pool, times(1)).getConnection();
+    }
+
+    @Test
+    void givenAFailingPool_whenCallsGetConnection_thenReleaseThePermit() throws Exception {
+        when(pool.getConnection()).thenThrow(new SQLTransientConnectionException("Connection is not available"));
+        final var dataSource = new LimitedDataSource(pool, 1, Duration.ofMillis(50));
+
+        Assertions.assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        Assertions.assertEquals(1, dataSource.available());
+    }
+}
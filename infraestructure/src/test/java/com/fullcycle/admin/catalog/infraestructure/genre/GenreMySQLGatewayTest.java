@@ -4,19 +4,31 @@ import com.fullcycle.admin.catalog.MySQLGatewayTest;
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+import com.fullcycle.admin.catalog.domain.changes.ChangeType;
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
 import com.fullcycle.admin.catalog.domain.genre.Genre;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalog.infraestructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalog.infraestructure.genre.persistence.GenreRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @MySQLGatewayTest
 class GenreMySQLGatewayTest {
@@ -30,6 +42,73 @@ class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void givenGenresWithCategories_whenCallsCreateAll_thenPersistTheGenresAndTheirCategories() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var terror = Genre.newGenre("Terror", true).addCategories(List.of(filmes.getId()));
+        final var drama = Genre.newGenre("Drama", false);
+
+        genreGateway.createAll(List.of(terror, drama));
+        entityManager.clear();
+
+        Assertions.assertEquals(2, genreRepository.count());
+        Assertions.assertEquals(List.of(filmes.getId()), genreGateway.findById(terror.getId()).get().getCategories());
+        Assertions.assertTrue(genreGateway.findById(drama.getId()).get().getCategories().isEmpty());
+    }
+
+    @Test
+    void givenPersistedGenres_whenCallsForEach_thenVisitEachOnceInIdOrderWithItsCategories() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        categoryGateway.createAll(List.of(filmes, series));
+        final var terror = Genre.newGenre("Terror", true).addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", false);
+        final var acao = Genre.newGenre("Ação", true).addCategories(List.of(series.getId()));
+        genreGateway.createAll(List.of(terror, drama, acao));
+
+        final var visited = new ArrayList<Genre>();
+        genreGateway.forEach(visited::add);
+
+        final var expectedIds = Stream.of(terror, drama, acao).map(Genre::getId).sorted(Comparator.comparing(GenreID::getValue)).toList();
+        Assertions.assertEquals(expectedIds, visited.stream().map(Genre::getId).toList());
+
+        final var visitedTerror = visited.get(expectedIds.indexOf(terror.getId()));
+        Assertions.assertEquals(Set.of(filmes.getId(), series.getId()), Set.copyOf(visitedTerror.getCategories()));
+        Assertions.assertEquals(terror.getCreatedAt(), visitedTerror.getCreatedAt());
+        Assertions.assertTrue(visited.get(expectedIds.indexOf(drama.getId())).getCategories().isEmpty());
+        Assertions.assertEquals(List.of(series.getId()), visited.get(expectedIds.indexOf(acao.getId())).getCategories());
+    }
+
+    @Test
+    void givenAGenreOfADeletedCategory_whenCallsChangesSince_thenReturnTheGenreUpdatedWithoutTheCategory() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var terror = Genre.newGenre("Terror", true).addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true);
+        genreGateway.createAll(List.of(terror, drama));
+
+        final var created = genreGateway.changesSince(new ChangeQuery("", 10));
+
+        Assertions.assertFalse(created.hasMore());
+        Assertions.assertEquals(
+                Set.of(terror.getId(), drama.getId()),
+                created.items().stream().map(it -> it.item().getId()).collect(Collectors.toSet())
+        );
+
+        categoryGateway.deleteById(filmes.getId());
+        entityManager.flush();
+
+        final var changed = genreGateway.changesSince(new ChangeQuery(created.watermark(), 10));
+
+        Assertions.assertEquals(1, changed.items().size());
+        Assertions.assertEquals(ChangeType.UPDATED, changed.items().get(0).type());
+        Assertions.assertEquals(terror.getId(), changed.items().get(0).item().getId());
+        Assertions.assertEquals(List.of(series.getId()), changed.items().get(0).item().getCategories());
+    }
+
     @Test
     void givenAValidGenre_whenCallsCreateGenre_thenPersistGenre() {
         final var category = categoryGateway.create(Category.newCategory("Filmes", null, true));
@@ -346,6 +425,88 @@ class GenreMySQLGatewayTest {
         }
     }
 
+    @Test
+    void givenGenresWithCategories_whenCallsFindAll_thenLoadThePageInConstantStatements() {
+        final var categories = List.of(
+                categoryGateway.create(Category.newCategory("Filmes", null, true)).getId(),
+                categoryGateway.create(Category.newCategory("Séries", null, true)).getId()
+        );
+        for (int i = 0; i < 10; i++) {
+            final var genre = Genre.newGenre("Genre %02d".formatted(i), true);
+            genre.addCategories(categories);
+            genreRepository.save(GenreJpaEntity.from(genre));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        final var expectedStatements = 3;
+        final var statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final var result = genreGateway.findAll(new SearchQuery(0, 4, "", "name", "asc"));
+
+        final var actualStatements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+
+        Assertions.assertEquals(expectedStatements, actualStatements);
+        Assertions.assertEquals(10, result.total());
+        Assertions.assertEquals(
+                List.of("Genre 00", "Genre 01", "Genre 02", "Genre 03"),
+                result.items().stream().map(Genre::getName).toList()
+        );
+        result.items().forEach(genre -> Assertions.assertEquals(2, genre.getCategories().size()));
+    }
+
+    @Test
+    void givenPrePersistedGenres_whenCallsFindAllFollowingCursors_thenWalkEveryGenreOnceWithItsCategories() {
+        final var expectedPerPage = 2;
+        final var category = categoryGateway.create(Category.newCategory("Filmes", null, true)).getId();
+        final var action = Genre.newGenre("Ação", true);
+        action.addCategories(List.of(category));
+        genreRepository.saveAndFlush(GenreJpaEntity.from(action));
+        mockGenres();
+
+        final var firstPage = genreGateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", ""));
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, firstPage.total());
+        Assertions.assertEquals(List.of("Ação", "Ação"), names(firstPage));
+        Assertions.assertEquals(
+                Set.of(List.of(), List.of(category)),
+                firstPage.items().stream().map(Genre::getCategories).collect(Collectors.toSet())
+        );
+        Assertions.assertNotNull(firstPage.nextCursor());
+
+        final var secondPage = genreGateway.findAll(
+                new SearchQuery(1, expectedPerPage, "", "name", "asc", firstPage.nextCursor())
+        );
+
+        Assertions.assertEquals(List.of("Comédia romântica", "Drama"), names(secondPage));
+        Assertions.assertNotNull(secondPage.nextCursor());
+
+        final var lastPage = genreGateway.findAll(
+                new SearchQuery(2, expectedPerPage, "", "name", "asc", secondPage.nextCursor())
+        );
+
+        Assertions.assertEquals(List.of("Ficção científica", "Terror"), names(lastPage));
+        Assertions.assertNull(lastPage.nextCursor());
+    }
+
+    @Test
+    void givenACursorOfAnotherDirection_whenCallsFindAll_thenThrowsDomainException() {
+        final var expectedErrorMessage = "'cursor' is invalid for the requested sort";
+        mockGenres();
+
+        final var cursor = genreGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "")).nextCursor();
+
+        final var descending = new SearchQuery(1, 1, "", "name", "desc", cursor);
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> genreGateway.findAll(descending)
+        );
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
     @Test
     void givenTwoGenresAndOnePersisted_whenCallsExistsByIds_thenReturnPersistedID() {
         final var genre = Genre.newGenre("Genre 1", true);
@@ -368,4 +529,8 @@ class GenreMySQLGatewayTest {
                 GenreJpaEntity.from(Genre.newGenre("Ficção científica", true))
         ));
     }
+
+    private static List<String> names(final Pagination<Genre> page) {
+        return page.items().stream().map(Genre::getName).toList();
+    }
 }
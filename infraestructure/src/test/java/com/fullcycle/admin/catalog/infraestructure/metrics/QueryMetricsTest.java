@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalog.infraestructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+class QueryMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        final var metrics = new QueryMetrics(registry, Duration.ofSeconds(1));
+        final var dataSource = (DataSource) new DataSourceInstrumentation(
+                new StaticListableBeanFactory(Map.of("queryMetrics", metrics)).getBeanProvider(QueryMetrics.class)
+        ).postProcessAfterInitialization(
+                new DriverManagerDataSource("jdbc:h2:mem:query_metrics;DB_CLOSE_DELAY=-1", "root", "123456"),
+                "dataSource"
+        );
+
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS titles (name VARCHAR(255))");
+        jdbc.execute("DELETE FROM titles");
+        jdbc.batchUpdate("INSERT INTO titles (name) VALUES (?)", List.of(
+                new Object[]{"Filmes"}, new Object[]{"Séries"}, new Object[]{"Documentários"}
+        ));
+    }
+
+    @Test
+    void givenAProxiedGateway_whenRunsStatements_thenAttributeThemAndTheirRowsToTheGatewayMethod() {
+        final var gateway = (JdbcTitlesGateway) new GatewayQueryAttribution()
+                .postProcessAfterInitialization(new JdbcTitlesGateway(jdbc), "titlesGateway");
+
+        Assertions.assertEquals(3, gateway.findAll().size());
+        Assertions.assertEquals(3, gateway.findAll().size());
+
+        final var statements = registry.get("db.statements").tag("caller", "JdbcTitlesGateway.findAll").timer();
+        Assertions.assertEquals(2, statements.count());
+        Assertions.assertEquals(6.0, registry.get("db.rows").tag("caller", "JdbcTitlesGateway.findAll").counter().count());
+        Assertions.assertEquals(QueryContext.NO_GATEWAY, QueryContext.caller());
+    }
+
+    @Test
+    void givenARequest_whenRunsStatementsOutsideGateways_thenSumThemForTheRequestAsOther() {
+        final var request = QueryContext.beginRequest();
+        try {
+            jdbc.queryForList("SELECT name FROM titles WHERE name <> 'Filmes'", String.class);
+            jdbc.queryForList("SELECT name FROM titles", String.class);
+        } finally {
+            QueryContext.endRequest();
+        }
+
+        Assertions.assertEquals(2, request.statements());
+        Assertions.assertEquals(5, request.rows());
+        Assertions.assertEquals("other x2", request.topCallers(3));
+        Assertions.assertNull(QueryContext.request());
+    }
+
+    @Test
+    void givenQuotedLiterals_whenCallsRedact_thenReplaceThemAndKeepThePlaceholders() {
+        Assertions.assertEquals(
+                "SELECT * FROM videos WHERE title = ? AND rating = ? AND id = ?",
+                QueryMetrics.redact("SELECT * FROM videos WHERE title = 'Harry''s \\'Potter' AND rating = 'L' AND id = ?")
+        );
+    }
+
+    public interface TitlesGateway {
+        List<String> findAll();
+    }
+
+    public static class JdbcTitlesGateway implements TitlesGateway {
+
+        private final JdbcTemplate jdbc;
+
+        public JdbcTitlesGateway(final JdbcTemplate jdbc) {
+            this.jdbc = jdbc;
+        }
+
+        @Override
+        public List<String> findAll() {
+            return jdbc.queryForList("SELECT name FROM titles", String.class);
+        }
+    }
+}
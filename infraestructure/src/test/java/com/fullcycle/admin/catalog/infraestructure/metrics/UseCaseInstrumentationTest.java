@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalog.infraestructure.metrics;
+
+import com.fullcycle.admin.catalog.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
+import com.fullcycle.admin.catalog.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.create.DefaultCreateCategoryUseCase;
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class UseCaseInstrumentationTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final UseCaseInstrumentation instrumentation = new UseCaseInstrumentation(
+            new StaticListableBeanFactory(Map.of("registry", registry)).getBeanProvider(MeterRegistry.class)
+    );
+
+    @Test
+    void givenEitherResults_whenCallsExecute_thenTimeRightsAsSuccessAndLeftsAsFailure() {
+        final var gateway = Mockito.mock(CategoryGateway.class);
+        when(gateway.create(any())).thenAnswer(returnsFirstArg());
+        final var useCase = (CreateCategoryUseCase) instrumentation.postProcessAfterInitialization(
+                new DefaultCreateCategoryUseCase(gateway), "createCategoryUseCase"
+        );
+
+        Assertions.assertTrue(useCase.execute(CreateCategoryCommand.with("Filmes", "", true)).isRight());
+        Assertions.assertTrue(useCase.execute(CreateCategoryCommand.with(null, "", true)).isLeft());
+        Assertions.assertTrue(useCase.execute(CreateCategoryCommand.with(" ", "", true)).isLeft());
+
+        Assertions.assertEquals(1, executions("CreateCategoryUseCase", "success"));
+        Assertions.assertEquals(2, executions("CreateCategoryUseCase", "failure"));
+        Assertions.assertEquals(0, executions("CreateCategoryUseCase", "error"));
+        Assertions.assertEquals(0.0, registry.get("usecase.in.flight").tag("usecase", "CreateCategoryUseCase").gauge().value());
+    }
+
+    @Test
+    void givenAThrowingUseCase_whenCallsExecute_thenTellDomainFailuresFromErrorsAndCountTheExceptions() {
+        final var gateway = Mockito.mock(CastMemberGateway.class);
+        when(gateway.findById(any())).thenReturn(Optional.empty()).thenThrow(new IllegalStateException("Gateway error"));
+        final var useCase = (GetCastMemberByIdUseCase) instrumentation.postProcessAfterInitialization(
+                new DefaultGetCastMemberByIdUseCase(gateway), "getCastMemberByIdUseCase"
+        );
+
+        Assertions.assertThrows(NotFoundException.class, () -> useCase.execute("123"));
+        Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute("123"));
+
+        Assertions.assertInstanceOf(DefaultGetCastMemberByIdUseCase.class, useCase);
+        Assertions.assertEquals(1, executions("GetCastMemberByIdUseCase", "failure"));
+        Assertions.assertEquals(1, executions("GetCastMemberByIdUseCase", "error"));
+        Assertions.assertEquals(1.0, registry.get("usecase.exceptions")
+                .tags("usecase", "GetCastMemberByIdUseCase", "exception", "IllegalStateException")
+                .counter()
+                .count());
+        Assertions.assertEquals(0.0, registry.get("usecase.in.flight").tag("usecase", "GetCastMemberByIdUseCase").gauge().value());
+    }
+
+    @Test
+    void givenABeanOtherThanAUseCase_whenPostProcessed_thenReturnItAsIs() {
+        final var bean = new Object();
+
+        Assertions.assertSame(bean, instrumentation.postProcessAfterInitialization(bean, "bean"));
+        Assertions.assertTrue(registry.getMeters().isEmpty());
+    }
+
+    private long executions(final String useCase, final String outcome) {
+        return registry.get("usecase.executions").tags("usecase", useCase, "outcome", outcome).timer().count();
+    }
+}
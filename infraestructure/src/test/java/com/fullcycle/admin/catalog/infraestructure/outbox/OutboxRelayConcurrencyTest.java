@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalog.infraestructure.outbox;
+
+import com.fullcycle.admin.catalog.IntegrationTest;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.infraestructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalog.infraestructure.outbox.persistence.OutboxEventRepository;
+import com.fullcycle.admin.catalog.infraestructure.services.impl.RabbitBatchPublisher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@IntegrationTest
+class OutboxRelayConcurrencyTest {
+
+    private static final int EVENTS = 200;
+    private static final int BATCH_SIZE = 10;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void givenTwoRelays_whenTheyRunConcurrently_thenPublishEachEventOnce() throws Exception {
+        outboxEventRepository.saveAll(IntStream.range(0, EVENTS)
+                .mapToObj(i -> OutboxEventJpaEntity.with(
+                        "video.events", "video.created", "VideoMediaCreated", "payload-" + i, InstantUtils.now()
+                ))
+                .toList());
+
+        final var publishes = new ConcurrentHashMap<String, AtomicInteger>();
+        final var publisher = Mockito.mock(RabbitBatchPublisher.class);
+        when(publisher.publish(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            publishes.computeIfAbsent(invocation.getArgument(2), it -> new AtomicInteger()).incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        });
+
+        final var relays = List.of(
+                new OutboxRelay(outboxEventRepository, publisher, BATCH_SIZE, Duration.ofMinutes(1)),
+                new OutboxRelay(outboxEventRepository, publisher, BATCH_SIZE, Duration.ofMinutes(1))
+        );
+
+        final var start = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(relays.size());
+        try {
+            final var runs = relays.stream()
+                    .map(relay -> executor.submit(() -> {
+                        start.await();
+                        relay.relay();
+                        return null;
+                    }))
+                    .toList();
+            start.countDown();
+            for (final var run : runs) {
+                run.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(EVENTS, publishes.size());
+        Assertions.assertTrue(publishes.values().stream().allMatch(it -> it.get() == 1));
+        Assertions.assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void givenAClaimedBatch_whenAnotherRelayRuns_thenSkipItUntilTheClaimExpires() {
+        outboxEventRepository.saveAll(IntStream.range(0, 3)
+                .mapToObj(i -> OutboxEventJpaEntity.with(
+                        "video.events", "video.created", "VideoMediaCreated", "payload-" + i, InstantUtils.now()
+                ))
+                .toList());
+        final var now = InstantUtils.now();
+
+        Assertions.assertEquals(2, outboxEventRepository.claimOldest("first", now, now.plusSeconds(60), 2));
+        Assertions.assertEquals(1, outboxEventRepository.claimOldest("second", now, now.plusSeconds(60), 2));
+        Assertions.assertEquals(0, outboxEventRepository.claimOldest("third", now, now.plusSeconds(60), 2));
+        Assertions.assertEquals(2, outboxEventRepository.claimOldest("third", now.plusSeconds(61), now.plusSeconds(120), 2));
+        Assertions.assertEquals(List.of("payload-0", "payload-1"), outboxEventRepository.findClaimed("third").stream()
+                .map(OutboxEventJpaEntity::getPayload)
+                .toList());
+    }
+}
@@ -0,0 +1,111 @@
+package com.fullcycle.admin.catalog.infraestructure.outbox;
+
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.infraestructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalog.infraestructure.outbox.persistence.OutboxEventRepository;
+import com.fullcycle.admin.catalog.infraestructure.services.impl.RabbitBatchPublisher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.AmqpTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private OutboxEventRepository outboxEventRepository;
+    private RabbitBatchPublisher publisher;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = Mockito.mock(OutboxEventRepository.class);
+        publisher = Mockito.mock(RabbitBatchPublisher.class);
+        relay = new OutboxRelay(outboxEventRepository, publisher, BATCH_SIZE, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void givenPendingEvents_whenCallsRelay_thenPublishInBatchesAndDeleteConfirmedOnes() {
+        final var firstBatch = events(1, 2);
+        final var secondBatch = events(3);
+        when(outboxEventRepository.claimOldest(anyString(), any(), any(), eq(BATCH_SIZE)))
+                .thenReturn(2)
+                .thenReturn(1);
+        when(outboxEventRepository.findClaimed(anyString()))
+                .thenReturn(firstBatch)
+                .thenReturn(secondBatch);
+        when(publisher.publish(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.relay();
+
+        verify(publisher, times(3)).publish(eq("video.events"), eq("video.created"), anyString());
+        verify(publisher, times(1)).publish("video.events", "video.created", "payload-1");
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(outboxEventRepository, times(2)).release(anyString());
+    }
+
+    @Test
+    void givenNoEvents_whenCallsRelay_thenDoNotTouchTheBroker() {
+        when(outboxEventRepository.claimOldest(anyString(), any(), any(), anyInt())).thenReturn(0);
+
+        relay.relay();
+
+        verify(outboxEventRepository, never()).findClaimed(anyString());
+        verify(publisher, never()).publish(anyString(), anyString(), anyString());
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void givenPartiallyConfirmedBatch_whenCallsRelay_thenDeleteOnlyTheConfirmedOnes() {
+        when(outboxEventRepository.claimOldest(anyString(), any(), any(), anyInt())).thenReturn(2);
+        when(outboxEventRepository.findClaimed(anyString())).thenReturn(events(1, 2));
+        when(publisher.publish(anyString(), anyString(), eq("payload-1")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(publisher.publish(anyString(), anyString(), eq("payload-2")))
+                .thenReturn(CompletableFuture.failedFuture(new AmqpTimeoutException("timeout")));
+
+        Assertions.assertDoesNotThrow(() -> relay.relay());
+
+        verify(outboxEventRepository, times(1)).findClaimed(anyString());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(outboxEventRepository).release(anyString());
+    }
+
+    @Test
+    void givenBrokerUnavailable_whenCallsRelay_thenKeepTheEventsToRetry() {
+        when(outboxEventRepository.claimOldest(anyString(), any(), any(), anyInt())).thenReturn(2);
+        when(outboxEventRepository.findClaimed(anyString())).thenReturn(events(1, 2));
+        when(publisher.publish(anyString(), anyString(), anyString()))
+                .thenThrow(new AmqpTimeoutException("Too many messages waiting for a publisher confirm"));
+
+        Assertions.assertDoesNotThrow(() -> relay.relay());
+
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+        verify(outboxEventRepository).release(anyString());
+    }
+
+    private static List<OutboxEventJpaEntity> events(final long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> {
+                    final var event = OutboxEventJpaEntity.with(
+                            "video.events", "video.created", "VideoMediaCreated", "payload-" + id, InstantUtils.now()
+                    );
+                    event.setId(id);
+                    return event;
+                })
+                .toList();
+    }
+}
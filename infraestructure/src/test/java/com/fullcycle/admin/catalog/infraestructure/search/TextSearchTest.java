@@ -0,0 +1,60 @@
+package com.fullcycle.admin.catalog.infraestructure.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+class TextSearchTest {
+
+    @Test
+    void givenTerms_whenCallsFullTextQuery_thenRequireEveryWordAsAPrefix() {
+        final var textSearch = new TextSearch(true, 3);
+
+        Assertions.assertEquals(Optional.of("+Vin* +Diesel*"), textSearch.fullTextQuery("Vin  Diesel"));
+        Assertions.assertEquals(Optional.of("+ação*"), textSearch.fullTextQuery("ação"));
+    }
+
+    @Test
+    void givenBooleanOperatorsInTerms_whenCallsFullTextQuery_thenStripThem() {
+        final var textSearch = new TextSearch(true, 3);
+
+        Assertions.assertEquals(
+                Optional.of("+harry* +potter*"),
+                textSearch.fullTextQuery("-harry \"potter\" (*)")
+        );
+    }
+
+    @Test
+    void givenOnlyWordsShorterThanTheMinTokenSize_whenCallsFullTextQuery_thenFallBackToLike() {
+        final var textSearch = new TextSearch(true, 3);
+
+        Assertions.assertEquals(Optional.empty(), textSearch.fullTextQuery("o a"));
+        Assertions.assertEquals(Optional.of("+poderoso*"), textSearch.fullTextQuery("o poderoso"));
+    }
+
+    @Test
+    void givenFullTextDisabled_whenCallsFullTextQuery_thenFallBackToLike() {
+        final var textSearch = new TextSearch(false, 3);
+
+        Assertions.assertEquals(Optional.empty(), textSearch.fullTextQuery("drama"));
+        Assertions.assertNull(textSearch.matching(" ", "name"));
+    }
+
+    @Test
+    void givenRelevanceSort_whenCallsSort_thenReturnUnsorted() {
+        Assertions.assertEquals(Sort.unsorted(), TextSearch.sort("relevance", "desc"));
+        Assertions.assertEquals(Sort.by(Sort.Direction.DESC, "name"), TextSearch.sort("name", "desc"));
+    }
+
+    @Test
+    void givenColumnsAndQuery_whenRendersMatchAgainst_thenUseBooleanMode() {
+        final var function = new MySQLFullTextDialect.MatchAgainstFunction();
+
+        final var sql = function.render(null, List.of("c.name", "c.description", "?"), null);
+
+        Assertions.assertEquals("match (c.name, c.description) against (? in boolean mode)", sql);
+    }
+}
@@ -2,8 +2,10 @@ package com.fullcycle.admin.catalog.infraestructure.services.impl;
 
 import com.fullcycle.admin.catalog.domain.Fixture;
 import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.ResourceContent;
 import com.fullcycle.admin.catalog.domain.utils.IdUtils;
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
@@ -14,10 +16,19 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static com.google.cloud.storage.Storage.BlobListOption.prefix;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -53,6 +64,126 @@ class GCStorageServiceTest {
         Assertions.assertEquals(expectedResource.contentType(), result.getContentType());
     }
 
+    @Test
+    void givenStreamedResource_whenCallsStore_thenUploadItInChunks() throws IOException {
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedResource = Resource.with(
+                IdUtils.uuid(),
+                ResourceContent.of(expectedContent.length, () -> new ByteArrayInputStream(expectedContent)),
+                "video/mp4",
+                "video"
+        );
+
+        service.store(expectedName, expectedResource);
+
+        final var captor = ArgumentCaptor.forClass(BlobInfo.class);
+        final var streamCaptor = ArgumentCaptor.forClass(InputStream.class);
+        verify(storage, times(1)).createFrom(captor.capture(), streamCaptor.capture(), anyInt());
+        verify(storage, never()).create(any(BlobInfo.class), any(byte[].class));
+
+        final var result = captor.getValue();
+        Assertions.assertEquals(bucket, result.getBucket());
+        Assertions.assertEquals(expectedName, result.getName());
+        Assertions.assertEquals(expectedResource.checksum(), result.getCrc32cToHexString());
+        Assertions.assertEquals(expectedResource.contentType(), result.getContentType());
+    }
+
+    @Test
+    void givenStreamedResourceWithoutChecksum_whenCallsStore_thenChecksumTheBytesWhileUploading() throws IOException {
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = Resource.with(ResourceContent.of(expectedContent), "video/mp4", "video").checksum();
+        final var opened = new AtomicInteger();
+        final var resource = Resource.with(
+                ResourceContent.of(expectedContent.length, () -> {
+                    opened.incrementAndGet();
+                    return new ByteArrayInputStream(expectedContent);
+                }),
+                "video/mp4",
+                "video"
+        );
+        final var uploaded = Mockito.mock(Blob.class);
+        when(uploaded.getCrc32cToHexString()).thenReturn(expectedChecksum);
+        when(storage.createFrom(any(BlobInfo.class), any(InputStream.class), anyInt())).thenAnswer(call -> {
+            call.<InputStream>getArgument(1).readAllBytes();
+            return uploaded;
+        });
+
+        service.store(expectedName, resource);
+
+        final var captor = ArgumentCaptor.forClass(BlobInfo.class);
+        verify(storage, times(1)).createFrom(captor.capture(), any(InputStream.class), anyInt());
+        verify(storage, never()).delete(any(BlobId.class));
+        Assertions.assertNull(captor.getValue().getCrc32cToHexString());
+        Assertions.assertEquals(1, opened.get());
+    }
+
+    @Test
+    void givenStreamedResourceWithoutChecksum_whenStoredBytesDiffer_thenDeleteTheObjectAndFail() throws IOException {
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Conteudo".getBytes();
+        final var resource = Resource.with(
+                ResourceContent.of(expectedContent.length, () -> new ByteArrayInputStream(expectedContent)),
+                "video/mp4",
+                "video"
+        );
+        final var uploaded = Mockito.mock(Blob.class);
+        when(uploaded.getCrc32cToHexString()).thenReturn("00000000");
+        when(storage.createFrom(any(BlobInfo.class), any(InputStream.class), anyInt())).thenAnswer(call -> {
+            call.<InputStream>getArgument(1).readAllBytes();
+            return uploaded;
+        });
+
+        Assertions.assertThrows(IllegalStateException.class, () -> service.store(expectedName, resource));
+
+        verify(storage, times(1)).delete(BlobId.of(bucket, expectedName));
+    }
+
+    @Test
+    void givenManyParts_whenCallsCompose_thenComposeInRoundsOf32Sources() {
+        final var expectedName = IdUtils.uuid();
+        final var expectedResource = Fixture.Videos.videoResource();
+        final var sources = IntStream.rangeClosed(1, 40).mapToObj("part-%05d"::formatted).toList();
+        final var blob = mockBlob(expectedName, expectedResource);
+        doReturn(blob).when(storage).compose(any());
+
+        final var result = service.compose(expectedName, sources, expectedResource.contentType());
+
+        final var captor = ArgumentCaptor.forClass(Storage.ComposeRequest.class);
+        verify(storage, times(2)).compose(captor.capture());
+
+        final var first = captor.getAllValues().get(0);
+        Assertions.assertEquals(expectedName, first.getTarget().getName());
+        Assertions.assertEquals(expectedResource.contentType(), first.getTarget().getContentType());
+        Assertions.assertEquals(sources.subList(0, 32), first.getSourceBlobs().stream().map(Storage.ComposeRequest.SourceBlob::getName).toList());
+
+        final var second = captor.getAllValues().get(1);
+        final var expectedSecondSources = new ArrayList<String>();
+        expectedSecondSources.add(expectedName);
+        expectedSecondSources.addAll(sources.subList(32, 40));
+        Assertions.assertEquals(expectedSecondSources, second.getSourceBlobs().stream().map(Storage.ComposeRequest.SourceBlob::getName).toList());
+
+        Assertions.assertEquals(expectedResource.checksum(), result.checksum());
+        Assertions.assertEquals(expectedResource.contentLength(), result.contentLength());
+    }
+
+    @Test
+    void givenValidResource_whenCallsGetAndSlice_thenReadOnlyTheRange() throws IOException {
+        final var expectedName = IdUtils.uuid();
+        final var expectedResource = Fixture.Videos.videoResource();
+        final var blob = mockBlob(expectedName, expectedResource);
+        final var channel = Mockito.mock(ReadChannel.class);
+        doReturn(blob).when(storage).get(anyString(), anyString());
+        doReturn(channel).when(storage).reader(eq(BlobId.of(bucket, expectedName)));
+
+        final var resource = service.get(expectedName).get();
+        resource.source().slice(2, 3).openStream().close();
+
+        verify(channel, times(1)).seek(eq(2L));
+        verify(channel, times(1)).limit(eq(5L));
+    }
+
     @Test
     void givenValidResource_whenCallsGet_thenRetrieveIt() {
         final var expectedName = IdUtils.uuid();
@@ -62,8 +193,13 @@ class GCStorageServiceTest {
 
         final var resource = service.get(expectedName).get();
 
-        Assertions.assertEquals(expectedResource, resource);
+        Assertions.assertFalse(resource.isBuffered());
+        Assertions.assertEquals(expectedResource.contentLength(), resource.contentLength());
+        verify(storage, never()).reader(any(BlobId.class));
+
+        Assertions.assertEquals(expectedResource, resource.buffered());
         verify(storage, times(1)).get(eq(bucket), eq(expectedName));
+        verify(storage, times(1)).reader(eq(BlobId.of(bucket, expectedName)));
     }
 
     @Test
@@ -122,6 +258,29 @@ class GCStorageServiceTest {
         when(blob.getContentType()).thenReturn(resource.contentType());
         when(blob.getName()).thenReturn(resource.name());
         when(blob.getCrc32cToHexString()).thenReturn(resource.checksum());
+        when(blob.getSize()).thenReturn(resource.contentLength());
+        doReturn(readChannel(resource.content())).when(storage).reader(eq(BlobId.of(bucket, name)));
         return blob;
     }
+
+    private ReadChannel readChannel(final byte[] content) {
+        final var source = ByteBuffer.wrap(content);
+        final var channel = Mockito.mock(ReadChannel.class);
+        when(channel.isOpen()).thenReturn(true);
+        try {
+            when(channel.read(any(ByteBuffer.class))).thenAnswer(invocation -> {
+                if (!source.hasRemaining()) {
+                    return -1;
+                }
+                final ByteBuffer target = invocation.getArgument(0);
+                final var length = Math.min(target.remaining(), source.remaining());
+                target.put(source.slice().limit(length));
+                source.position(source.position() + length);
+                return length;
+            });
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return channel;
+    }
 }
\ No newline at end of file
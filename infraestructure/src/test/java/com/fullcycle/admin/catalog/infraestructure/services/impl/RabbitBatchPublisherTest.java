@@ -0,0 +1,116 @@
+package com.fullcycle.admin.catalog.infraestructure.services.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RabbitBatchPublisherTest {
+
+    private RabbitOperations ops;
+    private RabbitOperations channel;
+    private BlockingQueue<CorrelationData> published;
+    private SimpleMeterRegistry registry;
+    private RabbitBatchPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        ops = Mockito.mock(RabbitOperations.class);
+        channel = Mockito.mock(RabbitOperations.class);
+        published = new LinkedBlockingQueue<>();
+        registry = new SimpleMeterRegistry();
+
+        when(ops.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(channel)
+        );
+        doAnswer(invocation -> published.add(invocation.getArgument(3)))
+                .when(channel).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.close();
+    }
+
+    @Test
+    void givenMessagesWithinLinger_whenCallsPublish_thenSendThemInOneBatch() throws Exception {
+        publisher = new RabbitBatchPublisher(ops, 3, Duration.ofSeconds(1), 10, Duration.ofSeconds(5), registry);
+
+        final var first = publisher.publish("video.events", "video.created", "1");
+        final var second = publisher.publish("video.events", "video.created", "2");
+        final var third = publisher.publish("video.events", "video.created", "3");
+
+        for (int i = 0; i < 3; i++) {
+            ack(published.poll(1, TimeUnit.SECONDS));
+        }
+        CompletableFuture.allOf(first, second, third).get(1, TimeUnit.SECONDS);
+
+        verify(ops, times(1)).invoke(any());
+        verify(channel, times(1)).convertAndSend(eq("video.events"), eq("video.created"), eq((Object) "2"), any(CorrelationData.class));
+        Assertions.assertEquals(1, registry.get("amqp.publisher.batch.size").summary().count());
+        Assertions.assertEquals(3.0, registry.get("amqp.publisher.batch.size").summary().totalAmount());
+        Assertions.assertEquals(3, registry.get("amqp.publisher.confirm.latency").timer().count());
+    }
+
+    @Test
+    void givenNackedMessage_whenCallsPublish_thenFailItsConfirm() throws Exception {
+        publisher = new RabbitBatchPublisher(ops, 10, Duration.ofMillis(1), 10, Duration.ofSeconds(5), registry);
+
+        final var confirm = publisher.publish("video.events", "video.created", "1");
+        published.poll(1, TimeUnit.SECONDS).getFuture().set(new CorrelationData.Confirm(false, "queue full"));
+
+        final var actualException = Assertions.assertThrows(CompletionException.class, confirm::join);
+
+        Assertions.assertInstanceOf(AmqpException.class, actualException.getCause());
+        Assertions.assertEquals(1.0, registry.get("amqp.publisher.nacks").counter().count());
+    }
+
+    @Test
+    void givenFullUnconfirmedWindow_whenCallsPublish_thenWaitForAConfirm() throws Exception {
+        publisher = new RabbitBatchPublisher(ops, 10, Duration.ofMillis(1), 1, Duration.ofSeconds(5), registry);
+
+        publisher.publish("video.events", "video.created", "1");
+        final var first = published.poll(1, TimeUnit.SECONDS);
+
+        final var second = CompletableFuture.supplyAsync(() -> publisher.publish("video.events", "video.created", "2"));
+        Thread.sleep(200);
+        Assertions.assertFalse(second.isDone());
+        Assertions.assertEquals(1.0, registry.get("amqp.publisher.unconfirmed").gauge().value());
+
+        ack(first);
+
+        Assertions.assertNotNull(second.get(1, TimeUnit.SECONDS));
+        Assertions.assertNotNull(published.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void givenBrokerFailure_whenFlushing_thenFailTheWholeBatch() {
+        doThrow(new AmqpException("connection refused")).when(ops).invoke(any());
+        publisher = new RabbitBatchPublisher(ops, 10, Duration.ofMillis(1), 10, Duration.ofSeconds(5), registry);
+
+        final var confirm = publisher.publish("video.events", "video.created", "1");
+
+        final var actualException = Assertions.assertThrows(CompletionException.class, confirm::join);
+        Assertions.assertEquals("connection refused", actualException.getCause().getMessage());
+    }
+
+    private static void ack(final CorrelationData correlation) {
+        correlation.getFuture().set(new CorrelationData.Confirm(true, null));
+    }
+}
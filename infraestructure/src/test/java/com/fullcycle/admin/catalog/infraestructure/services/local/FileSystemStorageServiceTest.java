@@ -0,0 +1,249 @@
+package com.fullcycle.admin.catalog.infraestructure.services.local;
+
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.ResourceContent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class FileSystemStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private FileSystemStorageService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FileSystemStorageService(root);
+    }
+
+    @Test
+    void givenValidResource_whenCallsStore_thenStoreIt() throws IOException {
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var expectedResource = Fixture.Videos.videoResource();
+
+        service.store(expectedName, expectedResource);
+
+        Assertions.assertArrayEquals(expectedResource.content(), Files.readAllBytes(root.resolve(expectedName)));
+        try (final var files = Files.list(root.resolve("videoId-123"))) {
+            Assertions.assertTrue(files.noneMatch(it -> it.toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    void givenStreamedResource_whenCallsStore_thenStoreIt() {
+        final var expectedName = "videoId-123/type-TRAILER";
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedResource = Resource.with(
+                ResourceContent.of(expectedContent.length, () -> new ByteArrayInputStream(expectedContent)),
+                "video/mp4",
+                "trailer"
+        );
+
+        service.store(expectedName, expectedResource);
+
+        final var result = service.get(expectedName).get();
+        Assertions.assertArrayEquals(expectedContent, result.content());
+        Assertions.assertEquals(expectedResource.checksum(), result.checksum());
+    }
+
+    @Test
+    void givenStreamedResourceWithoutChecksum_whenCallsStore_thenChecksumItWhileCopying() {
+        final var expectedName = "videoId-123/type-TRAILER";
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = Resource.with(ResourceContent.of(expectedContent), "video/mp4", "trailer").checksum();
+        final var opens = new AtomicInteger();
+        final var resource = Resource.with(
+                ResourceContent.of(expectedContent.length, () -> {
+                    opens.incrementAndGet();
+                    return new ByteArrayInputStream(expectedContent);
+                }),
+                "video/mp4",
+                "trailer"
+        );
+
+        service.store(expectedName, resource);
+
+        Assertions.assertEquals(1, opens.get());
+        Assertions.assertEquals(expectedChecksum, service.get(expectedName).get().checksum());
+    }
+
+    @Test
+    void givenStoredResource_whenStoresItUnderAnotherId_thenKeepItsChecksum() {
+        service.store("videoId-123/type-VIDEO", Resource.with("abc", "Conteudo".getBytes(), "video/mp4", "video"));
+
+        service.store("videoId-456/type-VIDEO", service.get("videoId-123/type-VIDEO").get());
+
+        final var result = service.get("videoId-456/type-VIDEO").get();
+        Assertions.assertArrayEquals("Conteudo".getBytes(), result.content());
+        Assertions.assertEquals("abc", result.checksum());
+    }
+
+    @Test
+    void givenTruncatedResource_whenCallsStore_thenFailAndKeepNothing() throws IOException {
+        final var expectedName = "videoId-123/type-TRAILER";
+        final var resource = Resource.with(
+                ResourceContent.of(100, () -> new ByteArrayInputStream("Conteudo".getBytes())),
+                "video/mp4",
+                "trailer"
+        );
+
+        final var error = Assertions.assertThrows(UncheckedIOException.class, () -> service.store(expectedName, resource));
+
+        Assertions.assertEquals("Content of %s ended after 8 of 100 bytes".formatted(expectedName), error.getCause().getMessage());
+        Assertions.assertTrue(service.get(expectedName).isEmpty());
+        try (final var files = Files.list(root.resolve("videoId-123"))) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void givenDataReplacedBeforeItsMetadata_whenCallsGet_thenComputeTheChecksumFromTheData() throws IOException {
+        final var expectedName = "videoId-123/type-BANNER";
+        final var expectedContent = "Novo".getBytes();
+        final var expectedChecksum = Resource.with(ResourceContent.of(expectedContent), "image/jpg", "banner").checksum();
+        service.store(expectedName, Resource.with("abc", "Conteudo antigo".getBytes(), "image/jpg", "banner"));
+
+        // what a reader sees between the data and the metadata renames of a concurrent store
+        Files.write(root.resolve(expectedName), expectedContent);
+
+        final var result = service.get(expectedName).get();
+        Assertions.assertArrayEquals(expectedContent, result.content());
+        Assertions.assertEquals(expectedChecksum, result.checksum());
+        Assertions.assertEquals("image/jpg", result.contentType());
+    }
+
+    @Test
+    void givenDataWithoutMetadata_whenCallsGet_thenComputeTheChecksumFromTheData() throws IOException {
+        final var expectedName = "videoId-123/type-BANNER";
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = Resource.with(ResourceContent.of(expectedContent), "image/jpg", "banner").checksum();
+        Files.createDirectories(root.resolve("videoId-123"));
+        Files.write(root.resolve(expectedName), expectedContent);
+
+        final var result = service.get(expectedName).get();
+        Assertions.assertEquals(expectedChecksum, result.checksum());
+        Assertions.assertEquals("application/octet-stream", result.contentType());
+    }
+
+    @Test
+    void givenStoredResource_whenCallsGet_thenRetrieveItLazily() {
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var expectedResource = Fixture.Videos.videoResource();
+        service.store(expectedName, expectedResource);
+
+        final var result = service.get(expectedName).get();
+
+        Assertions.assertFalse(result.isBuffered());
+        Assertions.assertEquals(expectedResource.checksum(), result.checksum());
+        Assertions.assertEquals(expectedResource.contentType(), result.contentType());
+        Assertions.assertEquals(expectedName, result.name());
+        Assertions.assertEquals(expectedResource.contentLength(), result.contentLength());
+        Assertions.assertArrayEquals(expectedResource.content(), result.content());
+    }
+
+    @Test
+    void givenStoredResource_whenCallsGetAndSlice_thenReadOnlyTheRange() {
+        final var expectedName = "videoId-123/type-TRAILER";
+        service.store(expectedName, Resource.with("abc", "Conteudo".getBytes(), "video/mp4", "trailer"));
+
+        final var result = service.get(expectedName).get().source().slice(2, 3);
+
+        Assertions.assertArrayEquals("nte".getBytes(), result.bytes());
+    }
+
+    @Test
+    void givenStoredResource_whenStoresItAgain_thenReplaceIt() {
+        final var expectedName = "videoId-123/type-BANNER";
+        service.store(expectedName, Resource.with("abc", "Conteudo antigo".getBytes(), "image/jpg", "banner"));
+
+        service.store(expectedName, Resource.with("def", "Novo".getBytes(), "image/png", "banner"));
+
+        final var result = service.get(expectedName).get();
+        Assertions.assertArrayEquals("Novo".getBytes(), result.content());
+        Assertions.assertEquals("def", result.checksum());
+        Assertions.assertEquals("image/png", result.contentType());
+    }
+
+    @Test
+    void givenInvalidId_whenCallsGet_thenReturnEmpty() {
+        Assertions.assertTrue(service.get("videoId-123/type-VIDEO").isEmpty());
+    }
+
+    @Test
+    void givenIdOutsideRoot_whenCallsStore_thenReturnError() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> service.store("../escape", Fixture.Videos.videoResource())
+        );
+    }
+
+    @Test
+    void givenPrefix_whenCallsList_thenRetrieveOnlyMatchingIds() {
+        final var expectedIds = List.of("videoId-123/type-BANNER", "videoId-123/type-VIDEO");
+        expectedIds.forEach(it -> service.store(it, Fixture.Videos.videoResource()));
+        service.store("videoId-456/type-VIDEO", Fixture.Videos.videoResource());
+
+        Assertions.assertEquals(expectedIds, service.list("videoId-123"));
+        Assertions.assertEquals(List.of("videoId-123/type-VIDEO"), service.list("videoId-123/type-V"));
+        Assertions.assertEquals(List.of(), service.list("videoId-789"));
+    }
+
+    @Test
+    void givenStoredResources_whenCallsDeleteAll_thenDeleteThem() {
+        service.store("videoId-123/type-BANNER", Fixture.Videos.bannerResource());
+        service.store("videoId-123/type-VIDEO", Fixture.Videos.videoResource());
+
+        service.deleteAll(List.of("videoId-123/type-BANNER"));
+
+        Assertions.assertEquals(List.of("videoId-123/type-VIDEO"), service.list("videoId-123"));
+        Assertions.assertTrue(service.get("videoId-123/type-BANNER").isEmpty());
+    }
+
+    @Test
+    void givenStoredParts_whenCallsCompose_thenConcatenateThem() {
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var expectedContent = "Conteudo".getBytes();
+        service.store("videoId-123/uploads/1/part-00001", Resource.with("a", "Con".getBytes(), "video/mp4", "part"));
+        service.store("videoId-123/uploads/1/part-00002", Resource.with("b", "teudo".getBytes(), "video/mp4", "part"));
+
+        final var result = service.compose(
+                expectedName,
+                service.list("videoId-123/uploads/1/part-"),
+                "video/mp4"
+        );
+
+        final var expectedChecksum = Resource.with(ResourceContent.of(expectedContent), "video/mp4", "video").checksum();
+        Assertions.assertArrayEquals(expectedContent, result.content());
+        Assertions.assertEquals(expectedChecksum, result.checksum());
+        Assertions.assertEquals("video/mp4", result.contentType());
+    }
+
+    @Test
+    void givenMissingPart_whenCallsCompose_thenFailAndKeepNothing() throws IOException {
+        final var expectedName = "videoId-123/type-VIDEO";
+        service.store("videoId-123/uploads/1/part-00001", Resource.with("a", "Con".getBytes(), "video/mp4", "part"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> service.compose(
+                expectedName,
+                List.of("videoId-123/uploads/1/part-00001", "videoId-123/uploads/1/part-00002"),
+                "video/mp4"
+        ));
+
+        Assertions.assertTrue(service.get(expectedName).isEmpty());
+        try (final var files = Files.list(root.resolve("videoId-123"))) {
+            Assertions.assertEquals(List.of("uploads"), files.map(it -> it.getFileName().toString()).toList());
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.fullcycle.admin.catalog.infraestructure.services.local;
 
 import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.ResourceContent;
 import com.fullcycle.admin.catalog.domain.utils.IdUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -29,6 +32,25 @@ class InMemoryStorageServiceTest {
         Assertions.assertEquals(expectedResource, service.storage().get(expectedName));
     }
 
+    @Test
+    void givenStreamedResource_whenCallsStore_thenStoreItBuffered() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedResource = Resource.with(
+                IdUtils.uuid(),
+                ResourceContent.of(expectedContent.length, () -> new ByteArrayInputStream(expectedContent)),
+                "video/mp4",
+                "video"
+        );
+        final var expectedName = IdUtils.uuid();
+
+        service.store(expectedName, expectedResource);
+
+        final var result = service.storage().get(expectedName);
+        Assertions.assertTrue(result.isBuffered());
+        Assertions.assertArrayEquals(expectedContent, result.content());
+        Assertions.assertEquals(expectedResource.checksum(), result.checksum());
+    }
+
     @Test
     void givenValidResource_whenCallsGet_thenRetrieveIt() {
         final var expectedResource = Fixture.Videos.videoResource();
@@ -85,4 +107,17 @@ class InMemoryStorageServiceTest {
         Assertions.assertEquals(2, service.storage().size());
         Assertions.assertTrue(expectedNames.containsAll(service.storage().keySet()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenStoredParts_whenCallsCompose_thenConcatenateThem() {
+        final var expectedName = IdUtils.uuid();
+        service.storage().put("part-1", Resource.with(ResourceContent.of("Con".getBytes()), "video/mp4", "part"));
+        service.storage().put("part-2", Resource.with(ResourceContent.of("teudo".getBytes()), "video/mp4", "part"));
+
+        final var result = service.compose(expectedName, List.of("part-1", "part-2"), "video/mp4");
+
+        Assertions.assertArrayEquals("Conteudo".getBytes(), result.content());
+        Assertions.assertEquals("video/mp4", result.contentType());
+        Assertions.assertEquals(result, service.storage().get(expectedName));
+    }
+}
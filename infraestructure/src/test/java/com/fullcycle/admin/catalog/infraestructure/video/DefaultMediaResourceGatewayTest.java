@@ -2,7 +2,11 @@ package com.fullcycle.admin.catalog.infraestructure.video;
 
 import com.fullcycle.admin.catalog.IntegrationTest;
 import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.exception.DomainException;
+import com.fullcycle.admin.catalog.domain.resource.Resource;
+import com.fullcycle.admin.catalog.domain.resource.ResourceContent;
 import com.fullcycle.admin.catalog.domain.video.MediaStatus;
+import com.fullcycle.admin.catalog.domain.video.MediaUpload;
 import com.fullcycle.admin.catalog.domain.video.VideoID;
 import com.fullcycle.admin.catalog.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalog.domain.video.VideoResource;
@@ -14,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
+import java.util.Optional;
 
 import static com.fullcycle.admin.catalog.domain.Fixture.Videos.videoResource;
 import static com.fullcycle.admin.catalog.domain.video.VideoMediaType.BANNER;
@@ -129,6 +134,110 @@ class DefaultMediaResourceGatewayTest {
         Assertions.assertTrue(result.isEmpty());
     }
 
+    @Test
+    void givenUploadedParts_whenCallsCompleteUpload_thenComposeThemIntoTheMedia() {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VIDEO;
+        final var expectedName = "master.mp4";
+        final var expectedContentType = "video/mp4";
+        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), expectedType.name());
+
+        final var upload = defaultMediaResourceGateway.initiateUpload(expectedVideoId, expectedType, expectedContentType, expectedName);
+        Assertions.assertEquals(
+                Optional.of(upload),
+                defaultMediaResourceGateway.findUpload(expectedVideoId, expectedType, upload.id())
+        );
+
+        // parts may arrive in any order
+        defaultMediaResourceGateway.storeUploadPart(upload, 2, part("-part2"));
+        defaultMediaResourceGateway.storeUploadPart(upload, 1, part("part1"));
+
+        final var result = defaultMediaResourceGateway.completeUpload(upload).get();
+
+        final var storedResource = storageService().storage().get(expectedLocation);
+        Assertions.assertArrayEquals("part1-part2".getBytes(), storedResource.content());
+        Assertions.assertEquals(expectedContentType, storedResource.contentType());
+
+        Assertions.assertEquals(storedResource.checksum(), result.checksum());
+        Assertions.assertEquals(expectedName, result.name());
+        Assertions.assertEquals(expectedLocation, result.rawLocation());
+        Assertions.assertEquals(MediaStatus.PENDING, result.status());
+
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertTrue(defaultMediaResourceGateway.findUpload(expectedVideoId, expectedType, upload.id()).isEmpty());
+    }
+
+    @Test
+    void givenMissingPart_whenCallsCompleteUpload_thenReturnDomainException() {
+        final var expectedVideoId = VideoID.unique();
+        final var upload = defaultMediaResourceGateway.initiateUpload(expectedVideoId, VIDEO, "video/mp4", "master.mp4");
+        final var expectedErrorMessage = "Upload %s is missing part 2".formatted(upload.id());
+
+        defaultMediaResourceGateway.storeUploadPart(upload, 1, part("part1"));
+        defaultMediaResourceGateway.storeUploadPart(upload, 3, part("part3"));
+
+        final var error = Assertions.assertThrows(
+                DomainException.class,
+                () -> defaultMediaResourceGateway.completeUpload(upload)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, error.getMessage());
+    }
+
+    @Test
+    void givenUnknownUpload_whenCallsCompleteUpload_thenReturnEmpty() {
+        final var upload = MediaUpload.newUpload(VideoID.unique(), VIDEO);
+
+        Assertions.assertTrue(defaultMediaResourceGateway.completeUpload(upload).isEmpty());
+    }
+
+    @Test
+    void givenStartedUpload_whenCallsAbortUpload_thenDeleteItsParts() {
+        final var expectedVideoId = VideoID.unique();
+        final var upload = defaultMediaResourceGateway.initiateUpload(expectedVideoId, VIDEO, "video/mp4", "master.mp4");
+        defaultMediaResourceGateway.storeUploadPart(upload, 1, part("part1"));
+
+        defaultMediaResourceGateway.abortUpload(upload);
+
+        Assertions.assertTrue(storageService().storage().isEmpty());
+    }
+
+    @Test
+    void givenMaliciousUploadId_whenCallsFindAndAbortUpload_thenDeleteNothing() {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), VIDEO.name());
+        defaultMediaResourceGateway.storeAudioVideo(expectedVideoId, VideoResource.with(videoResource(), VIDEO));
+        defaultMediaResourceGateway.initiateUpload(expectedVideoId, VIDEO, "video/mp4", "master.mp4");
+        final var expectedStored = storageService().storage().size();
+
+        for (final var uploadId : List.of("..", "../..", "a/b", "%s.".formatted(MediaUpload.newUpload(expectedVideoId, VIDEO).id()))) {
+            Assertions.assertTrue(defaultMediaResourceGateway.findUpload(expectedVideoId, VIDEO, uploadId).isEmpty());
+            Assertions.assertThrows(
+                    DomainException.class,
+                    () -> defaultMediaResourceGateway.abortUpload(MediaUpload.with(uploadId, expectedVideoId, VIDEO))
+            );
+        }
+
+        Assertions.assertEquals(expectedStored, storageService().storage().size());
+        Assertions.assertTrue(storageService().storage().containsKey(expectedLocation));
+    }
+
+    @Test
+    void givenUnknownUploadId_whenCallsAbortUpload_thenKeepOtherMedia() {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), VIDEO.name());
+        defaultMediaResourceGateway.storeAudioVideo(expectedVideoId, VideoResource.with(videoResource(), VIDEO));
+
+        defaultMediaResourceGateway.abortUpload(MediaUpload.newUpload(expectedVideoId, VIDEO));
+
+        Assertions.assertEquals(1, storageService().storage().size());
+        Assertions.assertTrue(storageService().storage().containsKey(expectedLocation));
+    }
+
+    private Resource part(final String content) {
+        return Resource.with(ResourceContent.of(content.getBytes()), "application/octet-stream", "part");
+    }
+
     private InMemoryStorageService storageService() {
         return (InMemoryStorageService) storageService;
     }
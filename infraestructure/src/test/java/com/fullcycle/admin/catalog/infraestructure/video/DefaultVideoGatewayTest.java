@@ -8,10 +8,16 @@ import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.changes.Change;
+import com.fullcycle.admin.catalog.domain.changes.ChangeQuery;
+import com.fullcycle.admin.catalog.domain.changes.ChangeType;
 import com.fullcycle.admin.catalog.domain.genre.Genre;
 import com.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import com.fullcycle.admin.catalog.domain.video.*;
+import com.fullcycle.admin.catalog.infraestructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infraestructure.outbox.persistence.OutboxEventRepository;
 import com.fullcycle.admin.catalog.infraestructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,9 +25,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Year;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @IntegrationTest
@@ -41,6 +50,9 @@ class DefaultVideoGatewayTest {
 
     @Autowired
     private VideoRepository videoRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
     private Category scienceFiction;
 
     private Category action;
@@ -140,6 +152,85 @@ class DefaultVideoGatewayTest {
         Assertions.assertEquals(expectedThumbHalf.name(), persistedVideo.getThumbnailHalf().getName());
     }
 
+    @Test
+    void givenValidVideos_whenCallsCreateAll_thenPersistThemWithRelationsAndWriteTheirEvents() {
+        final var harryPotter = Video.newVideo(
+                "Harry Potter",
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating(),
+                true,
+                true,
+                Set.of(scienceFiction.getId(), action.getId()),
+                Set.of(dystopian.getId()),
+                Set.of(emmaWatson.getId())
+        );
+        final var mazeRunner = Video.newVideo(
+                        "Maze Runner",
+                        Fixture.Videos.description(),
+                        Fixture.year(),
+                        Fixture.Videos.duration(),
+                        Fixture.Videos.rating(),
+                        false,
+                        false,
+                        Set.of(action.getId()),
+                        Set.of(),
+                        Set.of(kayaScodelario.getId())
+                )
+                .updateVideo(AudioVideoMedia.with("123", "video", "/media/video"));
+
+        final var result = videoGateway.createAll(List.of(harryPotter, mazeRunner));
+
+        Assertions.assertEquals(List.of(harryPotter.getId(), mazeRunner.getId()), result.stream().map(Video::getId).toList());
+        Assertions.assertEquals(2, videoRepository.count());
+
+        final var persisted = videoGateway.findById(harryPotter.getId()).get();
+        Assertions.assertEquals(Set.of(scienceFiction.getId(), action.getId()), persisted.getCategories());
+        Assertions.assertEquals(Set.of(dystopian.getId()), persisted.getGenres());
+        Assertions.assertEquals(Set.of(emmaWatson.getId()), persisted.getCastMembers());
+
+        final var events = outboxEventRepository.findAll(Sort.by("id"));
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(VideoMediaCreated.class.getSimpleName(), events.get(0).getEventType());
+        Assertions.assertEquals(mazeRunner.getId().getValue(), Json.readValue(events.get(0).getPayload(), Map.class).get("resource_id"));
+    }
+
+    @Test
+    void givenAVideoWithPendingMedias_whenCallsCreate_thenWriteItsEventsToTheOutbox() {
+        final var expectedVideo = AudioVideoMedia.with("123", "video", "/media/video");
+        final var expectedTrailer = AudioVideoMedia.with("456", "trailer", "/media/trailer");
+
+        final var video = Video.newVideo(
+                        Fixture.Videos.title(),
+                        Fixture.Videos.description(),
+                        Fixture.year(),
+                        Fixture.Videos.duration(),
+                        Fixture.Videos.rating(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Set.of(),
+                        Set.of(),
+                        Set.of()
+                )
+                .updateVideo(expectedVideo)
+                .updateTrailer(expectedTrailer);
+
+        videoGateway.create(video);
+
+        final var events = outboxEventRepository.findAll(Sort.by("id"));
+        Assertions.assertEquals(2, events.size());
+
+        final var first = events.get(0);
+        Assertions.assertEquals("video.events", first.getExchange());
+        Assertions.assertEquals("video.created", first.getRoutingKey());
+        Assertions.assertEquals(VideoMediaCreated.class.getSimpleName(), first.getEventType());
+
+        final var payload = Json.readValue(first.getPayload(), Map.class);
+        Assertions.assertEquals(video.getId().getValue(), payload.get("resource_id"));
+        Assertions.assertEquals(expectedVideo.rawLocation(), payload.get("filepath"));
+    }
+
     @Test
     @Transactional
     void givenAValidVideoWithoutRelations_whenCallsCreate_thenPersistIt() {
@@ -320,6 +411,54 @@ class DefaultVideoGatewayTest {
         Assertions.assertEquals(0, videoRepository.count());
     }
 
+    @Test
+    void givenSavedUpdatedAndDeletedVideos_whenCallsChangesSince_thenReturnEachChangeOnceInOrder() {
+        final var systemDesign = videoGateway.create(Video.newVideo(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(scienceFiction.getId()),
+                Set.of(),
+                Set.of()
+        ));
+        final var removed = videoGateway.create(Video.newVideo(
+                Fixture.Videos.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.Videos.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ));
+        final var expectedBanner = Fixture.Videos.imageBanner();
+
+        videoGateway.update(Video.with(systemDesign).updateBanner(expectedBanner));
+        videoGateway.deleteById(removed.getId());
+
+        final var changes = videoGateway.changesSince(new ChangeQuery("", 10));
+
+        Assertions.assertFalse(changes.hasMore());
+        Assertions.assertEquals(
+                List.of(ChangeType.UPDATED, ChangeType.DELETED),
+                changes.items().stream().map(Change::type).toList()
+        );
+        Assertions.assertEquals(systemDesign.getId(), changes.items().get(0).item().getId());
+        Assertions.assertEquals(expectedBanner, changes.items().get(0).item().getBanner().orElseThrow());
+        Assertions.assertEquals(Set.of(scienceFiction.getId()), changes.items().get(0).item().getCategories());
+        Assertions.assertEquals(removed.getId().getValue(), changes.items().get(1).id());
+
+        final var drained = videoGateway.changesSince(new ChangeQuery(changes.watermark(), 10));
+
+        Assertions.assertTrue(drained.items().isEmpty());
+    }
+
     @Test
     void givenAValidVideo_whenCallsFindById_thenReturnIt() {
         final var expectedTitle = Fixture.Videos.title();
@@ -685,6 +824,56 @@ class DefaultVideoGatewayTest {
         Assertions.assertEquals(expectedVideo, result.items().get(0).title());
     }
 
+    @Test
+    void givenManyIdsPerRelation_whenCallFindAll_thenCountEachVideoOnce() {
+        mockVideos();
+        final var expectedPage = 0;
+        final var expectedPerPage = 1;
+        final var expectedTotal = 2;
+
+        final var query = new VideoSearchQuery(
+                expectedPage,
+                expectedPerPage,
+                "",
+                "title",
+                "asc",
+                Set.of(action.getId(), scienceFiction.getId()),
+                Set.of(dystopian.getId()),
+                Set.of(jenniferLawrence.getId(), kayaScodelario.getId())
+        );
+
+        final var result = videoGateway.findAll(query);
+
+        Assertions.assertEquals(expectedPage, result.currentPage());
+        Assertions.assertEquals(expectedPerPage, result.perPage());
+        Assertions.assertEquals(expectedTotal, result.total());
+        Assertions.assertEquals(expectedPerPage, result.items().size());
+        Assertions.assertEquals(Fixture.Videos.hungerGames(), result.items().get(0).title());
+    }
+
+    @Test
+    void givenACursor_whenCallsFindAll_thenSeekThePagesWithoutCounting() {
+        mockVideos();
+        final var expectedPerPage = 3;
+
+        final var firstPage = videoGateway.findAll(new VideoSearchQuery(
+                0, expectedPerPage, "", "title", "asc", Set.of(), Set.of(), Set.of(), ""
+        ));
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, firstPage.total());
+        Assertions.assertEquals(expectedPerPage, firstPage.items().size());
+        Assertions.assertEquals("Aula de empreendedorismo", firstPage.items().get(0).title());
+        Assertions.assertNotNull(firstPage.nextCursor());
+
+        final var lastPage = videoGateway.findAll(new VideoSearchQuery(
+                1, expectedPerPage, "", "title", "asc", Set.of(), Set.of(), Set.of(), firstPage.nextCursor()
+        ));
+
+        Assertions.assertEquals(1, lastPage.items().size());
+        Assertions.assertEquals(Fixture.Videos.mazzeRunner(), lastPage.items().get(0).title());
+        Assertions.assertNull(lastPage.nextCursor());
+    }
+
     private void mockVideos() {
         videoGateway.create(Video.newVideo(
                 Fixture.Videos.harryPotter(),
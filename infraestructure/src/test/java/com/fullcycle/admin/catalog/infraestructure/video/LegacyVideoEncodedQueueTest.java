@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalog.infraestructure.video;
+
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.QueueProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.QueueInformation;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class LegacyVideoEncodedQueueTest {
+
+    private AmqpAdmin admin;
+    private AtomicInteger drains;
+    private LegacyVideoEncodedQueue legacyQueue;
+
+    @BeforeEach
+    void setUp() {
+        admin = Mockito.mock(AmqpAdmin.class);
+        drains = new AtomicInteger();
+        final var props = new QueueProperties();
+        props.setExchange("video.events");
+        props.setRoutingKey("video.encoded");
+        props.setLegacyQueue("video.encoded.queue");
+        legacyQueue = new LegacyVideoEncodedQueue(admin, drains::incrementAndGet, props);
+    }
+
+    @Test
+    void givenNoFormerQueue_whenCallsRetire_thenDoNothing() {
+        legacyQueue.retire();
+
+        verify(admin, never()).removeBinding(any());
+        verify(admin, never()).deleteQueue(anyString(), anyBoolean(), anyBoolean());
+        verifyNoDrain();
+    }
+
+    @Test
+    void givenAnEmptyFormerQueue_whenCallsRetire_thenUnbindAndDeleteIt() {
+        when(admin.getQueueInfo("video.encoded.queue"))
+                .thenReturn(new QueueInformation("video.encoded.queue", 0, 0));
+
+        legacyQueue.retire();
+
+        verify(admin).removeBinding(argThat(this::isFormerBinding));
+        verify(admin).deleteQueue("video.encoded.queue", true, true);
+        verifyNoDrain();
+    }
+
+    @Test
+    void givenResultsLeftInTheFormerQueue_whenCallsRetire_thenUnbindAndDrainIt() {
+        when(admin.getQueueInfo("video.encoded.queue"))
+                .thenReturn(new QueueInformation("video.encoded.queue", 12, 0));
+
+        legacyQueue.retire();
+
+        verify(admin).removeBinding(argThat(this::isFormerBinding));
+        verify(admin, never()).deleteQueue(anyString(), anyBoolean(), anyBoolean());
+        Assertions.assertEquals(1, drains.get());
+    }
+
+    @Test
+    void givenABrokerError_whenCallsRetire_thenLeaveItForTheNextStart() {
+        when(admin.getQueueInfo("video.encoded.queue"))
+                .thenThrow(new AmqpIOException(new IOException("connection refused")));
+
+        legacyQueue.retire();
+
+        verify(admin, never()).removeBinding(any());
+        verifyNoDrain();
+    }
+
+    private boolean isFormerBinding(final Binding binding) {
+        return "video.encoded.queue".equals(binding.getDestination())
+                && "video.events".equals(binding.getExchange())
+                && "video.encoded".equals(binding.getRoutingKey());
+    }
+
+    private void verifyNoDrain() {
+        Assertions.assertEquals(0, drains.get());
+    }
+}
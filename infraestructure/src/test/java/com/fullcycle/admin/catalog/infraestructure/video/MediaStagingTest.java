@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalog.infraestructure.video;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+class MediaStagingTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenMediasStagedBeforeAndAfterAnInstant_whenCallsDeleteStagedBefore_thenDeleteOnlyTheOlderOnes() throws IOException {
+        final var startedAt = Instant.now();
+        final var orphan = Files.createFile(directory.resolve("media-1.staged"));
+        Files.setLastModifiedTime(orphan, FileTime.from(startedAt.minus(Duration.ofMinutes(5))));
+        final var current = Files.createFile(directory.resolve("media-2.staged"));
+        Files.setLastModifiedTime(current, FileTime.from(startedAt.plus(Duration.ofSeconds(1))));
+        final var other = Files.createFile(directory.resolve("other.txt"));
+        Files.setLastModifiedTime(other, FileTime.from(startedAt.minus(Duration.ofMinutes(5))));
+
+        final var result = new MediaStaging(directory).deleteStagedBefore(startedAt);
+
+        Assertions.assertEquals(1, result);
+        Assertions.assertFalse(Files.exists(orphan));
+        Assertions.assertTrue(Files.exists(current));
+        Assertions.assertTrue(Files.exists(other));
+    }
+
+    @Test
+    void givenMissingDirectory_whenCallsDeleteStagedBefore_thenDeleteNothing() {
+        Assertions.assertEquals(0, new MediaStaging(directory.resolve("missing")).deleteStagedBefore(Instant.now()));
+    }
+}
@@ -0,0 +1,71 @@
+package com.fullcycle.admin.catalog.infraestructure.video;
+
+import com.fullcycle.admin.catalog.MySQLGatewayTest;
+import com.fullcycle.admin.catalog.application.video.create.async.VideoCreation;
+import com.fullcycle.admin.catalog.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalog.domain.validation.Error;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+@MySQLGatewayTest
+class VideoCreationMySQLGatewayTest {
+
+    @Autowired
+    private VideoCreationMySQLGateway gateway;
+
+    @Autowired
+    private JdbcOperations jdbc;
+
+    @Test
+    void givenASavedCreation_whenCallsFindById_thenReturnItsLastState() {
+        final var creation = gateway.save(VideoCreation.queued());
+        final var failed = gateway.save(creation.processing().failed(List.of(new Error("'title' should not be null"))));
+
+        final var result = gateway.findById(creation.id());
+
+        Assertions.assertEquals(failed, result.orElseThrow());
+        Assertions.assertTrue(gateway.findById("unknown").isEmpty());
+    }
+
+    @Test
+    void givenCreationsOfTwoInstances_whenCallsFailUnfinished_thenFailOnlyTheOlderOnesOfThisInstance() {
+        final var other = new VideoCreationMySQLGateway(jdbc, "other-instance");
+        final var old = InstantUtils.now().minus(Duration.ofMinutes(5));
+        final var queued = gateway.save(new VideoCreation("queued", VideoCreation.Status.QUEUED, null, List.of(), old, old));
+        final var processing = gateway.save(new VideoCreation("processing", VideoCreation.Status.PROCESSING, null, List.of(), old, old));
+        final var completed = gateway.save(new VideoCreation("completed", VideoCreation.Status.COMPLETED, "123", List.of(), old, old));
+        final var ofOther = other.save(new VideoCreation("other", VideoCreation.Status.QUEUED, null, List.of(), old, old));
+        final var accepted = gateway.save(VideoCreation.queued());
+
+        final var result = gateway.failUnfinished(InstantUtils.now().minus(Duration.ofMinutes(1)), new Error("interrupted"));
+
+        Assertions.assertEquals(2, result);
+        Assertions.assertEquals(VideoCreation.Status.FAILED, gateway.findById(queued.id()).orElseThrow().status());
+        Assertions.assertEquals(List.of(new Error("interrupted")), gateway.findById(processing.id()).orElseThrow().errors());
+        Assertions.assertEquals(completed, gateway.findById(completed.id()).orElseThrow());
+        Assertions.assertEquals(ofOther, gateway.findById(ofOther.id()).orElseThrow());
+        Assertions.assertEquals(accepted, gateway.findById(accepted.id()).orElseThrow());
+    }
+
+    @Test
+    void givenStaleAndOldFinishedCreations_whenCallsFailStaleAndDeleteFinished_thenFailAndForgetThem() {
+        final var other = new VideoCreationMySQLGateway(jdbc, "other-instance");
+        final var old = InstantUtils.now().minus(Duration.ofHours(2));
+        final var abandoned = other.save(new VideoCreation("abandoned", VideoCreation.Status.PROCESSING, null, List.of(), old, old));
+        final var completed = gateway.save(new VideoCreation("completed", VideoCreation.Status.COMPLETED, "123", List.of(), old, old));
+        final var running = gateway.save(VideoCreation.queued());
+        final var before = InstantUtils.now().minus(Duration.ofHours(1));
+
+        Assertions.assertEquals(1, gateway.failStale(before, new Error("interrupted")));
+        Assertions.assertEquals(1, gateway.deleteFinished(before));
+
+        Assertions.assertEquals(VideoCreation.Status.FAILED, gateway.findById(abandoned.id()).orElseThrow().status());
+        Assertions.assertTrue(gateway.findById(completed.id()).isEmpty());
+        Assertions.assertEquals(running, gateway.findById(running.id()).orElseThrow());
+    }
+}
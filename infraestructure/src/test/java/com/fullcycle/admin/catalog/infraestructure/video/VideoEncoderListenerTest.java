@@ -0,0 +1,158 @@
+package com.fullcycle.admin.catalog.infraestructure.video;
+
+import com.fullcycle.admin.catalog.application.video.media.update.BatchUpdateMediaStatusOutput;
+import com.fullcycle.admin.catalog.application.video.media.update.BatchUpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusCommand;
+import com.fullcycle.admin.catalog.domain.video.MediaStatus;
+import com.fullcycle.admin.catalog.infraestructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infraestructure.configuration.properties.ConsumerProperties;
+import com.fullcycle.admin.catalog.infraestructure.video.models.VideoEncoderCompleted;
+import com.fullcycle.admin.catalog.infraestructure.video.models.VideoEncoderError;
+import com.fullcycle.admin.catalog.infraestructure.video.models.VideoMessage;
+import com.fullcycle.admin.catalog.infraestructure.video.models.VideoMetadata;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class VideoEncoderListenerTest {
+
+    private BatchUpdateMediaStatusUseCase useCase;
+    private Channel channel;
+    private VideoEncoderListener listener;
+
+    @BeforeEach
+    void setUp() {
+        useCase = Mockito.mock(BatchUpdateMediaStatusUseCase.class);
+        channel = Mockito.mock(Channel.class);
+        final var props = new ConsumerProperties();
+        props.setMaxRetries(2);
+        listener = new VideoEncoderListener(useCase, props);
+    }
+
+    @Test
+    void givenCompletedResults_whenCallsOnVideoEncoded_thenUpdateInOneBatchAndAckAllAtOnce() throws IOException {
+        final var first = completed(1, "video-1", "resource-1");
+        final var second = completed(2, "video-1", "resource-2");
+        final var third = completed(3, "video-2", "resource-3");
+
+        when(useCase.execute(any()))
+                .thenReturn(BatchUpdateMediaStatusOutput.with(Set.of("video-1", "video-2"), Set.of(), Map.of()));
+
+        listener.onVideoEncoded(List.of(first, second, third), channel);
+
+        final var captor = ArgumentCaptor.forClass(List.class);
+        verify(useCase, times(1)).execute(captor.capture());
+
+        final var commands = (List<UpdateMediaStatusCommand>) captor.getValue();
+        Assertions.assertEquals(3, commands.size());
+        Assertions.assertEquals(
+                UpdateMediaStatusCommand.with("video-1", "resource-1", MediaStatus.COMPLETED, "encoded", "resource-1.mp4"),
+                commands.get(0)
+        );
+
+        verify(channel, times(1)).basicAck(3L, true);
+        verifyNoMoreInteractions(channel);
+    }
+
+    @Test
+    void givenPoisonAndUnknownVideo_whenCallsOnVideoEncoded_thenRejectThemToTheDeadLetterQueue() throws IOException {
+        final var poison = message(1, "{not json", false);
+        final var unknown = completed(2, "video-1", "resource-1");
+        final var updated = completed(3, "video-2", "resource-2");
+
+        when(useCase.execute(any()))
+                .thenReturn(BatchUpdateMediaStatusOutput.with(Set.of("video-2"), Set.of("video-1"), Map.of()));
+
+        listener.onVideoEncoded(List.of(poison, unknown, updated), channel);
+
+        verify(channel, times(1)).basicReject(1L, false);
+        verify(channel, times(1)).basicReject(2L, false);
+        verify(channel, times(1)).basicAck(3L, false);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void givenFailedUpdate_whenCallsOnVideoEncoded_thenRequeueUntilMaxRetriesAndThenReject() throws IOException {
+        final var firstDelivery = completed(1, "video-1", "resource-1");
+        final var secondDelivery = delivered(2, "video-2", 1);
+        final var lastDelivery = delivered(3, "video-3", 2);
+
+        when(useCase.execute(any()))
+                .thenReturn(BatchUpdateMediaStatusOutput.with(Set.of(), Set.of(), Map.of(
+                        "video-1", new IllegalStateException("Gateway error"),
+                        "video-2", new IllegalStateException("Gateway error"),
+                        "video-3", new IllegalStateException("Gateway error")
+                )));
+
+        listener.onVideoEncoded(List.of(firstDelivery, secondDelivery, lastDelivery), channel);
+
+        verify(channel, times(1)).basicNack(1L, false, true);
+        verify(channel, times(1)).basicNack(2L, false, true);
+        verify(channel, times(1)).basicReject(3L, false);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void givenFailedRedeliveryFromAClassicQueue_whenCallsOnVideoEncoded_thenReject() throws IOException {
+        final var redelivery = message(1, Json.writeValueAsString(completedResult("video-1", "resource-1")), true);
+
+        when(useCase.execute(any()))
+                .thenReturn(BatchUpdateMediaStatusOutput.with(Set.of(), Set.of(), Map.of("video-1", new IllegalStateException())));
+
+        listener.onVideoEncoded(List.of(redelivery), channel);
+
+        verify(channel, times(1)).basicReject(1L, false);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void givenEncoderError_whenCallsOnVideoEncoded_thenAckWithoutUpdating() throws IOException {
+        final var error = new VideoEncoderError(new VideoMessage("resource-1", "videoId-1/type-VIDEO"), "Resource not found");
+
+        listener.onVideoEncoded(List.of(message(1, Json.writeValueAsString(error), false)), channel);
+
+        verify(useCase, never()).execute(any());
+        verify(channel, times(1)).basicAck(1L, true);
+    }
+
+    private static Message completed(final long tag, final String videoId, final String resourceId) {
+        return message(tag, Json.writeValueAsString(completedResult(videoId, resourceId)), false);
+    }
+
+    private static VideoEncoderCompleted completedResult(final String videoId, final String resourceId) {
+        return new VideoEncoderCompleted(
+                videoId,
+                "bucket",
+                new VideoMetadata("encoded", resourceId, resourceId + ".mp4")
+        );
+    }
+
+    private static Message delivered(final long tag, final String videoId, final int previousDeliveries) {
+        final var message = completed(tag, videoId, "resource-" + tag);
+        message.getMessageProperties().setRedelivered(true);
+        message.getMessageProperties().setHeader("x-delivery-count", (long) previousDeliveries);
+        return message;
+    }
+
+    private static Message message(final long tag, final String body, final boolean redelivered) {
+        final var properties = new MessageProperties();
+        properties.setDeliveryTag(tag);
+        properties.setRedelivered(redelivered);
+        return new Message(body.getBytes(), properties);
+    }
+}
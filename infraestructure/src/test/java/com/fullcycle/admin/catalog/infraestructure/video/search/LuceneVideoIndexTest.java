@@ -0,0 +1,261 @@
+package com.fullcycle.admin.catalog.infraestructure.video.search;
+
+import com.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import com.fullcycle.admin.catalog.domain.video.Rating;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoPreview;
+import com.fullcycle.admin.catalog.domain.video.VideoSearchQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+class LuceneVideoIndexTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    private final CategoryID action = CategoryID.from("action");
+    private final CategoryID fantasy = CategoryID.from("fantasy");
+    private final GenreID dystopian = GenreID.from("dystopian");
+    private final CastMemberID emmaWatson = CastMemberID.from("emma-watson");
+
+    private LuceneVideoIndex index;
+    private Video harryPotter;
+    private Video hungerGames;
+    private Video mazeRunner;
+
+    @BeforeEach
+    void setUp() {
+        index = new LuceneVideoIndex(null, CLOCK);
+
+        harryPotter = video("Harry Potter", "Um bruxo na escola de magia", Rating.L, 2001, Set.of(fantasy), Set.of(), Set.of(emmaWatson));
+        hungerGames = video("Jogos Vorazes", "Uma competição distópica", Rating.AGE_14, 2012, Set.of(action), Set.of(dystopian), Set.of());
+        mazeRunner = video("Maze Runner", "Ação em um labirinto", Rating.AGE_14, 2014, Set.of(action, fantasy), Set.of(dystopian), Set.of());
+
+        List.of(harryPotter, hungerGames, mazeRunner).forEach(index::index);
+        index.refreshBlocking();
+        index.markReady();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    void givenAPrefixWithoutAccents_whenCallsSearch_thenMatchTheTitleOnlyAsMySQL() {
+        final var byTitle = index.search(query("jog", "title", "asc", Set.of()));
+        final var byDescription = index.search(query("acao labir", "title", "asc", Set.of()));
+
+        Assertions.assertEquals(List.of(hungerGames.getId().getValue()), ids(byTitle.items()));
+        Assertions.assertEquals(0, byDescription.total());
+    }
+
+    @Test
+    void givenTitlesWithCaseAndAccents_whenCallsSearchSortedByTitle_thenIgnoreThemAsTheCollation() {
+        final var fruits = CategoryID.from("fruits");
+        final var tree = video("árvore", null, Rating.L, 2020, Set.of(fruits), Set.of(), Set.of());
+        final var avocado = video("Abacate", null, Rating.L, 2020, Set.of(fruits), Set.of(), Set.of());
+        final var banana = video("banana", null, Rating.L, 2020, Set.of(fruits), Set.of(), Set.of());
+        List.of(tree, avocado, banana).forEach(index::index);
+        index.refreshBlocking();
+
+        final var result = index.search(query("", "title", "asc", Set.of(fruits)));
+
+        Assertions.assertEquals(
+                List.of(avocado.getId().getValue(), tree.getId().getValue(), banana.getId().getValue()),
+                ids(result.items())
+        );
+    }
+
+    @Test
+    void givenCategoryFilterAndTitleSort_whenCallsSearch_thenReturnPagedMatches() {
+        final var firstPage = index.search(new VideoSearchQuery(0, 1, "", "title", "desc", Set.of(action), Set.of(), Set.of()));
+        final var secondPage = index.search(new VideoSearchQuery(1, 1, "", "title", "desc", Set.of(action), Set.of(), Set.of()));
+
+        Assertions.assertEquals(2, firstPage.total());
+        Assertions.assertEquals(List.of(mazeRunner.getId().getValue()), ids(firstPage.items()));
+        Assertions.assertEquals(List.of(hungerGames.getId().getValue()), ids(secondPage.items()));
+        Assertions.assertEquals(new VideoPreview(hungerGames), secondPage.items().get(0));
+    }
+
+    @Test
+    void givenRelevanceSort_whenCallsSearch_thenRankWholeWordsBeforePrefixes() {
+        final var run = video("Run", "Corrida", Rating.L, 2020, Set.of(), Set.of(), Set.of());
+        index.index(run);
+        index.refreshBlocking();
+
+        final var ranked = index.search(query("run", "relevance", "desc", Set.of()));
+
+        Assertions.assertEquals(List.of(run.getId().getValue(), mazeRunner.getId().getValue()), ids(ranked.items()));
+    }
+
+    @Test
+    void givenAQuery_whenCallsFacets_thenCountEachValueOfTheMatches() {
+        final var facets = index.facets(query("", "title", "asc", Set.of(action)), 10);
+
+        Assertions.assertEquals(Map.of(action.getValue(), 2L, fantasy.getValue(), 1L), facets.get(LuceneVideoIndex.CATEGORIES));
+        Assertions.assertEquals(Map.of(dystopian.getValue(), 2L), facets.get(LuceneVideoIndex.GENRES));
+        Assertions.assertEquals(Map.of("AGE_14", 2L), facets.get(LuceneVideoIndex.RATING));
+        Assertions.assertEquals(Map.of("2012", 1L, "2014", 1L), facets.get(LuceneVideoIndex.LAUNCHED_AT));
+        Assertions.assertEquals(Map.of(), facets.get(LuceneVideoIndex.CAST_MEMBERS));
+    }
+
+    @Test
+    void givenAnUpdateAndADelete_whenRefreshed_thenSearchSeesThem() {
+        harryPotter.update(
+                "Harry Potter e a Pedra Filosofal",
+                harryPotter.getDescription(),
+                harryPotter.getLaunchedAt(),
+                harryPotter.getDuration(),
+                harryPotter.getRating(),
+                harryPotter.isOpened(),
+                harryPotter.isPublished(),
+                harryPotter.getCategories(),
+                harryPotter.getGenres(),
+                harryPotter.getCastMembers()
+        );
+        index.onChange(new VideoIndexChange.Saved(harryPotter));
+        index.onChange(new VideoIndexChange.Deleted(mazeRunner.getId().getValue()));
+
+        Assertions.assertEquals(1, index.search(query("maze", "title", "asc", Set.of())).total());
+
+        index.refreshBlocking();
+
+        Assertions.assertEquals(0, index.search(query("maze", "title", "asc", Set.of())).total());
+        Assertions.assertEquals(1, index.search(query("filosofal", "title", "asc", Set.of())).total());
+        Assertions.assertEquals(2, index.search(query("", "title", "asc", Set.of())).total());
+    }
+
+    @Test
+    void givenAnOlderVersion_whenCallsIndex_thenKeepTheNewerOne() {
+        final var updatedAt = harryPotter.getUpdatedAt();
+        final var newer = version(harryPotter, "Harry Potter e a Câmara Secreta", updatedAt.plusSeconds(60));
+        final var older = version(harryPotter, "Harry Potter e a Pedra Filosofal", updatedAt.plusSeconds(30));
+
+        index.onChange(new VideoIndexChange.Saved(newer));
+        index.index(older);
+        index.refreshBlocking();
+
+        Assertions.assertEquals(0, index.search(query("filosofal", "title", "asc", Set.of())).total());
+        Assertions.assertEquals(1, index.search(query("camara", "title", "asc", Set.of())).total());
+    }
+
+    @Test
+    void givenADeletedVideo_whenCallsIndexWithAVersionReadBefore_thenKeepItDeleted() {
+        index.onChange(new VideoIndexChange.Deleted(mazeRunner.getId().getValue()));
+        index.index(version(mazeRunner, mazeRunner.getTitle(), mazeRunner.getUpdatedAt().plusSeconds(30)));
+        index.refreshBlocking();
+
+        Assertions.assertEquals(0, index.search(query("maze", "title", "asc", Set.of())).total());
+    }
+
+    @Test
+    void givenAFailedWrite_whenCallsSnapshot_thenHoldTheWatermarkUntilRetried() {
+        final var watermark = Instant.parse("2024-01-01T10:00:00Z");
+        final var broken = version(harryPotter, null, harryPotter.getUpdatedAt().plusSeconds(30));
+
+        index.onChange(new VideoIndexChange.Saved(broken));
+        index.snapshot(watermark);
+
+        Assertions.assertEquals(Map.of(harryPotter.getId().getValue(), CLOCK.instant()), index.failedWrites());
+        Assertions.assertEquals(Optional.of(CLOCK.instant()), index.lastSnapshot());
+
+        index.retried(harryPotter.getId().getValue(), CLOCK.instant());
+        index.snapshot(watermark);
+
+        Assertions.assertEquals(Map.of(), index.failedWrites());
+        Assertions.assertEquals(Optional.of(watermark), index.lastSnapshot());
+    }
+
+    @Test
+    void givenUnsupportedQueries_whenCallsSupports_thenReturnFalse() {
+        Assertions.assertTrue(index.supports(query("", "createdAt", "desc", Set.of())));
+        Assertions.assertFalse(index.supports(query("", "duration", "asc", Set.of())));
+        Assertions.assertFalse(index.supports(new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of(), "")));
+
+        try (final var notLoaded = new LuceneVideoIndex(null, CLOCK)) {
+            Assertions.assertFalse(notLoaded.supports(query("", "title", "asc", Set.of())));
+        }
+    }
+
+    @Test
+    void givenASnapshot_whenReopened_thenRestoreTheVideosAndTheWatermark(@TempDir final Path directory) {
+        final var watermark = Instant.parse("2024-01-01T10:00:00Z");
+
+        try (final var snapshotted = new LuceneVideoIndex(directory, CLOCK)) {
+            Assertions.assertEquals(Optional.empty(), snapshotted.lastSnapshot());
+            snapshotted.index(harryPotter);
+            snapshotted.snapshot(watermark);
+        }
+
+        try (final var restored = new LuceneVideoIndex(directory, CLOCK)) {
+            Assertions.assertEquals(Optional.of(watermark), restored.lastSnapshot());
+            Assertions.assertEquals(
+                    List.of(harryPotter.getId().getValue()),
+                    ids(restored.search(query("", "title", "asc", Set.of())).items())
+            );
+        }
+    }
+
+    private static VideoSearchQuery query(
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CategoryID> categories
+    ) {
+        return new VideoSearchQuery(0, 10, terms, sort, direction, categories, Set.of(), Set.of());
+    }
+
+    private static List<String> ids(final List<VideoPreview> items) {
+        return items.stream().map(VideoPreview::id).toList();
+    }
+
+    private static Video version(final Video video, final String title, final Instant updatedAt) {
+        return Video.with(
+                video.getId(),
+                title,
+                video.getDescription(),
+                video.getLaunchedAt(),
+                video.getDuration(),
+                video.getRating(),
+                video.isOpened(),
+                video.isPublished(),
+                video.getCreatedAt(),
+                updatedAt,
+                null,
+                null,
+                null,
+                null,
+                null,
+                video.getCategories(),
+                video.getGenres(),
+                video.getCastMembers()
+        );
+    }
+
+    private static Video video(
+            final String title,
+            final String description,
+            final Rating rating,
+            final int year,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> members
+    ) {
+        return Video.newVideo(title, description, Year.of(year), 120.0, rating, true, true, categories, genres, members);
+    }
+}
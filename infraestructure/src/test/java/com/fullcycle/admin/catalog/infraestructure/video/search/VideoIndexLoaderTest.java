@@ -0,0 +1,159 @@
+package com.fullcycle.admin.catalog.infraestructure.video.search;
+
+import com.fullcycle.admin.catalog.domain.Fixture;
+import com.fullcycle.admin.catalog.domain.video.Video;
+import com.fullcycle.admin.catalog.domain.video.VideoPreview;
+import com.fullcycle.admin.catalog.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalog.infraestructure.video.persistence.VideoJpaEntity;
+import com.fullcycle.admin.catalog.infraestructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class VideoIndexLoaderTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    private static final Duration MARGIN = Duration.ofMinutes(5);
+
+    @TempDir
+    Path directory;
+
+    private VideoRepository videoRepository;
+
+    @BeforeEach
+    void setUp() {
+        videoRepository = Mockito.mock(VideoRepository.class);
+    }
+
+    @Test
+    void givenAnEmptyIndex_whenCallsLoad_thenIndexEveryVideoInBatchesAndSnapshot() {
+        final var videos = List.of(Fixture.video(), Fixture.video(), Fixture.video());
+        final var sorted = videos.stream().sorted((a, b) -> a.getId().getValue().compareTo(b.getId().getValue())).toList();
+
+        when(videoRepository.findUpdatedSince(eq(Instant.EPOCH), eq(""), any()))
+                .thenReturn(entities(sorted.subList(0, 2)));
+        when(videoRepository.findUpdatedSince(eq(Instant.EPOCH), eq(sorted.get(1).getId().getValue()), any()))
+                .thenReturn(entities(sorted.subList(2, 3)));
+
+        try (final var index = new LuceneVideoIndex(directory, CLOCK)) {
+            loader(index).load();
+
+            Assertions.assertTrue(index.isReady());
+            Assertions.assertEquals(Optional.of(NOW), index.lastSnapshot());
+            Assertions.assertEquals(3, index.search(all()).total());
+        }
+
+        verify(videoRepository, times(2)).findUpdatedSince(any(), any(), any());
+        verify(videoRepository, never()).existsByIds(anyCollection());
+    }
+
+    @Test
+    void givenARestoredSnapshot_whenCallsLoad_thenIndexOnlyTheChangesAndDropDeletedVideos() {
+        final var kept = Fixture.video();
+        final var deleted = Fixture.video();
+        final var changed = Fixture.video();
+        final var watermark = NOW.minus(Duration.ofHours(1));
+
+        try (final var index = new LuceneVideoIndex(directory, CLOCK)) {
+            index.index(kept);
+            index.index(deleted);
+            index.snapshot(watermark);
+        }
+
+        when(videoRepository.findUpdatedSince(eq(watermark.minus(MARGIN)), eq(""), any()))
+                .thenReturn(entities(List.of(changed)));
+        when(videoRepository.existsByIds(anyCollection())).thenAnswer(call -> {
+            final Collection<String> ids = call.getArgument(0);
+            return ids.stream().filter(id -> !id.equals(deleted.getId().getValue())).toList();
+        });
+
+        try (final var index = new LuceneVideoIndex(directory, CLOCK)) {
+            loader(index).load();
+
+            final var ids = index.search(all()).items().stream().map(VideoPreview::id).toList();
+            Assertions.assertEquals(2, ids.size());
+            Assertions.assertTrue(ids.containsAll(List.of(kept.getId().getValue(), changed.getId().getValue())));
+            Assertions.assertEquals(Optional.of(NOW), index.lastSnapshot());
+        }
+    }
+
+    @Test
+    void givenFailedWrites_whenCallsRetryFailedWrites_thenIndexTheCurrentRowsAndDropTheMissingOnes() {
+        final var video = Fixture.video();
+        final var missing = Fixture.video();
+
+        when(videoRepository.findAllById(any())).thenReturn(entities(List.of(video)));
+
+        try (final var index = new LuceneVideoIndex(null, CLOCK)) {
+            index.index(missing);
+            index.onChange(new VideoIndexChange.Saved(untitled(video)));
+            index.onChange(new VideoIndexChange.Saved(untitled(missing)));
+            Assertions.assertEquals(2, index.failedWrites().size());
+
+            loader(index).retryFailedWrites();
+            index.refreshBlocking();
+            index.markReady();
+
+            final var ids = index.search(all()).items().stream().map(VideoPreview::id).toList();
+            Assertions.assertEquals(List.of(video.getId().getValue()), ids);
+            Assertions.assertTrue(index.failedWrites().isEmpty());
+        }
+    }
+
+    private VideoIndexLoader loader(final LuceneVideoIndex index) {
+        return new VideoIndexLoader(index, videoRepository, TransactionOperations.withoutTransaction(), CLOCK, 2, MARGIN);
+    }
+
+    private static List<VideoJpaEntity> entities(final List<Video> videos) {
+        return videos.stream().map(VideoJpaEntity::from).toList();
+    }
+
+    /**
+     * A newer version the index cannot write, as it has no title.
+     */
+    private static Video untitled(final Video video) {
+        return Video.with(
+                video.getId(),
+                null,
+                video.getDescription(),
+                video.getLaunchedAt(),
+                video.getDuration(),
+                video.getRating(),
+                video.isOpened(),
+                video.isPublished(),
+                video.getCreatedAt(),
+                video.getUpdatedAt().plusSeconds(30),
+                null,
+                null,
+                null,
+                null,
+                null,
+                video.getCategories(),
+                video.getGenres(),
+                video.getCastMembers()
+        );
+    }
+
+    private static VideoSearchQuery all() {
+        return new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of());
+    }
+}